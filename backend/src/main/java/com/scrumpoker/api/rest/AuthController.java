@@ -7,13 +7,13 @@ import com.scrumpoker.api.rest.dto.SsoCallbackRequest;
 import com.scrumpoker.api.rest.dto.TokenResponse;
 import com.scrumpoker.api.rest.dto.UserDTO;
 import com.scrumpoker.api.rest.mapper.UserMapper;
+import com.scrumpoker.config.BlockingExecution;
 import com.scrumpoker.domain.organization.AuditLogService;
 import com.scrumpoker.domain.organization.OrgRole;
 import com.scrumpoker.domain.organization.OrganizationService;
 import com.scrumpoker.domain.user.User;
 import com.scrumpoker.domain.user.UserService;
 import com.scrumpoker.integration.oauth.OAuth2Adapter;
-import com.scrumpoker.integration.oauth.OAuthUserInfo;
 import com.scrumpoker.integration.sso.SsoAdapter;
 import com.scrumpoker.repository.OrganizationRepository;
 import com.scrumpoker.security.JwtTokenService;
@@ -75,6 +75,9 @@ public class AuthController {
     @Inject
     AuditLogService auditLogService;
 
+    @Inject
+    BlockingExecution blockingExecution;
+
     /**
      * POST /api/v1/auth/oauth/callback - Exchange OAuth2 code for JWT tokens.
      * <p>
@@ -133,57 +136,49 @@ public class AuthController {
                     "Code verifier is required");
         }
 
-        try {
-            // Step 1: Exchange OAuth code for user info
-            OAuthUserInfo oauthUserInfo = oauth2Adapter.exchangeCodeForToken(
-                    request.provider,
-                    request.code,
-                    request.codeVerifier,
-                    request.redirectUri
-            );
-
-            LOG.infof("OAuth token exchange successful for provider: %s, user: %s",
-                    request.provider, oauthUserInfo.getEmail());
-
-            // Step 2: Find or create user in database (JIT provisioning)
-            return userService.findOrCreateUser(
+        // Step 1: Exchange OAuth code for user info (blocking HTTP call, run off the event loop)
+        return blockingExecution.supply(() -> oauth2Adapter.exchangeCodeForToken(
+                        request.provider,
+                        request.code,
+                        request.codeVerifier,
+                        request.redirectUri
+                ))
+                .flatMap(oauthUserInfo -> {
+                    LOG.infof("OAuth token exchange successful for provider: %s, user: %s",
+                            request.provider, oauthUserInfo.getEmail());
+
+                    // Step 2: Find or create user in database (JIT provisioning)
+                    return userService.findOrCreateUser(
                             oauthUserInfo.getProvider(),
                             oauthUserInfo.getSubject(),
                             oauthUserInfo.getEmail(),
                             oauthUserInfo.getName(),
                             oauthUserInfo.getAvatarUrl()
-                    )
-                    .flatMap(user -> {
-                        LOG.infof("User provisioned successfully: %s (userId: %s)",
-                                user.email, user.userId);
-
-                        // Step 3: Generate JWT tokens
-                        return jwtTokenService.generateTokens(user)
-                                .map(tokenPair -> {
-                                    // Step 4: Build TokenResponse
-                                    TokenResponse response = buildTokenResponse(
-                                            tokenPair, user);
-
-                                    LOG.infof("Authentication successful for user: %s",
-                                            user.userId);
-
-                                    return Response.ok(response).build();
-                                });
-                    })
-                    .onFailure().recoverWithItem(throwable -> {
-                        LOG.errorf(throwable,
-                                "OAuth callback failed for provider: %s",
-                                request.provider);
-                        return createErrorResponse(throwable);
-                    });
-
-        } catch (IllegalArgumentException e) {
-            LOG.warnf("Invalid OAuth callback request: %s", e.getMessage());
-            return createBadRequestResponse("INVALID_REQUEST", e.getMessage());
-        } catch (Exception e) {
-            LOG.errorf(e, "Unexpected error during OAuth callback");
-            return createInternalServerErrorResponse();
-        }
+                    );
+                })
+                .flatMap(user -> {
+                    LOG.infof("User provisioned successfully: %s (userId: %s)",
+                            user.email, user.userId);
+
+                    // Step 3: Generate JWT tokens
+                    return jwtTokenService.generateTokens(user)
+                            .map(tokenPair -> {
+                                // Step 4: Build TokenResponse
+                                TokenResponse response = buildTokenResponse(
+                                        tokenPair, user);
+
+                                LOG.infof("Authentication successful for user: %s",
+                                        user.userId);
+
+                                return Response.ok(response).build();
+                            });
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable,
+                            "OAuth callback failed for provider: %s",
+                            request.provider);
+                    return createErrorResponse(throwable);
+                });
     }
 
     /**
@@ -260,11 +255,11 @@ public class AuthController {
                                             });
                                 });
                     })
-                    .onFailure().recoverWithItem(throwable -> {
+                    .onFailure().recoverWithUni(throwable -> {
                         LOG.warnf(throwable, "Token refresh failed: %s",
                                 throwable.getMessage());
                         return createUnauthorizedResponse("INVALID_REFRESH_TOKEN",
-                                "Invalid or expired refresh token").await().indefinitely();
+                                "Invalid or expired refresh token");
                     });
 
         } catch (IllegalArgumentException e) {
@@ -277,21 +272,23 @@ public class AuthController {
     }
 
     /**
-     * POST /api/v1/auth/logout - Revoke refresh token.
+     * POST /api/v1/auth/logout - Revoke refresh token and access token.
      * <p>
      * Flow:
      * <ol>
      *   <li>Validate refresh token parameter</li>
      *   <li>Delete refresh token from Redis</li>
+     *   <li>Revoke the access token from the {@code Authorization: Bearer} header, if present</li>
      *   <li>Return 204 No Content</li>
      * </ol>
      * </p>
      * <p>
-     * Note: Access token remains valid until expiry (cannot be revoked server-side).
-     * Clients should discard both tokens on logout.
+     * Note: The access token is only revoked if it is sent with the request; otherwise it
+     * remains valid until expiry. Clients should discard both tokens on logout.
      * </p>
      *
      * @param request Refresh token request with refresh token to revoke
+     * @param headers HTTP headers, for the optional access token
      * @return 204 No Content on successful logout
      *         or 401 Unauthorized if refresh token is missing
      *         or 500 Internal Server Error on unexpected errors
@@ -301,13 +298,15 @@ public class AuthController {
     @PermitAll
     @Operation(summary = "Revoke refresh token",
             description = "Revokes the refresh token to prevent future token refreshes. "
-                    + "Access token remains valid until expiry.")
+                    + "The access token sent in the Authorization header, if any, is revoked as well; "
+                    + "otherwise it remains valid until expiry.")
     @APIResponse(responseCode = "204", description = "Logout successful")
     @APIResponse(responseCode = "401", description = "Invalid refresh token",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @APIResponse(responseCode = "500", description = "Internal server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public Uni<Response> logout(@Valid final RefreshTokenRequest request) {
+    public Uni<Response> logout(@Valid final RefreshTokenRequest request,
+                                @Context final HttpHeaders headers) {
         LOG.debugf("Processing logout request");
 
         // Validate input
@@ -319,16 +318,20 @@ public class AuthController {
 
         try {
             // Delete refresh token from Redis
+            String accessToken = extractBearerToken(headers);
             return jwtTokenService.invalidateRefreshToken(request.refreshToken)
+                    .chain(() -> accessToken != null
+                            ? jwtTokenService.revokeAccessToken(accessToken)
+                            : Uni.createFrom().voidItem())
                     .map(ignored -> {
-                        LOG.infof("Logout successful - refresh token revoked");
+                        LOG.infof("Logout successful - refresh token revoked (access token revoked: %s)",
+                                accessToken != null);
                         return Response.noContent().build();
                     })
-                    .onFailure().recoverWithItem(throwable -> {
+                    .onFailure().recoverWithUni(throwable -> {
                         LOG.errorf(throwable, "Logout failed: %s",
                                 throwable.getMessage());
-                        return createInternalServerErrorResponse()
-                                .await().indefinitely();
+                        return createInternalServerErrorResponse();
                     });
 
         } catch (IllegalArgumentException e) {
@@ -340,6 +343,22 @@ public class AuthController {
         }
     }
 
+    /**
+     * Extracts the bearer token from the Authorization header.
+     *
+     * @param headers HTTP headers (may be null)
+     * @return The token, or null if no bearer token is present
+     */
+    private String extractBearerToken(final HttpHeaders headers) {
+        String authHeader = headers != null
+                ? headers.getHeaderString(HttpHeaders.AUTHORIZATION) : null;
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        String token = authHeader.substring(7).trim();
+        return token.isEmpty() ? null : token;
+    }
+
     /**
      * POST /api/v1/auth/sso/callback - Handle SSO authentication callback.
      * <p>
@@ -6,7 +6,6 @@ import com.scrumpoker.domain.room.SessionHistory;
 import com.scrumpoker.domain.user.User;
 import com.scrumpoker.repository.UserRepository;
 import com.scrumpoker.security.SecurityContextImpl;
-import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
@@ -26,7 +25,6 @@ import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for reporting and analytics endpoints.
@@ -89,15 +87,19 @@ public class ReportingController {
     /**
      * GET /api/v1/reports/sessions - List user's session history with pagination.
      * <p>
-     * Returns paginated list of sessions for the authenticated user.
+     * Returns paginated list of sessions for the authenticated user, newest first.
      * Supports filtering by date range and room ID.
      * Default page size is 20, maximum is 100.
      * </p>
+     * <p>
+     * Pages are addressed by cursor: the response carries {@code next_cursor}
+     * when more sessions follow, and passing it back returns the next page.
+     * </p>
      *
      * @param from Start date filter (ISO 8601 format: YYYY-MM-DD), optional
      * @param to End date filter (ISO 8601 format: YYYY-MM-DD), optional
      * @param roomId Room ID filter (6-character nanoid), optional
-     * @param page Page number (0-indexed), default 0
+     * @param cursor Cursor from the previous page's response, omitted for the first page
      * @param size Page size (1-100), default 20
      * @return Paginated session list with metadata
      */
@@ -124,22 +126,24 @@ public class ReportingController {
             @QueryParam("to") String to,
             @Parameter(description = "Filter by room ID", example = "abc123")
             @QueryParam("roomId") String roomId,
-            @Parameter(description = "Page number (0-indexed)")
-            @QueryParam("page") @DefaultValue("0") int page,
+            @Parameter(description = "Cursor from the previous page's next_cursor")
+            @QueryParam("cursor") String cursor,
             @Parameter(description = "Page size (1-100)")
             @QueryParam("size") @DefaultValue("20") int size) {
 
         // Validate pagination parameters
-        if (page < 0) {
+        if (size < 1 || size > 100) {
             ErrorResponse error = new ErrorResponse("VALIDATION_ERROR",
-                    "Page number must be >= 0");
+                    "Page size must be between 1 and 100");
             return Uni.createFrom().item(
                     Response.status(Response.Status.BAD_REQUEST).entity(error).build());
         }
 
-        if (size < 1 || size > 100) {
-            ErrorResponse error = new ErrorResponse("VALIDATION_ERROR",
-                    "Page size must be between 1 and 100");
+        SessionCursor after;
+        try {
+            after = cursor != null && !cursor.isEmpty() ? SessionCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse("VALIDATION_ERROR", "Invalid cursor");
             return Uni.createFrom().item(
                     Response.status(Response.Status.BAD_REQUEST).entity(error).build());
         }
@@ -166,61 +170,25 @@ public class ReportingController {
 
         // Get authenticated user
         return getAuthenticatedUser()
-                .onItem().transformToUni(user -> {
-                    // Fetch sessions from service
-                    Uni<List<SessionHistory>> sessionsUni;
-                    if (roomId != null && !roomId.isEmpty()) {
-                        // Filter by room and date range
-                        sessionsUni = sessionHistoryService.getRoomSessionsByDateRange(
-                                roomId, fromDate, toDate);
-                    } else {
-                        // Filter by user and date range
-                        sessionsUni = sessionHistoryService.getUserSessions(
-                                user.userId, fromDate, toDate);
-                    }
-
-                    return sessionsUni
-                            .onItem().transformToUni(sessions -> {
-                                // Apply pagination
-                                int totalCount = sessions.size();
-                                int startIndex = page * size;
-                                int endIndex = Math.min(startIndex + size, totalCount);
-
-                                if (startIndex >= totalCount && totalCount > 0) {
-                                    ErrorResponse error = new ErrorResponse("VALIDATION_ERROR",
-                                            "Page number exceeds available pages");
-                                    return Uni.createFrom().item(
-                                            Response.status(Response.Status.BAD_REQUEST)
-                                                    .entity(error).build());
-                                }
-
-                                List<SessionHistory> paginatedSessions = sessions.stream()
-                                        .skip(startIndex)
-                                        .limit(size)
-                                        .collect(Collectors.toList());
-
-                                // Convert to SessionSummaryDTO
-                                // For each session, we need to call reportingService to get summary
-                                return Multi.createFrom()
-                                        .iterable(paginatedSessions)
-                                        .onItem().transformToUniAndConcatenate(session ->
-                                                reportingService.getBasicSessionSummary(
-                                                        session.id.sessionId))
-                                        .collect().asList()
-                                        .onItem().transform(summaries -> {
-                                            boolean hasNext = endIndex < totalCount;
-
-                                            SessionListResponse response = new SessionListResponse(
-                                                    summaries,
-                                                    page,
-                                                    size,
-                                                    totalCount,
-                                                    hasNext
-                                            );
-
-                                            return Response.ok(response).build();
-                                        });
-                            });
+                .onItem().transformToUni(user ->
+                        // Fetch one extra summary to learn whether another page follows
+                        sessionHistoryService.getSessionSummaryPage(
+                                user.userId, roomId, fromDate, toDate, after, size + 1))
+                .onItem().transform(summaries -> {
+                    boolean hasNext = summaries.size() > size;
+                    List<SessionSummaryDTO> page = hasNext ? summaries.subList(0, size) : summaries;
+                    String nextCursor = hasNext
+                            ? SessionCursor.of(page.get(page.size() - 1)).encode()
+                            : null;
+
+                    SessionListResponse response = new SessionListResponse(
+                            page,
+                            size,
+                            hasNext,
+                            nextCursor
+                    );
+
+                    return Response.ok(response).build();
                 })
                 .onFailure(IllegalArgumentException.class)
                 .recoverWithItem(failure -> {
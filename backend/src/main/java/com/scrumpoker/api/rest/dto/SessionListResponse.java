@@ -7,7 +7,7 @@ import java.util.List;
 
 /**
  * Response DTO for paginated session list endpoint.
- * Contains session summaries along with pagination metadata.
+ * Contains session summaries along with cursor pagination metadata.
  */
 public class SessionListResponse {
 
@@ -17,30 +17,24 @@ public class SessionListResponse {
     @JsonProperty("sessions")
     public List<SessionSummaryDTO> sessions;
 
-    /**
-     * Current page number (0-indexed).
-     */
-    @JsonProperty("page")
-    public int page;
-
     /**
      * Page size (number of items per page).
      */
     @JsonProperty("size")
     public int size;
 
-    /**
-     * Total number of sessions matching the query.
-     */
-    @JsonProperty("total")
-    public int total;
-
     /**
      * Whether there are more pages available.
      */
     @JsonProperty("has_next")
     public boolean hasNext;
 
+    /**
+     * Opaque cursor to request the next page with, or null on the last page.
+     */
+    @JsonProperty("next_cursor")
+    public String nextCursor;
+
     /**
      * Default constructor for Jackson deserialization.
      */
@@ -51,20 +45,17 @@ public class SessionListResponse {
      * Constructs a SessionListResponse with all fields.
      *
      * @param sessions List of session summaries
-     * @param page Current page number
      * @param size Page size
-     * @param total Total count
      * @param hasNext Whether more pages exist
+     * @param nextCursor Cursor of the next page, or null
      */
     public SessionListResponse(final List<SessionSummaryDTO> sessions,
-                               final int page,
                                final int size,
-                               final int total,
-                               final boolean hasNext) {
+                               final boolean hasNext,
+                               final String nextCursor) {
         this.sessions = sessions;
-        this.page = page;
         this.size = size;
-        this.total = total;
         this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 }
@@ -60,6 +60,7 @@ public class RoomMapper {
 
         RoomConfig config = new RoomConfig();
         config.setDeckType(dto.deckType != null ? dto.deckType : "FIBONACCI");
+        config.setCustomDeck(dto.customDeck);
         config.setTimerEnabled(dto.timerEnabled != null ? dto.timerEnabled : false);
         config.setTimerDurationSeconds(dto.timerDurationSeconds != null ? dto.timerDurationSeconds : 60);
         config.setRevealBehavior(dto.revealBehavior != null ? dto.revealBehavior : "MANUAL");
@@ -85,7 +86,7 @@ public class RoomMapper {
         dto.timerDurationSeconds = config.getTimerDurationSeconds();
         dto.revealBehavior = config.getRevealBehavior();
         dto.allowObservers = config.isAllowObservers();
-        dto.customDeck = null; // Not yet implemented in domain model
+        dto.customDeck = config.getCustomDeck();
         dto.allowAnonymousVoters = true; // Default for now
 
         return dto;
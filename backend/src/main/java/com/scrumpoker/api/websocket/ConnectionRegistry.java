@@ -1,15 +1,20 @@
 package com.scrumpoker.api.websocket;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.domain.room.RoomStateEngine;
 import com.scrumpoker.event.RoomEventSubscriber;
+import com.scrumpoker.metrics.BusinessMetrics;
 import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.websocket.Session;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -24,6 +29,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * <strong>Thread Safety:</strong> Uses ConcurrentHashMap and thread-safe sets
  * to support concurrent connection/disconnection events from multiple threads.
  * </p>
+ * <p>
+ * <strong>Backpressure:</strong> Each registered session sends through a bounded
+ * {@link SessionOutbox}, which coalesces superseded state messages, drops progress ticks
+ * and disconnects consumers that exceed the configured byte/frame/delay budget.
+ * Outboxes start held: room broadcasts are queued until {@link #releaseOutbound} sends the
+ * joining client its replay or snapshot, so live events never overtake it.
+ * </p>
+ * <p>
+ * <strong>Wire Formats:</strong> Each session receives frames in its negotiated
+ * {@link WireFormat}. A broadcast is encoded at most once per format present in the room.
+ * </p>
  */
 @ApplicationScoped
 public class ConnectionRegistry {
@@ -44,16 +60,56 @@ public class ConnectionRegistry {
      */
     private final ConcurrentHashMap<Session, String> sessionToRoom;
 
+    /**
+     * Map of Session -> bounded outbound queue, for registered sessions.
+     */
+    private final ConcurrentHashMap<Session, SessionOutbox> outboxes;
+
+    /**
+     * Frames and bytes queued in all outboxes of this node.
+     */
+    private final SessionOutbox.Totals outboundTotals = new SessionOutbox.Totals();
+
+    private SessionOutbox.Policy outboundPolicy;
+
     @Inject
-    ObjectMapper objectMapper;
+    MessageCodec messageCodec;
 
     @Inject
     RoomEventSubscriber eventSubscriber;
 
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    @Inject
+    RoomStateEngine roomStateEngine;
+
+    @ConfigProperty(name = "websocket.outbound.coalesce-types", defaultValue = "room.state.v1")
+    Set<String> coalesceTypes;
+
+    @ConfigProperty(name = "websocket.outbound.droppable-types", defaultValue = "vote.recorded.v1,votes.recorded.batch.v1")
+    Set<String> droppableTypes;
+
+    @ConfigProperty(name = "websocket.outbound.max-queued-bytes", defaultValue = "1048576")
+    long maxQueuedBytes;
+
+    @ConfigProperty(name = "websocket.outbound.max-queued-frames", defaultValue = "256")
+    int maxQueuedFrames;
+
+    @ConfigProperty(name = "websocket.outbound.max-delay", defaultValue = "PT10S")
+    Duration maxOutboundDelay;
+
     public ConnectionRegistry() {
         this.roomConnections = new ConcurrentHashMap<>();
         this.lastPongReceived = new ConcurrentHashMap<>();
         this.sessionToRoom = new ConcurrentHashMap<>();
+        this.outboxes = new ConcurrentHashMap<>();
+    }
+
+    @PostConstruct
+    void initialize() {
+        this.outboundPolicy = new SessionOutbox.Policy(Set.copyOf(coalesceTypes), Set.copyOf(droppableTypes),
+                maxQueuedBytes, maxQueuedFrames, maxOutboundDelay.toNanos());
     }
 
     /**
@@ -74,6 +130,9 @@ public class ConnectionRegistry {
         // Track session to room mapping for reverse lookup
         sessionToRoom.put(session, roomId);
 
+        // Bound the data buffered for this session
+        outboxes.put(session, new SessionOutbox(session, outboundPolicy, outboundTotals, businessMetrics, true));
+
         // Initialize heartbeat timestamp
         lastPongReceived.put(session, Instant.now());
 
@@ -109,6 +168,8 @@ public class ConnectionRegistry {
                 if (sessions.isEmpty()) {
                     roomConnections.remove(roomId);
                     eventSubscriber.unsubscribeFromRoom(roomId);
+                    // Events for this room are no longer received, so cached state would go stale
+                    roomStateEngine.evict(roomId);
                     Log.infof("Room %s has no more connections, removed from registry and unsubscribed from Redis", roomId);
                 } else {
                     Log.infof("Connection removed from room %s: session %s (remaining: %d)",
@@ -120,6 +181,12 @@ public class ConnectionRegistry {
         // Clean up heartbeat tracking
         lastPongReceived.remove(session);
 
+        // Release frames still waiting to be sent
+        SessionOutbox outbox = outboxes.remove(session);
+        if (outbox != null) {
+            outbox.close();
+        }
+
         return roomId;
     }
 
@@ -186,31 +253,13 @@ public class ConnectionRegistry {
         return lastPongReceived.get(session);
     }
 
-    /**
-     * Gets all sessions that haven't sent a pong within the specified timeout.
-     *
-     * @param timeoutSeconds The timeout in seconds (typically 60)
-     * @return Set of stale sessions
-     */
-    public Set<Session> getStaleSessions(int timeoutSeconds) {
-        Set<Session> staleSessions = ConcurrentHashMap.newKeySet();
-        Instant cutoffTime = Instant.now().minusSeconds(timeoutSeconds);
-
-        lastPongReceived.forEach((session, lastPong) -> {
-            if (lastPong.isBefore(cutoffTime)) {
-                staleSessions.add(session);
-            }
-        });
-
-        return staleSessions;
-    }
-
     /**
      * Broadcasts a WebSocket message to all participants in a room.
      * <p>
-     * This method serializes the message to JSON and sends it asynchronously
-     * to all active connections in the specified room. Failed sends are logged
-     * but do not prevent other participants from receiving the message.
+     * The message is serialized once per wire format in use to a shared {@link EncodedFrame},
+     * which is then sent asynchronously to all active connections of that format in the
+     * specified room. Failed sends are logged but do not prevent other participants from
+     * receiving the message.
      * </p>
      *
      * @param roomId The room ID to broadcast to
@@ -225,36 +274,95 @@ public class ConnectionRegistry {
             return;
         }
 
-        try {
-            String json = objectMapper.writeValueAsString(message);
-            int successCount = 0;
-            int failureCount = 0;
+        // One frame per wire format, encoded on first use
+        EncodedFrame[] frames = new EncodedFrame[WireFormat.values().length];
+        int successCount = 0;
+        int failureCount = 0;
+        long bytes = 0;
 
+        try {
             for (Session session : sessions) {
-                try {
-                    if (session.isOpen()) {
-                        session.getAsyncRemote().sendText(json);
-                        successCount++;
-                    } else {
-                        Log.warnf("Session %s is closed, skipping broadcast", session.getId());
-                        failureCount++;
+                if (!session.isOpen()) {
+                    Log.warnf("Session %s is closed, skipping broadcast", session.getId());
+                    failureCount++;
+                    continue;
+                }
+
+                WireFormat format = WireFormat.of(session);
+                EncodedFrame frame = frames[format.ordinal()];
+                if (frame == null) {
+                    try {
+                        frame = messageCodec.encode(message, format);
+                    } catch (IOException e) {
+                        Log.errorf(e, "Failed to serialize WebSocket message as %s: %s", format, message);
+                        return;
                     }
-                } catch (Exception e) {
-                    Log.errorf(e, "Failed to broadcast message to session %s", session.getId());
+                    frames[format.ordinal()] = frame;
+                }
+
+                if (sendFrame(session, frame, false)) {
+                    successCount++;
+                    bytes += frame.getByteLength();
+                } else {
                     failureCount++;
                 }
             }
+        } finally {
+            for (EncodedFrame frame : frames) {
+                if (frame != null) {
+                    frame.release();
+                }
+            }
+        }
 
-            Log.infof("Broadcast %s to room %s: %d succeeded, %d failed",
-                    message.getType(), roomId, successCount, failureCount);
+        businessMetrics.recordRoomBroadcast(successCount, bytes);
 
-        } catch (JsonProcessingException e) {
-            Log.errorf(e, "Failed to serialize WebSocket message: %s", message);
+        Log.infof("Broadcast %s to room %s: %d succeeded, %d failed (%d bytes)",
+                message.getType(), roomId, successCount, failureCount, bytes);
+    }
+
+    /**
+     * Writes a frame to a single session through its {@link SessionOutbox}.
+     * <p>
+     * Sessions that are not registered yet (e.g., errors sent during the handshake) have
+     * no outbox and are written to directly.
+     * </p>
+     *
+     * @param session The target session
+     * @param frame The frame to send
+     * @param bypassHold true to send even if the session has not been brought up to date yet
+     * @return true if the frame was sent or queued, false if it was dropped or rejected
+     */
+    private boolean sendFrame(Session session, EncodedFrame frame, boolean bypassHold) {
+        SessionOutbox outbox = outboxes.get(session);
+        if (outbox != null) {
+            SessionOutbox.OfferResult result = outbox.offer(frame, bypassHold);
+            return result == SessionOutbox.OfferResult.ACCEPTED || result == SessionOutbox.OfferResult.COALESCED;
+        }
+
+        frame.retain();
+        try {
+            frame.sendAsync(session.getAsyncRemote(), result -> {
+                frame.release();
+                if (!result.isOK()) {
+                    Log.debugf(result.getException(), "Async send of %s to session %s failed",
+                            frame.getType(), session.getId());
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            frame.release();
+            Log.errorf(e, "Failed to broadcast message to session %s", session.getId());
+            return false;
         }
     }
 
     /**
      * Sends a WebSocket message to a specific session (unicast).
+     * <p>
+     * Unicast messages answer the session's own requests and are sent even while its
+     * room broadcasts are held.
+     * </p>
      *
      * @param session The target session
      * @param message The WebSocketMessage to send
@@ -265,14 +373,54 @@ public class ConnectionRegistry {
             return;
         }
 
+        EncodedFrame frame;
         try {
-            String json = objectMapper.writeValueAsString(message);
-            session.getAsyncRemote().sendText(json);
-            Log.debugf("Sent %s to session %s", message.getType(), session.getId());
-        } catch (JsonProcessingException e) {
+            frame = messageCodec.encode(message, WireFormat.of(session));
+        } catch (IOException e) {
             Log.errorf(e, "Failed to serialize WebSocket message: %s", message);
-        } catch (Exception e) {
-            Log.errorf(e, "Failed to send message to session %s", session.getId());
+            return;
+        }
+
+        try {
+            if (sendFrame(session, frame, true)) {
+                businessMetrics.recordFramesSent(1, frame.getByteLength());
+                Log.debugf("Sent %s to session %s", message.getType(), session.getId());
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+    /**
+     * Sends a joining session the messages that bring it up to date, then the room
+     * broadcasts held for it since it connected.
+     *
+     * @param session The joining session
+     * @param messages Messages to send first (replayed events or a snapshot), in order
+     */
+    public void releaseOutbound(Session session, List<WebSocketMessage> messages) {
+        SessionOutbox outbox = outboxes.get(session);
+        if (outbox == null) {
+            Log.debugf("Session %s is no longer registered, skipping release", session.getId());
+            return;
+        }
+
+        WireFormat format = WireFormat.of(session);
+        List<EncodedFrame> frames = new ArrayList<>(messages.size());
+        try {
+            long bytes = 0;
+            for (WebSocketMessage message : messages) {
+                EncodedFrame frame = messageCodec.encode(message, format);
+                frames.add(frame);
+                bytes += frame.getByteLength();
+            }
+            outbox.release(frames);
+            businessMetrics.recordFramesSent(frames.size(), bytes);
+        } catch (IOException e) {
+            Log.errorf(e, "Failed to serialize resync messages for session %s", session.getId());
+            outbox.release(List.of());
+        } finally {
+            frames.forEach(EncodedFrame::release);
         }
     }
 
@@ -286,25 +434,29 @@ public class ConnectionRegistry {
     }
 
     /**
-     * Gets the number of active rooms (rooms with at least one connection).
+     * Gets the number of frames waiting in outbound queues across all sessions.
      *
-     * @return Active room count
+     * @return Queued frame count
      */
-    public int getActiveRoomCount() {
-        return roomConnections.size();
+    public long getOutboundQueuedFrames() {
+        return outboundTotals.frames();
     }
 
     /**
-     * Gets all active WebSocket sessions across all rooms.
-     * <p>
-     * Used by the heartbeat mechanism to send ping frames to all connections.
-     * </p>
+     * Gets the number of bytes waiting in outbound queues across all sessions.
      *
-     * @return Set of all active sessions
+     * @return Queued byte count
      */
-    public Set<Session> getAllSessions() {
-        Set<Session> allSessions = ConcurrentHashMap.newKeySet();
-        roomConnections.values().forEach(allSessions::addAll);
-        return allSessions;
+    public long getOutboundQueuedBytes() {
+        return outboundTotals.bytes();
+    }
+
+    /**
+     * Gets the number of active rooms (rooms with at least one connection).
+     *
+     * @return Active room count
+     */
+    public int getActiveRoomCount() {
+        return roomConnections.size();
     }
 }
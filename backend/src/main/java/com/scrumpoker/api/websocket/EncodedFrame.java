@@ -0,0 +1,235 @@
+package com.scrumpoker.api.websocket;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, pre-encoded WebSocket frame shared across all recipients of a broadcast.
+ * <p>
+ * A message is serialized exactly once per {@link WireFormat}: to a JSON String for text
+ * frames or to CBOR bytes for binary frames. The same frame instance is then handed to every
+ * session of that format in the room, so Jackson does not run per recipient.
+ * </p>
+ * <p>
+ * Text frames keep the String rather than UTF-8 bytes: {@code sendText} only accepts a
+ * String and encodes it itself, so encoding to bytes first would only add a decode step.
+ * </p>
+ * <p>
+ * <strong>Reference Counting:</strong> The creator holds the initial reference. Each
+ * in-flight asynchronous send calls {@link #retain()} before handing the frame to the
+ * container and {@link #release()} from its completion callback. Once the count drops
+ * to zero the payload references are cleared so large frames (e.g. {@code round.revealed.v1}
+ * for a 200-voter room) become collectable as soon as the slowest recipient is done.
+ * </p>
+ */
+public final class EncodedFrame {
+
+    private final String type;
+    private final int byteLength;
+    private final boolean binary;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    private volatile byte[] bytes;
+    private volatile String text;
+
+    private EncodedFrame(String type, String text, byte[] bytes, int byteLength) {
+        this.type = type;
+        this.text = text;
+        this.bytes = bytes;
+        this.byteLength = byteLength;
+        this.binary = bytes != null;
+    }
+
+    /**
+     * Wraps a serialized JSON payload, sent as a text frame.
+     *
+     * @param type The message type carried by the frame (for logging/metrics)
+     * @param text The frame payload
+     * @return New frame with a reference count of one
+     */
+    public static EncodedFrame ofText(String type, String text) {
+        return new EncodedFrame(type, text, null, utf8Length(text));
+    }
+
+    /**
+     * Wraps an already encoded binary payload (e.g. CBOR), sent as a binary frame.
+     *
+     * @param type The message type carried by the frame (for logging/metrics)
+     * @param bytes The encoded frame payload (ownership is transferred)
+     * @return New frame with a reference count of one
+     */
+    public static EncodedFrame ofBinary(String type, byte[] bytes) {
+        return new EncodedFrame(type, null, bytes, bytes.length);
+    }
+
+    /**
+     * Gets the message type carried by this frame.
+     *
+     * @return The versioned message type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Checks whether this frame is sent as a binary frame.
+     *
+     * @return true for binary frames, false for text frames
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Gets the encoded size of this frame in bytes.
+     *
+     * @return Payload size in bytes
+     */
+    public int getByteLength() {
+        return byteLength;
+    }
+
+    /**
+     * Returns the payload of a text frame for {@code sendText}.
+     * <p>
+     * Every recipient shares the same String instance.
+     * </p>
+     *
+     * @return The frame payload as a String
+     * @throws IllegalStateException if this is a binary frame or has already been fully released
+     */
+    public String asText() {
+        if (binary) {
+            throw new IllegalStateException("Frame " + type + " is a binary frame");
+        }
+        String current = text;
+        if (current == null) {
+            throw new IllegalStateException("Frame " + type + " has already been released");
+        }
+        return current;
+    }
+
+    /**
+     * Returns a read-only view over the payload of a binary frame for {@code sendBinary}.
+     * <p>
+     * Each call returns an independent buffer position, so the same frame can be
+     * written to many sessions concurrently without copying.
+     * </p>
+     *
+     * @return Read-only ByteBuffer over the frame payload
+     * @throws IllegalStateException if this is a text frame or has already been fully released
+     */
+    public ByteBuffer asBinary() {
+        if (!binary) {
+            throw new IllegalStateException("Frame " + type + " is a text frame");
+        }
+        byte[] current = bytes;
+        if (current == null) {
+            throw new IllegalStateException("Frame " + type + " has already been released");
+        }
+        return ByteBuffer.wrap(current).asReadOnlyBuffer();
+    }
+
+    /**
+     * Starts an asynchronous send of this frame as a text or binary frame.
+     * <p>
+     * The caller must hold a reference for the in-flight send and release it from the handler.
+     * </p>
+     *
+     * @param remote The session's asynchronous remote endpoint
+     * @param handler Completion callback
+     * @throws IllegalStateException if the frame has already been fully released
+     */
+    public void sendAsync(RemoteEndpoint.Async remote, SendHandler handler) {
+        if (binary) {
+            remote.sendBinary(asBinary(), handler);
+        } else {
+            remote.sendText(asText(), handler);
+        }
+    }
+
+    /**
+     * Acquires an additional reference for an in-flight send.
+     *
+     * @return This frame (for chaining)
+     * @throws IllegalStateException if the frame has already been fully released
+     */
+    public EncodedFrame retain() {
+        int current;
+        do {
+            current = refCount.get();
+            if (current <= 0) {
+                throw new IllegalStateException("Frame " + type + " has already been released");
+            }
+        } while (!refCount.compareAndSet(current, current + 1));
+        return this;
+    }
+
+    /**
+     * Releases one reference. When the last reference is released the payload is dropped.
+     *
+     * @return true if this call released the last reference, false otherwise
+     */
+    public boolean release() {
+        int remaining = refCount.decrementAndGet();
+        if (remaining == 0) {
+            bytes = null;
+            text = null;
+            return true;
+        }
+        if (remaining < 0) {
+            refCount.set(0);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current reference count (for monitoring/testing).
+     *
+     * @return Outstanding references to this frame
+     */
+    public int refCount() {
+        return refCount.get();
+    }
+
+    /**
+     * Counts the UTF-8 encoded length of a String without encoding it.
+     *
+     * @param text The text
+     * @return Length in bytes when encoded as UTF-8
+     */
+    static int utf8Length(String text) {
+        int length = text.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    // Surrogate pair: 4 bytes for 2 chars
+                    bytes += 2;
+                    i++;
+                }
+                // Unpaired surrogates are encoded as a 1-byte '?'
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedFrame{" +
+                "type='" + type + '\'' +
+                ", bytes=" + byteLength +
+                ", binary=" + binary +
+                ", refCount=" + refCount.get() +
+                '}';
+    }
+}
@@ -0,0 +1,317 @@
+package com.scrumpoker.api.websocket;
+
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for large numbers of short-lived per-connection deadlines.
+ * <p>
+ * Time is divided into ticks; a timeout lands in the bucket {@code deadlineTick % wheelSize}
+ * and carries the number of full wheel rotations left before it is due. Scheduling and
+ * cancelling are O(1) and lock-free for the caller: new and cancelled timeouts are queued
+ * and applied by the wheel's single worker thread, which only visits the bucket of the
+ * current tick. Compared to scanning every connection on a fixed schedule, work is spread
+ * evenly over time and proportional to the number of timeouts that actually fire.
+ * </p>
+ * <p>
+ * Timeouts fire at most one tick late. Tasks run on the worker thread and must not block;
+ * failures are logged and do not affect other timeouts.
+ * </p>
+ */
+public final class HashedTimingWheel implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(HashedTimingWheel.class);
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final long startNanos;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Ticks processed so far; only accessed by the worker thread.
+     */
+    private long tick;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    /**
+     * Creates a timing wheel driven by {@link System#nanoTime()}.
+     *
+     * @param name Name of the worker thread
+     * @param tickDuration Duration of one tick (timer resolution)
+     * @param wheelSize Number of buckets, rounded up to a power of two
+     */
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize) {
+        this(name, tickDuration.toNanos(), wheelSize, System.nanoTime());
+    }
+
+    HashedTimingWheel(String name, long tickNanos, int wheelSize, long startNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^20");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.name = name;
+        this.tickNanos = tickNanos;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts the worker thread. Timeouts scheduled before starting are kept.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts are discarded without running.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            LockSupport.unpark(current);
+            worker = null;
+        }
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param task The task to run on the worker thread
+     * @param delay Delay before the task runs (negative delays are treated as zero)
+     * @return Handle to cancel the timeout
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        return schedule(task, delay.toNanos(), System.nanoTime());
+    }
+
+    Timeout schedule(Runnable task, long delayNanos, long nowNanos) {
+        Timeout timeout = new Timeout(this, task, nowNanos - startNanos + Math.max(delayNanos, 0L));
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets the number of scheduled timeouts that have neither fired nor been cancelled.
+     *
+     * @return Pending timeout count
+     */
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Processes all ticks that are due at the given time. Must only be called from one thread.
+     *
+     * @param nowNanos Current time from {@link System#nanoTime()}
+     */
+    void advanceTo(long nowNanos) {
+        long elapsed = nowNanos - startNanos;
+        while ((tick + 1) * tickNanos <= elapsed) {
+            processCancellations();
+            transferPendingTimeouts();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            try {
+                advanceTo(System.nanoTime());
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Timing wheel %s failed to process tick %d", name, tick);
+            }
+        }
+    }
+
+    private void processCancellations() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.STATE_PENDING) {
+                continue;
+            }
+            long deadlineTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            // Timeouts already due go into the current bucket and fire on this tick
+            long bucketTick = Math.max(deadlineTick, tick);
+            wheel[(int) (bucketTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static final class Timeout {
+
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final HashedTimingWheel timingWheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        // Bucket linkage, only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedTimingWheel timingWheel, Runnable task, long deadlineNanos) {
+            this.timingWheel = timingWheel;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the timeout. Has no effect if it already fired or was cancelled.
+         *
+         * @return true if this call cancelled the timeout
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+            timingWheel.pendingCount.decrementAndGet();
+            timingWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * Checks whether the timeout was cancelled.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        /**
+         * Checks whether the task has run (or is running).
+         *
+         * @return true if the timeout fired
+         */
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+            timingWheel.pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Timing wheel %s task failed", timingWheel.name);
+            }
+        }
+    }
+
+    /**
+     * Doubly-linked list of the timeouts hashed to one slot of the wheel.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.api.websocket.message.MessageType;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token-bucket limits for incoming WebSocket messages, per session and per room.
+ * <p>
+ * Limits are configured per message type as {@code type=capacity/period} entries, e.g.
+ * {@code vote.cast.v1=10/10S} allows bursts of 10 votes and refills 10 votes every
+ * 10 seconds. Types without an entry of their own share the {@code default} bucket;
+ * without a {@code default} entry they are not limited.
+ * </p>
+ * <ul>
+ *   <li>{@code websocket.rate-limit.session}: buckets of each connection, against
+ *       clients that flood their own connection</li>
+ *   <li>{@code websocket.rate-limit.room}: buckets shared by all connections of a room on
+ *       this node, bounding the database work a single room can cause</li>
+ * </ul>
+ * <p>
+ * <strong>Thread Safety:</strong> Each bucket is a single atomic value ({@link TokenBucket}),
+ * and buckets are created up front per session or room, so checking a message takes no
+ * locks. Session buckets are released when the connection closes, room buckets when the
+ * room's last connection on this node closes.
+ * </p>
+ */
+@ApplicationScoped
+public class InboundRateLimiter {
+
+    /**
+     * Configuration key for the limit of types without an entry of their own.
+     */
+    static final String DEFAULT_KEY = "default";
+
+    /**
+     * Bucket index of the default limit (after one index per message type).
+     */
+    private static final int DEFAULT_SLOT = MessageType.values().length;
+
+    /**
+     * The scope whose bucket refused a message.
+     */
+    public enum Scope {
+        SESSION,
+        ROOM;
+
+        /**
+         * Gets the metric tag value of the scope.
+         *
+         * @return Lower-case scope name
+         */
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The outcome of a refused message.
+     *
+     * @param scope The scope whose bucket was empty
+     * @param retryAfter Time until the bucket has a token again
+     */
+    public record Rejection(Scope scope, Duration retryAfter) {
+    }
+
+    @ConfigProperty(name = "websocket.rate-limit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "websocket.rate-limit.session",
+            defaultValue = "default=100/60S,vote.cast.v1=10/10S,chat.message.v1=20/10S")
+    List<String> sessionLimitSpecs;
+
+    @ConfigProperty(name = "websocket.rate-limit.room",
+            defaultValue = "default=100/1S,vote.cast.v1=50/1S")
+    List<String> roomLimitSpecs;
+
+    private Limits sessionLimits;
+
+    private Limits roomLimits;
+
+    private final Map<String, TokenBucket[]> sessionBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, TokenBucket[]> roomBuckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        sessionLimits = Limits.parse("websocket.rate-limit.session", sessionLimitSpecs);
+        roomLimits = Limits.parse("websocket.rate-limit.room", roomLimitSpecs);
+        Log.infof("InboundRateLimiter initialized (enabled: %s, session: %s, room: %s)",
+                enabled, sessionLimitSpecs, roomLimitSpecs);
+    }
+
+    /**
+     * Takes a token for an incoming message from its session's and room's buckets.
+     * <p>
+     * The session bucket is checked first, so a flooding client is refused before it
+     * drains the tokens its room shares with other participants.
+     * </p>
+     *
+     * @param sessionId The WebSocket session ID
+     * @param roomId The room ID, or null if the session has no room yet
+     * @param messageType The message type, or null for unknown types
+     * @return null if the message is admitted, otherwise the rejection
+     */
+    public Rejection tryAcquire(String sessionId, String roomId, MessageType messageType) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.nanoTime();
+        TokenBucket[] session = sessionBuckets.computeIfAbsent(sessionId, key -> sessionLimits.newBuckets(now));
+        long wait = take(session, sessionLimits, messageType, now);
+        if (wait > 0) {
+            return new Rejection(Scope.SESSION, Duration.ofNanos(wait));
+        }
+        if (roomId == null) {
+            return null;
+        }
+        TokenBucket[] room = roomBuckets.computeIfAbsent(roomId, key -> roomLimits.newBuckets(now));
+        wait = take(room, roomLimits, messageType, now);
+        if (wait > 0) {
+            return new Rejection(Scope.ROOM, Duration.ofNanos(wait));
+        }
+        return null;
+    }
+
+    /**
+     * Releases the buckets of a closed session.
+     *
+     * @param sessionId The WebSocket session ID
+     */
+    public void releaseSession(String sessionId) {
+        sessionBuckets.remove(sessionId);
+    }
+
+    /**
+     * Releases the buckets of a room without connections on this node.
+     *
+     * @param roomId The room ID
+     */
+    public void releaseRoom(String roomId) {
+        roomBuckets.remove(roomId);
+    }
+
+    private static long take(TokenBucket[] buckets, Limits limits, MessageType messageType, long now) {
+        TokenBucket bucket = buckets[limits.slotOf(messageType)];
+        return bucket == null ? 0 : bucket.tryAcquire(now);
+    }
+
+    /**
+     * Parsed limits of one scope, indexed by bucket slot.
+     */
+    private static final class Limits {
+
+        private final Limit[] limits = new Limit[DEFAULT_SLOT + 1];
+
+        /**
+         * Parses {@code type=capacity/period} entries. Invalid entries are logged and ignored.
+         */
+        static Limits parse(String property, List<String> specs) {
+            Limits parsed = new Limits();
+            for (String spec : specs) {
+                String entry = spec.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                try {
+                    int eq = entry.indexOf('=');
+                    int slash = entry.indexOf('/', eq + 1);
+                    if (eq < 0 || slash < 0) {
+                        throw new IllegalArgumentException("expected type=capacity/period");
+                    }
+                    String type = entry.substring(0, eq).trim();
+                    int capacity = Integer.parseInt(entry.substring(eq + 1, slash).trim());
+                    Duration period = parsePeriod(entry.substring(slash + 1).trim());
+                    if (capacity <= 0 || period.isZero() || period.isNegative()) {
+                        throw new IllegalArgumentException("capacity and period must be positive");
+                    }
+                    int slot;
+                    if (DEFAULT_KEY.equals(type)) {
+                        slot = DEFAULT_SLOT;
+                    } else {
+                        MessageType messageType = MessageType.fromType(type);
+                        if (messageType == null) {
+                            throw new IllegalArgumentException("unknown message type " + type);
+                        }
+                        slot = messageType.ordinal();
+                    }
+                    parsed.limits[slot] = new Limit(capacity, period);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    Log.warnf("Ignoring %s entry '%s': %s", property, entry, e.getMessage());
+                }
+            }
+            return parsed;
+        }
+
+        private static Duration parsePeriod(String period) {
+            String upper = period.toUpperCase();
+            return Duration.parse(upper.startsWith("P") ? upper : "PT" + upper);
+        }
+
+        int slotOf(MessageType messageType) {
+            if (messageType != null && limits[messageType.ordinal()] != null) {
+                return messageType.ordinal();
+            }
+            return DEFAULT_SLOT;
+        }
+
+        TokenBucket[] newBuckets(long now) {
+            TokenBucket[] buckets = new TokenBucket[limits.length];
+            for (int i = 0; i < limits.length; i++) {
+                Limit limit = limits[i];
+                if (limit != null) {
+                    buckets[i] = new TokenBucket(limit.capacity(), limit.period(), now);
+                }
+            }
+            return buckets;
+        }
+    }
+
+    private record Limit(int capacity, Duration period) {
+    }
+}
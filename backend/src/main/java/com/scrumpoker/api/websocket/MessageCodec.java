@@ -0,0 +1,216 @@
+package com.scrumpoker.api.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.scrumpoker.api.websocket.message.InboundMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes {@link WebSocketMessage} envelopes in each {@link WireFormat}.
+ * <p>
+ * The CBOR mapper is a copy of the application's JSON mapper with a CBOR factory, so both
+ * formats share the same modules and feature configuration and carry identical envelopes.
+ * </p>
+ * <p>
+ * Outgoing messages are serialized with data binding. Incoming messages are read with a
+ * streaming parser into an {@link InboundMessage} carrying the {@link MessageType} tag and
+ * the typed payload record, so no intermediate tree or map is built per message.
+ * </p>
+ */
+@ApplicationScoped
+public class MessageCodec {
+
+    private static final String EMPTY_PAYLOAD = "{}";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private ObjectMapper cborMapper;
+
+    @PostConstruct
+    void initialize() {
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * Serializes a message once into a shareable frame of the given format.
+     * <p>
+     * The returned frame carries one reference owned by the caller, which must
+     * call {@link EncodedFrame#release()} once it no longer needs the frame.
+     * </p>
+     *
+     * @param message The message to encode
+     * @param format The wire format of the recipients
+     * @return The encoded frame (text for JSON, binary for CBOR)
+     * @throws IOException if serialization fails
+     */
+    public EncodedFrame encode(WebSocketMessage message, WireFormat format) throws IOException {
+        if (format == WireFormat.CBOR) {
+            return EncodedFrame.ofBinary(message.getType(), cborMapper.writeValueAsBytes(message));
+        }
+        return EncodedFrame.ofText(message.getType(), objectMapper.writeValueAsString(message));
+    }
+
+    /**
+     * Parses a JSON message received in a text frame.
+     *
+     * @param text The frame payload
+     * @return The parsed message
+     * @throws IOException if the payload is not a valid envelope
+     */
+    public InboundMessage decode(String text) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(text)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * Parses a CBOR message received in a binary frame.
+     *
+     * @param data The frame payload
+     * @return The parsed message
+     * @throws IOException if the payload is not a valid envelope
+     */
+    public InboundMessage decode(ByteBuffer data) throws IOException {
+        JsonFactory factory = cborMapper.getFactory();
+        try (JsonParser parser = data.hasArray()
+                ? factory.createParser(data.array(), data.arrayOffset() + data.position(), data.remaining())
+                : factory.createParser(new ByteBufferBackedInputStream(data))) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * Reads a message envelope with a streaming parser.
+     * <p>
+     * The {@code type} field is resolved to a {@link MessageType} as soon as it is read and the
+     * payload is then decoded straight into the type's record. Payloads of unknown types are
+     * skipped without being materialized. A payload that precedes the {@code type} field is
+     * buffered as tokens until the type is known.
+     * </p>
+     * <p>
+     * Payload validation errors do not fail the decode: they are returned in
+     * {@link InboundMessage#payloadError()} so the error can be sent with the request ID.
+     * </p>
+     */
+    private InboundMessage read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Message must be an object");
+        }
+
+        String type = null;
+        MessageType messageType = null;
+        String requestId = null;
+        TokenBuffer deferredPayload = null;
+        Object payload = null;
+        String payloadError = null;
+
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonStreamContext envelope = parser.getParsingContext();
+            parser.nextToken();
+            switch (field) {
+                case "type" -> {
+                    type = readText(parser, field);
+                    messageType = MessageType.fromType(type);
+                }
+                case "requestId" -> requestId = readText(parser, field);
+                case "payload" -> {
+                    if (messageType != null) {
+                        try {
+                            payload = readPayload(messageType, parser);
+                        } catch (IllegalArgumentException e) {
+                            payloadError = e.getMessage();
+                            skipTo(parser, envelope);
+                        }
+                    } else if (type == null) {
+                        deferredPayload = TokenBuffer.asCopyOfValue(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (messageType != null && payload == null && payloadError == null) {
+            try {
+                payload = deferredPayload != null
+                        ? readDeferred(messageType, deferredPayload)
+                        : readEmptyPayload(messageType);
+            } catch (IllegalArgumentException e) {
+                payloadError = e.getMessage();
+            }
+        }
+
+        return new InboundMessage(type, messageType, requestId, payload, payloadError);
+    }
+
+    private Object readPayload(MessageType messageType, JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return messageType.getReader().read(parser);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        parser.skipChildren();
+        throw new IllegalArgumentException("payload must be an object");
+    }
+
+    private Object readDeferred(MessageType messageType, TokenBuffer buffer) throws IOException {
+        try (JsonParser parser = buffer.asParser()) {
+            JsonStreamContext root = parser.getParsingContext();
+            parser.nextToken();
+            try {
+                Object payload = readPayload(messageType, parser);
+                return payload != null ? payload : readEmptyPayload(messageType);
+            } catch (IllegalArgumentException e) {
+                skipTo(parser, root);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads the payload of a message whose payload is absent or null, as an empty object.
+     */
+    private Object readEmptyPayload(MessageType messageType) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(EMPTY_PAYLOAD)) {
+            parser.nextToken();
+            return messageType.getReader().read(parser);
+        }
+    }
+
+    private static String readText(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new JsonParseException(parser, field + " must be a string");
+    }
+
+    /**
+     * Skips the rest of a partially read payload, up to the given enclosing context.
+     */
+    private static void skipTo(JsonParser parser, JsonStreamContext context) throws IOException {
+        while (parser.getParsingContext() != context && parser.nextToken() != null) {
+            // consume the remaining payload tokens
+        }
+    }
+}
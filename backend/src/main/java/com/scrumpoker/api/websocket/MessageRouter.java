@@ -1,6 +1,8 @@
 package com.scrumpoker.api.websocket;
 
 import com.scrumpoker.api.websocket.handler.MessageHandler;
+import com.scrumpoker.api.websocket.message.InboundMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.PostConstruct;
@@ -9,28 +11,37 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.websocket.Session;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Routes incoming WebSocket messages to appropriate handlers based on message type.
  * <p>
  * This router uses CDI to automatically discover all MessageHandler beans at startup
- * and creates a type-to-handler mapping for efficient message dispatching.
+ * and creates a type-to-handler mapping for efficient message dispatching. Messages are
+ * dispatched on the {@link MessageType} tag resolved by the codec, so routing is an
+ * enum-indexed lookup rather than a string hash.
  * </p>
  * <p>
  * The router is integrated into RoomWebSocketHandler.onMessage() and handles all
  * message types except room.join.v1 and room.leave.v1 (which are handled directly
  * by RoomWebSocketHandler).
  * </p>
+ * <p>
+ * Messages are submitted to the room's {@link RoomExecutionLanes lane}, so the messages of
+ * one room are handled in arrival order, one at a time, while other rooms proceed in parallel.
+ * </p>
  */
 @ApplicationScoped
 public class MessageRouter {
 
     @Inject
-    Instance<MessageHandler> handlers;
+    Instance<MessageHandler<?>> handlers;
 
-    private Map<String, MessageHandler> handlerMap;
+    @Inject
+    RoomExecutionLanes roomExecutionLanes;
+
+    private Map<MessageType, MessageHandler<?>> handlerMap;
 
     /**
      * Initializes the router by discovering all MessageHandler beans
@@ -38,18 +49,40 @@ public class MessageRouter {
      */
     @PostConstruct
     void init() {
-        handlerMap = new HashMap<>();
+        handlerMap = new EnumMap<>(MessageType.class);
 
-        for (MessageHandler handler : handlers) {
-            String messageType = handler.getMessageType();
+        for (MessageHandler<?> handler : handlers) {
+            MessageType messageType = handler.getMessageType();
             handlerMap.put(messageType, handler);
             Log.infof("Registered message handler: %s -> %s",
-                    messageType, handler.getClass().getSimpleName());
+                    messageType.getType(), handler.getClass().getSimpleName());
         }
 
         Log.infof("MessageRouter initialized with %d handlers", handlerMap.size());
     }
 
+    /**
+     * Queues a WebSocket message on its room's lane and routes it once the room's
+     * earlier messages have been handled.
+     * <p>
+     * Handler failures are logged and do not affect later messages of the room.
+     * </p>
+     *
+     * @param session The WebSocket session
+     * @param message The decoded WebSocket message
+     * @param userId The authenticated user ID (from session properties)
+     * @param roomId The room ID (from session properties)
+     */
+    public void submit(Session session, InboundMessage message, String userId, String roomId) {
+        roomExecutionLanes.submit(roomId, () -> route(session, message, userId, roomId)
+                .onItem().invoke(() -> Log.debugf("Message handled: type=%s, requestId=%s",
+                        message.type(), message.requestId()))
+                .onFailure().invoke(failure -> Log.errorf(failure,
+                        "Failed to handle message: type=%s, requestId=%s",
+                        message.type(), message.requestId()))
+                .onFailure().recoverWithNull());
+    }
+
     /**
      * Routes a WebSocket message to the appropriate handler based on message type.
      * <p>
@@ -58,24 +91,38 @@ public class MessageRouter {
      * </p>
      *
      * @param session The WebSocket session
-     * @param message The parsed WebSocket message
+     * @param message The decoded WebSocket message
      * @param userId The authenticated user ID (from session properties)
      * @param roomId The room ID (from session properties)
      * @return Uni<Void> that completes when message is processed
      */
-    public Uni<Void> route(Session session, WebSocketMessage message, String userId, String roomId) {
-        String messageType = message.getType();
-        MessageHandler handler = handlerMap.get(messageType);
+    public Uni<Void> route(Session session, InboundMessage message, String userId, String roomId) {
+        MessageHandler<?> handler = message.messageType() != null
+                ? handlerMap.get(message.messageType())
+                : null;
 
         if (handler == null) {
-            Log.debugf("No handler registered for message type: %s (ignoring)", messageType);
+            Log.debugf("No handler registered for message type: %s (ignoring)", message.type());
             return Uni.createFrom().voidItem();
         }
 
         Log.debugf("Routing message %s to handler %s",
-                messageType, handler.getClass().getSimpleName());
+                message.type(), handler.getClass().getSimpleName());
+
+        return dispatch(handler, session, message, userId, roomId);
+    }
 
-        return handler.handle(session, message, userId, roomId);
+    /**
+     * Invokes a handler with the payload record of its message type.
+     * <p>
+     * The codec decodes each payload with the reader of its {@link MessageType}, and handlers
+     * are registered under the type whose record they accept, so the cast always holds.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Uni<Void> dispatch(MessageHandler<T> handler, Session session,
+                                          InboundMessage message, String userId, String roomId) {
+        return handler.handle(session, message.requestId(), (T) message.payload(), userId, roomId);
     }
 
     /**
@@ -85,7 +132,8 @@ public class MessageRouter {
      * @return true if handler exists, false otherwise
      */
     public boolean hasHandler(String messageType) {
-        return handlerMap.containsKey(messageType);
+        MessageType type = MessageType.fromType(messageType);
+        return type != null && handlerMap.containsKey(type);
     }
 
     /**
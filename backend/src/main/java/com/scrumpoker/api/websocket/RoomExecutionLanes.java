@@ -0,0 +1,183 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.logging.Log;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Room-affine execution lanes for incoming WebSocket messages.
+ * <p>
+ * Each room is hashed to one of N lanes, and each lane is bound to a Vert.x event loop.
+ * A lane runs the messages of a room one after another: the next message of the room
+ * starts only when the {@link Uni} of the previous one has completed, so concurrent
+ * vote/reveal/reset messages of a room can no longer interleave their database work.
+ * Messages of different rooms in the same lane still run concurrently, and lanes spread
+ * rooms across the event loops.
+ * </p>
+ * <p>
+ * <strong>Confinement:</strong> The per-room queues of a lane are only touched on the lane's
+ * event loop thread, so no locks are needed. Each message runs on its own duplicated context
+ * of the lane (required by Hibernate Reactive sessions), which stays on the same thread.
+ * </p>
+ * <p>
+ * A message whose processing has not completed within {@code websocket.room-lanes.task-timeout}
+ * is abandoned so the room's queue keeps moving.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomExecutionLanes {
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    /**
+     * Number of lanes; 0 uses two per available processor (the default event loop count).
+     */
+    @ConfigProperty(name = "websocket.room-lanes.count", defaultValue = "0")
+    int laneCount;
+
+    @ConfigProperty(name = "websocket.room-lanes.task-timeout", defaultValue = "PT30S")
+    Duration taskTimeout;
+
+    private Lane[] lanes;
+
+    @PostConstruct
+    void init() {
+        int count = laneCount > 0 ? laneCount : 2 * Runtime.getRuntime().availableProcessors();
+        VertxInternal vertxInternal = (VertxInternal) vertx;
+        lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            // Each new event loop context is assigned the next event loop of the group
+            lanes[i] = new Lane(i, vertxInternal.createEventLoopContext());
+        }
+        Log.infof("RoomExecutionLanes initialized with %d lanes", count);
+    }
+
+    /**
+     * Queues work for a room on the room's lane.
+     * <p>
+     * The work is started on a duplicated Vert.x context once all earlier work of the room
+     * has completed. Failures are logged; they never stop the room's queue.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param work Supplies the work to run, called on the lane's event loop
+     */
+    public void submit(String roomId, Supplier<Uni<Void>> work) {
+        laneFor(roomId).submit(new Task(roomId, work, System.nanoTime()));
+    }
+
+    /**
+     * Gets the number of lanes.
+     *
+     * @return Lane count
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Gets the number of messages queued or running on a lane.
+     *
+     * @param lane The lane index
+     * @return Queue depth
+     */
+    public int getQueueDepth(int lane) {
+        return lanes[lane].depth.get();
+    }
+
+    private Lane laneFor(String roomId) {
+        return lanes[Math.floorMod(roomId.hashCode(), lanes.length)];
+    }
+
+    private record Task(String roomId, Supplier<Uni<Void>> work, long submittedNanos) {
+    }
+
+    /**
+     * A lane bound to one event loop. All fields except {@code depth} are confined to it.
+     */
+    private final class Lane {
+
+        private final int index;
+        private final ContextInternal context;
+        private final Map<String, ArrayDeque<Task>> roomQueues = new HashMap<>();
+        private final AtomicInteger depth = new AtomicInteger();
+
+        private Lane(int index, ContextInternal context) {
+            this.index = index;
+            this.context = context;
+        }
+
+        void submit(Task task) {
+            depth.incrementAndGet();
+            context.runOnContext(v -> enqueue(task));
+        }
+
+        private void enqueue(Task task) {
+            ArrayDeque<Task> queue = roomQueues.computeIfAbsent(task.roomId(), key -> new ArrayDeque<>());
+            queue.add(task);
+            if (queue.size() == 1) {
+                start(task);
+            }
+        }
+
+        private void start(Task task) {
+            businessMetrics.recordRoomLaneWait(index, System.nanoTime() - task.submittedNanos());
+
+            ContextInternal duplicate = context.duplicate();
+            // Mark context as safe for Quarkus context safety checks (Hibernate Reactive)
+            VertxContextSafetyToggle.setContextSafe(duplicate, true);
+            duplicate.runOnContext(v -> {
+                Uni<Void> work;
+                try {
+                    work = task.work().get();
+                } catch (RuntimeException e) {
+                    work = Uni.createFrom().failure(e);
+                }
+                work.ifNoItem().after(taskTimeout).failWith(TimeoutException::new)
+                        .subscribe().with(
+                                ignored -> context.runOnContext(x -> complete(task)),
+                                failure -> {
+                                    if (failure instanceof TimeoutException) {
+                                        Log.warnf("Message for room %s did not complete within %s, "
+                                                + "continuing with the room's next message", task.roomId(), taskTimeout);
+                                    } else {
+                                        Log.errorf(failure, "Message for room %s failed", task.roomId());
+                                    }
+                                    context.runOnContext(x -> complete(task));
+                                });
+            });
+        }
+
+        private void complete(Task task) {
+            depth.decrementAndGet();
+            ArrayDeque<Task> queue = roomQueues.get(task.roomId());
+            queue.poll();
+            Task next = queue.peek();
+            if (next == null) {
+                roomQueues.remove(task.roomId());
+            } else {
+                start(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.domain.room.RoomMetadata;
+import com.scrumpoker.domain.room.RoomMetadataCache;
+import com.scrumpoker.domain.room.Round;
+import com.scrumpoker.event.RoomEvent;
+import com.scrumpoker.event.RoomEventCodec;
+import com.scrumpoker.event.RoomEventLog;
+import com.scrumpoker.metrics.BusinessMetrics;
+import com.scrumpoker.repository.RoundRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings a joining client up to date with its room.
+ * <p>
+ * A client that reconnects sends the last event sequence number it has seen in
+ * {@code room.join.v1}. If the room's {@link RoomEventLog} still holds every event after it,
+ * the client receives {@code room.resumed.v1} followed by just those events. Otherwise
+ * (first join, too far behind, log trimmed or Redis unavailable) it receives a compact
+ * {@code room.state.v1} snapshot, stamped with the sequence number it reflects.
+ * </p>
+ * <p>
+ * The snapshot's sequence number is read before the room state, so the snapshot reflects
+ * at least that event; events after it are delivered live and may repeat a transition the
+ * snapshot already shows.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomResyncService {
+
+    @Inject
+    RoomEventLog roomEventLog;
+
+    @Inject
+    RoomMetadataCache roomMetadataCache;
+
+    @Inject
+    RoundRepository roundRepository;
+
+    @Inject
+    RoomEventCodec roomEventCodec;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    /**
+     * Builds the messages that bring a joining client up to date.
+     *
+     * @param roomId The room ID
+     * @param lastSeq The last sequence number the client has seen, or null on a first join
+     * @param requestId The request ID of the client's room.join.v1
+     * @param participants Participants currently connected to the room (for the snapshot)
+     * @return Uni containing the messages to send, in order
+     */
+    public Uni<List<WebSocketMessage>> resync(String roomId, Long lastSeq, String requestId,
+                                              List<Map<String, Object>> participants) {
+        if (lastSeq == null || !roomEventLog.isEnabled()) {
+            return snapshot(roomId, requestId, participants);
+        }
+
+        return roomEventLog.readSince(roomId, lastSeq)
+                .onFailure().invoke(failure ->
+                        Log.warnf(failure, "Failed to read replay log of room %s, sending snapshot", roomId))
+                .onFailure().recoverWithNull()
+                .chain(replay -> {
+                    if (replay != null && replay.isComplete()) {
+                        try {
+                            return Uni.createFrom().item(replayMessages(replay, requestId));
+                        } catch (IllegalStateException e) {
+                            Log.warnf(e, "Failed to replay events of room %s, sending snapshot", roomId);
+                        }
+                    }
+                    return snapshot(roomId, requestId, participants);
+                });
+    }
+
+    /**
+     * Builds room.resumed.v1 followed by the missed events.
+     *
+     * @throws IllegalStateException if an event in the log cannot be read
+     */
+    private List<WebSocketMessage> replayMessages(RoomEventLog.Replay replay, String requestId) {
+        List<WebSocketMessage> messages = new ArrayList<>(replay.events().size() + 1);
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("fromSeq", replay.afterSeq());
+        payload.put("toSeq", replay.currentSeq());
+        payload.put("missedEvents", replay.events().size());
+        messages.add(new WebSocketMessage("room.resumed.v1", requestId, payload));
+
+        for (byte[] encoded : replay.events()) {
+            try {
+                RoomEvent event = roomEventCodec.decode(encoded);
+                WebSocketMessage message = new WebSocketMessage(
+                        event.getType(), event.getRequestId(), event.getPayload());
+                message.setSeq(event.getSeq());
+                messages.add(message);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unreadable event in replay log", e);
+            }
+        }
+
+        businessMetrics.recordRoomResync(BusinessMetrics.RESYNC_REPLAY, replay.events().size());
+        return messages;
+    }
+
+    /**
+     * Builds a room.state.v1 snapshot from the cached room metadata and the latest round.
+     */
+    private Uni<List<WebSocketMessage>> snapshot(String roomId, String requestId,
+                                                 List<Map<String, Object>> participants) {
+        Uni<Long> seq = roomEventLog.isEnabled()
+                ? roomEventLog.currentSequence(roomId)
+                        .onFailure().invoke(failure ->
+                                Log.warnf(failure, "Failed to read event sequence of room %s", roomId))
+                        .onFailure().recoverWithNull()
+                : Uni.createFrom().nullItem();
+
+        return seq.chain(currentSeq -> roomMetadataCache.get(roomId)
+                .chain(room -> Panache.withSession(() -> roundRepository.findLatestByRoomId(roomId))
+                        .map(round -> {
+                            WebSocketMessage message = new WebSocketMessage("room.state.v1", requestId,
+                                    snapshotPayload(room, round, participants));
+                            message.setSeq(currentSeq);
+                            businessMetrics.recordRoomResync(BusinessMetrics.RESYNC_SNAPSHOT, 0);
+                            return List.of(message);
+                        })));
+    }
+
+    private static Map<String, Object> snapshotPayload(RoomMetadata room, Round round,
+                                                       List<Map<String, Object>> participants) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", room.roomId());
+        payload.put("title", room.title());
+        payload.put("config", room.config().config());
+        payload.put("participants", participants);
+
+        if (round != null) {
+            Map<String, Object> currentRound = new HashMap<>();
+            currentRound.put("roundId", round.roundId.toString());
+            currentRound.put("roundNumber", round.roundNumber);
+            currentRound.put("storyTitle", round.storyTitle);
+            currentRound.put("startedAt", round.startedAt != null ? round.startedAt.toString() : null);
+            currentRound.put("revealed", round.revealedAt != null);
+            currentRound.put("revealedAt", round.revealedAt != null ? round.revealedAt.toString() : null);
+            payload.put("currentRound", currentRound);
+        } else {
+            payload.put("currentRound", null);
+        }
+        return payload;
+    }
+}
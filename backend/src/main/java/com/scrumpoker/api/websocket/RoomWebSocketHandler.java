@@ -1,31 +1,38 @@
 package com.scrumpoker.api.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.scrumpoker.domain.room.Room;
+import com.scrumpoker.api.websocket.message.InboundMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.RoomJoin;
+import com.scrumpoker.domain.room.RoomMetadataCache;
 import com.scrumpoker.domain.room.RoomNotFoundException;
-import com.scrumpoker.domain.room.RoomService;
 import com.scrumpoker.logging.LoggingConstants;
-import com.scrumpoker.security.JwtClaims;
+import com.scrumpoker.metrics.BusinessMetrics;
 import com.scrumpoker.security.JwtTokenService;
 import io.quarkus.logging.Log;
-import io.quarkus.scheduler.Scheduled;
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.websocket.*;
 import jakarta.websocket.server.PathParam;
 import jakarta.websocket.server.ServerEndpoint;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.MDC;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * WebSocket handler for real-time room communication.
@@ -35,8 +42,11 @@ import java.util.concurrent.TimeUnit;
  *   <li>JWT-based authentication on handshake (token from query parameter)</li>
  *   <li>Connection lifecycle management (onOpen, onClose, onMessage, onError)</li>
  *   <li>Heartbeat protocol (ping/pong every 30 seconds, 60 second timeout)</li>
+ *   <li>Join timeouts and heartbeats scheduled per connection on a {@link HashedTimingWheel}</li>
  *   <li>Thread-safe connection registry per room</li>
+ *   <li>Per-connection and per-room rate limits on incoming messages ({@link InboundRateLimiter})</li>
  *   <li>Event broadcasting to room participants</li>
+ *   <li>Replay of missed events or a room state snapshot on join ({@link RoomResyncService})</li>
  * </ul>
  * </p>
  * <p>
@@ -47,6 +57,11 @@ import java.util.concurrent.TimeUnit;
  * stored in session user properties.
  * </p>
  * <p>
+ * <strong>Wire Format:</strong> JSON text frames by default. Clients that request the
+ * {@code scrumpoker.cbor.v1} subprotocol send and receive CBOR binary frames instead
+ * (see {@link WireFormat}).
+ * </p>
+ * <p>
  * <strong>Protocol Requirements:</strong> Client MUST send {@code room.join.v1} message
  * within 10 seconds of connection, otherwise connection is closed with code 4008.
  * </p>
@@ -55,28 +70,38 @@ import java.util.concurrent.TimeUnit;
  * @see ConnectionRegistry
  * @see <a href="api/websocket-protocol.md">WebSocket Protocol Specification</a>
  */
-@ServerEndpoint("/ws/room/{roomId}")
+@ServerEndpoint(value = "/ws/room/{roomId}", subprotocols = {"scrumpoker.cbor.v1", "scrumpoker.json.v1"})
 @ApplicationScoped
 public class RoomWebSocketHandler {
 
     private static final String USER_ID_KEY = "userId";
     private static final String ROOM_ID_KEY = "roomId";
     private static final String JOIN_TIMEOUT_KEY = "joinTimeout";
-    private static final int JOIN_TIMEOUT_SECONDS = 10;
-    private static final int HEARTBEAT_INTERVAL_SECONDS = 30;
-    private static final int HEARTBEAT_TIMEOUT_SECONDS = 60;
+    private static final String HEARTBEAT_TIMEOUT_KEY = "heartbeatTimeout";
+    private static final String DISPLAY_NAME_KEY = "displayName";
+    private static final String ROLE_KEY = "role";
+    private static final Duration JOIN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration HEARTBEAT_TIMEOUT = Duration.ofSeconds(60);
+    private static final String ANONYMOUS_USER_PREFIX = "anon_";
+
+    /**
+     * Handshake rejections that indicate a server-side problem and are logged as errors.
+     */
+    private static final Set<String> HANDSHAKE_REJECTION_LOG_REASONS = Set.of(
+            BusinessMetrics.HANDSHAKE_REJECTED_TIMEOUT, BusinessMetrics.HANDSHAKE_REJECTED_ERROR);
 
     /**
-     * Tracks pending join timeouts per session.
-     * Session must send room.join.v1 within 10 seconds or be disconnected.
+     * Per-connection deadlines: join timeouts and heartbeat pings/liveness checks.
+     * Each session holds its pending timeouts in its user properties so they can be
+     * cancelled in O(1) on join or close.
      */
-    private final ConcurrentHashMap<String, Long> pendingJoins = new ConcurrentHashMap<>();
+    private HashedTimingWheel timingWheel;
 
     /**
-     * Maps session ID to WebSocket Session object for join timeout enforcement.
-     * Allows the scheduled task to look up and close sessions that exceed the join timeout.
+     * Handshakes admitted by {@link #onOpen} that have not yet completed or been rejected.
      */
-    private final ConcurrentHashMap<String, Session> sessionIdToSession = new ConcurrentHashMap<>();
+    private final AtomicInteger handshakesInFlight = new AtomicInteger();
 
     @Inject
     ConnectionRegistry connectionRegistry;
@@ -85,32 +110,68 @@ public class RoomWebSocketHandler {
     JwtTokenService jwtTokenService;
 
     @Inject
-    RoomService roomService;
+    RoomMetadataCache roomMetadataCache;
+
+    @Inject
+    BusinessMetrics businessMetrics;
 
     @Inject
-    ObjectMapper objectMapper;
+    MessageCodec messageCodec;
 
     @Inject
     MessageRouter messageRouter;
 
+    @Inject
+    InboundRateLimiter rateLimiter;
+
+    @Inject
+    RoomResyncService roomResyncService;
+
     @Inject
     io.vertx.core.Vertx vertx;
 
+    @ConfigProperty(name = "websocket.handshake.max-in-flight", defaultValue = "1000")
+    int maxHandshakesInFlight;
+
+    @ConfigProperty(name = "websocket.handshake.timeout", defaultValue = "PT5S")
+    Duration handshakeTimeout;
+
+    @ConfigProperty(name = "websocket.timer.tick", defaultValue = "PT0.1S")
+    Duration timerTick;
+
+    @ConfigProperty(name = "websocket.timer.wheel-size", defaultValue = "1024")
+    int timerWheelSize;
+
+    @PostConstruct
+    void startTimingWheel() {
+        timingWheel = new HashedTimingWheel("websocket-timing-wheel", timerTick, timerWheelSize);
+        timingWheel.start();
+    }
+
+    @PreDestroy
+    void stopTimingWheel() {
+        timingWheel.close();
+    }
+
     /**
      * Called when a WebSocket connection is established.
      * <p>
      * Process:
      * <ol>
+     *   <li>Admit the handshake if fewer than {@code websocket.handshake.max-in-flight}
+     *       handshakes are in progress, otherwise close with 4009 (SERVER_BUSY)</li>
      *   <li>Extract JWT token from query parameter {@code ?token={jwt}}</li>
-     *   <li>Validate JWT token and extract user claims (async)</li>
-     *   <li>Validate room exists and is not deleted (async)</li>
+     *   <li>Validate JWT token and extract user claims (cached by token hash)</li>
+     *   <li>Validate room exists and is not deleted (from the room metadata cache)</li>
      *   <li>Register connection in connection registry</li>
      *   <li>Schedule join timeout (client must send room.join.v1 within 10s)</li>
      * </ol>
      * </p>
      * <p>
-     * Note: Token and room validation are performed reactively to avoid blocking
-     * the Vert.x event loop. If validation fails, the connection is closed asynchronously.
+     * Note: The handshake never blocks the calling thread. It runs as a single reactive
+     * pipeline on a duplicated Vert.x context, bounded by {@code websocket.handshake.timeout}.
+     * If validation fails, the connection is closed asynchronously. Handshake latency and
+     * rejection reasons are recorded in {@link BusinessMetrics}.
      * </p>
      *
      * @param session The WebSocket session
@@ -118,6 +179,8 @@ public class RoomWebSocketHandler {
      */
     @OnOpen
     public void onOpen(Session session, @PathParam("roomId") String roomId) {
+        long startNanos = System.nanoTime();
+
         // Generate correlation ID for this WebSocket session
         String correlationId = UUID.randomUUID().toString();
         session.getUserProperties().put(LoggingConstants.WS_CORRELATION_ID_PROPERTY, correlationId);
@@ -126,132 +189,187 @@ public class RoomWebSocketHandler {
         MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
         MDC.put(LoggingConstants.ROOM_ID, roomId);
 
-        Log.infof("WebSocket connection attempt: session %s, room %s", session.getId(), roomId);
-
-        // Clear MDC immediately - each async callback will set its own MDC
-        MDC.clear();
+        try {
+            Log.infof("WebSocket connection attempt: session %s, room %s", session.getId(), roomId);
+
+            // Admission control: shed load during reconnection storms instead of queueing
+            if (handshakesInFlight.incrementAndGet() > maxHandshakesInFlight) {
+                handshakesInFlight.decrementAndGet();
+                Log.warnf("Rejecting WebSocket handshake for session %s: %d handshakes in flight",
+                        session.getId(), maxHandshakesInFlight);
+                rejectHandshake(session, startNanos, HandshakeRejection.overloaded());
+                return;
+            }
+        } finally {
+            // Clear MDC immediately - each async callback will set its own MDC
+            MDC.clear();
+        }
 
         // Extract JWT token from query parameter (optional for anonymous users)
         String token = extractTokenFromQuery(session);
 
+        newDuplicatedContext().runOnContext(v ->
+                handshake(token, roomId)
+                        .ifNoItem().after(handshakeTimeout)
+                        .failWith(HandshakeRejection::timeout)
+                        .onTermination().invoke(handshakesInFlight::decrementAndGet)
+                        .subscribe().with(
+                                userId -> {
+                                    // Set MDC for this callback's execution
+                                    MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
+                                    MDC.put(LoggingConstants.ROOM_ID, roomId);
+                                    MDC.put(LoggingConstants.USER_ID, userId);
+
+                                    try {
+                                        completeHandshake(session, roomId, userId, startNanos);
+                                    } finally {
+                                        MDC.clear();
+                                    }
+                                },
+                                failure -> {
+                                    // Set MDC for this error callback's execution
+                                    MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
+                                    MDC.put(LoggingConstants.ROOM_ID, roomId);
+
+                                    try {
+                                        rejectHandshake(session, startNanos, HandshakeRejection.from(failure));
+                                    } finally {
+                                        MDC.clear();
+                                    }
+                                }
+                        ));
+    }
+
+    /**
+     * Runs the asynchronous part of the handshake: token check, then room lookup.
+     *
+     * @param token The JWT token, or null/blank for anonymous connections
+     * @param roomId The room ID
+     * @return Uni containing the user ID of the connection (generated for anonymous users)
+     */
+    private Uni<String> handshake(String token, String roomId) {
+        Uni<String> userId;
         if (token == null || token.isBlank()) {
             // Anonymous connection - validate room only
-            Log.infof("Anonymous WebSocket connection attempt for room %s", roomId);
-
-            roomService.findById(roomId)
-                    .subscribe().with(
-                            room -> {
-                                // Set MDC for this callback's execution
-                                MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
-                                MDC.put(LoggingConstants.ROOM_ID, roomId);
-
-                                try {
-                                    // Room exists, allow anonymous connection
-                                    // Generate anonymous user ID for this session
-                                    String anonymousUserId = "anon_" + UUID.randomUUID().toString();
-
-                                    // Store anonymous user ID and room ID in session properties
-                                    session.getUserProperties().put(USER_ID_KEY, anonymousUserId);
-                                    session.getUserProperties().put(ROOM_ID_KEY, roomId);
-                                    session.getUserProperties().put("anonymous", true);
-
-                                    // Track session for join timeout enforcement
-                                    sessionIdToSession.put(session.getId(), session);
-
-                                    // Register connection in registry
-                                    connectionRegistry.addConnection(roomId, session);
-
-                                    // Schedule join timeout (client must send room.join.v1 within 10 seconds)
-                                    scheduleJoinTimeout(session);
-
-                                    Log.infof("Anonymous WebSocket connection established: user %s, room %s, session %s",
-                                            anonymousUserId, roomId, session.getId());
-                                } finally {
-                                    MDC.clear();
-                                }
-                            },
-                            failure -> {
-                                // Set MDC for this error callback's execution
-                                MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
-                                MDC.put(LoggingConstants.ROOM_ID, roomId);
-
-                                try {
-                                    Log.errorf(failure, "Failed to establish anonymous WebSocket connection for session %s", session.getId());
-                                    closeWithError(session, 4001, "ROOM_NOT_FOUND",
-                                            "Room does not exist or has been deleted");
-                                } finally {
-                                    MDC.clear();
-                                }
-                            }
-                    );
+            userId = Uni.createFrom().item(() -> ANONYMOUS_USER_PREFIX + UUID.randomUUID());
+        } else {
+            userId = jwtTokenService.validateAccessToken(token)
+                    .map(claims -> claims.userId().toString())
+                    .onFailure().transform(HandshakeRejection::unauthorized);
+        }
+        return userId.call(ignored -> roomMetadataCache.get(roomId));
+    }
+
+    /**
+     * Registers a validated connection and schedules its join timeout.
+     *
+     * @param session The WebSocket session
+     * @param roomId The room ID
+     * @param userId The authenticated or generated anonymous user ID
+     * @param startNanos Handshake start time from {@link System#nanoTime()}
+     */
+    private void completeHandshake(Session session, String roomId, String userId, long startNanos) {
+        if (!session.isOpen()) {
+            // Client gave up while the handshake was running; onClose has already run
+            Log.debugf("Session %s closed during handshake, not registering", session.getId());
             return;
         }
 
-        // Authenticated connection - validate token and room
-        jwtTokenService.validateAccessToken(token)
-                .onItem().transformToUni(claims -> {
-                    // Token valid, now validate room
-                    return roomService.findById(roomId)
-                            .onItem().transform(room -> new ValidationResult(claims, room));
-                })
-                .subscribe().with(
-                        validationResult -> {
-                            // Success: both token and room are valid
-                            JwtClaims claims = validationResult.claims;
-                            String userId = claims.userId().toString();
-
-                            // Set MDC for this callback's execution
-                            MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
-                            MDC.put(LoggingConstants.ROOM_ID, roomId);
-                            MDC.put(LoggingConstants.USER_ID, userId);
-
-                            try {
-                                // Store user ID and room ID in session properties
-                                session.getUserProperties().put(USER_ID_KEY, userId);
-                                session.getUserProperties().put(ROOM_ID_KEY, roomId);
-                                session.getUserProperties().put("anonymous", false);
-
-                                // Track session for join timeout enforcement
-                                sessionIdToSession.put(session.getId(), session);
-
-                                // Register connection in registry
-                                connectionRegistry.addConnection(roomId, session);
-
-                                // Schedule join timeout (client must send room.join.v1 within 10 seconds)
-                                scheduleJoinTimeout(session);
-
-                                Log.infof("Authenticated WebSocket connection established: user %s, room %s, session %s",
-                                        claims.userId(), roomId, session.getId());
-                            } finally {
-                                MDC.clear();
-                            }
-                        },
-                        failure -> {
-                            // Set MDC for this error callback's execution
-                            MDC.put(LoggingConstants.CORRELATION_ID, correlationId);
-                            MDC.put(LoggingConstants.ROOM_ID, roomId);
-
-                            try {
-                                // Failure: either token invalid or room not found
-                                Log.errorf(failure, "Failed to establish WebSocket connection for session %s", session.getId());
-
-                                if (failure instanceof RoomNotFoundException) {
-                                    closeWithError(session, 4001, "ROOM_NOT_FOUND",
-                                            "Room does not exist or has been deleted");
-                                } else {
-                                    closeWithError(session, 4000, "UNAUTHORIZED", "Invalid or expired JWT token");
-                                }
-                            } finally {
-                                MDC.clear();
-                            }
-                        }
-                );
+        boolean anonymous = userId.startsWith(ANONYMOUS_USER_PREFIX);
+
+        // Store user ID and room ID in session properties
+        session.getUserProperties().put(USER_ID_KEY, userId);
+        session.getUserProperties().put(ROOM_ID_KEY, roomId);
+        session.getUserProperties().put("anonymous", anonymous);
+
+        // Register connection in registry
+        connectionRegistry.addConnection(roomId, session);
+
+        // Schedule join timeout (client must send room.join.v1 within 10 seconds)
+        scheduleJoinTimeout(session);
+
+        // Start heartbeat at a random offset so pings are spread evenly over the interval
+        scheduleHeartbeat(session,
+                Duration.ofMillis(ThreadLocalRandom.current().nextLong(HEARTBEAT_INTERVAL.toMillis())));
+
+        long durationNanos = System.nanoTime() - startNanos;
+        businessMetrics.recordHandshakeAccepted(durationNanos);
+
+        Log.infof("%s WebSocket connection established: user %s, room %s, session %s (%d ms)",
+                anonymous ? "Anonymous" : "Authenticated", userId, roomId, session.getId(),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
     }
 
     /**
-     * Internal helper class to pass validation results through reactive chain.
+     * Records a rejected handshake and closes the session with the rejection's error.
+     *
+     * @param session The WebSocket session
+     * @param startNanos Handshake start time from {@link System#nanoTime()}
+     * @param rejection The rejection
      */
-    private record ValidationResult(JwtClaims claims, Room room) {
+    private void rejectHandshake(Session session, long startNanos, HandshakeRejection rejection) {
+        businessMetrics.recordHandshakeRejected(rejection.reason, System.nanoTime() - startNanos);
+
+        if (HANDSHAKE_REJECTION_LOG_REASONS.contains(rejection.reason)) {
+            Log.errorf(rejection.getCause(), "Failed to establish WebSocket connection for session %s",
+                    session.getId());
+        } else {
+            Log.infof("WebSocket handshake rejected for session %s: %s", session.getId(), rejection.reason);
+        }
+        closeWithError(session, rejection.code, rejection.error, rejection.getMessage());
+    }
+
+    /**
+     * Failure of the handshake pipeline, mapped to a protocol error and a metric reason.
+     */
+    private static final class HandshakeRejection extends RuntimeException {
+
+        private final String reason;
+        private final int code;
+        private final String error;
+
+        private HandshakeRejection(String reason, int code, String error, String message, Throwable cause) {
+            super(message, cause, false, false);
+            this.reason = reason;
+            this.code = code;
+            this.error = error;
+        }
+
+        static HandshakeRejection overloaded() {
+            return new HandshakeRejection(BusinessMetrics.HANDSHAKE_REJECTED_OVERLOADED, 4009, "SERVER_BUSY",
+                    "Server is busy, reconnect later", null);
+        }
+
+        static HandshakeRejection timeout() {
+            return new HandshakeRejection(BusinessMetrics.HANDSHAKE_REJECTED_TIMEOUT, 4009, "SERVER_BUSY",
+                    "Connection setup timed out, reconnect later", null);
+        }
+
+        static HandshakeRejection unauthorized(Throwable cause) {
+            return new HandshakeRejection(BusinessMetrics.HANDSHAKE_REJECTED_UNAUTHORIZED, 4000, "UNAUTHORIZED",
+                    "Invalid or expired JWT token", cause);
+        }
+
+        static HandshakeRejection from(Throwable failure) {
+            if (failure instanceof HandshakeRejection rejection) {
+                return rejection;
+            }
+            if (failure instanceof RoomNotFoundException) {
+                return new HandshakeRejection(BusinessMetrics.HANDSHAKE_REJECTED_ROOM_NOT_FOUND, 4001,
+                        "ROOM_NOT_FOUND", "Room does not exist or has been deleted", failure);
+            }
+            return new HandshakeRejection(BusinessMetrics.HANDSHAKE_REJECTED_ERROR, 4999,
+                    "INTERNAL_SERVER_ERROR", "Failed to establish connection", failure);
+        }
+    }
+
+    /**
+     * Gets the number of handshakes currently being processed (for metrics).
+     *
+     * @return Handshakes in flight
+     */
+    public int getHandshakesInFlight() {
+        return handshakesInFlight.get();
     }
 
     /**
@@ -274,6 +392,10 @@ public class RoomWebSocketHandler {
         String userId = (String) session.getUserProperties().get(USER_ID_KEY);
         String correlationId = (String) session.getUserProperties().get(LoggingConstants.WS_CORRELATION_ID_PROPERTY);
         String roomId = connectionRegistry.removeConnection(session);
+        rateLimiter.releaseSession(sessionId);
+        if (roomId != null && connectionRegistry.getConnectionCount(roomId) == 0) {
+            rateLimiter.releaseRoom(roomId);
+        }
 
         // Set correlation ID in MDC for logging
         if (correlationId != null) {
@@ -287,11 +409,9 @@ public class RoomWebSocketHandler {
         }
 
         try {
-            // Clean up pending join timeout
-            pendingJoins.remove(sessionId);
-
-            // Clean up session tracking
-            sessionIdToSession.remove(sessionId);
+            // Cancel pending join timeout and heartbeat
+            cancelTimeout(session, JOIN_TIMEOUT_KEY);
+            cancelTimeout(session, HEARTBEAT_TIMEOUT_KEY);
 
             if (roomId != null && userId != null) {
             // Broadcast participant_left event to remaining participants
@@ -328,6 +448,32 @@ public class RoomWebSocketHandler {
      */
     @OnMessage
     public void onMessage(Session session, String messageText) {
+        processMessage(session, messageText, () -> messageCodec.decode(messageText));
+    }
+
+    /**
+     * Called when a binary message is received from the client.
+     * <p>
+     * Binary frames carry the same envelope as text frames, encoded as CBOR
+     * ({@code scrumpoker.cbor.v1} subprotocol).
+     * </p>
+     *
+     * @param session The WebSocket session
+     * @param data The received message (CBOR)
+     */
+    @OnMessage
+    public void onBinaryMessage(Session session, ByteBuffer data) {
+        processMessage(session, data, () -> messageCodec.decode(data));
+    }
+
+    /**
+     * Parses and dispatches a message received in either wire format.
+     *
+     * @param session The WebSocket session
+     * @param raw The raw frame payload (for logging)
+     * @param parser Parses the frame payload into a message envelope
+     */
+    private void processMessage(Session session, Object raw, MessageParser parser) {
         String sessionId = session.getId();
         String userId = (String) session.getUserProperties().get(USER_ID_KEY);
         String roomId = (String) session.getUserProperties().get(ROOM_ID_KEY);
@@ -345,58 +491,66 @@ public class RoomWebSocketHandler {
         }
 
         try {
-            Log.debugf("Received message from session %s: %s", sessionId, messageText);
-            // Parse message envelope
-            WebSocketMessage message = objectMapper.readValue(messageText, WebSocketMessage.class);
+            Log.debugf("Received message from session %s: %s", sessionId, raw);
+            // Parse message envelope and typed payload
+            InboundMessage message = parser.parse();
 
             // Validate message structure
-            if (message.getType() == null || message.getType().isBlank()) {
-                sendError(session, message.getRequestId(), 4004, "VALIDATION_ERROR",
+            if (message.type() == null || message.type().isBlank()) {
+                sendError(session, message.requestId(), 4004, "VALIDATION_ERROR",
                         "Message type is required");
                 return;
             }
 
-            if (message.getRequestId() == null || message.getRequestId().isBlank()) {
+            if (message.requestId() == null || message.requestId().isBlank()) {
                 sendError(session, UUID.randomUUID().toString(), 4004, "VALIDATION_ERROR",
                         "Request ID is required");
                 return;
             }
 
+            // Refuse messages beyond the session's or room's budget before any handler work
+            InboundRateLimiter.Rejection rejection =
+                    rateLimiter.tryAcquire(sessionId, roomId, message.messageType());
+            if (rejection != null) {
+                businessMetrics.incrementRateLimited(message.messageType(), rejection.scope().tag());
+                sendError(session, message.requestId(), 4029, "RATE_LIMIT_EXCEEDED",
+                        String.format("Too many %s messages for this %s, retry in %d ms",
+                                message.type(), rejection.scope().tag(),
+                                Math.max(1, rejection.retryAfter().toMillis())));
+                return;
+            }
+
+            // The room ID is only set once the asynchronous handshake has completed
+            if (roomId == null) {
+                sendError(session, message.requestId(), 4005, "INVALID_STATE",
+                        "Not joined to a room: connection setup has not completed");
+                return;
+            }
+
+            if (message.payloadError() != null) {
+                sendError(session, message.requestId(), 4004, "VALIDATION_ERROR", message.payloadError());
+                return;
+            }
+
             // Handle room.join.v1 message (cancel join timeout)
-            if ("room.join.v1".equals(message.getType())) {
-                handleRoomJoin(session, message);
+            if (message.messageType() == MessageType.ROOM_JOIN) {
+                handleRoomJoin(session, message.requestId(), message.payload(RoomJoin.class));
                 return;
             }
 
             // Handle room.leave.v1 message (graceful disconnect)
-            if ("room.leave.v1".equals(message.getType())) {
-                handleRoomLeave(session, message);
+            if (message.messageType() == MessageType.ROOM_LEAVE) {
+                handleRoomLeave(session);
                 return;
             }
 
             // Route to message handlers via MessageRouter
-            // CRITICAL: Create a duplicated context for Hibernate Reactive transaction safety
-            // The @OnMessage handler runs on Undertow's thread pool, not a Vert.x context
-            // We need to dispatch to a duplicated Vert.x context for Panache.withTransaction()
-            io.vertx.core.Context context = vertx.getOrCreateContext();
-            io.vertx.core.Context duplicatedContext = io.vertx.core.impl.VertxInternal.class.cast(vertx)
-                    .getOrCreateContext().duplicate();
-
-            // Mark context as safe for Quarkus context safety checks
-            io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe(duplicatedContext, true);
-
-            duplicatedContext.runOnContext(v -> {
-                messageRouter.route(session, message, userId, roomId)
-                        .subscribe().with(
-                                success -> Log.debugf("Message handled: type=%s, requestId=%s",
-                                        message.getType(), message.getRequestId()),
-                                failure -> Log.errorf(failure, "Failed to handle message: type=%s, requestId=%s",
-                                        message.getType(), message.getRequestId())
-                        );
-            });
+            // The room's execution lane runs the handler on a duplicated Vert.x context
+            // (required by Panache.withTransaction()) after the room's earlier messages
+            messageRouter.submit(session, message, userId, roomId);
 
         } catch (Exception e) {
-            Log.errorf(e, "Failed to process message from session %s: %s", sessionId, messageText);
+            Log.errorf(e, "Failed to process message from session %s: %s", sessionId, raw);
             sendError(session, UUID.randomUUID().toString(), 4004, "VALIDATION_ERROR",
                     "Invalid message format: " + e.getMessage());
         } finally {
@@ -467,214 +621,189 @@ public class RoomWebSocketHandler {
         }
     }
 
+    // Helper Methods
+
     /**
-     * Scheduled task that sends ping frames to all active connections every 30 seconds.
-     * <p>
-     * This implements the heartbeat protocol to detect stale connections.
-     * Server sends ping, expects pong response within 60 seconds.
-     * </p>
+     * Extracts JWT token from query parameter {@code ?token={jwt}}.
+     *
+     * @param session The WebSocket session
+     * @return The JWT token, or null if not found
      */
-    @Scheduled(every = "30s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
-    public void sendHeartbeatPings() {
-        int totalConnections = connectionRegistry.getTotalConnectionCount();
-        if (totalConnections == 0) {
-            return; // No connections, skip
-        }
-
-        Log.debugf("Sending heartbeat pings to %d active connections", totalConnections);
-
-        int successCount = 0;
-        int failureCount = 0;
-
-        // Get all active sessions across all rooms
-        Set<Session> allSessions = connectionRegistry.getAllSessions();
+    private String extractTokenFromQuery(Session session) {
+        Map<String, List<String>> params = session.getRequestParameterMap();
+        List<String> tokens = params.get("token");
 
-        for (Session session : allSessions) {
-            try {
-                if (session.isOpen()) {
-                    // Send WebSocket ping frame (empty payload)
-                    session.getAsyncRemote().sendPing(ByteBuffer.allocate(0));
-                    successCount++;
-                } else {
-                    Log.debugf("Session %s is closed, skipping ping", session.getId());
-                    failureCount++;
-                }
-            } catch (Exception e) {
-                Log.warnf(e, "Failed to send ping to session %s", session.getId());
-                failureCount++;
-            }
+        if (tokens != null && !tokens.isEmpty()) {
+            return tokens.get(0);
         }
 
-        Log.debugf("Heartbeat ping cycle completed: %d succeeded, %d failed", successCount, failureCount);
+        return null;
     }
 
     /**
-     * Scheduled task that cleans up stale connections (no pong received within 60 seconds).
+     * Creates a duplicated Vert.x context for reactive work started from a container thread.
      * <p>
-     * Runs every 60 seconds, checks for sessions that haven't responded to ping,
-     * and closes them with a timeout reason.
+     * WebSocket callbacks run on Undertow's thread pool, not a Vert.x context; Hibernate
+     * Reactive sessions (Panache) require a duplicated context marked as safe.
      * </p>
+     *
+     * @return A new duplicated context
      */
-    @Scheduled(every = "60s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
-    public void cleanupStaleConnections() {
-        Set<Session> staleSessions = connectionRegistry.getStaleSessions(HEARTBEAT_TIMEOUT_SECONDS);
-
-        if (staleSessions.isEmpty()) {
-            return;
-        }
-
-        Log.infof("Cleaning up %d stale connections (no pong within %d seconds)",
-                staleSessions.size(), HEARTBEAT_TIMEOUT_SECONDS);
-
-        for (Session session : staleSessions) {
-            try {
-                String userId = (String) session.getUserProperties().get(USER_ID_KEY);
-                String roomId = (String) session.getUserProperties().get(ROOM_ID_KEY);
-
-                Log.warnf("Closing stale connection: user %s, room %s, session %s",
-                        userId, roomId, session.getId());
+    private io.vertx.core.Context newDuplicatedContext() {
+        io.vertx.core.Context duplicatedContext = io.vertx.core.impl.VertxInternal.class.cast(vertx)
+                .getOrCreateContext().duplicate();
 
-                if (session.isOpen()) {
-                    session.close(new CloseReason(
-                            CloseReason.CloseCodes.NORMAL_CLOSURE,
-                            "Connection timeout - no heartbeat"
-                    ));
-                }
-            } catch (Exception e) {
-                Log.errorf(e, "Failed to close stale session %s", session.getId());
-            }
-        }
+        // Mark context as safe for Quarkus context safety checks
+        io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe(duplicatedContext, true);
+        return duplicatedContext;
     }
 
     /**
-     * Scheduled task that enforces join timeout (client must send room.join.v1 within 10 seconds).
-     * <p>
-     * Runs every 5 seconds, checks for sessions that exceeded the join timeout,
-     * and closes them with code 4008 (POLICY_VIOLATION).
-     * </p>
+     * Schedules a join timeout for the session.
+     * Client must send room.join.v1 within 10 seconds or connection is closed.
+     *
+     * @param session The WebSocket session
      */
-    @Scheduled(every = "5s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
-    public void enforceJoinTimeout() {
-        long now = System.currentTimeMillis();
-
-        pendingJoins.entrySet().removeIf(entry -> {
-            String sessionId = entry.getKey();
-            long deadline = entry.getValue();
-
-            if (now > deadline) {
-                // Look up session and close it with POLICY_VIOLATION code
-                Session session = sessionIdToSession.get(sessionId);
-
-                if (session != null && session.isOpen()) {
-                    try {
-                        Log.warnf("Session %s exceeded join timeout (10 seconds), closing with code 4008 (POLICY_VIOLATION)", sessionId);
-
-                        // Custom close code 4008 for POLICY_VIOLATION
-                        CloseReason closeReason = new CloseReason(
-                                new CloseReason.CloseCode() {
-                                    @Override
-                                    public int getCode() {
-                                        return 4008;
-                                    }
-                                },
-                                "POLICY_VIOLATION: Failed to send room.join.v1 within 10 seconds"
-                        );
-
-                        session.close(closeReason);
-                    } catch (Exception e) {
-                        Log.errorf(e, "Failed to close session %s for join timeout", sessionId);
-                    }
-                }
-
-                return true; // Remove from pending joins
-            }
-
-            return false;
-        });
+    private void scheduleJoinTimeout(Session session) {
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(() -> enforceJoinTimeout(session), JOIN_TIMEOUT);
+        session.getUserProperties().put(JOIN_TIMEOUT_KEY, timeout);
     }
 
-    // Helper Methods
-
     /**
-     * Extracts JWT token from query parameter {@code ?token={jwt}}.
+     * Cancels the join timeout for a session (called when room.join.v1 is received).
      *
      * @param session The WebSocket session
-     * @return The JWT token, or null if not found
      */
-    private String extractTokenFromQuery(Session session) {
-        Map<String, List<String>> params = session.getRequestParameterMap();
-        List<String> tokens = params.get("token");
-
-        if (tokens != null && !tokens.isEmpty()) {
-            return tokens.get(0);
+    private void cancelJoinTimeout(Session session) {
+        if (cancelTimeout(session, JOIN_TIMEOUT_KEY)) {
+            Log.debugf("Join timeout cancelled for session %s", session.getId());
         }
+    }
 
-        return null;
+    /**
+     * Cancels a timeout stored in the session's user properties.
+     *
+     * @param session The WebSocket session
+     * @param key The user property holding the timeout
+     * @return true if a pending timeout was cancelled
+     */
+    private boolean cancelTimeout(Session session, String key) {
+        Object timeout = session.getUserProperties().remove(key);
+        return timeout instanceof HashedTimingWheel.Timeout pending && pending.cancel();
     }
 
     /**
-     * Validates JWT token and returns claims.
+     * Closes a session that did not send room.join.v1 in time, with code 4008 (POLICY_VIOLATION).
+     * Runs on the timing wheel thread.
      *
-     * @param token The JWT token
-     * @return JwtClaims if valid, null otherwise
+     * @param session The WebSocket session
      */
-    private JwtClaims validateToken(String token) {
+    private void enforceJoinTimeout(Session session) {
+        session.getUserProperties().remove(JOIN_TIMEOUT_KEY);
+        if (!session.isOpen()) {
+            return;
+        }
         try {
-            return jwtTokenService.validateAccessToken(token)
-                    .await().atMost(java.time.Duration.ofSeconds(5));
+            Log.warnf("Session %s exceeded join timeout (10 seconds), closing with code 4008 (POLICY_VIOLATION)",
+                    session.getId());
+
+            // Custom close code 4008 for POLICY_VIOLATION
+            CloseReason closeReason = new CloseReason(
+                    new CloseReason.CloseCode() {
+                        @Override
+                        public int getCode() {
+                            return 4008;
+                        }
+                    },
+                    "POLICY_VIOLATION: Failed to send room.join.v1 within 10 seconds"
+            );
+
+            session.close(closeReason);
         } catch (Exception e) {
-            Log.errorf(e, "JWT token validation failed: %s", e.getMessage());
-            return null;
+            Log.errorf(e, "Failed to close session %s for join timeout", session.getId());
         }
     }
 
     /**
-     * Validates that the room exists and is not deleted.
+     * Schedules the next heartbeat of a session.
      *
-     * @param roomId The room ID
-     * @return The Room entity if valid, null otherwise
+     * @param session The WebSocket session
+     * @param delay Delay until the heartbeat
      */
-    private Room validateRoomExists(String roomId) {
+    private void scheduleHeartbeat(Session session, Duration delay) {
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(() -> heartbeat(session), delay);
+        session.getUserProperties().put(HEARTBEAT_TIMEOUT_KEY, timeout);
+    }
+
+    /**
+     * Heartbeat of one connection, run every 30 seconds on the timing wheel thread.
+     * <p>
+     * Closes the connection if no pong was received within 60 seconds, otherwise sends a
+     * ping frame and schedules the next heartbeat. Each connection keeps the random offset
+     * it got on connect, so pings are spread evenly instead of sent in one burst.
+     * </p>
+     *
+     * @param session The WebSocket session
+     */
+    private void heartbeat(Session session) {
+        if (!session.isOpen() || !connectionRegistry.isSessionRegistered(session)) {
+            return;
+        }
+
+        Instant lastPong = connectionRegistry.getLastPong(session);
+        if (lastPong != null && lastPong.isBefore(Instant.now().minus(HEARTBEAT_TIMEOUT))) {
+            closeStaleConnection(session);
+            return;
+        }
+
         try {
-            return roomService.findById(roomId)
-                    .await().atMost(java.time.Duration.ofSeconds(5));
-        } catch (RoomNotFoundException e) {
-            Log.warnf("Room not found: %s", roomId);
-            return null;
+            // Send WebSocket ping frame (empty payload)
+            session.getAsyncRemote().sendPing(ByteBuffer.allocate(0));
         } catch (Exception e) {
-            Log.errorf(e, "Failed to validate room %s: %s", roomId, e.getMessage());
-            return null;
+            Log.warnf(e, "Failed to send ping to session %s", session.getId());
         }
+        scheduleHeartbeat(session, HEARTBEAT_INTERVAL);
     }
 
     /**
-     * Schedules a join timeout for the session.
-     * Client must send room.join.v1 within 10 seconds or connection is closed.
+     * Closes a connection that has not responded to pings within the heartbeat timeout.
      *
      * @param session The WebSocket session
      */
-    private void scheduleJoinTimeout(Session session) {
-        long deadline = System.currentTimeMillis() + (JOIN_TIMEOUT_SECONDS * 1000L);
-        pendingJoins.put(session.getId(), deadline);
+    private void closeStaleConnection(Session session) {
+        try {
+            String userId = (String) session.getUserProperties().get(USER_ID_KEY);
+            String roomId = (String) session.getUserProperties().get(ROOM_ID_KEY);
+
+            Log.warnf("Closing stale connection: user %s, room %s, session %s (no pong within %d seconds)",
+                    userId, roomId, session.getId(), HEARTBEAT_TIMEOUT.toSeconds());
+
+            session.close(new CloseReason(
+                    CloseReason.CloseCodes.NORMAL_CLOSURE,
+                    "Connection timeout - no heartbeat"
+            ));
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to close stale session %s", session.getId());
+        }
     }
 
     /**
-     * Cancels the join timeout for a session (called when room.join.v1 is received).
+     * Gets the number of pending join timeouts and heartbeats (for metrics).
      *
-     * @param session The WebSocket session
+     * @return Pending timer count
      */
-    private void cancelJoinTimeout(Session session) {
-        pendingJoins.remove(session.getId());
-        Log.debugf("Join timeout cancelled for session %s", session.getId());
+    public int getPendingTimers() {
+        return timingWheel != null ? timingWheel.pendingCount() : 0;
     }
 
     /**
      * Handles the room.join.v1 message.
      *
      * @param session The WebSocket session
-     * @param message The join message
+     * @param requestId The join request ID
+     * @param join The join payload
      */
-    private void handleRoomJoin(Session session, WebSocketMessage message) {
+    private void handleRoomJoin(Session session, String requestId, RoomJoin join) {
         // Cancel join timeout
         cancelJoinTimeout(session);
 
@@ -684,19 +813,16 @@ public class RoomWebSocketHandler {
         Log.infof("Room join received: user %s, room %s, session %s",
                 userId, roomId, session.getId());
 
-        // Extract displayName from payload (or use default)
-        String displayName = "Anonymous";
-        if (message.getPayload() != null && message.getPayload().containsKey("displayName")) {
-            Object displayNameObj = message.getPayload().get("displayName");
-            if (displayNameObj instanceof String) {
-                displayName = (String) displayNameObj;
-            }
-        }
+        // Take displayName from payload (or use default)
+        String displayName = join.displayName() != null ? join.displayName() : "Anonymous";
 
         // Determine participant role (default to VOTER for now)
         // Full role assignment logic will be implemented in Task I4.T4
         String role = "VOTER";
 
+        session.getUserProperties().put(DISPLAY_NAME_KEY, displayName);
+        session.getUserProperties().put(ROLE_KEY, role);
+
         // Broadcast participant_joined event to all participants in the room
         String connectedAt = Instant.now().toString();
         WebSocketMessage joinedMessage = WebSocketMessage.createParticipantJoined(
@@ -711,18 +837,52 @@ public class RoomWebSocketHandler {
         Log.infof("Participant joined event broadcasted to room %s: user %s (%s, %s)",
                 roomId, userId, displayName, role);
 
-        // TODO (I4.T4): Implement full room join logic:
-        // 1. Create/update RoomParticipant record in database
-        // 2. Send room.state.v1 (initial state snapshot) to newly connected client
+        // Send the missed events (or a room.state.v1 snapshot), then release the
+        // broadcasts held since the connection was opened
+        Long lastSeq = join.lastSeq();
+        List<Map<String, Object>> participants = joinedParticipants(roomId);
+        newDuplicatedContext().runOnContext(v ->
+                roomResyncService.resync(roomId, lastSeq, requestId, participants)
+                        .subscribe().with(
+                                messages -> connectionRegistry.releaseOutbound(session, messages),
+                                failure -> {
+                                    Log.errorf(failure, "Failed to resync session %s with room %s",
+                                            session.getId(), roomId);
+                                    connectionRegistry.releaseOutbound(session, List.of());
+                                }
+                        ));
+
+        // TODO (I4.T4): Create/update RoomParticipant record in database
+    }
+
+    /**
+     * Lists the participants that have joined a room on this node, for the room.state.v1 snapshot.
+     *
+     * @param roomId The room ID
+     * @return Participant entries (participantId, displayName, role)
+     */
+    private List<Map<String, Object>> joinedParticipants(String roomId) {
+        List<Map<String, Object>> participants = new ArrayList<>();
+        for (Session session : connectionRegistry.getConnectionsForRoom(roomId)) {
+            Map<String, Object> properties = session.getUserProperties();
+            if (!properties.containsKey(DISPLAY_NAME_KEY)) {
+                continue;
+            }
+            Map<String, Object> participant = new HashMap<>();
+            participant.put("participantId", properties.get(USER_ID_KEY));
+            participant.put("displayName", properties.get(DISPLAY_NAME_KEY));
+            participant.put("role", properties.get(ROLE_KEY));
+            participants.add(participant);
+        }
+        return participants;
     }
 
     /**
      * Handles the room.leave.v1 message (graceful disconnect).
      *
      * @param session The WebSocket session
-     * @param message The leave message
      */
-    private void handleRoomLeave(Session session, WebSocketMessage message) {
+    private void handleRoomLeave(Session session) {
         String userId = (String) session.getUserProperties().get(USER_ID_KEY);
         String roomId = (String) session.getUserProperties().get(ROOM_ID_KEY);
 
@@ -753,9 +913,8 @@ public class RoomWebSocketHandler {
             // Send error message before closing
             sendError(session, UUID.randomUUID().toString(), code, error, message);
 
-            // Close connection
-            CloseReason.CloseCode closeCode = CloseReason.CloseCodes.PROTOCOL_ERROR;
-            session.close(new CloseReason(closeCode, error));
+            // Close connection with the application error code
+            session.close(new CloseReason(CloseReason.CloseCodes.getCloseCode(code), error));
 
             Log.infof("Closed session %s with error %d: %s", session.getId(), code, message);
         } catch (Exception e) {
@@ -797,4 +956,12 @@ public class RoomWebSocketHandler {
 
         return "user_initiated"; // Default
     }
+
+    /**
+     * Parses a received frame payload into a message envelope.
+     */
+    @FunctionalInterface
+    private interface MessageParser {
+        InboundMessage parse() throws IOException;
+    }
 }
@@ -0,0 +1,387 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.logging.Log;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded outbound queue of one WebSocket session.
+ * <p>
+ * At most one asynchronous send per session is handed to the container at a time; further
+ * frames wait in this queue, so a client on a slow network cannot make the container buffer
+ * an unbounded amount of data. While frames are waiting, the {@link Policy} applies:
+ * <ul>
+ *   <li><strong>Coalesce:</strong> a queued frame of a coalescing type (a full state message)
+ *       is superseded by a newer frame of the same type, which takes its place at the tail</li>
+ *   <li><strong>Drop:</strong> frames of a droppable type (progress ticks such as
+ *       {@code vote.recorded.v1}) are dropped rather than queued once the queue is over budget,
+ *       and are evicted first to make room for other frames</li>
+ *   <li><strong>Disconnect:</strong> if the queue exceeds its byte or frame budget with no
+ *       droppable frame left to evict, or the oldest frame has waited longer than the delay
+ *       budget, the session is closed with 4010 (SLOW_CONSUMER)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Hold:</strong> An outbox can be created held. While held, room broadcasts are
+ * queued (under the same budget) but not sent, so that a joining client receives its
+ * replayed events or snapshot before any live event; {@link #release(List)} sends those
+ * first and then the held frames. Replies to the session's own requests bypass the hold.
+ * </p>
+ * <p>
+ * <strong>Reference Counting:</strong> The outbox retains each {@link EncodedFrame} it
+ * accepts and releases it once the send completes, or when the frame is coalesced, dropped
+ * or discarded on close.
+ * </p>
+ */
+final class SessionOutbox {
+
+    /**
+     * Close code for sessions that do not keep up with their outbound traffic.
+     */
+    static final int SLOW_CONSUMER_CLOSE_CODE = 4010;
+
+    /**
+     * Outcome of {@link #offer(EncodedFrame)}.
+     */
+    enum OfferResult {
+        /** Handed to the container or queued. */
+        ACCEPTED,
+        /** Queued, replacing a superseded frame of the same type. */
+        COALESCED,
+        /** Dropped under the droppable-frame policy. */
+        DROPPED,
+        /** Rejected because the outbox is closed (session closed or disconnected as slow). */
+        CLOSED
+    }
+
+    /**
+     * Queueing policy shared by all sessions.
+     *
+     * @param coalesceTypes Message types of which only the latest queued frame is kept
+     * @param droppableTypes Message types that may be dropped when the queue is over budget
+     * @param maxQueuedBytes Byte budget of frames waiting behind the in-flight send
+     * @param maxQueuedFrames Frame budget of frames waiting behind the in-flight send
+     * @param maxDelayNanos Longest a frame may wait before the session counts as slow
+     */
+    record Policy(Set<String> coalesceTypes, Set<String> droppableTypes,
+                  long maxQueuedBytes, int maxQueuedFrames, long maxDelayNanos) {
+    }
+
+    /**
+     * Frame and byte totals across all outboxes of a node (for gauges).
+     */
+    static final class Totals {
+
+        private final AtomicLong frames = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        long frames() {
+            return frames.get();
+        }
+
+        long bytes() {
+            return bytes.get();
+        }
+
+        private void add(int frameCount, long byteCount) {
+            frames.addAndGet(frameCount);
+            bytes.addAndGet(byteCount);
+        }
+    }
+
+    private record Entry(EncodedFrame frame, long enqueuedNanos) {
+    }
+
+    private final Session session;
+    private final Policy policy;
+    private final Totals totals;
+    private final BusinessMetrics businessMetrics;
+
+    // Guarded by this
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final ArrayDeque<Entry> heldQueue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean sending;
+    private boolean held;
+    private boolean closed;
+
+    SessionOutbox(Session session, Policy policy, Totals totals, BusinessMetrics businessMetrics) {
+        this(session, policy, totals, businessMetrics, false);
+    }
+
+    SessionOutbox(Session session, Policy policy, Totals totals, BusinessMetrics businessMetrics,
+                  boolean held) {
+        this.session = session;
+        this.policy = policy;
+        this.totals = totals;
+        this.businessMetrics = businessMetrics;
+        this.held = held;
+    }
+
+    /**
+     * Sends a frame, or queues it behind the in-flight send (or the hold).
+     * <p>
+     * The caller keeps its own reference; the outbox retains the frame if it accepts it.
+     * </p>
+     *
+     * @param frame The frame to send
+     * @return The outcome
+     */
+    OfferResult offer(EncodedFrame frame) {
+        return offer(frame, false);
+    }
+
+    /**
+     * Sends a frame, or queues it behind the in-flight send.
+     *
+     * @param frame The frame to send
+     * @param bypassHold true to send the frame even while the outbox is held
+     * @return The outcome
+     */
+    OfferResult offer(EncodedFrame frame, boolean bypassHold) {
+        OfferResult result;
+        boolean sendNow = false;
+        boolean slowConsumer = false;
+        List<EncodedFrame> toRelease = new ArrayList<>(1);
+
+        synchronized (this) {
+            if (closed) {
+                return OfferResult.CLOSED;
+            }
+            boolean queueBehindHold = held && !bypassHold;
+            if (!sending && !queueBehindHold) {
+                sending = true;
+                sendNow = true;
+                result = OfferResult.ACCEPTED;
+            } else if (isOverDelayBudget()) {
+                slowConsumer = true;
+                result = OfferResult.CLOSED;
+            } else {
+                result = enqueue(queueBehindHold ? heldQueue : queue, frame, toRelease);
+                if (result == null) {
+                    slowConsumer = true;
+                    result = OfferResult.CLOSED;
+                }
+            }
+        }
+
+        toRelease.forEach(EncodedFrame::release);
+        if (sendNow) {
+            send(frame.retain());
+        } else if (slowConsumer) {
+            disconnectSlowConsumer();
+        }
+        return result;
+    }
+
+    /**
+     * Lifts the hold: sends the given frames, then the frames queued while held.
+     * <p>
+     * The prefix frames are not subject to the queue budget. The caller keeps its own
+     * references to them. If the outbox is not held, the frames are appended to the queue.
+     * </p>
+     *
+     * @param prefix Frames to send before any held frame (e.g. a replay or snapshot)
+     */
+    void release(List<EncodedFrame> prefix) {
+        Entry next = null;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            held = false;
+            long now = System.nanoTime();
+            for (EncodedFrame frame : prefix) {
+                queue.addLast(new Entry(frame.retain(), now));
+                queuedBytes += frame.getByteLength();
+                totals.add(1, frame.getByteLength());
+            }
+            queue.addAll(heldQueue);
+            heldQueue.clear();
+
+            if (!sending) {
+                next = queue.pollFirst();
+                if (next != null) {
+                    sending = true;
+                    queuedBytes -= next.frame().getByteLength();
+                    totals.add(-1, -next.frame().getByteLength());
+                }
+            }
+        }
+        if (next != null) {
+            // The queue's reference is handed over to the send
+            send(next.frame());
+        }
+    }
+
+    /**
+     * Discards all queued frames; later offers are rejected. Called when the session is removed.
+     */
+    void close() {
+        List<Entry> discarded;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            discarded = new ArrayList<>(queue);
+            discarded.addAll(heldQueue);
+            queue.clear();
+            heldQueue.clear();
+            totals.add(-discarded.size(), -queuedBytes);
+            queuedBytes = 0;
+        }
+        discarded.forEach(entry -> entry.frame().release());
+    }
+
+    /**
+     * Gets the number of frames waiting behind the in-flight send or the hold.
+     *
+     * @return Queue depth
+     */
+    synchronized int depth() {
+        return queue.size() + heldQueue.size();
+    }
+
+    /**
+     * Adds a frame to the queue or the held queue under the policy. Must hold the lock.
+     *
+     * @param target The queue to add the frame to
+     * @param frame The frame to queue
+     * @param toRelease Collects frames to release after leaving the lock
+     * @return The outcome, or null if the session must be disconnected
+     */
+    private OfferResult enqueue(ArrayDeque<Entry> target, EncodedFrame frame, List<EncodedFrame> toRelease) {
+        String type = frame.getType();
+        OfferResult result = OfferResult.ACCEPTED;
+
+        if (policy.coalesceTypes().contains(type) && removeQueued(target, type, toRelease)) {
+            businessMetrics.incrementOutboundDropped(BusinessMetrics.OUTBOUND_DROP_COALESCED);
+            result = OfferResult.COALESCED;
+        }
+
+        while (isOverBudget(frame.getByteLength())) {
+            if (policy.droppableTypes().contains(type)) {
+                businessMetrics.incrementOutboundDropped(BusinessMetrics.OUTBOUND_DROP_PROGRESS);
+                return OfferResult.DROPPED;
+            }
+            if (!removeFirstDroppable(queue, toRelease) && !removeFirstDroppable(heldQueue, toRelease)) {
+                return null;
+            }
+            businessMetrics.incrementOutboundDropped(BusinessMetrics.OUTBOUND_DROP_PROGRESS);
+        }
+
+        target.addLast(new Entry(frame.retain(), System.nanoTime()));
+        queuedBytes += frame.getByteLength();
+        totals.add(1, frame.getByteLength());
+        businessMetrics.recordOutboundQueueDepth(queue.size() + heldQueue.size());
+        return result;
+    }
+
+    private boolean isOverBudget(int additionalBytes) {
+        return queue.size() + heldQueue.size() + 1 > policy.maxQueuedFrames()
+                || queuedBytes + additionalBytes > policy.maxQueuedBytes();
+    }
+
+    private boolean isOverDelayBudget() {
+        long now = System.nanoTime();
+        return isOlderThanDelayBudget(queue.peekFirst(), now) || isOlderThanDelayBudget(heldQueue.peekFirst(), now);
+    }
+
+    private boolean isOlderThanDelayBudget(Entry entry, long now) {
+        return entry != null && now - entry.enqueuedNanos() > policy.maxDelayNanos();
+    }
+
+    private boolean removeQueued(ArrayDeque<Entry> target, String type, List<EncodedFrame> toRelease) {
+        Iterator<Entry> iterator = target.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.frame().getType().equals(type)) {
+                iterator.remove();
+                dequeued(entry, toRelease);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeFirstDroppable(ArrayDeque<Entry> target, List<EncodedFrame> toRelease) {
+        Iterator<Entry> iterator = target.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (policy.droppableTypes().contains(entry.frame().getType())) {
+                iterator.remove();
+                dequeued(entry, toRelease);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dequeued(Entry entry, List<EncodedFrame> toRelease) {
+        int length = entry.frame().getByteLength();
+        queuedBytes -= length;
+        totals.add(-1, -length);
+        toRelease.add(entry.frame());
+    }
+
+    /**
+     * Hands a frame to the container. The frame reference is released on completion.
+     */
+    private void send(EncodedFrame frame) {
+        try {
+            frame.sendAsync(session.getAsyncRemote(), result -> onSendComplete(frame, result));
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to send %s to session %s", frame.getType(), session.getId());
+            frame.release();
+            close();
+        }
+    }
+
+    private void onSendComplete(EncodedFrame frame, SendResult result) {
+        frame.release();
+        if (!result.isOK()) {
+            Log.debugf(result.getException(), "Async send of %s to session %s failed",
+                    frame.getType(), session.getId());
+            close();
+            return;
+        }
+
+        Entry next;
+        synchronized (this) {
+            next = closed ? null : queue.pollFirst();
+            if (next == null) {
+                sending = false;
+                return;
+            }
+            queuedBytes -= next.frame().getByteLength();
+            totals.add(-1, -next.frame().getByteLength());
+        }
+        // The queue's reference is handed over to the send
+        send(next.frame());
+    }
+
+    private void disconnectSlowConsumer() {
+        int depth = depth();
+        close();
+        businessMetrics.incrementSlowConsumerDisconnects();
+        Log.warnf("Closing slow WebSocket consumer: session %s (%d frames queued)", session.getId(), depth);
+        try {
+            session.close(new CloseReason(
+                    CloseReason.CloseCodes.getCloseCode(SLOW_CONSUMER_CLOSE_CODE),
+                    "SLOW_CONSUMER: Outbound queue budget exceeded"
+            ));
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to close slow session %s", session.getId());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.scrumpoker.api.websocket;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens, refilled at
+ * {@code capacity} tokens per {@code period}.
+ * <p>
+ * The bucket is kept as a single "theoretical arrival time" (the generic cell rate
+ * algorithm): taking a token advances it by one emission interval, and a take is refused
+ * while it would move more than one period ahead of now. Refill and take are therefore one
+ * compare-and-set on an {@link AtomicLong}, with no separate token count or refill timestamp
+ * to keep consistent.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity Maximum burst of tokens
+     * @param period Time in which a drained bucket refills completely
+     * @param nowNanos Current {@link System#nanoTime()}
+     */
+    TokenBucket(int capacity, Duration period, long nowNanos) {
+        this.periodNanos = period.toNanos();
+        this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param nowNanos Current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long next = (arrival - nowNanos > 0 ? arrival : nowNanos) + emissionIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > periodNanos) {
+                return ahead - periodNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -37,6 +37,14 @@ public class WebSocketMessage {
     @JsonProperty("requestId")
     private String requestId;
 
+    /**
+     * Position of a room event in its room's event sequence. Only set on messages
+     * relayed from the room event stream; clients pass the last one they have seen
+     * to room.join.v1 when reconnecting.
+     */
+    @JsonProperty("seq")
+    private Long seq;
+
     /**
      * Message-specific data. Schema depends on message type.
      * May be empty object for some message types.
@@ -160,6 +168,14 @@ public class WebSocketMessage {
         this.requestId = requestId;
     }
 
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
     public Map<String, Object> getPayload() {
         return payload;
     }
@@ -195,6 +211,7 @@ public class WebSocketMessage {
         return "WebSocketMessage{" +
                 "type='" + type + '\'' +
                 ", requestId='" + requestId + '\'' +
+                ", seq=" + seq +
                 ", payload=" + payload +
                 '}';
     }
@@ -0,0 +1,52 @@
+package com.scrumpoker.api.websocket;
+
+import jakarta.websocket.Session;
+
+/**
+ * Encoding of WebSocket messages, negotiated per connection through the
+ * {@code Sec-WebSocket-Protocol} header.
+ * <p>
+ * Clients that request no subprotocol (or {@code scrumpoker.json.v1}) keep the JSON text
+ * protocol described in {@code api/websocket-protocol.md}. Clients that request
+ * {@code scrumpoker.cbor.v1} exchange the same envelope encoded as CBOR in binary frames.
+ * Both subprotocols are advertised by {@link RoomWebSocketHandler}; the client's order of
+ * preference decides.
+ * </p>
+ */
+public enum WireFormat {
+
+    /**
+     * JSON envelopes in text frames (default).
+     */
+    JSON("scrumpoker.json.v1"),
+
+    /**
+     * CBOR envelopes in binary frames.
+     */
+    CBOR("scrumpoker.cbor.v1");
+
+    private final String subprotocol;
+
+    WireFormat(String subprotocol) {
+        this.subprotocol = subprotocol;
+    }
+
+    /**
+     * Gets the subprotocol name that selects this format.
+     *
+     * @return The subprotocol name
+     */
+    public String getSubprotocol() {
+        return subprotocol;
+    }
+
+    /**
+     * Gets the format negotiated for a session.
+     *
+     * @param session The WebSocket session
+     * @return CBOR if the client negotiated it, JSON otherwise
+     */
+    public static WireFormat of(Session session) {
+        return CBOR.subprotocol.equals(session.getNegotiatedSubprotocol()) ? CBOR : JSON;
+    }
+}
@@ -2,6 +2,8 @@ package com.scrumpoker.api.websocket.handler;
 
 import com.scrumpoker.api.websocket.ConnectionRegistry;
 import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.api.websocket.message.ChatMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
 import com.scrumpoker.repository.RoomParticipantRepository;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
@@ -27,7 +29,7 @@ import java.util.UUID;
  * </p>
  */
 @ApplicationScoped
-public class ChatMessageHandler implements MessageHandler {
+public class ChatMessageHandler implements MessageHandler<ChatMessage> {
 
     @Inject
     RoomParticipantRepository participantRepository;
@@ -36,38 +38,15 @@ public class ChatMessageHandler implements MessageHandler {
     ConnectionRegistry connectionRegistry;
 
     @Override
-    public String getMessageType() {
-        return "chat.message.v1";
+    public MessageType getMessageType() {
+        return MessageType.CHAT_MESSAGE;
     }
 
     @Override
-    public Uni<Void> handle(Session session, WebSocketMessage message, String userId, String roomId) {
-        String requestId = message.getRequestId();
-        Map<String, Object> payload = message.getPayload();
-
-        // Extract and validate message content
-        String messageContent;
-        String replyToMessageId = null;
-
-        try {
-            messageContent = extractString(payload, "message", true);
-
-            // Validate message length (1-2000 characters per protocol spec)
-            if (messageContent.length() > 2000) {
-                sendError(session, requestId, 4004, "VALIDATION_ERROR",
-                        "Message cannot exceed 2000 characters");
-                return Uni.createFrom().voidItem();
-            }
-
-            replyToMessageId = extractString(payload, "replyToMessageId", false);
-
-        } catch (IllegalArgumentException e) {
-            sendError(session, requestId, 4004, "VALIDATION_ERROR", e.getMessage());
-            return Uni.createFrom().voidItem();
-        }
-
-        final String finalMessageContent = messageContent;
-        final String finalReplyToMessageId = replyToMessageId;
+    public Uni<Void> handle(Session session, String requestId, ChatMessage payload, String userId, String roomId) {
+        // Content and length (1-2000 characters) are validated when the payload is decoded
+        String messageContent = payload.message();
+        String replyToMessageId = payload.replyToMessageId();
 
         // Find participant to get display name
         return findParticipantByUserIdAndRoomId(userId, roomId)
@@ -83,9 +62,9 @@ public class ChatMessageHandler implements MessageHandler {
                     chatPayload.put("messageId", UUID.randomUUID().toString());
                     chatPayload.put("participantId", participant.participantId.toString());
                     chatPayload.put("displayName", participant.displayName);
-                    chatPayload.put("message", finalMessageContent);
+                    chatPayload.put("message", messageContent);
                     chatPayload.put("sentAt", Instant.now().toString());
-                    chatPayload.put("replyToMessageId", finalReplyToMessageId);
+                    chatPayload.put("replyToMessageId", replyToMessageId);
 
                     // Broadcast chat message to all participants in room
                     WebSocketMessage chatBroadcast = new WebSocketMessage(
@@ -97,7 +76,7 @@ public class ChatMessageHandler implements MessageHandler {
                     connectionRegistry.broadcastToRoom(roomId, chatBroadcast);
 
                     Log.infof("Chat message broadcast to room %s: participantId=%s, message=%s",
-                            roomId, participant.participantId, finalMessageContent);
+                            roomId, participant.participantId, messageContent);
 
                     return Uni.createFrom().voidItem();
                 })
@@ -123,32 +102,6 @@ public class ChatMessageHandler implements MessageHandler {
         ).firstResult();
     }
 
-    /**
-     * Extracts a string value from the payload.
-     */
-    private String extractString(Map<String, Object> payload, String key, boolean required) {
-        Object value = payload.get(key);
-
-        if (value == null) {
-            if (required) {
-                throw new IllegalArgumentException(key + " is required");
-            }
-            return null;
-        }
-
-        if (!(value instanceof String)) {
-            throw new IllegalArgumentException(key + " must be a string");
-        }
-
-        String stringValue = (String) value;
-
-        if (required && stringValue.trim().isEmpty()) {
-            throw new IllegalArgumentException(key + " cannot be empty");
-        }
-
-        return stringValue.trim();
-    }
-
     /**
      * Sends an error message to the client.
      */
@@ -1,6 +1,6 @@
 package com.scrumpoker.api.websocket.handler;
 
-import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
 import io.smallrye.mutiny.Uni;
 import jakarta.websocket.Session;
 
@@ -8,28 +8,30 @@ import jakarta.websocket.Session;
  * Common interface for WebSocket message handlers.
  * <p>
  * Each handler processes a specific message type (e.g., vote.cast.v1, round.reveal.v1)
- * and implements the business logic for that message.
+ * and implements the business logic for that message. The payload arrives already
+ * decoded and validated as the message type's record (e.g., {@link com.scrumpoker.api.websocket.message.VoteCast}).
  * </p>
  * <p>
  * Handlers are discovered via CDI and registered with the MessageRouter at startup.
  * All handlers must be @ApplicationScoped beans.
  * </p>
+ *
+ * @param <T> The payload record type of the handled message type
  */
-public interface MessageHandler {
+public interface MessageHandler<T> {
 
     /**
      * Returns the message type this handler processes.
      *
-     * @return The message type (e.g., "vote.cast.v1", "round.reveal.v1")
+     * @return The message type (e.g., {@link MessageType#VOTE_CAST})
      */
-    String getMessageType();
+    MessageType getMessageType();
 
     /**
      * Handles a WebSocket message asynchronously.
      * <p>
      * This method performs:
      * <ul>
-     *   <li>Payload validation</li>
      *   <li>Authorization checks (role-based permissions)</li>
      *   <li>Business logic execution (calling domain services)</li>
      *   <li>Error handling (converting exceptions to error messages)</li>
@@ -37,10 +39,11 @@ public interface MessageHandler {
      * </p>
      *
      * @param session The WebSocket session
-     * @param message The parsed WebSocket message
+     * @param requestId The client's request ID
+     * @param payload The decoded payload
      * @param userId The authenticated user ID (from session properties)
      * @param roomId The room ID (from session properties)
      * @return Uni<Void> that completes when message is processed
      */
-    Uni<Void> handle(Session session, WebSocketMessage message, String userId, String roomId);
+    Uni<Void> handle(Session session, String requestId, T payload, String userId, String roomId);
 }
@@ -2,6 +2,8 @@ package com.scrumpoker.api.websocket.handler;
 
 import com.scrumpoker.api.websocket.ConnectionRegistry;
 import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.RoundReveal;
 import com.scrumpoker.domain.room.RoomRole;
 import com.scrumpoker.domain.room.VotingService;
 import com.scrumpoker.repository.RoomParticipantRepository;
@@ -23,7 +25,7 @@ import java.util.UUID;
  * </p>
  */
 @ApplicationScoped
-public class RoundRevealHandler implements MessageHandler {
+public class RoundRevealHandler implements MessageHandler<RoundReveal> {
 
     @Inject
     VotingService votingService;
@@ -38,14 +40,12 @@ public class RoundRevealHandler implements MessageHandler {
     ConnectionRegistry connectionRegistry;
 
     @Override
-    public String getMessageType() {
-        return "round.reveal.v1";
+    public MessageType getMessageType() {
+        return MessageType.ROUND_REVEAL;
     }
 
     @Override
-    public Uni<Void> handle(Session session, WebSocketMessage message, String userId, String roomId) {
-        String requestId = message.getRequestId();
-
+    public Uni<Void> handle(Session session, String requestId, RoundReveal payload, String userId, String roomId) {
         // Wrap everything in a transaction with proper context management
         return io.quarkus.hibernate.reactive.panache.Panache.withTransaction(() ->
             verifyHostRole(userId, roomId)
@@ -2,6 +2,8 @@ package com.scrumpoker.api.websocket.handler;
 
 import com.scrumpoker.api.websocket.ConnectionRegistry;
 import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.RoundStart;
 import com.scrumpoker.domain.room.RoomParticipant;
 import com.scrumpoker.domain.room.RoomRole;
 import com.scrumpoker.domain.room.VotingService;
@@ -13,7 +15,6 @@ import jakarta.inject.Inject;
 import jakarta.websocket.Session;
 
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -24,7 +25,7 @@ import java.util.UUID;
  * </p>
  */
 @ApplicationScoped
-public class RoundStartHandler implements MessageHandler {
+public class RoundStartHandler implements MessageHandler<RoundStart> {
 
     @Inject
     VotingService votingService;
@@ -36,25 +37,13 @@ public class RoundStartHandler implements MessageHandler {
     ConnectionRegistry connectionRegistry;
 
     @Override
-    public String getMessageType() {
-        return "round.start.v1";
+    public MessageType getMessageType() {
+        return MessageType.ROUND_START;
     }
 
     @Override
-    public Uni<Void> handle(Session session, WebSocketMessage message, String userId, String roomId) {
-        String requestId = message.getRequestId();
-        Map<String, Object> payload = message.getPayload();
-
-        // Extract optional fields
-        String storyTitle = null;
-        try {
-            storyTitle = extractString(payload, "storyTitle", false);
-        } catch (IllegalArgumentException e) {
-            sendError(session, requestId, 4004, "VALIDATION_ERROR", e.getMessage());
-            return Uni.createFrom().voidItem();
-        }
-
-        final String finalStoryTitle = storyTitle;
+    public Uni<Void> handle(Session session, String requestId, RoundStart payload, String userId, String roomId) {
+        String storyTitle = payload.storyTitle();
 
         // Verify host authorization
         return verifyHostRole(userId, roomId)
@@ -66,10 +55,10 @@ public class RoundStartHandler implements MessageHandler {
                     }
 
                     // Start round via VotingService
-                    return votingService.startRound(roomId, finalStoryTitle)
+                    return votingService.startRound(roomId, storyTitle)
                             .onItem().transformToUni(round -> {
                                 Log.infof("Round started successfully: roundId=%s, roomId=%s, storyTitle=%s",
-                                        round.roundId, roomId, finalStoryTitle);
+                                        round.roundId, roomId, storyTitle);
                                 return Uni.createFrom().voidItem();
                             })
                             .onFailure(IllegalArgumentException.class).recoverWithUni(e -> {
@@ -110,32 +99,6 @@ public class RoundStartHandler implements MessageHandler {
                 });
     }
 
-    /**
-     * Extracts a string value from the payload.
-     */
-    private String extractString(Map<String, Object> payload, String key, boolean required) {
-        Object value = payload.get(key);
-
-        if (value == null) {
-            if (required) {
-                throw new IllegalArgumentException(key + " is required");
-            }
-            return null;
-        }
-
-        if (!(value instanceof String)) {
-            throw new IllegalArgumentException(key + " must be a string");
-        }
-
-        String stringValue = (String) value;
-
-        if (required && stringValue.trim().isEmpty()) {
-            throw new IllegalArgumentException(key + " cannot be empty");
-        }
-
-        return stringValue.trim();
-    }
-
     /**
      * Sends an error message to the client.
      */
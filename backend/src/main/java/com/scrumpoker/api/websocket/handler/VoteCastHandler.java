@@ -2,11 +2,16 @@ package com.scrumpoker.api.websocket.handler;
 
 import com.scrumpoker.api.websocket.ConnectionRegistry;
 import com.scrumpoker.api.websocket.WebSocketMessage;
-import com.scrumpoker.domain.room.Round;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.VoteCast;
+import com.scrumpoker.domain.room.RoomNotFoundException;
 import com.scrumpoker.domain.room.RoomParticipant;
+import com.scrumpoker.domain.room.RoomStateEngine;
+import com.scrumpoker.domain.room.VoteRejectedException;
 import com.scrumpoker.domain.room.VotingService;
 import com.scrumpoker.repository.RoomParticipantRepository;
 import com.scrumpoker.repository.RoundRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -14,8 +19,8 @@ import jakarta.inject.Inject;
 import jakarta.websocket.Session;
 
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Handles vote.cast.v1 messages.
@@ -23,9 +28,13 @@ import java.util.UUID;
  * Processes vote casting requests from participants, validates the card value,
  * and delegates to VotingService for persistence.
  * </p>
+ * <p>
+ * When the {@link RoomStateEngine} is enabled, votes are validated against the in-memory
+ * room state instead and persisted asynchronously by its write-behind queue.
+ * </p>
  */
 @ApplicationScoped
-public class VoteCastHandler implements MessageHandler {
+public class VoteCastHandler implements MessageHandler<VoteCast> {
 
     @Inject
     VotingService votingService;
@@ -39,27 +48,23 @@ public class VoteCastHandler implements MessageHandler {
     @Inject
     ConnectionRegistry connectionRegistry;
 
+    @Inject
+    RoomStateEngine roomStateEngine;
+
     @Override
-    public String getMessageType() {
-        return "vote.cast.v1";
+    public MessageType getMessageType() {
+        return MessageType.VOTE_CAST;
     }
 
     @Override
-    public Uni<Void> handle(Session session, WebSocketMessage message, String userId, String roomId) {
-        String requestId = message.getRequestId();
-        Map<String, Object> payload = message.getPayload();
-
-        // Extract and validate cardValue
-        String cardValue;
-        try {
-            cardValue = extractString(payload, "cardValue", true);
-        } catch (IllegalArgumentException e) {
-            sendError(session, requestId, 4004, "VALIDATION_ERROR", e.getMessage());
-            return Uni.createFrom().voidItem();
+    public Uni<Void> handle(Session session, String requestId, VoteCast payload, String userId, String roomId) {
+        String cardValue = payload.cardValue();
+
+        if (roomStateEngine.isEnabled()) {
+            return castVoteInMemory(session, requestId, roomId, userId, cardValue);
         }
 
-        // Wrap everything in a transaction with proper context management
-        return io.quarkus.hibernate.reactive.panache.Panache.withTransaction(() ->
+        Supplier<Uni<Void>> lookupAndCast = () ->
             roundRepository.findLatestByRoomId(roomId)
                 .onItem().transformToUni(round -> {
                     if (round == null) {
@@ -92,8 +97,14 @@ public class VoteCastHandler implements MessageHandler {
                                 return castVote(session, requestId, roomId, round.roundId,
                                         participant.participantId, cardValue);
                             });
-                })
-        ).onFailure().recoverWithUni(e -> {
+                });
+
+        // With write-behind nothing is written here, so the lookups need a session but no transaction
+        Uni<Void> handled = votingService.isWriteBehindEnabled()
+                ? Panache.withSession(lookupAndCast)
+                : Panache.withTransaction(lookupAndCast);
+
+        return handled.onFailure().recoverWithUni(e -> {
             Log.errorf(e, "Failed to handle vote.cast.v1: %s", e.getMessage());
             sendError(session, requestId, 4999, "INTERNAL_SERVER_ERROR",
                     "Failed to process vote");
@@ -116,11 +127,15 @@ public class VoteCastHandler implements MessageHandler {
     }
 
     /**
-     * Casts a vote by calling VotingService.
+     * Casts a vote by calling VotingService, queueing it for write-behind persistence if enabled.
      */
     private Uni<Void> castVote(Session session, String requestId, String roomId,
                                 UUID roundId, UUID participantId, String cardValue) {
-        return votingService.castVote(roomId, roundId, participantId, cardValue)
+        Uni<?> cast = votingService.isWriteBehindEnabled()
+                ? votingService.queueVote(roomId, roundId, participantId, cardValue)
+                : votingService.castVote(roomId, roundId, participantId, cardValue);
+
+        return cast
                 .onItem().transformToUni(vote -> {
                     Log.infof("Vote cast successfully: participantId=%s, cardValue=%s, roundId=%s",
                             participantId, cardValue, roundId);
@@ -139,35 +154,35 @@ public class VoteCastHandler implements MessageHandler {
     }
 
     /**
-     * Extracts a string value from the payload.
-     *
-     * @param payload The message payload
-     * @param key The key to extract
-     * @param required Whether the field is required
-     * @return The extracted string value
-     * @throws IllegalArgumentException if required field is missing or invalid
+     * Casts a vote through the in-memory RoomStateEngine.
      */
-    private String extractString(Map<String, Object> payload, String key, boolean required) {
-        Object value = payload.get(key);
-
-        if (value == null) {
-            if (required) {
-                throw new IllegalArgumentException(key + " is required");
-            }
-            return null;
-        }
-
-        if (!(value instanceof String)) {
-            throw new IllegalArgumentException(key + " must be a string");
-        }
-
-        String stringValue = (String) value;
-
-        if (required && stringValue.trim().isEmpty()) {
-            throw new IllegalArgumentException(key + " cannot be empty");
-        }
-
-        return stringValue.trim();
+    private Uni<Void> castVoteInMemory(Session session, String requestId, String roomId,
+                                       String userId, String cardValue) {
+        return roomStateEngine.castVote(roomId, userId, cardValue)
+                .onItem().invoke(vote -> Log.debugf(
+                        "Vote accepted in memory: participantId=%s, cardValue=%s, roundId=%s",
+                        vote.participantId(), vote.cardValue(), vote.roundId()))
+                .replaceWithVoid()
+                .onFailure(VoteRejectedException.class).recoverWithUni(e -> {
+                    VoteRejectedException rejection = (VoteRejectedException) e;
+                    sendError(session, requestId, rejection.getCode(), rejection.getError(),
+                            rejection.getMessage());
+                    return Uni.createFrom().voidItem();
+                })
+                .onFailure(IllegalArgumentException.class).recoverWithUni(e -> {
+                    sendError(session, requestId, 4002, "INVALID_VOTE", e.getMessage());
+                    return Uni.createFrom().voidItem();
+                })
+                .onFailure(RoomNotFoundException.class).recoverWithUni(e -> {
+                    sendError(session, requestId, 4005, "INVALID_STATE", e.getMessage());
+                    return Uni.createFrom().voidItem();
+                })
+                .onFailure().recoverWithUni(e -> {
+                    Log.errorf(e, "Failed to cast vote: %s", e.getMessage());
+                    sendError(session, requestId, 4999, "INTERNAL_SERVER_ERROR",
+                            "Failed to cast vote");
+                    return Uni.createFrom().voidItem();
+                });
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code chat.message.v1}.
+ *
+ * @param message The message text (trimmed, 1-2000 characters)
+ * @param replyToMessageId The ID of the message replied to (may be null)
+ */
+public record ChatMessage(String message, String replyToMessageId) {
+
+    /**
+     * Maximum message length per protocol spec.
+     */
+    public static final int MAX_LENGTH = 2000;
+
+    static ChatMessage read(JsonParser parser) throws IOException {
+        String message = null;
+        String replyToMessageId = null;
+        while (Payloads.nextField(parser)) {
+            switch (parser.currentName()) {
+                case "message" -> message = Payloads.readString(parser, "message");
+                case "replyToMessageId" -> replyToMessageId = Payloads.readString(parser, "replyToMessageId");
+                default -> parser.skipChildren();
+            }
+        }
+
+        message = Payloads.requireText(message, "message");
+        if (message.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Message cannot exceed " + MAX_LENGTH + " characters");
+        }
+        return new ChatMessage(message, Payloads.optionalText(replyToMessageId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.scrumpoker.api.websocket.message;
+
+/**
+ * A decoded client → server message envelope.
+ *
+ * @param type The type as sent by the client (may be null)
+ * @param messageType The resolved type tag, or null if the server does not handle the type
+ * @param requestId The request ID (may be null)
+ * @param payload The typed payload record, or null if the type is unknown or the payload is invalid
+ * @param payloadError The validation error for an invalid payload, or null
+ */
+public record InboundMessage(String type, MessageType messageType, String requestId,
+                             Object payload, String payloadError) {
+
+    /**
+     * Gets the payload as the record of the message type.
+     *
+     * @param payloadType The payload record class
+     * @param <T> The payload record type
+     * @return The payload
+     */
+    public <T> T payload(Class<T> payloadType) {
+        return payloadType.cast(payload);
+    }
+}
@@ -0,0 +1,66 @@
+package com.scrumpoker.api.websocket.message;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client → server message types, each with its payload record and reader.
+ * <p>
+ * The type tag is resolved once while decoding the envelope; routing and the
+ * handlers work with the tag and the typed payload from then on.
+ * </p>
+ */
+public enum MessageType {
+
+    ROOM_JOIN("room.join.v1", RoomJoin::read),
+    ROOM_LEAVE("room.leave.v1", RoomLeave::read),
+    VOTE_CAST("vote.cast.v1", VoteCast::read),
+    ROUND_START("round.start.v1", RoundStart::read),
+    ROUND_REVEAL("round.reveal.v1", RoundReveal::read),
+    ROUND_RESET("round.reset.v1", RoundReset::read),
+    CHAT_MESSAGE("chat.message.v1", ChatMessage::read);
+
+    private static final Map<String, MessageType> BY_TYPE = new HashMap<>();
+
+    static {
+        for (MessageType messageType : values()) {
+            BY_TYPE.put(messageType.type, messageType);
+        }
+    }
+
+    private final String type;
+    private final PayloadReader<?> reader;
+
+    MessageType(String type, PayloadReader<?> reader) {
+        this.type = type;
+        this.reader = reader;
+    }
+
+    /**
+     * Gets the versioned wire name of this type.
+     *
+     * @return The type (e.g., "vote.cast.v1")
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the reader for payloads of this type.
+     *
+     * @return The payload reader
+     */
+    public PayloadReader<?> getReader() {
+        return reader;
+    }
+
+    /**
+     * Looks up a message type by its wire name.
+     *
+     * @param type The versioned type (e.g., "vote.cast.v1")
+     * @return The message type, or null if the type is not handled by the server
+     */
+    public static MessageType fromType(String type) {
+        return type != null ? BY_TYPE.get(type) : null;
+    }
+}
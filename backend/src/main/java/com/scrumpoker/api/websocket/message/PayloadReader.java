@@ -0,0 +1,24 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads the payload of one message type from a streaming parser.
+ *
+ * @param <T> The payload record type
+ */
+@FunctionalInterface
+public interface PayloadReader<T> {
+
+    /**
+     * Reads a payload object.
+     *
+     * @param parser The parser, positioned on the payload's START_OBJECT token
+     * @return The payload
+     * @throws IllegalArgumentException if the payload fails validation
+     * @throws IOException if the input cannot be read
+     */
+    T read(JsonParser parser) throws IOException;
+}
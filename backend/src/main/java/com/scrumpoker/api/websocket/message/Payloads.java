@@ -0,0 +1,101 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming helpers shared by the payload readers.
+ * <p>
+ * Readers are called with the parser on the payload's {@code START_OBJECT} token and
+ * consume the object up to its {@code END_OBJECT}. Validation failures are reported as
+ * {@link IllegalArgumentException}s whose message is sent back to the client.
+ * </p>
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * Advances to the value of the next payload field.
+     *
+     * @param parser The parser, inside the payload object
+     * @return true if positioned on a field value (name via {@link JsonParser#currentName()}),
+     *         false at the end of the payload
+     * @throws IOException if the input cannot be read
+     */
+    static boolean nextField(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return false;
+        }
+        parser.nextToken();
+        return true;
+    }
+
+    /**
+     * Reads a string field value.
+     *
+     * @param parser The parser, on the field value
+     * @param key The field name (for the error message)
+     * @return The string, or null for a JSON null
+     * @throws IllegalArgumentException if the value is not a string
+     * @throws IOException if the input cannot be read
+     */
+    static String readString(JsonParser parser, String key) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        parser.skipChildren();
+        throw new IllegalArgumentException(key + " must be a string");
+    }
+
+    /**
+     * Reads a string field value, ignoring values of any other type.
+     *
+     * @param parser The parser, on the field value
+     * @return The string, or null if the value is not a string
+     * @throws IOException if the input cannot be read
+     */
+    static String readStringOrNull(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Validates a required string field.
+     *
+     * @param value The field value
+     * @param key The field name (for the error message)
+     * @return The trimmed value
+     * @throws IllegalArgumentException if the value is missing or blank
+     */
+    static String requireText(String value, String key) {
+        if (value == null) {
+            throw new IllegalArgumentException(key + " is required");
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException(key + " cannot be empty");
+        }
+        return trimmed;
+    }
+
+    /**
+     * Normalizes an optional string field.
+     *
+     * @param value The field value
+     * @return The trimmed value, or null if absent
+     */
+    static String optionalText(String value) {
+        return value != null ? value.trim() : null;
+    }
+}
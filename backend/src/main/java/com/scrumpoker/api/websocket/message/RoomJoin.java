@@ -0,0 +1,37 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code room.join.v1}.
+ * <p>
+ * Fields of an unexpected type are ignored rather than rejected, so a join always
+ * succeeds with the defaults.
+ * </p>
+ *
+ * @param displayName The display name (may be null)
+ * @param lastSeq The last event sequence seen by a reconnecting client (may be null)
+ */
+public record RoomJoin(String displayName, Long lastSeq) {
+
+    static RoomJoin read(JsonParser parser) throws IOException {
+        String displayName = null;
+        Long lastSeq = null;
+        while (Payloads.nextField(parser)) {
+            switch (parser.currentName()) {
+                case "displayName" -> displayName = Payloads.readStringOrNull(parser);
+                case "lastSeq" -> {
+                    if (parser.currentToken().isNumeric()) {
+                        lastSeq = parser.getValueAsLong();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new RoomJoin(displayName, lastSeq);
+    }
+}
@@ -0,0 +1,25 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code room.leave.v1}.
+ *
+ * @param reason The leave reason (may be null)
+ */
+public record RoomLeave(String reason) {
+
+    static RoomLeave read(JsonParser parser) throws IOException {
+        String reason = null;
+        while (Payloads.nextField(parser)) {
+            if ("reason".equals(parser.currentName())) {
+                reason = Payloads.readStringOrNull(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new RoomLeave(reason);
+    }
+}
@@ -0,0 +1,32 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code round.reset.v1}.
+ *
+ * @param clearVotes Whether the votes of the round are cleared (default true)
+ */
+public record RoundReset(boolean clearVotes) {
+
+    static RoundReset read(JsonParser parser) throws IOException {
+        boolean clearVotes = true;
+        while (Payloads.nextField(parser)) {
+            if ("clearVotes".equals(parser.currentName())) {
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                    clearVotes = token == JsonToken.VALUE_TRUE;
+                } else if (token != JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    throw new IllegalArgumentException("clearVotes must be a boolean");
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new RoundReset(clearVotes);
+    }
+}
@@ -0,0 +1,18 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code round.reveal.v1} (empty).
+ */
+public record RoundReveal() {
+
+    private static final RoundReveal INSTANCE = new RoundReveal();
+
+    static RoundReveal read(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code round.start.v1}.
+ *
+ * @param storyTitle The story title (trimmed, may be null)
+ */
+public record RoundStart(String storyTitle) {
+
+    static RoundStart read(JsonParser parser) throws IOException {
+        String storyTitle = null;
+        while (Payloads.nextField(parser)) {
+            if ("storyTitle".equals(parser.currentName())) {
+                storyTitle = Payloads.readString(parser, "storyTitle");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new RoundStart(Payloads.optionalText(storyTitle));
+    }
+}
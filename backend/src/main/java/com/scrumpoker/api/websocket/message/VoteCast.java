@@ -0,0 +1,25 @@
+package com.scrumpoker.api.websocket.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Payload of {@code vote.cast.v1}.
+ *
+ * @param cardValue The card value (trimmed, non-empty)
+ */
+public record VoteCast(String cardValue) {
+
+    static VoteCast read(JsonParser parser) throws IOException {
+        String cardValue = null;
+        while (Payloads.nextField(parser)) {
+            if ("cardValue".equals(parser.currentName())) {
+                cardValue = Payloads.readString(parser, "cardValue");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new VoteCast(Payloads.requireText(cardValue, "cardValue"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.scrumpoker.config;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Executes blocking calls (synchronous HTTP clients, SDK calls) off the Vert.x event loop.
+ * <p>
+ * The executor is selected with {@code app.blocking.execution-mode}:
+ * </p>
+ * <ul>
+ *   <li>{@code worker} (default): the Quarkus worker pool, bounded by
+ *       {@code quarkus.thread-pool.max-threads}</li>
+ *   <li>{@code virtual}: one virtual thread per call, so concurrent blocking calls are
+ *       limited by I/O instead of platform threads. Requires a Java 21+ runtime; on older
+ *       runtimes the worker pool is used and a warning is logged.</li>
+ * </ul>
+ * <p>
+ * Results are emitted back on the caller's Vert.x context, so reactive work that follows
+ * (Hibernate Reactive sessions in particular) continues where it started.
+ * </p>
+ */
+@ApplicationScoped
+public class BlockingExecution {
+
+    static final String MODE_WORKER = "worker";
+    static final String MODE_VIRTUAL = "virtual";
+
+    @ConfigProperty(name = "app.blocking.execution-mode", defaultValue = MODE_WORKER)
+    String executionMode;
+
+    private Executor executor;
+
+    private ExecutorService virtualThreadExecutor;
+
+    @PostConstruct
+    void init() {
+        if (MODE_VIRTUAL.equalsIgnoreCase(executionMode)) {
+            virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        } else if (!MODE_WORKER.equalsIgnoreCase(executionMode)) {
+            Log.warnf("Unknown app.blocking.execution-mode '%s', using the worker pool", executionMode);
+        }
+        executor = virtualThreadExecutor != null ? virtualThreadExecutor : Infrastructure.getDefaultWorkerPool();
+        Log.infof("Blocking calls run on %s", isVirtual() ? "virtual threads" : "the worker pool");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Checks whether blocking calls run on virtual threads.
+     *
+     * @return true for virtual threads, false for the worker pool
+     */
+    public boolean isVirtual() {
+        return virtualThreadExecutor != null;
+    }
+
+    /**
+     * Gets the executor for blocking calls.
+     *
+     * @return The executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Runs a blocking call off the event loop.
+     * <p>
+     * The call starts on subscription. Its result or failure is emitted on the subscriber's
+     * Vert.x context when there is one.
+     * </p>
+     *
+     * @param call The blocking call
+     * @param <T> The result type
+     * @return Uni emitting the call's result
+     */
+    public <T> Uni<T> supply(Supplier<T> call) {
+        return Uni.createFrom().deferred(() -> {
+            Context callerContext = Vertx.currentContext();
+            Uni<T> blocking = Uni.createFrom().item(call).runSubscriptionOn(executor);
+            if (callerContext == null) {
+                return blocking;
+            }
+            return blocking.emitOn(task -> callerContext.runOnContext(v -> task.run()));
+        });
+    }
+
+    /**
+     * Creates a virtual thread per task executor when the runtime supports it.
+     * <p>
+     * Looked up reflectively because the application is compiled for Java 17.
+     * </p>
+     *
+     * @return The executor, or null on runtimes without virtual threads
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(java.util.concurrent.Executors.class, "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            Log.warnf("Virtual threads require Java 21+ (running %s), using the worker pool",
+                    Runtime.version());
+            return null;
+        } catch (Throwable e) {
+            Log.warnf(e, "Could not create the virtual thread executor, using the worker pool");
+            return null;
+        }
+    }
+}
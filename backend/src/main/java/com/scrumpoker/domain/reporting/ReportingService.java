@@ -12,7 +12,6 @@ import com.scrumpoker.security.FeatureGate;
 import io.quarkus.logging.Log;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
-import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -335,18 +334,22 @@ public class ReportingService {
                                     session, stats, participants);
                         }
 
-                        // Fetch votes for all rounds in parallel
-                        return Multi.createFrom().iterable(sessionRounds)
-                                .onItem().transformToUniAndConcatenate(round ->
-                                        voteRepository.findByRoundId(
-                                                round.roundId)
-                                                .onItem().transform(votes ->
-                                                        Map.entry(round, votes)))
-                                .collect().asList()
-                                .onItem().transform(roundVotePairs ->
-                                        buildDetailedReportFromRounds(
-                                                session, stats, participants,
-                                                roundVotePairs));
+                        // Fetch votes for all rounds in one query
+                        return voteRepository.findGroupedByRoundIds(
+                                        sessionRounds.stream()
+                                                .map(round -> round.roundId)
+                                                .collect(Collectors.toList()))
+                                .onItem().transform(votesByRound -> {
+                                    final List<Map.Entry<Round, List<Vote>>> roundVotePairs =
+                                            sessionRounds.stream()
+                                                    .map(round -> Map.entry(round,
+                                                            votesByRound.getOrDefault(
+                                                                    round.roundId, List.of())))
+                                                    .collect(Collectors.toList());
+                                    return buildDetailedReportFromRounds(
+                                            session, stats, participants,
+                                            roundVotePairs);
+                                });
                     });
         } catch (JsonProcessingException e) {
             Log.errorf(e, "Failed to deserialize JSONB fields for session %s",
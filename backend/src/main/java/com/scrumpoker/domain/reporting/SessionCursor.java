@@ -0,0 +1,70 @@
+package com.scrumpoker.domain.reporting;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a session listing ordered by start time and session ID, newest first.
+ * <p>
+ * A page of sessions ends at the cursor of its last session; the next page holds the
+ * sessions strictly after it. Clients receive the cursor as an opaque string
+ * ({@link #encode()}) and pass it back unchanged.
+ * </p>
+ *
+ * @param startedAt Start time of the last session seen
+ * @param sessionId ID of the last session seen
+ */
+public record SessionCursor(Instant startedAt, UUID sessionId) {
+
+    /**
+     * Separator between the start time and session ID in the encoded form.
+     */
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Creates the cursor positioned at a session.
+     *
+     * @param summary The session summary
+     * @return Cursor of the session
+     */
+    public static SessionCursor of(final SessionSummaryDTO summary) {
+        return new SessionCursor(summary.getStartedAt(), summary.getSessionId());
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     *
+     * @return The encoded cursor
+     */
+    public String encode() {
+        final String plain = startedAt.toString() + SEPARATOR + sessionId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param encoded The encoded cursor
+     * @return The cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SessionCursor decode(final String encoded) {
+        try {
+            final String plain = new String(
+                    Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            final int separator = plain.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SessionCursor(
+                    Instant.parse(plain.substring(0, separator)),
+                    UUID.fromString(plain.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
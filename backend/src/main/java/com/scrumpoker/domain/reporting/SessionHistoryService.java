@@ -1,16 +1,14 @@
 package com.scrumpoker.domain.reporting;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scrumpoker.domain.room.SessionHistory;
 import com.scrumpoker.domain.room.SessionHistoryId;
 import com.scrumpoker.repository.SessionHistoryRepository;
+import com.scrumpoker.repository.StatsRollupRepository;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -43,10 +41,10 @@ public class SessionHistoryService {
     private SessionHistoryRepository sessionHistoryRepository;
 
     /**
-     * JSON object mapper for deserializing JSONB fields.
+     * Repository for pre-aggregated session statistics.
      */
     @Inject
-    private ObjectMapper objectMapper;
+    private StatsRollupRepository statsRollupRepository;
 
     /**
      * Retrieves all sessions for a user within a date range.
@@ -183,6 +181,50 @@ public class SessionHistoryService {
         ).list();
     }
 
+    /**
+     * Retrieves one page of session summaries within a date range,
+     * newest first.
+     * <p>
+     * Sessions of {@code roomId} are listed when it is given,
+     * otherwise sessions of all rooms owned by {@code userId}. The
+     * page is read with keyset pagination after {@code after}, and
+     * summaries are computed by the same query, so a page costs the
+     * same however deep into the listing it is.
+     * </p>
+     *
+     * @param userId The user ID (UUID)
+     * @param roomId The room ID, or null for all of the user's rooms
+     * @param from   Start date (inclusive)
+     * @param to     End date (inclusive)
+     * @param after  Cursor of the previous page's last session, or
+     *               null for the first page
+     * @param limit  Maximum number of summaries to return
+     * @return Uni containing the page of session summaries
+     */
+    public Uni<List<SessionSummaryDTO>> getSessionSummaryPage(
+            final UUID userId, final String roomId,
+            final Instant from, final Instant to,
+            final SessionCursor after, final int limit) {
+        if (userId == null || from == null || to == null) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "userId, from, and to cannot be null"));
+        }
+
+        if (from.isAfter(to)) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "'from' date must be before 'to' date"));
+        }
+
+        if (roomId != null && !roomId.isEmpty()) {
+            return sessionHistoryRepository.findSummaryPageByRoom(
+                    roomId, from, to, after, limit);
+        }
+        return sessionHistoryRepository.findSummaryPageByOwner(
+                userId, from, to, after, limit);
+    }
+
     /**
      * Calculates aggregate statistics for a user across all their
      * sessions.
@@ -190,9 +232,14 @@ public class SessionHistoryService {
      * Statistics include:
      * - Total sessions count
      * - Total rounds across all sessions
-     * - Average consensus rate (weighted by rounds)
+     * - Average consensus rate (mean of the sessions' rates)
      * - Most active participants (by vote count)
      * </p>
+     * <p>
+     * Read from the statistics rollups, so the range is widened to whole
+     * UTC days and the cost depends on the number of days and months in
+     * the range, not on the number of sessions.
+     * </p>
      *
      * @param userId The user ID (UUID)
      * @param from   Start date (inclusive)
@@ -201,93 +248,51 @@ public class SessionHistoryService {
      */
     public Uni<Map<String, Object>> getUserStatistics(
             final UUID userId, final Instant from, final Instant to) {
-        return getUserSessions(userId, from, to)
-                .onItem().transform(sessions -> {
-                    if (sessions.isEmpty()) {
-                        return Map.of(
-                                "total_sessions", 0,
-                                "total_rounds", 0,
-                                "average_consensus_rate", BigDecimal.ZERO,
-                                "most_active_participants", List.of()
-                        );
-                    }
+        if (userId == null || from == null || to == null) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "userId, from, and to cannot be null"));
+        }
+
+        if (from.isAfter(to)) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "'from' date must be before 'to' date"));
+        }
 
-                    // Calculate aggregate statistics
-                    final int totalSessions = sessions.size();
-                    final int totalRounds = sessions.stream()
-                            .mapToInt(s -> s.totalRounds != null
-                                    ? s.totalRounds : 0)
-                            .sum();
-
-                    // Calculate weighted average consensus rate
-                    final BigDecimal totalConsensusRate = sessions.stream()
-                            .map(session -> {
-                                try {
-                                    final SessionSummaryStats stats =
-                                        objectMapper.readValue(
-                                            session.summaryStats,
-                                            SessionSummaryStats.class);
-                                    return stats.getConsensusRate() != null
-                                            ? stats.getConsensusRate()
-                                            : BigDecimal.ZERO;
-                                } catch (JsonProcessingException e) {
-                                    return BigDecimal.ZERO;
-                                }
-                            })
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    final BigDecimal averageConsensusRate =
-                            totalSessions > 0
-                            ? totalConsensusRate.divide(
-                                    BigDecimal.valueOf(totalSessions),
-                                    DECIMAL_SCALE, RoundingMode.HALF_UP)
-                            : BigDecimal.ZERO;
-
-                    // Aggregate participants across all sessions
-                    final Map<String, Integer> participantVoteCounts =
-                            sessions.stream()
-                            .flatMap(session -> {
-                                try {
-                                    final List<ParticipantSummary> parts =
-                                        objectMapper.readValue(
-                                            session.participants,
-                                            objectMapper.getTypeFactory()
-                                                .constructCollectionType(
-                                                    List.class,
-                                                    ParticipantSummary.class)
-                                        );
-                                    return parts.stream();
-                                } catch (JsonProcessingException e) {
-                                    return List
-                                        .<ParticipantSummary>of().stream();
-                                }
-                            })
-                            .collect(Collectors.groupingBy(
-                                    ParticipantSummary::getDisplayName,
-                                    Collectors.summingInt(p ->
-                                        p.getVoteCount() != null
-                                            ? p.getVoteCount() : 0)
-                            ));
-
-                    // Find top most active participants
-                    final List<Map<String, Object>> mostActive =
-                            participantVoteCounts.entrySet().stream()
-                            .sorted((e1, e2) ->
-                                e2.getValue().compareTo(e1.getValue()))
-                            .limit(MAX_TOP_PARTICIPANTS)
-                            .map(entry -> Map.<String, Object>of(
-                                    "display_name", entry.getKey(),
-                                    "total_votes", entry.getValue()
-                            ))
-                            .collect(Collectors.toList());
+        return getScopeStatistics(StatsRollupScope.USER,
+                userId.toString(), StatsRollupRange.of(from, to));
+    }
 
-                    return Map.of(
-                            "total_sessions", totalSessions,
-                            "total_rounds", totalRounds,
-                            "average_consensus_rate", averageConsensusRate,
-                            "most_active_participants", mostActive
-                    );
-                });
+    /**
+     * Calculates aggregate statistics for an organization's rooms within
+     * a date range.
+     * <p>
+     * Returns the same statistics as
+     * {@link #getUserStatistics(UUID, Instant, Instant)}.
+     * </p>
+     *
+     * @param orgId The organization ID (UUID)
+     * @param from  Start date (inclusive)
+     * @param to    End date (inclusive)
+     * @return Uni containing aggregate statistics map
+     */
+    public Uni<Map<String, Object>> getOrganizationStatistics(
+            final UUID orgId, final Instant from, final Instant to) {
+        if (orgId == null || from == null || to == null) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "orgId, from, and to cannot be null"));
+        }
+
+        if (from.isAfter(to)) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "'from' date must be before 'to' date"));
+        }
+
+        return getScopeStatistics(StatsRollupScope.ORGANIZATION,
+                orgId.toString(), StatsRollupRange.of(from, to));
     }
 
     /**
@@ -298,9 +303,16 @@ public class SessionHistoryService {
      */
     public Uni<Map<String, Object>> getRoomStatistics(
             final String roomId) {
-        return getRoomSessions(roomId)
-                .onItem().transform(sessions -> {
-                    if (sessions.isEmpty()) {
+        if (roomId == null || roomId.trim().isEmpty()) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException(
+                            "roomId cannot be null or empty"));
+        }
+
+        return statsRollupRepository.sumTotals(StatsRollupScope.ROOM,
+                        roomId, StatsRollupRange.ALL_TIME)
+                .onItem().transform(totals -> {
+                    if (totals.sessions() == 0) {
                         return Map.of(
                                 "total_sessions", 0,
                                 "total_rounds", 0,
@@ -309,46 +321,60 @@ public class SessionHistoryService {
                         );
                     }
 
-                    final int totalSessions = sessions.size();
-                    final int totalRounds = sessions.stream()
-                            .mapToInt(s -> s.totalRounds != null
-                                    ? s.totalRounds : 0)
-                            .sum();
-                    final int totalStories = sessions.stream()
-                            .mapToInt(s -> s.totalStories != null
-                                    ? s.totalStories : 0)
-                            .sum();
-
-                    // Calculate weighted average consensus rate
-                    final BigDecimal totalConsensusRate = sessions.stream()
-                            .map(session -> {
-                                try {
-                                    final SessionSummaryStats stats =
-                                        objectMapper.readValue(
-                                            session.summaryStats,
-                                            SessionSummaryStats.class);
-                                    return stats.getConsensusRate() != null
-                                            ? stats.getConsensusRate()
-                                            : BigDecimal.ZERO;
-                                } catch (JsonProcessingException e) {
-                                    return BigDecimal.ZERO;
-                                }
-                            })
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    final BigDecimal averageConsensusRate =
-                            totalSessions > 0
-                            ? totalConsensusRate.divide(
-                                    BigDecimal.valueOf(totalSessions),
-                                    DECIMAL_SCALE, RoundingMode.HALF_UP)
-                            : BigDecimal.ZERO;
-
                     return Map.of(
-                            "total_sessions", totalSessions,
-                            "total_rounds", totalRounds,
-                            "total_stories", totalStories,
-                            "average_consensus_rate", averageConsensusRate
+                            "total_sessions", totals.sessions(),
+                            "total_rounds", totals.rounds(),
+                            "total_stories", totals.stories(),
+                            "average_consensus_rate",
+                            totals.averageConsensusRate(DECIMAL_SCALE)
                     );
                 });
     }
+
+    /**
+     * Reads the statistics of a user or organization from the rollups.
+     *
+     * @param scope   The scope type
+     * @param scopeId The scope ID
+     * @param range   The buckets to read
+     * @return Uni containing aggregate statistics map
+     */
+    private Uni<Map<String, Object>> getScopeStatistics(
+            final StatsRollupScope scope, final String scopeId,
+            final StatsRollupRange range) {
+        return statsRollupRepository.sumTotals(scope, scopeId, range)
+                .onItem().transformToUni(totals -> {
+                    if (totals.sessions() == 0) {
+                        return Uni.createFrom().item(Map.<String, Object>of(
+                                "total_sessions", 0,
+                                "total_rounds", 0,
+                                "average_consensus_rate", BigDecimal.ZERO,
+                                "most_active_participants", List.of()
+                        ));
+                    }
+
+                    return statsRollupRepository.findTopParticipants(
+                                    scope, scopeId, range,
+                                    MAX_TOP_PARTICIPANTS)
+                            .onItem().transform(topParticipants -> {
+                                // Find top most active participants
+                                final List<Map<String, Object>> mostActive =
+                                        topParticipants.entrySet().stream()
+                                        .map(entry -> Map.<String, Object>of(
+                                                "display_name", entry.getKey(),
+                                                "total_votes", entry.getValue()
+                                        ))
+                                        .collect(Collectors.toList());
+
+                                return Map.<String, Object>of(
+                                        "total_sessions", totals.sessions(),
+                                        "total_rounds", totals.rounds(),
+                                        "average_consensus_rate",
+                                        totals.averageConsensusRate(
+                                                DECIMAL_SCALE),
+                                        "most_active_participants", mostActive
+                                );
+                            });
+                });
+    }
 }
@@ -37,6 +37,13 @@ public final class SessionSummaryStats {
     @JsonProperty("rounds_with_consensus")
     private Integer roundsWithConsensus;
 
+    /**
+     * Total time in seconds spent on all estimation rounds; lets the average be
+     * updated one round at a time.
+     */
+    @JsonProperty("total_estimation_time_seconds")
+    private Long totalEstimationTimeSeconds;
+
     /**
      * Default constructor for Jackson deserialization.
      */
@@ -132,4 +139,22 @@ public final class SessionSummaryStats {
     public void setRoundsWithConsensus(final Integer consensusCount) {
         this.roundsWithConsensus = consensusCount;
     }
+
+    /**
+     * Gets the total estimation time.
+     *
+     * @return The total time in seconds, or null for records written before it was stored
+     */
+    public Long getTotalEstimationTimeSeconds() {
+        return totalEstimationTimeSeconds;
+    }
+
+    /**
+     * Sets the total estimation time.
+     *
+     * @param totalTime The total time to set
+     */
+    public void setTotalEstimationTimeSeconds(final Long totalTime) {
+        this.totalEstimationTimeSeconds = totalTime;
+    }
 }
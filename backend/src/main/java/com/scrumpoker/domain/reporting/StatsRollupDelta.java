@@ -0,0 +1,38 @@
+package com.scrumpoker.domain.reporting;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Change to apply to the statistics rollups of a session's scopes when
+ * its session history record changes.
+ *
+ * @param sessions Change in sessions with revealed rounds (-1, 0 or 1)
+ * @param rounds Change in revealed rounds
+ * @param stories Change in estimated stories
+ * @param votes Change in votes
+ * @param consensusRounds Change in rounds that reached consensus
+ * @param consensusRateSum Change in the session's consensus rate
+ * @param participantVotes Change in votes per participant display name
+ *                         (non-zero entries only)
+ */
+public record StatsRollupDelta(int sessions,
+                               int rounds,
+                               int stories,
+                               int votes,
+                               int consensusRounds,
+                               BigDecimal consensusRateSum,
+                               Map<String, Integer> participantVotes) {
+
+    /**
+     * Whether applying the delta would change nothing.
+     *
+     * @return true if all changes are zero
+     */
+    public boolean isEmpty() {
+        return sessions == 0 && rounds == 0 && stories == 0 && votes == 0
+                && consensusRounds == 0
+                && consensusRateSum.signum() == 0
+                && participantVotes.isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.scrumpoker.domain.reporting;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Buckets covering a range of UTC days: monthly buckets for the whole
+ * months inside the range, and daily buckets for the partial months at
+ * either end.
+ * <p>
+ * Reading a range therefore touches at most about 60 daily buckets plus
+ * one bucket per month. All bounds are inclusive-exclusive.
+ * </p>
+ *
+ * @param monthsFrom First monthly bucket
+ * @param monthsTo End of the monthly buckets
+ * @param headFrom First daily bucket before the whole months
+ * @param headTo End of the daily buckets before the whole months
+ * @param tailFrom First daily bucket after the whole months
+ * @param tailTo End of the daily buckets after the whole months
+ */
+public record StatsRollupRange(LocalDate monthsFrom,
+                               LocalDate monthsTo,
+                               LocalDate headFrom,
+                               LocalDate headTo,
+                               LocalDate tailFrom,
+                               LocalDate tailTo) {
+
+    /**
+     * Lower bound of all buckets.
+     */
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+    /**
+     * Upper bound of all buckets.
+     */
+    private static final LocalDate END_OF_TIME = LocalDate.of(9999, 1, 1);
+
+    /**
+     * Range covering every bucket.
+     */
+    public static final StatsRollupRange ALL_TIME = new StatsRollupRange(
+            EPOCH, END_OF_TIME, EPOCH, EPOCH, EPOCH, EPOCH);
+
+    /**
+     * Creates the range covering the UTC days of two instants.
+     * <p>
+     * Buckets are whole days, so sessions started earlier on the day of
+     * {@code from} or later on the day of {@code to} are included.
+     * </p>
+     *
+     * @param from Start of the range (inclusive)
+     * @param to   End of the range (inclusive)
+     * @return The range
+     */
+    public static StatsRollupRange of(final Instant from, final Instant to) {
+        final LocalDate firstDay = LocalDate.ofInstant(from, ZoneOffset.UTC);
+        final LocalDate endDay = LocalDate.ofInstant(to, ZoneOffset.UTC)
+                .plusDays(1);
+
+        final LocalDate firstWholeMonth = firstDay.getDayOfMonth() == 1
+                ? firstDay
+                : firstDay.withDayOfMonth(1).plusMonths(1);
+        final LocalDate endWholeMonths = endDay.withDayOfMonth(1);
+
+        if (!firstWholeMonth.isBefore(endWholeMonths)) {
+            // No whole month inside the range: days only
+            return new StatsRollupRange(firstDay, firstDay,
+                    firstDay, endDay, endDay, endDay);
+        }
+        return new StatsRollupRange(firstWholeMonth, endWholeMonths,
+                firstDay, firstWholeMonth, endWholeMonths, endDay);
+    }
+}
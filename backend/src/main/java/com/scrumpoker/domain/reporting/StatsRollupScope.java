@@ -0,0 +1,26 @@
+package com.scrumpoker.domain.reporting;
+
+/**
+ * Scope that statistics rollups are kept for.
+ * <p>
+ * A session counts towards its room, the room's owner and the room's
+ * organization.
+ * </p>
+ */
+public enum StatsRollupScope {
+
+    /**
+     * Rooms owned by a user (scope ID is the user ID).
+     */
+    USER,
+
+    /**
+     * A single room (scope ID is the room ID).
+     */
+    ROOM,
+
+    /**
+     * Rooms of an organization (scope ID is the organization ID).
+     */
+    ORGANIZATION
+}
@@ -0,0 +1,36 @@
+package com.scrumpoker.domain.reporting;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Statistics rollup counters summed over a range of buckets.
+ *
+ * @param sessions Sessions with revealed rounds
+ * @param rounds Revealed rounds
+ * @param stories Estimated stories
+ * @param votes Votes cast
+ * @param consensusRounds Rounds that reached consensus
+ * @param consensusRateSum Sum of the sessions' consensus rates
+ */
+public record StatsRollupTotals(int sessions,
+                                int rounds,
+                                int stories,
+                                int votes,
+                                int consensusRounds,
+                                BigDecimal consensusRateSum) {
+
+    /**
+     * Average of the sessions' consensus rates.
+     *
+     * @param scale Scale of the result
+     * @return The average, or zero without sessions
+     */
+    public BigDecimal averageConsensusRate(final int scale) {
+        if (sessions == 0) {
+            return BigDecimal.ZERO;
+        }
+        return consensusRateSum.divide(BigDecimal.valueOf(sessions),
+                scale, RoundingMode.HALF_UP);
+    }
+}
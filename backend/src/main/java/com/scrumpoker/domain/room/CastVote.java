@@ -0,0 +1,26 @@
+package com.scrumpoker.domain.room;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A vote accepted by the {@link RoomStateEngine} and awaiting persistence.
+ * <p>
+ * Carries only identifiers so that the write-behind queue can persist it without
+ * loading the Round and RoomParticipant entities.
+ * </p>
+ *
+ * @param roomId        The room ID (6-character nanoid)
+ * @param roundId       The round the vote was cast in
+ * @param participantId The voting participant
+ * @param cardValue     The selected card value
+ * @param votedAt       The time the vote was accepted
+ */
+public record CastVote(
+    String roomId,
+    UUID roundId,
+    UUID participantId,
+    String cardValue,
+    Instant votedAt
+) {
+}
@@ -0,0 +1,296 @@
+package com.scrumpoker.domain.room;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Incremental voting statistics for a single round.
+ * <p>
+ * Votes are counted in a primitive array indexed by card ordinal of the round's
+ * {@link Deck}, alongside the running sum and sum of squares of all numeric votes. Adding,
+ * removing or changing a vote is O(1); average, variance, median and consensus are
+ * available at any moment in O(deck size) without allocating or sorting. Results are
+ * identical to the list-based definitions documented on {@link ConsensusCalculator}.
+ * </p>
+ * <p>
+ * Card values outside the deck (e.g. cast before a deck change) and null card values are
+ * counted as non-numeric votes, so they block consensus. A null value never wins the
+ * majority median.
+ * </p>
+ * <p>
+ * Instances are not thread-safe. The {@link RoomStateEngine} keeps one per loaded room
+ * (mutated only from that room's mailbox) to offer a live consensus preview.
+ * </p>
+ */
+public final class ConsensusAccumulator {
+
+    /**
+     * Variance threshold for consensus detection (see {@link ConsensusCalculator}).
+     */
+    private static final double VARIANCE_THRESHOLD = 2.0;
+
+    private final Deck deck;
+
+    /**
+     * Vote counts by card ordinal.
+     */
+    private final int[] counts;
+
+    /**
+     * Counts of card values outside the deck. Rare, so kept in a small map.
+     */
+    private final Map<String, Integer> otherCounts = new HashMap<>(4);
+
+    /**
+     * Count of votes without a card value.
+     */
+    private int nullVotes;
+
+    private int numericVotes;
+    private int totalVotes;
+    private long sum;
+    private long sumOfSquares;
+
+    /**
+     * Creates an accumulator for the Fibonacci deck.
+     */
+    public ConsensusAccumulator() {
+        this(DeckRegistry.FIBONACCI_DECK);
+    }
+
+    /**
+     * Creates an accumulator for a deck.
+     *
+     * @param deck The deck the votes are cast from
+     */
+    public ConsensusAccumulator(Deck deck) {
+        this.deck = deck;
+        this.counts = new int[deck.size()];
+    }
+
+    /**
+     * Adds a vote.
+     *
+     * @param cardValue The card value (null counts as a non-numeric vote)
+     */
+    public void add(String cardValue) {
+        if (cardValue == null) {
+            nullVotes++;
+            totalVotes++;
+            return;
+        }
+        int ordinal = deck.ordinalOf(cardValue);
+        if (ordinal != Deck.NOT_IN_DECK) {
+            add(ordinal);
+        } else {
+            otherCounts.merge(cardValue, 1, Integer::sum);
+            totalVotes++;
+        }
+    }
+
+    /**
+     * Adds a vote by card ordinal.
+     *
+     * @param ordinal The card ordinal in the deck
+     */
+    public void add(int ordinal) {
+        counts[ordinal]++;
+        if (deck.isNumeric(ordinal)) {
+            int value = deck.weightAt(ordinal);
+            numericVotes++;
+            sum += value;
+            sumOfSquares += (long) value * value;
+        }
+        totalVotes++;
+    }
+
+    /**
+     * Removes a previously added vote.
+     *
+     * @param cardValue The card value (values that were never added are ignored)
+     */
+    public void remove(String cardValue) {
+        if (cardValue == null) {
+            if (nullVotes > 0) {
+                nullVotes--;
+                totalVotes--;
+            }
+            return;
+        }
+        int ordinal = deck.ordinalOf(cardValue);
+        if (ordinal != Deck.NOT_IN_DECK) {
+            remove(ordinal);
+            return;
+        }
+        Integer count = otherCounts.get(cardValue);
+        if (count == null) {
+            return;
+        }
+        if (count == 1) {
+            otherCounts.remove(cardValue);
+        } else {
+            otherCounts.put(cardValue, count - 1);
+        }
+        totalVotes--;
+    }
+
+    /**
+     * Removes a previously added vote by card ordinal.
+     *
+     * @param ordinal The card ordinal (ignored if no vote holds it)
+     */
+    public void remove(int ordinal) {
+        if (counts[ordinal] == 0) {
+            return;
+        }
+        counts[ordinal]--;
+        if (deck.isNumeric(ordinal)) {
+            int value = deck.weightAt(ordinal);
+            numericVotes--;
+            sum -= value;
+            sumOfSquares -= (long) value * value;
+        }
+        totalVotes--;
+    }
+
+    /**
+     * Replaces a participant's previous card with a new one.
+     *
+     * @param previousCardValue The previous card value, or null if this is the first vote
+     * @param cardValue The new card value
+     */
+    public void replace(String previousCardValue, String cardValue) {
+        remove(previousCardValue);
+        add(cardValue);
+    }
+
+    /**
+     * Removes all votes.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        otherCounts.clear();
+        nullVotes = 0;
+        numericVotes = 0;
+        totalVotes = 0;
+        sum = 0;
+        sumOfSquares = 0;
+    }
+
+    /**
+     * Gets the number of votes added.
+     *
+     * @return Total vote count
+     */
+    public int getVoteCount() {
+        return totalVotes;
+    }
+
+    /**
+     * Calculates the average of numeric votes. Non-numeric votes are excluded.
+     *
+     * @return Average value rounded to 2 decimal places, or null if no numeric votes
+     */
+    public BigDecimal average() {
+        if (numericVotes == 0) {
+            return null;
+        }
+        double average = (double) sum / numericVotes;
+        return BigDecimal.valueOf(average).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calculates the population variance of numeric votes.
+     *
+     * @return The variance, or 0.0 if no numeric votes
+     */
+    public double variance() {
+        if (numericVotes == 0) {
+            return 0.0;
+        }
+        try {
+            // n²σ² = nΣx² - (Σx)², exact in integer arithmetic
+            long scaled = Math.subtractExact(
+                    Math.multiplyExact(numericVotes, sumOfSquares), Math.multiplyExact(sum, sum));
+            return (double) scaled / ((long) numericVotes * numericVotes);
+        } catch (ArithmeticException e) {
+            // Thousands of votes on 6-digit cards: fall back to floating point
+            double mean = (double) sum / numericVotes;
+            return (double) sumOfSquares / numericVotes - mean * mean;
+        }
+    }
+
+    /**
+     * Calculates whether consensus has been reached.
+     * <p>
+     * False if there are no votes or any vote is non-numeric; otherwise true if the
+     * variance is below 2.0 (which includes all votes being the same).
+     * </p>
+     *
+     * @return true if consensus reached, false otherwise
+     */
+    public boolean consensus() {
+        if (totalVotes == 0 || numericVotes != totalVotes) {
+            return false;
+        }
+        return variance() < VARIANCE_THRESHOLD;
+    }
+
+    /**
+     * Calculates the median vote value.
+     * <p>
+     * For all-numeric votes: the middle value, or the mean of the two middle values for an
+     * even count. Otherwise: the value held by more than half of the votes, or "mixed".
+     * </p>
+     *
+     * @return Median value as a string (e.g., "5", "6.5", "?", "mixed"), or null if no votes
+     */
+    public String median() {
+        if (totalVotes == 0) {
+            return null;
+        }
+
+        if (numericVotes == totalVotes) {
+            if (totalVotes % 2 == 1) {
+                return String.valueOf(numericValueAt(totalVotes / 2));
+            }
+            double median = (numericValueAt(totalVotes / 2 - 1) + numericValueAt(totalVotes / 2)) / 2.0;
+            if (median == Math.floor(median)) {
+                return String.valueOf((int) median);
+            }
+            return String.valueOf(BigDecimal.valueOf(median).setScale(1, RoundingMode.HALF_UP));
+        }
+
+        // Mixed numeric and non-numeric votes: most common value if it holds a majority
+        int majority = totalVotes / 2;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > majority) {
+                return deck.cardAt(i);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : otherCounts.entrySet()) {
+            if (entry.getValue() > majority) {
+                return entry.getKey();
+            }
+        }
+        return "mixed";
+    }
+
+    /**
+     * Returns the numeric value at a position of the sorted numeric votes.
+     */
+    private int numericValueAt(int position) {
+        int seen = 0;
+        for (int rank = 0; rank < deck.numericCount(); rank++) {
+            int ordinal = deck.numericOrdinalAtRank(rank);
+            seen += counts[ordinal];
+            if (seen > position) {
+                return deck.weightAt(ordinal);
+            }
+        }
+        throw new IllegalStateException("Position " + position + " out of range for " + numericVotes + " votes");
+    }
+}
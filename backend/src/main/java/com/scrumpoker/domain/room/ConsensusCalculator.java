@@ -1,26 +1,52 @@
 package com.scrumpoker.domain.room;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for calculating voting statistics and consensus detection.
- * Implements variance-based consensus algorithm for Fibonacci deck estimation.
+ * Implements variance-based consensus algorithm over the numeric cards of a {@link Deck};
+ * the list-based methods use the Fibonacci deck.
+ * <p>
+ * Which cards are numeric depends on the deck. Reveals use the room's deck, so in a
+ * powers-of-2 room "4", "16", "32" and "64" count towards average, median and consensus;
+ * before decks were compiled per room only Fibonacci values did, and those cards made a
+ * round non-numeric.
+ * </p>
+ * <p>
+ * Each method makes a single pass over the votes into a {@link ConsensusAccumulator};
+ * callers needing several statistics for the same votes should use
+ * {@link #accumulate(List)} once and query the accumulator directly.
+ * </p>
  */
 public class ConsensusCalculator {
 
     /**
-     * Variance threshold for consensus detection.
-     * Variance < 2.0 indicates consensus for Fibonacci deck (1, 2, 3, 5, 8, 13).
+     * Builds an accumulator holding all given votes, cast from the Fibonacci deck.
+     *
+     * @param votes List of votes to analyze (may be null)
+     * @return Accumulator with one entry per vote
      */
-    private static final double VARIANCE_THRESHOLD = 2.0;
+    public static ConsensusAccumulator accumulate(List<Vote> votes) {
+        return accumulate(votes, DeckRegistry.FIBONACCI_DECK);
+    }
 
     /**
-     * Set of numeric card values supported by the Fibonacci deck.
+     * Builds an accumulator holding all given votes.
+     *
+     * @param votes List of votes to analyze (may be null)
+     * @param deck The deck the votes were cast from
+     * @return Accumulator with one entry per vote
      */
-    private static final List<String> NUMERIC_CARDS = List.of("0", "1", "2", "3", "5", "8", "13", "21", "34", "55", "89");
+    public static ConsensusAccumulator accumulate(List<Vote> votes, Deck deck) {
+        ConsensusAccumulator accumulator = new ConsensusAccumulator(deck);
+        if (votes != null) {
+            for (Vote vote : votes) {
+                accumulator.add(vote.cardValue);
+            }
+        }
+        return accumulator;
+    }
 
     /**
      * Calculates whether consensus has been reached based on vote variance.
@@ -36,34 +62,7 @@ public class ConsensusCalculator {
      * @return true if consensus reached, false otherwise
      */
     public static boolean calculateConsensus(List<Vote> votes) {
-        if (votes == null || votes.isEmpty()) {
-            return false;
-        }
-
-        // Check if all votes are numeric
-        boolean allNumeric = votes.stream()
-                .allMatch(vote -> isNumericCardValue(vote.cardValue));
-
-        if (!allNumeric) {
-            return false; // Automatic failure if any non-numeric votes
-        }
-
-        // If all votes are the same, consensus is reached
-        String firstValue = votes.get(0).cardValue;
-        boolean allSame = votes.stream()
-                .allMatch(vote -> vote.cardValue.equals(firstValue));
-
-        if (allSame) {
-            return true; // Consensus with variance = 0
-        }
-
-        // Calculate variance for numeric votes
-        List<Double> numericValues = votes.stream()
-                .map(vote -> Double.parseDouble(vote.cardValue))
-                .collect(Collectors.toList());
-
-        double variance = calculateVariance(numericValues);
-        return variance < VARIANCE_THRESHOLD;
+        return accumulate(votes).consensus();
     }
 
     /**
@@ -74,23 +73,7 @@ public class ConsensusCalculator {
      * @return Average value rounded to 2 decimal places, or null if no numeric votes
      */
     public static BigDecimal calculateAverage(List<Vote> votes) {
-        if (votes == null || votes.isEmpty()) {
-            return null;
-        }
-
-        List<Double> numericValues = votes.stream()
-                .filter(vote -> isNumericCardValue(vote.cardValue))
-                .map(vote -> Double.parseDouble(vote.cardValue))
-                .collect(Collectors.toList());
-
-        if (numericValues.isEmpty()) {
-            return null; // No numeric votes
-        }
-
-        double sum = numericValues.stream().mapToDouble(Double::doubleValue).sum();
-        double average = sum / numericValues.size();
-
-        return BigDecimal.valueOf(average).setScale(2, RoundingMode.HALF_UP);
+        return accumulate(votes).average();
     }
 
     /**
@@ -104,91 +87,6 @@ public class ConsensusCalculator {
      * @return Median value as a string (e.g., "5", "6.5", "?", "mixed")
      */
     public static String calculateMedian(List<Vote> votes) {
-        if (votes == null || votes.isEmpty()) {
-            return null;
-        }
-
-        // Check if all votes are numeric
-        boolean allNumeric = votes.stream()
-                .allMatch(vote -> isNumericCardValue(vote.cardValue));
-
-        if (allNumeric) {
-            // Calculate numeric median
-            List<Double> numericValues = votes.stream()
-                    .map(vote -> Double.parseDouble(vote.cardValue))
-                    .sorted()
-                    .collect(Collectors.toList());
-
-            int size = numericValues.size();
-            if (size % 2 == 1) {
-                // Odd number of votes: return middle value
-                return String.valueOf(numericValues.get(size / 2).intValue());
-            } else {
-                // Even number of votes: return average of two middle values
-                double middle1 = numericValues.get(size / 2 - 1);
-                double middle2 = numericValues.get(size / 2);
-                double median = (middle1 + middle2) / 2.0;
-
-                // Format as integer if whole number, otherwise with decimal
-                if (median == Math.floor(median)) {
-                    return String.valueOf((int) median);
-                } else {
-                    return String.valueOf(BigDecimal.valueOf(median).setScale(1, RoundingMode.HALF_UP));
-                }
-            }
-        } else {
-            // Mixed numeric and non-numeric votes: find most common value
-            return votes.stream()
-                    .collect(Collectors.groupingBy(vote -> vote.cardValue, Collectors.counting()))
-                    .entrySet().stream()
-                    .max((e1, e2) -> e1.getValue().compareTo(e2.getValue()))
-                    .map(entry -> {
-                        // Check if there's a clear majority (more than 50%)
-                        long count = entry.getValue();
-                        if (count > votes.size() / 2) {
-                            return entry.getKey();
-                        } else {
-                            return "mixed";
-                        }
-                    })
-                    .orElse("mixed");
-        }
-    }
-
-    /**
-     * Checks if a card value is numeric (can be parsed as a number).
-     *
-     * @param cardValue The card value to check
-     * @return true if numeric, false otherwise
-     */
-    private static boolean isNumericCardValue(String cardValue) {
-        if (cardValue == null) {
-            return false;
-        }
-        return NUMERIC_CARDS.contains(cardValue);
-    }
-
-    /**
-     * Calculates the statistical variance of a list of numeric values.
-     * Variance formula: σ² = Σ(xi - μ)² / n
-     *
-     * @param values List of numeric values
-     * @return The variance
-     */
-    private static double calculateVariance(List<Double> values) {
-        if (values == null || values.isEmpty()) {
-            return 0.0;
-        }
-
-        // Calculate mean
-        double mean = values.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-
-        // Calculate sum of squared differences
-        double sumSquaredDiff = values.stream()
-                .mapToDouble(value -> Math.pow(value - mean, 2))
-                .sum();
-
-        // Return variance
-        return sumSquaredDiff / values.size();
+        return accumulate(votes).median();
     }
 }
@@ -0,0 +1,23 @@
+package com.scrumpoker.domain.room;
+
+import java.math.BigDecimal;
+
+/**
+ * Point-in-time voting statistics of an open round, computed from in-memory state.
+ * <p>
+ * Covers the card values known to this node; votes cast on other nodes are counted
+ * once they are written and the room state is reloaded.
+ * </p>
+ *
+ * @param voteCount Number of votes with a known card value
+ * @param average   Average of numeric votes (2 decimal places), or null if none
+ * @param median    Median vote value, "mixed", or null if no votes
+ * @param consensus Whether the current votes would reach consensus
+ */
+public record ConsensusPreview(
+    int voteCount,
+    BigDecimal average,
+    String median,
+    boolean consensus
+) {
+}
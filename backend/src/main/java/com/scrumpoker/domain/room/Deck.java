@@ -0,0 +1,230 @@
+package com.scrumpoker.domain.room;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled card table of an estimation deck.
+ * <p>
+ * Every card has an ordinal (its position in the deck), so a vote can be held as a small
+ * int instead of a string. Cards of up to {@link #MAX_NUMERIC_DIGITS} digits are numeric and
+ * carry their value as weight; all other cards ("?", "∞", "☕", T-shirt sizes) are non-numeric and are
+ * excluded from averages and consensus, as defined by {@link ConsensusCalculator}.
+ * Card strings are interned, so the value handed out for an ordinal is always the same
+ * instance.
+ * </p>
+ * <p>
+ * Built-in decks are compiled once by {@link DeckRegistry}; custom decks are compiled from
+ * the room configuration with {@link #compile(String, List)}.
+ * </p>
+ */
+public final class Deck {
+
+    /**
+     * Ordinal returned for a card value that is not part of the deck.
+     */
+    public static final int NOT_IN_DECK = -1;
+
+    /**
+     * Maximum number of cards in a custom deck.
+     */
+    public static final int MAX_CARDS = 30;
+
+    /**
+     * Maximum length of a card value (matches vote.card_value).
+     */
+    public static final int MAX_CARD_LENGTH = 10;
+
+    /**
+     * Maximum number of digits of a numeric card. Longer digit strings are non-numeric,
+     * which keeps the sums of squares in {@link ConsensusAccumulator} far from overflowing.
+     */
+    public static final int MAX_NUMERIC_DIGITS = 6;
+
+    private final String type;
+    private final String[] cards;
+    private final int[] weights;
+    private final boolean[] numeric;
+
+    /**
+     * Ordinals of numeric cards in ascending weight order.
+     */
+    private final int[] numericOrdinalsByWeight;
+
+    private final Map<String, Integer> ordinals;
+
+    private Deck(String type, String[] cards) {
+        this.type = type;
+        this.cards = cards;
+        this.weights = new int[cards.length];
+        this.numeric = new boolean[cards.length];
+        this.ordinals = new HashMap<>(cards.length * 2);
+
+        int numericCount = 0;
+        for (int i = 0; i < cards.length; i++) {
+            ordinals.put(cards[i], i);
+            if (isDigits(cards[i])) {
+                numeric[i] = true;
+                weights[i] = Integer.parseInt(cards[i]);
+                numericCount++;
+            }
+        }
+
+        Integer[] byWeight = new Integer[numericCount];
+        int next = 0;
+        for (int i = 0; i < cards.length; i++) {
+            if (numeric[i]) {
+                byWeight[next++] = i;
+            }
+        }
+        Arrays.sort(byWeight, (a, b) -> Integer.compare(weights[a], weights[b]));
+        this.numericOrdinalsByWeight = Arrays.stream(byWeight).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Compiles a deck from its card values.
+     *
+     * @param type The deck type name (e.g., "fibonacci", "custom")
+     * @param cardValues The card values in display order
+     * @return The compiled deck
+     * @throws IllegalArgumentException if the deck is empty, too large, or contains blank,
+     *         too long or duplicate card values
+     */
+    public static Deck compile(String type, List<String> cardValues) {
+        if (cardValues == null || cardValues.isEmpty()) {
+            throw new IllegalArgumentException("Deck must contain at least one card");
+        }
+        if (cardValues.size() > MAX_CARDS) {
+            throw new IllegalArgumentException("Deck cannot contain more than " + MAX_CARDS + " cards");
+        }
+
+        String[] cards = new String[cardValues.size()];
+        for (int i = 0; i < cards.length; i++) {
+            String card = cardValues.get(i) != null ? cardValues.get(i).trim() : "";
+            if (card.isEmpty()) {
+                throw new IllegalArgumentException("Card value cannot be null or empty");
+            }
+            if (card.length() > MAX_CARD_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Card value cannot exceed " + MAX_CARD_LENGTH + " characters: " + card);
+            }
+            cards[i] = card.intern();
+        }
+
+        Deck deck = new Deck(type, cards);
+        if (deck.ordinals.size() != cards.length) {
+            throw new IllegalArgumentException("Deck contains duplicate card values");
+        }
+        return deck;
+    }
+
+    /**
+     * Gets the deck type name.
+     *
+     * @return The deck type (e.g., "fibonacci")
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return Card count
+     */
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Looks up the ordinal of a card value.
+     *
+     * @param cardValue The card value (null allowed)
+     * @return The card's ordinal, or {@link #NOT_IN_DECK}
+     */
+    public int ordinalOf(String cardValue) {
+        if (cardValue == null) {
+            return NOT_IN_DECK;
+        }
+        Integer ordinal = ordinals.get(cardValue);
+        return ordinal != null ? ordinal : NOT_IN_DECK;
+    }
+
+    /**
+     * Gets the interned card value of an ordinal.
+     *
+     * @param ordinal The card ordinal
+     * @return The card value
+     */
+    public String cardAt(int ordinal) {
+        return cards[ordinal];
+    }
+
+    /**
+     * Checks whether the card of an ordinal is numeric.
+     *
+     * @param ordinal The card ordinal
+     * @return true if the card has a numeric weight
+     */
+    public boolean isNumeric(int ordinal) {
+        return numeric[ordinal];
+    }
+
+    /**
+     * Gets the numeric weight of a card.
+     *
+     * @param ordinal The card ordinal
+     * @return The card's value, or 0 for non-numeric cards
+     */
+    public int weightAt(int ordinal) {
+        return weights[ordinal];
+    }
+
+    /**
+     * Gets the number of numeric cards.
+     *
+     * @return Numeric card count
+     */
+    int numericCount() {
+        return numericOrdinalsByWeight.length;
+    }
+
+    /**
+     * Gets the ordinal of the numeric card at a rank in ascending weight order.
+     *
+     * @param rank Rank between 0 and {@link #numericCount()} - 1
+     * @return The card ordinal
+     */
+    int numericOrdinalAtRank(int rank) {
+        return numericOrdinalsByWeight[rank];
+    }
+
+    /**
+     * Gets the card values in display order.
+     *
+     * @return Unmodifiable list of card values
+     */
+    public List<String> getCards() {
+        return List.of(cards);
+    }
+
+    private static boolean isDigits(String card) {
+        if (card.length() > MAX_NUMERIC_DIGITS) {
+            return false;
+        }
+        for (int i = 0; i < card.length(); i++) {
+            char c = card.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Deck{type='" + type + "', cards=" + Arrays.toString(cards) + '}';
+    }
+}
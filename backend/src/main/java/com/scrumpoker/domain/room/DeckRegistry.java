@@ -0,0 +1,129 @@
+package com.scrumpoker.domain.room;
+
+import io.quarkus.logging.Log;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Registry of compiled estimation decks.
+ * <p>
+ * The built-in decks (Fibonacci, T-shirt, powers of 2) are compiled once at class load.
+ * Custom decks are compiled from the room's {@code custom_deck} setting when the room's
+ * configuration is loaded into the {@link RoomMetadataCache}, so each room's deck is
+ * compiled once per cache entry.
+ * </p>
+ */
+public final class DeckRegistry {
+
+    public static final String FIBONACCI = "fibonacci";
+    public static final String TSHIRT = "tshirt";
+    public static final String POWERS_OF_2 = "powers_of_2";
+    public static final String CUSTOM = "custom";
+
+    /**
+     * Fibonacci deck. Also the fallback for unknown deck types.
+     */
+    public static final Deck FIBONACCI_DECK = Deck.compile(FIBONACCI,
+            List.of("0", "1", "2", "3", "5", "8", "13", "21", "34", "55", "89", "?", "∞", "☕"));
+
+    public static final Deck TSHIRT_DECK = Deck.compile(TSHIRT,
+            List.of("XS", "S", "M", "L", "XL", "XXL", "?", "∞", "☕"));
+
+    public static final Deck POWERS_OF_2_DECK = Deck.compile(POWERS_OF_2,
+            List.of("1", "2", "4", "8", "16", "32", "64", "?", "∞", "☕"));
+
+    /**
+     * Room configuration parsed from JSONB together with its compiled deck.
+     * <p>
+     * Shared by all readers of the {@link RoomMetadataCache}, so the mutable
+     * {@link RoomConfig} is copied on the way in and on every read.
+     * </p>
+     *
+     * @param config The parsed configuration
+     * @param deck The compiled deck for the configuration
+     */
+    public record CompiledRoomConfig(RoomConfig config, Deck deck) {
+
+        public CompiledRoomConfig {
+            config = new RoomConfig(config);
+        }
+
+        /**
+         * Gets a copy of the parsed configuration.
+         *
+         * @return A configuration the caller may modify
+         */
+        @Override
+        public RoomConfig config() {
+            return new RoomConfig(config);
+        }
+
+        /**
+         * Gets the configured deck type for metric tags.
+         *
+         * @return The deck type as stored in the configuration, or "unknown"
+         */
+        public String deckTypeTag() {
+            return config.getDeckType() != null ? config.getDeckType() : "unknown";
+        }
+    }
+
+    private DeckRegistry() {
+    }
+
+    /**
+     * Resolves the deck for a deck type.
+     * <p>
+     * Deck types are matched case-insensitively, ignoring '_', '-' and spaces, so
+     * "FIBONACCI", "t_shirt" and "powers-of-2" are all recognized.
+     * </p>
+     *
+     * @param deckType The deck type (null defaults to Fibonacci)
+     * @param customDeck The custom card values, used if the deck type is "custom"
+     * @return The compiled deck
+     * @throws IllegalArgumentException if the deck type is unknown, or "custom" with an
+     *         invalid card list
+     */
+    public static Deck forType(String deckType, List<String> customDeck) {
+        if (deckType == null) {
+            return FIBONACCI_DECK;
+        }
+        String normalized = deckType.toLowerCase(Locale.ROOT).replaceAll("[_\\-\\s]", "");
+        return switch (normalized) {
+            case "fibonacci" -> FIBONACCI_DECK;
+            case "tshirt" -> TSHIRT_DECK;
+            case "powersof2", "powerof2", "powersoftwo", "poweroftwo" -> POWERS_OF_2_DECK;
+            case "custom" -> Deck.compile(CUSTOM, customDeck);
+            default -> throw new IllegalArgumentException("Unknown deck type: " + deckType);
+        };
+    }
+
+    /**
+     * Validates that a room configuration describes a usable deck.
+     *
+     * @param config The configuration to validate
+     * @throws IllegalArgumentException if the deck type or custom deck is invalid
+     */
+    public static void validate(RoomConfig config) {
+        forType(config.getDeckType(), config.getCustomDeck());
+    }
+
+    /**
+     * Compiles the deck of a parsed room configuration.
+     * <p>
+     * An invalid deck falls back to Fibonacci, so a corrupt row never blocks voting.
+     * </p>
+     *
+     * @param config The parsed configuration
+     * @return The configuration together with its compiled deck
+     */
+    public static CompiledRoomConfig compile(RoomConfig config) {
+        try {
+            return new CompiledRoomConfig(config, forType(config.getDeckType(), config.getCustomDeck()));
+        } catch (IllegalArgumentException e) {
+            Log.warnf("Invalid deck in room config, using Fibonacci: %s", e.getMessage());
+            return new CompiledRoomConfig(config, FIBONACCI_DECK);
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.scrumpoker.domain.room;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 /**
  * Configuration POJO for room settings stored in JSONB config column.
- * Handles deck type, timer settings, and reveal behavior.
+ * Handles deck type (with optional custom deck), timer settings, and reveal behavior.
  */
 public class RoomConfig {
 
     @JsonProperty("deck_type")
     private String deckType;
 
+    /**
+     * Card values of a custom deck; only used when the deck type is "custom".
+     */
+    @JsonProperty("custom_deck")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> customDeck;
+
     @JsonProperty("timer_enabled")
     private boolean timerEnabled;
 
@@ -47,6 +57,15 @@ public class RoomConfig {
         this.allowObservers = allowObservers;
     }
 
+    /**
+     * Copy constructor.
+     */
+    public RoomConfig(RoomConfig other) {
+        this(other.deckType, other.timerEnabled, other.timerDurationSeconds,
+                other.revealBehavior, other.allowObservers);
+        this.customDeck = other.customDeck != null ? List.copyOf(other.customDeck) : null;
+    }
+
     // Getters and setters
 
     public String getDeckType() {
@@ -57,6 +76,14 @@ public class RoomConfig {
         this.deckType = deckType;
     }
 
+    public List<String> getCustomDeck() {
+        return customDeck;
+    }
+
+    public void setCustomDeck(List<String> customDeck) {
+        this.customDeck = customDeck;
+    }
+
     public boolean isTimerEnabled() {
         return timerEnabled;
     }
@@ -93,6 +120,7 @@ public class RoomConfig {
     public String toString() {
         return "RoomConfig{" +
                 "deckType='" + deckType + '\'' +
+                ", customDeck=" + customDeck +
                 ", timerEnabled=" + timerEnabled +
                 ", timerDurationSeconds=" + timerDurationSeconds +
                 ", revealBehavior='" + revealBehavior + '\'' +
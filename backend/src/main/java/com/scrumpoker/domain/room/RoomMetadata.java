@@ -0,0 +1,16 @@
+package com.scrumpoker.domain.room;
+
+/**
+ * Immutable snapshot of a room's metadata as held by the {@link RoomMetadataCache}.
+ * <p>
+ * Detached from the Hibernate session, so it can be shared between requests and threads.
+ * </p>
+ *
+ * @param roomId The room ID (6-character nanoid)
+ * @param title The room title
+ * @param privacyMode The room's privacy mode
+ * @param config The parsed room configuration and compiled deck (read-only)
+ */
+public record RoomMetadata(String roomId, String title, PrivacyMode privacyMode,
+                           DeckRegistry.CompiledRoomConfig config) {
+}
@@ -0,0 +1,188 @@
+package com.scrumpoker.domain.room;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.scrumpoker.metrics.BusinessMetrics;
+import com.scrumpoker.repository.RoomRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded per-node cache of room metadata and parsed room configuration, keyed by room ID.
+ * <p>
+ * Voting and configuration reads need the room's title, privacy mode and parsed
+ * {@link RoomConfig}, which rarely change. Entries are kept in a size-bounded Caffeine
+ * cache with a write TTL as a safety net; deleted rooms are never cached.
+ * </p>
+ * <p>
+ * <strong>Invalidation:</strong> {@link RoomService} calls {@link #invalidate(String)} when a
+ * room's config, title or privacy mode changes or the room is deleted. The entry is dropped
+ * locally and the room ID is published on the {@value #INVALIDATION_CHANNEL} Redis channel,
+ * which every node (including the publisher) subscribes to on startup. Handling the
+ * publisher's own message as well drops an entry reloaded while the updating transaction
+ * was still committing. Loads that were in flight during an invalidation are not cached.
+ * Invalidation also evicts the room from the {@link RoomStateEngine}.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomMetadataCache {
+
+    /**
+     * Redis channel carrying IDs of rooms whose cached metadata is stale.
+     */
+    static final String INVALIDATION_CHANNEL = "room-cache:invalidate";
+
+    @Inject
+    RoomRepository roomRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ReactiveRedisDataSource redisDataSource;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    @Inject
+    RoomStateEngine roomStateEngine;
+
+    @ConfigProperty(name = "room.cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "room.cache.expire-after-write", defaultValue = "PT10M")
+    Duration expireAfterWrite;
+
+    private Cache<String, RoomMetadata> cache;
+
+    private ReactivePubSubCommands<String> pubsub;
+
+    /**
+     * Incremented on every invalidation; a load only populates the cache if no
+     * invalidation happened while it was running.
+     */
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    @jakarta.annotation.PostConstruct
+    void initialize() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.pubsub = redisDataSource.pubsub(String.class);
+    }
+
+    /**
+     * Subscribes to cluster-wide invalidations on startup.
+     */
+    void onStart(@Observes StartupEvent event) {
+        pubsub.subscribe(INVALIDATION_CHANNEL)
+                .onFailure().invoke(failure ->
+                        Log.errorf(failure, "Redis subscription %s failed, retrying", INVALIDATION_CHANNEL))
+                .onFailure().retry()
+                .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(30))
+                .indefinitely()
+                .subscribe().with(
+                        roomId -> invalidateLocally(roomId, BusinessMetrics.INVALIDATION_SOURCE_REMOTE),
+                        failure -> Log.errorf(failure, "Redis subscription %s terminated", INVALIDATION_CHANNEL));
+        Log.infof("Subscribed to Redis channel: %s", INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * Gets the metadata of an active room, loading it from the database on a miss.
+     * <p>
+     * Concurrent misses for the same room may each load it; the loaded values are equal.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @return Uni containing the room metadata. Fails with {@link RoomNotFoundException}
+     *         if the room doesn't exist or is deleted
+     */
+    public Uni<RoomMetadata> get(String roomId) {
+        RoomMetadata cached = cache.getIfPresent(roomId);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+
+        long epoch = invalidationEpoch.get();
+        return Panache.withSession(() -> roomRepository.findById(roomId))
+                .map(room -> {
+                    if (room == null || room.deletedAt != null) {
+                        throw new RoomNotFoundException(roomId);
+                    }
+                    RoomMetadata metadata = new RoomMetadata(room.roomId, room.title, room.privacyMode,
+                            DeckRegistry.compile(parseConfig(room)));
+                    if (invalidationEpoch.get() == epoch) {
+                        cache.put(roomId, metadata);
+                    }
+                    return metadata;
+                });
+    }
+
+    /**
+     * Drops a room's cached metadata on this node and on all other nodes.
+     *
+     * @param roomId The room ID
+     * @return Uni that completes once the invalidation is published (publish failures are
+     *         logged, not propagated, since the entry expires anyway)
+     */
+    public Uni<Void> invalidate(String roomId) {
+        invalidateLocally(roomId, BusinessMetrics.INVALIDATION_SOURCE_LOCAL);
+        return pubsub.publish(INVALIDATION_CHANNEL, roomId)
+                .onFailure().invoke(failure ->
+                        Log.warnf(failure, "Failed to publish cache invalidation for room %s", roomId))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Gets the cache statistics (hits, misses, evictions) since startup.
+     *
+     * @return Cache statistics snapshot
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Gets the approximate number of cached rooms.
+     *
+     * @return Cached room count
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidateLocally(String roomId, String source) {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidate(roomId);
+        // The state engine holds the compiled deck of the room's previous config
+        roomStateEngine.evict(roomId);
+        businessMetrics.incrementRoomCacheInvalidations(source);
+    }
+
+    private RoomConfig parseConfig(Room room) {
+        if (room.config == null) {
+            return new RoomConfig();
+        }
+        try {
+            return objectMapper.readValue(room.config, RoomConfig.class);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize room configuration", e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.inject.Inject;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Domain service for room management operations.
@@ -38,6 +39,9 @@ public class RoomService {
     @Inject
     FeatureGate featureGate;
 
+    @Inject
+    RoomMetadataCache roomMetadataCache;
+
     /**
      * Creates a new room with the given parameters.
      * Generates a unique 6-character nanoid, validates inputs,
@@ -50,8 +54,8 @@ public class RoomService {
      * @param owner The room owner (nullable for anonymous rooms)
      * @param config The room configuration settings
      * @return Uni containing the created room
-     * @throws IllegalArgumentException if title exceeds max length
-     *                                  or privacy mode is null
+     * @throws IllegalArgumentException if title exceeds max length,
+     *                                  privacy mode is null or the deck is invalid
      * @throws com.scrumpoker.security.FeatureNotAvailableException
      *         if user's tier is insufficient for privacy mode
      */
@@ -87,6 +91,11 @@ public class RoomService {
         if (config == null) {
             config = new RoomConfig();
         }
+        try {
+            DeckRegistry.validate(config);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
 
         // Create room entity
         Room room = new Room();
@@ -109,21 +118,23 @@ public class RoomService {
      * @param roomId The room ID
      * @param config The new configuration settings
      * @return Uni containing the updated room
+     * @throws IllegalArgumentException if the deck type or custom deck is invalid
      * @throws RoomNotFoundException if room doesn't exist
      */
-    @WithTransaction
     public Uni<Room> updateRoomConfig(String roomId, RoomConfig config) {
         if (config == null) {
             return Uni.createFrom().failure(new IllegalArgumentException("Room config cannot be null"));
         }
+        try {
+            DeckRegistry.validate(config);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
 
-        return findById(roomId)
-            .onItem().transform(room -> {
-                room.config = serializeConfig(config);
-                room.lastActiveAt = Instant.now();
-                return room;
-            })
-            .flatMap(room -> roomRepository.persist(room));
+        return updateAndInvalidate(roomId, room -> {
+            room.config = serializeConfig(config);
+            room.lastActiveAt = Instant.now();
+        });
     }
 
     /**
@@ -135,7 +146,6 @@ public class RoomService {
      * @throws IllegalArgumentException if title is invalid
      * @throws RoomNotFoundException if room doesn't exist
      */
-    @WithTransaction
     public Uni<Room> updateRoomTitle(String roomId, String title) {
         if (title == null || title.trim().isEmpty()) {
             return Uni.createFrom().failure(new IllegalArgumentException("Room title cannot be null or empty"));
@@ -144,13 +154,10 @@ public class RoomService {
             return Uni.createFrom().failure(new IllegalArgumentException("Room title cannot exceed " + MAX_TITLE_LENGTH + " characters"));
         }
 
-        return findById(roomId)
-            .onItem().transform(room -> {
-                room.title = title.trim();
-                room.lastActiveAt = Instant.now();
-                return room;
-            })
-            .flatMap(room -> roomRepository.persist(room));
+        return updateAndInvalidate(roomId, room -> {
+            room.title = title.trim();
+            room.lastActiveAt = Instant.now();
+        });
     }
 
     /**
@@ -165,37 +172,33 @@ public class RoomService {
      * @throws com.scrumpoker.security.FeatureNotAvailableException
      *         if user's tier is insufficient for privacy mode
      */
-    @WithTransaction
     public Uni<Room> updatePrivacyMode(String roomId, PrivacyMode privacyMode) {
         if (privacyMode == null) {
             return Uni.createFrom().failure(new IllegalArgumentException("Privacy mode cannot be null"));
         }
 
-        return findById(roomId)
-            .onItem().transform(room -> {
-                // Enforce tier requirements for privacy modes
-                if (room.owner != null) {
-                    if (privacyMode == PrivacyMode.INVITE_ONLY) {
-                        // INVITE_ONLY requires PRO_PLUS or
-                        // ENTERPRISE tier
-                        featureGate.requireCanCreateInviteOnlyRoom(
-                            room.owner);
-                    } else if (privacyMode
-                        == PrivacyMode.ORG_RESTRICTED) {
-                        // ORG_RESTRICTED requires ENTERPRISE tier
-                        // (organization management)
-                        featureGate.requireCanManageOrganization(
-                            room.owner);
-                    }
-                    // PUBLIC rooms are available to all tiers (no
-                    // check needed)
+        return updateAndInvalidate(roomId, room -> {
+            // Enforce tier requirements for privacy modes
+            if (room.owner != null) {
+                if (privacyMode == PrivacyMode.INVITE_ONLY) {
+                    // INVITE_ONLY requires PRO_PLUS or
+                    // ENTERPRISE tier
+                    featureGate.requireCanCreateInviteOnlyRoom(
+                        room.owner);
+                } else if (privacyMode
+                    == PrivacyMode.ORG_RESTRICTED) {
+                    // ORG_RESTRICTED requires ENTERPRISE tier
+                    // (organization management)
+                    featureGate.requireCanManageOrganization(
+                        room.owner);
                 }
+                // PUBLIC rooms are available to all tiers (no
+                // check needed)
+            }
 
-                room.privacyMode = privacyMode;
-                room.lastActiveAt = Instant.now();
-                return room;
-            })
-            .flatMap(room -> roomRepository.persist(room));
+            room.privacyMode = privacyMode;
+            room.lastActiveAt = Instant.now();
+        });
     }
 
     /**
@@ -206,13 +209,38 @@ public class RoomService {
      * @return Uni containing the soft-deleted room
      * @throws RoomNotFoundException if room doesn't exist
      */
-    @WithTransaction
     public Uni<Room> deleteRoom(String roomId) {
+        return updateAndInvalidate(roomId, room -> room.deletedAt = Instant.now());
+    }
+
+    /**
+     * Applies a change to a room and drops its cached metadata once the change is committed.
+     * <p>
+     * Invalidating inside the transaction would let another node reload the old row between
+     * the invalidation and the commit, and cache it until the entry expires.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param change The change to apply to the loaded room
+     * @return Uni containing the updated room
+     */
+    private Uni<Room> updateAndInvalidate(String roomId, Consumer<Room> change) {
+        return applyChange(roomId, change)
+            .call(room -> roomMetadataCache.invalidate(roomId));
+    }
+
+    /**
+     * Loads, changes and persists a room in one transaction. Package-private so the call
+     * from {@link #updateAndInvalidate} goes through the transaction interceptor.
+     *
+     * @param roomId The room ID
+     * @param change The change to apply to the loaded room
+     * @return Uni containing the persisted room
+     */
+    @WithTransaction
+    Uni<Room> applyChange(String roomId, Consumer<Room> change) {
         return findById(roomId)
-            .onItem().transform(room -> {
-                room.deletedAt = Instant.now();
-                return room;
-            })
+            .onItem().invoke(change)
             .flatMap(room -> roomRepository.persist(room));
     }
 
@@ -251,7 +279,8 @@ public class RoomService {
 
     /**
      * Retrieves the configuration of a room.
-     * Deserializes the JSONB config column into a RoomConfig POJO.
+     * Served from the {@link RoomMetadataCache}, so the JSONB config column is only read
+     * and deserialized on a cache miss.
      *
      * @param roomId The room ID
      * @return Uni containing the room configuration
@@ -259,8 +288,8 @@ public class RoomService {
      */
     @WithSession
     public Uni<RoomConfig> getRoomConfig(String roomId) {
-        return findById(roomId)
-            .onItem().transform(room -> deserializeConfig(room.config));
+        return roomMetadataCache.get(roomId)
+            .onItem().transform(room -> room.config().config());
     }
 
     /**
@@ -291,19 +320,4 @@ public class RoomService {
             throw new RuntimeException("Failed to serialize room configuration", e);
         }
     }
-
-    /**
-     * Deserializes a JSON string from JSONB storage to RoomConfig POJO.
-     *
-     * @param configJson The JSON string to deserialize
-     * @return The deserialized configuration object
-     * @throws RuntimeException if deserialization fails
-     */
-    private RoomConfig deserializeConfig(String configJson) {
-        try {
-            return objectMapper.readValue(configJson, RoomConfig.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize room configuration", e);
-        }
-    }
 }
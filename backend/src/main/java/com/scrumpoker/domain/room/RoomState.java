@@ -0,0 +1,213 @@
+package com.scrumpoker.domain.room;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory state of a single room owned by the {@link RoomStateEngine}.
+ * <p>
+ * Holds the current round, the participants seen so far and the votes cast in the
+ * current round. Instances are not thread-safe: they are only read and mutated from
+ * the owning room's mailbox, which runs one command at a time.
+ * </p>
+ */
+final class RoomState {
+
+    /**
+     * Participant identity and role as needed for vote validation.
+     *
+     * @param participantId The participant ID
+     * @param role The participant's role in the room
+     */
+    record ParticipantEntry(UUID participantId, RoomRole role) {
+    }
+
+    /**
+     * Vote value of a participant whose card is not known on this node.
+     */
+    private static final int UNKNOWN_CARD = Deck.NOT_IN_DECK;
+
+    private final String roomId;
+    private final Deck deck;
+    private final String deckType;
+
+    private UUID roundId;
+    private boolean revealed;
+
+    /**
+     * Participants by user ID. Filled lazily on first vote of each user.
+     */
+    private final Map<UUID, ParticipantEntry> participantsByUser = new HashMap<>();
+
+    /**
+     * Card ordinals by participant ID for the current round. Votes recorded on other nodes
+     * are tracked as {@link #UNKNOWN_CARD}. Ordinals are small, so boxing hits the Integer cache.
+     */
+    private final Map<UUID, Integer> votes = new HashMap<>();
+
+    /**
+     * Loaded votes whose card is not part of the deck, by participant ID.
+     */
+    private final Map<UUID, String> offDeckVotes = new HashMap<>(0);
+
+    /**
+     * Running statistics over the card values known to this node.
+     */
+    private final ConsensusAccumulator consensus;
+
+    RoomState(String roomId, Deck deck, String deckType, UUID roundId, boolean revealed) {
+        this.roomId = roomId;
+        this.deck = deck;
+        this.deckType = deckType;
+        this.consensus = new ConsensusAccumulator(deck);
+        this.roundId = roundId;
+        this.revealed = revealed;
+    }
+
+    String getRoomId() {
+        return roomId;
+    }
+
+    Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Gets the configured deck type for metric tags.
+     */
+    String getDeckType() {
+        return deckType;
+    }
+
+    UUID getRoundId() {
+        return roundId;
+    }
+
+    boolean isRevealed() {
+        return revealed;
+    }
+
+    int getVoteCount() {
+        return votes.size();
+    }
+
+    ConsensusAccumulator getConsensus() {
+        return consensus;
+    }
+
+    ParticipantEntry findParticipant(UUID userId) {
+        return participantsByUser.get(userId);
+    }
+
+    void putParticipant(UUID userId, ParticipantEntry participant) {
+        participantsByUser.put(userId, participant);
+    }
+
+    /**
+     * Seeds a vote loaded from the database.
+     */
+    void putVote(UUID participantId, String cardValue) {
+        int ordinal = deck.ordinalOf(cardValue);
+        if (ordinal != Deck.NOT_IN_DECK) {
+            replaceVote(participantId, ordinal);
+            return;
+        }
+        // Cast before a deck change or outside the state engine; counted as non-numeric
+        replaceVote(participantId, UNKNOWN_CARD);
+        offDeckVotes.put(participantId, cardValue);
+        consensus.add(cardValue);
+    }
+
+    /**
+     * Validates and records a vote for the current round.
+     *
+     * @param participant The voting participant
+     * @param cardValue The selected card value (already trimmed)
+     * @param votedAt The time the vote was accepted
+     * @return The accepted vote, carrying the deck's interned card value
+     * @throws VoteRejectedException if there is no open round or the participant may not vote
+     * @throws IllegalArgumentException if the card is not part of the room's deck
+     */
+    CastVote recordVote(ParticipantEntry participant, String cardValue, Instant votedAt) {
+        if (roundId == null) {
+            throw VoteRejectedException.invalidState("No active round in room");
+        }
+        if (revealed) {
+            throw VoteRejectedException.invalidState("Round already revealed");
+        }
+        if (participant.role() == RoomRole.OBSERVER) {
+            throw VoteRejectedException.forbidden("Observers cannot cast votes");
+        }
+        int ordinal = deck.ordinalOf(cardValue);
+        if (ordinal == Deck.NOT_IN_DECK) {
+            throw new IllegalArgumentException(
+                    "Card value '" + cardValue + "' is not valid for deck type '" + deck.getType() + "'");
+        }
+
+        replaceVote(participant.participantId(), ordinal);
+        return new CastVote(roomId, roundId, participant.participantId(), deck.cardAt(ordinal), votedAt);
+    }
+
+    /**
+     * Records that a participant voted on another node (card value is not known here).
+     */
+    void recordRemoteVote(UUID participantId) {
+        if (roundId != null && !revealed) {
+            votes.putIfAbsent(participantId, UNKNOWN_CARD);
+        }
+    }
+
+    /**
+     * Switches to a newly started round. Ignored if the round is already current.
+     */
+    void startRound(UUID newRoundId) {
+        if (newRoundId.equals(roundId)) {
+            return;
+        }
+        roundId = newRoundId;
+        revealed = false;
+        clearVotes();
+    }
+
+    /**
+     * Closes the current round for voting.
+     */
+    void reveal() {
+        revealed = true;
+    }
+
+    /**
+     * Clears the votes of the given round and reopens it for voting.
+     *
+     * @return false if the reset round is not the current round
+     */
+    boolean reset(UUID resetRoundId) {
+        if (!resetRoundId.equals(roundId)) {
+            return false;
+        }
+        revealed = false;
+        clearVotes();
+        return true;
+    }
+
+    private void replaceVote(UUID participantId, int ordinal) {
+        Integer previous = votes.put(participantId, ordinal);
+        if (previous != null && previous != UNKNOWN_CARD) {
+            consensus.remove(previous.intValue());
+        } else if (previous != null && offDeckVotes.containsKey(participantId)) {
+            // Remote votes are tracked without a card and were never counted
+            consensus.remove(offDeckVotes.remove(participantId));
+        }
+        if (ordinal != UNKNOWN_CARD) {
+            consensus.add(ordinal);
+        }
+    }
+
+    private void clearVotes() {
+        votes.clear();
+        offDeckVotes.clear();
+        consensus.clear();
+    }
+}
@@ -0,0 +1,481 @@
+package com.scrumpoker.domain.room;
+
+import com.scrumpoker.event.RoomEvent;
+import com.scrumpoker.event.RoomEventBatcher;
+import com.scrumpoker.metrics.BusinessMetrics;
+import com.scrumpoker.repository.RoomParticipantRepository;
+import com.scrumpoker.repository.RoundRepository;
+import com.scrumpoker.repository.VoteRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Authoritative in-memory room state for the voting hot path.
+ * <p>
+ * Each room with local activity gets a {@link RoomActor} that owns its {@link RoomState}
+ * (current round, participants and votes). Commands for a room are appended to a lock-free
+ * mailbox and executed one at a time by whichever thread wins the drain, so a room has a
+ * single writer while different rooms never contend with each other.
+ * </p>
+ * <p>
+ * <strong>Vote Flow:</strong> {@code vote.cast.v1} is validated and acknowledged from memory,
+ * then handed to the {@link VoteWriteBehindQueue}. No database round trip is made unless
+ * the room or the participant is not cached yet.
+ * </p>
+ * <p>
+ * <strong>Recovery:</strong> State is loaded lazily from Postgres on the first command for a
+ * room (latest round and its votes) and dropped when the last local connection leaves, so
+ * a restarted node or a room moving between nodes always starts from the database.
+ * Round transitions are applied by {@link VotingService} on this node and by
+ * {@link com.scrumpoker.event.RoomEventSubscriber} for events from other nodes.
+ * </p>
+ * <p>
+ * Disabled by default ({@code voting.state-engine.enabled}). It requires deployments that
+ * route a room's connections to one node ({@code voting.room-affine-routing}), since a reveal
+ * only flushes the votes buffered on its own node.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomStateEngine {
+
+    @Inject
+    RoundRepository roundRepository;
+
+    @Inject
+    VoteRepository voteRepository;
+
+    @Inject
+    RoomParticipantRepository participantRepository;
+
+    @Inject
+    VoteWriteBehindQueue writeBehindQueue;
+
+    @Inject
+    RoomEventBatcher roomEventBatcher;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    @Inject
+    RoomMetadataCache roomMetadataCache;
+
+    @ConfigProperty(name = "voting.state-engine.enabled", defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * Map of roomId -> actor owning that room's state.
+     */
+    private final ConcurrentHashMap<String, RoomActor> actors = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether votes should be handled by the state engine.
+     *
+     * @return true if the state engine is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Casts a vote against the in-memory room state.
+     * <p>
+     * On success the vote is queued for persistence, a "vote.recorded.v1" event is
+     * published and the vote metric is incremented using the cached deck type. The card
+     * must be part of the room's deck, which is compiled once when the room is loaded.
+     * </p>
+     *
+     * @param roomId The room ID (6-character nanoid)
+     * @param userId The voting user's ID
+     * @param cardValue The card value (e.g., "5", "?", "∞", "☕")
+     * @return Uni containing the accepted vote. Fails with {@link VoteRejectedException} if the
+     *         room state does not allow the vote, or {@link IllegalArgumentException} if the
+     *         user ID is malformed or the card value is invalid or not in the room's deck
+     */
+    public Uni<CastVote> castVote(String roomId, String userId, String cardValue) {
+        if (cardValue == null || cardValue.trim().isEmpty()) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("Card value cannot be null or empty"));
+        }
+        if (cardValue.length() > 10) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("Card value cannot exceed 10 characters"));
+        }
+
+        UUID userUuid;
+        try {
+            userUuid = UUID.fromString(userId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("Invalid user ID: " + userId, e));
+        }
+
+        String card = cardValue.trim();
+        RoomActor actor = actorFor(roomId);
+
+        return ensureLoaded(actor)
+                .chain(() -> resolveParticipant(actor, userUuid))
+                .chain(participant -> actor.ask(state -> {
+                    CastVote vote = state.recordVote(participant, card, Instant.now());
+                    writeBehindQueue.enqueue(vote);
+                    businessMetrics.incrementVotesCast(state.getDeckType());
+                    return vote;
+                }))
+                .call(vote -> publishVoteRecordedEvent(roomId, vote));
+    }
+
+    /**
+     * Computes live consensus statistics for the room's current round from memory.
+     * <p>
+     * Backed by the room's {@link ConsensusAccumulator}, so this never touches the database
+     * and costs O(deck size) regardless of the number of votes.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @return Uni containing the preview, or null if the engine holds no state for the room
+     */
+    public Uni<ConsensusPreview> previewConsensus(String roomId) {
+        RoomActor actor = enabled ? actors.get(roomId) : null;
+        if (actor == null) {
+            return Uni.createFrom().nullItem();
+        }
+        return actor.askRaw(a -> {
+            if (a.state == null) {
+                return null;
+            }
+            ConsensusAccumulator stats = a.state.getConsensus();
+            return new ConsensusPreview(stats.getVoteCount(), stats.average(), stats.median(), stats.consensus());
+        });
+    }
+
+    /**
+     * Applies a newly started round to the room's cached state, if any.
+     *
+     * @param roomId The room ID
+     * @param roundId The started round ID
+     */
+    public void onRoundStarted(String roomId, UUID roundId) {
+        tellIfLoaded(roomId, state -> state.startRound(roundId));
+    }
+
+    /**
+     * Closes the current round of the room's cached state for voting, if any.
+     *
+     * @param roomId The room ID
+     */
+    public void onRoundRevealed(String roomId) {
+        tellIfLoaded(roomId, RoomState::reveal);
+    }
+
+    /**
+     * Clears the votes of a reset round in the room's cached state, if any.
+     *
+     * @param roomId The room ID
+     * @param roundId The reset round ID
+     */
+    public void onRoundReset(String roomId, UUID roundId) {
+        tellIfLoaded(roomId, state -> {
+            if (!state.reset(roundId)) {
+                // Not the round we hold; reload rather than guess
+                evict(roomId);
+            }
+        });
+    }
+
+    /**
+     * Closes the current round of the room's cached state for voting and waits until all
+     * votes accepted before it have been handed to the {@link VoteWriteBehindQueue}.
+     *
+     * @param roomId The room ID
+     * @return Uni that completes once voting is closed (immediately if no state is held)
+     */
+    public Uni<Void> closeVoting(String roomId) {
+        RoomActor actor = enabled ? actors.get(roomId) : null;
+        if (actor == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return actor.askRaw(a -> {
+            if (a.state != null) {
+                a.state.reveal();
+            }
+            return null;
+        }).replaceWithVoid();
+    }
+
+    /**
+     * Applies a room event published by another node to the room's cached state, if any.
+     *
+     * @param roomId The room ID
+     * @param event The received event
+     */
+    public void applyRemoteEvent(String roomId, RoomEvent event) {
+        if (!enabled || !actors.containsKey(roomId)) {
+            return;
+        }
+
+        try {
+            switch (event.getType()) {
+                case "round.started.v1" -> onRoundStarted(roomId, payloadUuid(event, "roundId"));
+                case "round.revealed.v1" -> onRoundRevealed(roomId);
+                case "round.reset.v1" -> onRoundReset(roomId, payloadUuid(event, "roundId"));
+                case "vote.recorded.v1" -> {
+                    UUID participantId = payloadUuid(event, "participantId");
+                    tellIfLoaded(roomId, state -> state.recordRemoteVote(participantId));
+                }
+                case RoomEventBatcher.VOTES_RECORDED_BATCH -> {
+                    List<UUID> participantIds = new ArrayList<>();
+                    for (Object vote : payloadList(event, "votes")) {
+                        participantIds.add(UUID.fromString(((Map<?, ?>) vote).get("participantId").toString()));
+                    }
+                    tellIfLoaded(roomId, state -> participantIds.forEach(state::recordRemoteVote));
+                }
+                default -> {
+                    // Other events do not affect voting state
+                }
+            }
+        } catch (RuntimeException e) {
+            // Unreadable payload: drop the cached state and reload from the database
+            Log.warnf(e, "Failed to apply %s to room state %s, evicting", event.getType(), roomId);
+            evict(roomId);
+        }
+    }
+
+    /**
+     * Drops the cached state of a room. The next command reloads it from the database.
+     *
+     * @param roomId The room ID
+     */
+    public void evict(String roomId) {
+        if (actors.remove(roomId) != null) {
+            Log.debugf("Evicted room state for room %s", roomId);
+        }
+    }
+
+    /**
+     * Gets the number of rooms with state held in memory on this node.
+     *
+     * @return Loaded room count
+     */
+    public int getLoadedRoomCount() {
+        return actors.size();
+    }
+
+    private RoomActor actorFor(String roomId) {
+        return actors.computeIfAbsent(roomId, RoomActor::new);
+    }
+
+    private void tellIfLoaded(String roomId, Consumer<RoomState> command) {
+        if (!enabled) {
+            return;
+        }
+        RoomActor actor = actors.get(roomId);
+        if (actor != null) {
+            actor.tell(() -> {
+                if (actor.state != null) {
+                    command.accept(actor.state);
+                }
+            });
+        }
+    }
+
+    /**
+     * Makes sure the actor holds state, loading it from Postgres on first use.
+     * Concurrent first commands may load twice; the first loaded state is kept.
+     */
+    private Uni<Void> ensureLoaded(RoomActor actor) {
+        return actor.askRaw(a -> a.state != null)
+                .chain(loaded -> {
+                    if (loaded) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    return loadState(actor.roomId)
+                            .chain(state -> actor.askRaw(a -> {
+                                if (a.state == null) {
+                                    a.state = state;
+                                }
+                                return null;
+                            }))
+                            .replaceWithVoid();
+                });
+    }
+
+    private Uni<RoomState> loadState(String roomId) {
+        return Panache.withSession(() -> roomMetadataCache.get(roomId)
+                .chain(room -> {
+                    DeckRegistry.CompiledRoomConfig config = room.config();
+                    return roundRepository.findLatestByRoomId(roomId)
+                            .chain(round -> {
+                                if (round == null) {
+                                    return Uni.createFrom().item(new RoomState(roomId, config.deck(),
+                                            config.deckTypeTag(), null, false));
+                                }
+                                RoomState state = new RoomState(roomId, config.deck(), config.deckTypeTag(),
+                                        round.roundId, round.revealedAt != null);
+                                return voteRepository.findByRoundId(round.roundId)
+                                        .map(votes -> {
+                                            votes.forEach(vote -> state.putVote(
+                                                    vote.participant.participantId, vote.cardValue));
+                                            return state;
+                                        });
+                            });
+                }))
+                .invoke(state -> Log.debugf("Loaded room state for room %s: round=%s, votes=%d",
+                        roomId, state.getRoundId(), state.getVoteCount()));
+    }
+
+    /**
+     * Resolves the participant of a user from the cached state, querying the database on a miss.
+     */
+    private Uni<RoomState.ParticipantEntry> resolveParticipant(RoomActor actor, UUID userId) {
+        return actor.ask(state -> state.findParticipant(userId))
+                .chain(cached -> {
+                    if (cached != null) {
+                        return Uni.createFrom().item(cached);
+                    }
+                    return Panache.withSession(() ->
+                                    participantRepository.findByRoomIdAndUserId(actor.roomId, userId))
+                            .chain(participant -> {
+                                if (participant == null) {
+                                    return Uni.createFrom().failure(
+                                            VoteRejectedException.forbidden("Participant not found in room"));
+                                }
+                                RoomState.ParticipantEntry entry = new RoomState.ParticipantEntry(
+                                        participant.participantId, participant.role);
+                                return actor.ask(state -> {
+                                    state.putParticipant(userId, entry);
+                                    return entry;
+                                });
+                            });
+                });
+    }
+
+    private Uni<Void> publishVoteRecordedEvent(String roomId, CastVote vote) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("participantId", vote.participantId().toString());
+        payload.put("votedAt", vote.votedAt().toString());
+
+        return roomEventBatcher.publish(roomId, "vote.recorded.v1", payload);
+    }
+
+    private static List<?> payloadList(RoomEvent event, String key) {
+        Object value = event.getPayload() != null ? event.getPayload().get(key) : null;
+        if (!(value instanceof List<?> list)) {
+            throw new IllegalArgumentException(event.getType() + " payload has no " + key);
+        }
+        return list;
+    }
+
+    private static UUID payloadUuid(RoomEvent event, String key) {
+        Object value = event.getPayload() != null ? event.getPayload().get(key) : null;
+        if (value == null) {
+            throw new IllegalArgumentException(event.getType() + " payload has no " + key);
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    /**
+     * Single-writer mailbox owning the state of one room.
+     * <p>
+     * Commands are queued lock-free; the thread that moves the work-in-progress counter
+     * from zero drains the mailbox until it is empty, so commands run strictly one at a
+     * time and in submission order.
+     * </p>
+     */
+    private static final class RoomActor {
+
+        private final String roomId;
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * Room state; null until loaded. Only accessed from mailbox commands.
+         */
+        private RoomState state;
+
+        RoomActor(String roomId) {
+            this.roomId = roomId;
+        }
+
+        void tell(Runnable command) {
+            mailbox.offer(command);
+            drain();
+        }
+
+        /**
+         * Runs a command against the loaded state and emits its result.
+         */
+        <T> Uni<T> ask(Function<RoomState, T> command) {
+            return askRaw(actor -> {
+                if (actor.state == null) {
+                    // Evicted while loading was in progress
+                    throw VoteRejectedException.invalidState("Room state is being reloaded, please retry");
+                }
+                return command.apply(actor.state);
+            });
+        }
+
+        /**
+         * Runs a command against the actor and emits its result on the caller's Vert.x context,
+         * so that follow-up database calls stay on the caller's Hibernate Reactive session.
+         */
+        <T> Uni<T> askRaw(Function<RoomActor, T> command) {
+            return Uni.createFrom().emitter(emitter -> {
+                Context callerContext = Vertx.currentContext();
+                tell(() -> {
+                    T result;
+                    try {
+                        result = command.apply(this);
+                    } catch (RuntimeException e) {
+                        emitOn(callerContext, () -> emitter.fail(e));
+                        return;
+                    }
+                    emitOn(callerContext, () -> emitter.complete(result));
+                });
+            });
+        }
+
+        private static void emitOn(Context callerContext, Runnable emission) {
+            if (callerContext == null || callerContext == Vertx.currentContext()) {
+                emission.run();
+            } else {
+                callerContext.runOnContext(v -> emission.run());
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                Runnable command;
+                while ((command = mailbox.poll()) != null) {
+                    try {
+                        command.run();
+                    } catch (Exception e) {
+                        Log.errorf(e, "Room state command failed for room %s", roomId);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -59,4 +59,11 @@ public class Round extends PanacheEntityBase {
 
     @Column(name = "consensus_reached")
     public Boolean consensusReached = false;
+
+    /**
+     * Participant IDs whose votes the last reveal counted into the session history
+     * (JSON array), or null if the round is not revealed.
+     */
+    @Column(name = "revealed_votes", columnDefinition = "jsonb")
+    public String revealedVotes;
 }
@@ -0,0 +1,297 @@
+package com.scrumpoker.domain.room;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.domain.reporting.ParticipantSummary;
+import com.scrumpoker.domain.reporting.SessionSummaryStats;
+import com.scrumpoker.domain.reporting.StatsRollupDelta;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Running aggregates of a {@link SessionHistory} record: participant vote counts, vote and
+ * consensus counts, and total estimation time.
+ * <p>
+ * A revealed round is folded in with {@link #addRound}, and a reveal that is withdrawn
+ * (round reset or revealed again) is folded out with {@link #removeRound}, so keeping the
+ * record current costs work proportional to the round's votes and the session's
+ * participants, not to the number of rounds in the session.
+ * </p>
+ */
+final class SessionHistoryAggregates {
+
+    private static final TypeReference<List<ParticipantSummary>> PARTICIPANTS_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<List<UUID>> TALLY_TYPE = new TypeReference<>() {
+    };
+
+    private final Map<UUID, ParticipantSummary> participants = new LinkedHashMap<>();
+    private int totalRounds;
+    private int totalVotes;
+    private int roundsWithConsensus;
+    private long totalEstimationTimeSeconds;
+
+    /**
+     * Creates aggregates of a session without rounds.
+     */
+    SessionHistoryAggregates() {
+    }
+
+    /**
+     * Reads the aggregates stored in a session history record.
+     * <p>
+     * Records written before the total estimation time was stored derive it from the
+     * average, which may be off by less than one second per round.
+     * </p>
+     *
+     * @param history The session history record
+     * @param objectMapper Mapper for the JSONB columns
+     * @return The stored aggregates
+     * @throws JsonProcessingException if a JSONB column cannot be parsed
+     */
+    static SessionHistoryAggregates read(SessionHistory history, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+        aggregates.totalRounds = history.totalRounds != null ? history.totalRounds : 0;
+
+        if (history.participants != null) {
+            for (ParticipantSummary summary : objectMapper.readValue(history.participants, PARTICIPANTS_TYPE)) {
+                aggregates.participants.put(summary.getParticipantId(), summary);
+            }
+        }
+
+        if (history.summaryStats != null) {
+            SessionSummaryStats stats = objectMapper.readValue(history.summaryStats, SessionSummaryStats.class);
+            aggregates.totalVotes = valueOf(stats.getTotalVotes());
+            aggregates.roundsWithConsensus = valueOf(stats.getRoundsWithConsensus());
+            if (stats.getTotalEstimationTimeSeconds() != null) {
+                aggregates.totalEstimationTimeSeconds = stats.getTotalEstimationTimeSeconds();
+            } else if (stats.getAvgEstimationTimeSeconds() != null) {
+                aggregates.totalEstimationTimeSeconds = stats.getAvgEstimationTimeSeconds() * aggregates.totalRounds;
+            }
+        }
+        return aggregates;
+    }
+
+    /**
+     * Folds a revealed round into the aggregates.
+     *
+     * @param startedAt When the round started
+     * @param revealedAt When the round was revealed
+     * @param consensus Whether the round reached consensus
+     * @param votes The round's votes
+     */
+    void addRound(Instant startedAt, Instant revealedAt, boolean consensus, List<Vote> votes) {
+        totalRounds++;
+        totalVotes += votes.size();
+        if (consensus) {
+            roundsWithConsensus++;
+        }
+        totalEstimationTimeSeconds += estimationTimeSeconds(startedAt, revealedAt);
+
+        for (Vote vote : votes) {
+            RoomParticipant participant = vote.participant;
+            ParticipantSummary summary = participants.get(participant.participantId);
+            if (summary == null) {
+                participants.put(participant.participantId, new ParticipantSummary(
+                        participant.participantId,
+                        participant.displayName,
+                        participant.role.name(),
+                        1,
+                        participant.user != null));
+            } else {
+                summary.setVoteCount(summary.getVoteCount() + 1);
+            }
+        }
+    }
+
+    /**
+     * Folds a previously added round out of the aggregates.
+     * <p>
+     * Participants left without votes are dropped, as if the round had never been revealed.
+     * </p>
+     *
+     * @param startedAt When the round started
+     * @param revealedAt When the round was revealed
+     * @param consensus Whether the round reached consensus
+     * @param tally Participants whose votes were counted when the round was revealed
+     */
+    void removeRound(Instant startedAt, Instant revealedAt, boolean consensus, List<UUID> tally) {
+        totalRounds = Math.max(0, totalRounds - 1);
+        totalVotes = Math.max(0, totalVotes - tally.size());
+        if (consensus) {
+            roundsWithConsensus = Math.max(0, roundsWithConsensus - 1);
+        }
+        totalEstimationTimeSeconds = Math.max(0, totalEstimationTimeSeconds
+                - estimationTimeSeconds(startedAt, revealedAt));
+
+        for (UUID participantId : tally) {
+            ParticipantSummary summary = participants.get(participantId);
+            if (summary == null) {
+                continue;
+            }
+            if (summary.getVoteCount() <= 1) {
+                participants.remove(participantId);
+            } else {
+                summary.setVoteCount(summary.getVoteCount() - 1);
+            }
+        }
+    }
+
+    /**
+     * Lists the participants whose votes {@link #addRound} counts.
+     *
+     * @param votes The round's votes
+     * @return The voting participant IDs
+     */
+    static List<UUID> tally(List<Vote> votes) {
+        return votes.stream().map(vote -> vote.participant.participantId).toList();
+    }
+
+    /**
+     * Serializes a reveal's tally, to be stored in {@link Round#revealedVotes}.
+     *
+     * @param votes The votes the round is revealed with
+     * @param objectMapper Mapper for the JSONB column
+     * @return The tally as a JSON array
+     * @throws JsonProcessingException if the tally cannot be serialized
+     */
+    static String writeTally(List<Vote> votes, ObjectMapper objectMapper) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(tally(votes));
+    }
+
+    /**
+     * Reads the tally of a round's last reveal.
+     * <p>
+     * Rounds revealed before the tally was stored fall back to their current votes.
+     * </p>
+     *
+     * @param round The revealed round
+     * @param votes The round's current votes
+     * @param objectMapper Mapper for the JSONB column
+     * @return Participants whose votes the last reveal counted
+     * @throws JsonProcessingException if the stored tally cannot be parsed
+     */
+    static List<UUID> readTally(Round round, List<Vote> votes, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        return round.revealedVotes != null
+                ? objectMapper.readValue(round.revealedVotes, TALLY_TYPE)
+                : tally(votes);
+    }
+
+    /**
+     * Writes the aggregates to a session history record.
+     * <p>
+     * Participants are stored by vote count, highest first.
+     * </p>
+     *
+     * @param history The session history record to update
+     * @param objectMapper Mapper for the JSONB columns
+     * @throws JsonProcessingException if the aggregates cannot be serialized
+     */
+    void writeTo(SessionHistory history, ObjectMapper objectMapper) throws JsonProcessingException {
+        List<ParticipantSummary> summaries = new ArrayList<>(participants.values());
+        summaries.sort(Comparator.comparing(ParticipantSummary::getVoteCount).reversed());
+
+        history.totalRounds = totalRounds;
+        history.totalStories = totalRounds; // One story per round
+        history.participants = objectMapper.writeValueAsString(summaries);
+        history.summaryStats = objectMapper.writeValueAsString(toStats());
+    }
+
+    /**
+     * Builds the summary statistics of the aggregates.
+     *
+     * @return The summary statistics
+     */
+    SessionSummaryStats toStats() {
+        BigDecimal consensusRate = totalRounds == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(roundsWithConsensus)
+                        .divide(BigDecimal.valueOf(totalRounds), 4, RoundingMode.HALF_UP);
+        long avgEstimationTimeSeconds = totalRounds == 0 ? 0L : totalEstimationTimeSeconds / totalRounds;
+
+        SessionSummaryStats stats = new SessionSummaryStats(
+                totalVotes,
+                consensusRate,
+                avgEstimationTimeSeconds,
+                roundsWithConsensus
+        );
+        stats.setTotalEstimationTimeSeconds(totalEstimationTimeSeconds);
+        return stats;
+    }
+
+    /**
+     * Copies the aggregates, so that changes to the copy leave them untouched.
+     *
+     * @return The copy
+     */
+    SessionHistoryAggregates copy() {
+        SessionHistoryAggregates copy = new SessionHistoryAggregates();
+        participants.forEach((participantId, summary) -> copy.participants.put(participantId,
+                new ParticipantSummary(summary.getParticipantId(), summary.getDisplayName(),
+                        summary.getRole(), summary.getVoteCount(), summary.getIsAuthenticated())));
+        copy.totalRounds = totalRounds;
+        copy.totalVotes = totalVotes;
+        copy.roundsWithConsensus = roundsWithConsensus;
+        copy.totalEstimationTimeSeconds = totalEstimationTimeSeconds;
+        return copy;
+    }
+
+    /**
+     * Computes the statistics rollup change from earlier aggregates of the same session
+     * to these.
+     * <p>
+     * A session counts towards the rollups while it has revealed rounds.
+     * </p>
+     *
+     * @param before The aggregates before the change
+     * @return The rollup delta
+     */
+    StatsRollupDelta rollupDeltaSince(SessionHistoryAggregates before) {
+        Map<String, Integer> participantVotes = new HashMap<>();
+        for (ParticipantSummary summary : before.participants.values()) {
+            if (summary.getDisplayName() != null) {
+                participantVotes.merge(summary.getDisplayName(), -valueOf(summary.getVoteCount()), Integer::sum);
+            }
+        }
+        for (ParticipantSummary summary : participants.values()) {
+            if (summary.getDisplayName() != null) {
+                participantVotes.merge(summary.getDisplayName(), valueOf(summary.getVoteCount()), Integer::sum);
+            }
+        }
+        participantVotes.values().removeIf(votes -> votes == 0);
+
+        int rounds = totalRounds - before.totalRounds;
+        return new StatsRollupDelta(
+                Integer.signum(totalRounds) - Integer.signum(before.totalRounds),
+                rounds,
+                rounds, // One story per round
+                totalVotes - before.totalVotes,
+                roundsWithConsensus - before.roundsWithConsensus,
+                toStats().getConsensusRate().subtract(before.toStats().getConsensusRate()),
+                participantVotes);
+    }
+
+    private static long estimationTimeSeconds(Instant startedAt, Instant revealedAt) {
+        if (startedAt == null || revealedAt == null) {
+            return 0L;
+        }
+        return revealedAt.getEpochSecond() - startedAt.getEpochSecond();
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.scrumpoker.domain.room;
+
+/**
+ * Exception thrown when the {@link RoomStateEngine} rejects a vote based on room state.
+ * Carries the WebSocket error code and error type to return to the client.
+ */
+public class VoteRejectedException extends RuntimeException {
+
+    private final int code;
+    private final String error;
+
+    /**
+     * Constructs a new VoteRejectedException.
+     *
+     * @param code The WebSocket error code (4000-4999 range)
+     * @param error The error type (e.g. "INVALID_STATE", "FORBIDDEN")
+     * @param message The human-readable error message
+     */
+    public VoteRejectedException(int code, String error, String message) {
+        super(message);
+        this.code = code;
+        this.error = error;
+    }
+
+    /**
+     * Creates a rejection for a vote that does not match the round state (4005).
+     *
+     * @param message The error message
+     * @return The exception
+     */
+    public static VoteRejectedException invalidState(String message) {
+        return new VoteRejectedException(4005, "INVALID_STATE", message);
+    }
+
+    /**
+     * Creates a rejection for a participant that may not vote (4003).
+     *
+     * @param message The error message
+     * @return The exception
+     */
+    public static VoteRejectedException forbidden(String message) {
+        return new VoteRejectedException(4003, "FORBIDDEN", message);
+    }
+
+    /**
+     * Gets the WebSocket error code.
+     *
+     * @return The error code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the error type.
+     *
+     * @return The error type
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,407 @@
+package com.scrumpoker.domain.room;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import com.scrumpoker.repository.VoteRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind queue persisting votes with per-participant coalescing.
+ * <p>
+ * Voters often change their card several times before a reveal. Pending votes are kept
+ * per (roundId, participantId), so a later card replaces an earlier one that has not been
+ * written yet. A periodic flush writes everything pending as multi-row
+ * {@code INSERT ... ON CONFLICT} statements, so the WebSocket hot path never waits on
+ * Postgres and a burst of card changes costs one row write.
+ * </p>
+ * <p>
+ * <strong>Failure isolation:</strong> Each room's votes are written in chunks of at most
+ * {@code voting.write-behind.max-batch-size} rows, one transaction per chunk. If Postgres
+ * rejects a chunk (for example a vote whose round was deleted meanwhile), its rows are
+ * retried one per transaction, so only the offending rows fail.
+ * </p>
+ * <p>
+ * <strong>Ordering:</strong> At most one flush cycle runs at a time. A failed vote is put
+ * back only if its key has not received a newer card meanwhile, so the last card always
+ * wins. A vote is dropped after {@code voting.write-behind.max-attempts} failed cycles.
+ * </p>
+ * <p>
+ * Callers that read votes from the database (reveal, reset) must await {@link #flush(String)}
+ * for the room first. A flush only fails for rooms that had a vote fail in that cycle.
+ * </p>
+ * <p>
+ * <strong>Routing:</strong> Votes are buffered on the node that accepted them, and a reveal
+ * only flushes its own node. Deployments enabling this queue ({@code voting.write-behind.enabled}
+ * or {@code voting.state-engine.enabled}) must route all connections of a room to one node and
+ * declare so with {@code voting.room-affine-routing}; startup fails otherwise.
+ * </p>
+ */
+@ApplicationScoped
+public class VoteWriteBehindQueue {
+
+    @Inject
+    VoteRepository voteRepository;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "voting.write-behind.flush-interval-ms", defaultValue = "50")
+    long flushIntervalMs;
+
+    @ConfigProperty(name = "voting.write-behind.max-batch-size", defaultValue = "500")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "voting.write-behind.max-attempts", defaultValue = "3")
+    int maxAttempts;
+
+    @ConfigProperty(name = "voting.write-behind.enabled", defaultValue = "false")
+    boolean writeBehindEnabled;
+
+    @ConfigProperty(name = "voting.state-engine.enabled", defaultValue = "false")
+    boolean stateEngineEnabled;
+
+    @ConfigProperty(name = "voting.room-affine-routing", defaultValue = "false")
+    boolean roomAffineRouting;
+
+    /**
+     * Key identifying a participant's vote in a round (matches uq_vote_participant).
+     *
+     * @param roundId The round ID
+     * @param participantId The participant ID
+     */
+    private record VoteKey(UUID roundId, UUID participantId) {
+
+        static VoteKey of(CastVote vote) {
+            return new VoteKey(vote.roundId(), vote.participantId());
+        }
+    }
+
+    /**
+     * A vote that could not be written in this cycle.
+     *
+     * @param vote The vote
+     * @param failure Why the write failed
+     */
+    private record FailedVote(CastVote vote, Throwable failure) {
+    }
+
+    /**
+     * A caller waiting for the votes of a room, or of all rooms, to be written.
+     *
+     * @param roomId The room ID, or null for all rooms
+     * @param done Completed once the votes are committed
+     */
+    private record FlushWaiter(String roomId, CompletableFuture<Void> done) {
+    }
+
+    /**
+     * Latest not yet written vote per participant and round.
+     */
+    private final ConcurrentHashMap<VoteKey, CastVote> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Callers waiting for all votes enqueued before their request to be written.
+     */
+    private final Queue<FlushWaiter> flushWaiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Votes that replaced a pending vote since the last flush cycle.
+     */
+    private final AtomicLong coalescedSinceFlush = new AtomicLong();
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean timerStarted = new AtomicBoolean();
+
+    /**
+     * Failed write cycles per key; only touched by the single active flush cycle.
+     */
+    private final Map<VoteKey, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Appends an accepted vote to the queue, replacing a pending vote of the same
+     * participant in the same round.
+     *
+     * @param vote The vote to persist
+     */
+    public void enqueue(CastVote vote) {
+        CastVote replaced = pending.put(VoteKey.of(vote), vote);
+        if (replaced != null) {
+            coalescedSinceFlush.incrementAndGet();
+        }
+        businessMetrics.incrementVotesEnqueued(replaced != null);
+        startTimer();
+    }
+
+    /**
+     * Writes all votes of a room enqueued before this call.
+     *
+     * @param roomId The room ID
+     * @return Uni that completes once those votes are committed, or fails if a vote of the
+     *         room could not be written
+     */
+    public Uni<Void> flush(String roomId) {
+        return awaitFlush(roomId);
+    }
+
+    /**
+     * Writes all votes enqueued before this call.
+     *
+     * @return Uni that completes once those votes are committed, or fails if any write failed
+     */
+    public Uni<Void> flush() {
+        return awaitFlush(null);
+    }
+
+    private Uni<Void> awaitFlush(String roomId) {
+        if (pending.isEmpty() && !flushing.get()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        flushWaiters.offer(new FlushWaiter(roomId, done));
+        scheduleFlush();
+        return Uni.createFrom().completionStage(done);
+    }
+
+    /**
+     * Gets the number of votes waiting to be written (after coalescing).
+     *
+     * @return Pending vote count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Refuses to start with votes buffered per node unless rooms are routed to one node.
+     */
+    void onStart(@Observes StartupEvent event) {
+        if ((writeBehindEnabled || stateEngineEnabled) && !roomAffineRouting) {
+            throw new IllegalStateException("voting.write-behind.enabled and voting.state-engine.enabled "
+                    + "require voting.room-affine-routing=true: a reveal only flushes votes buffered "
+                    + "on its own node, so a room's connections must all be routed to one node");
+        }
+    }
+
+    /**
+     * Writes outstanding votes before the application stops.
+     */
+    void onStop(@Observes ShutdownEvent event) {
+        try {
+            flush().await().atMost(Duration.ofSeconds(10));
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to flush %d pending votes on shutdown", pending.size());
+        }
+    }
+
+    private void startTimer() {
+        if (timerStarted.compareAndSet(false, true)) {
+            vertx.setPeriodic(flushIntervalMs, id -> {
+                if (!pending.isEmpty()) {
+                    scheduleFlush();
+                }
+            });
+        }
+    }
+
+    private void scheduleFlush() {
+        if (!flushing.compareAndSet(false, true)) {
+            // The active cycle re-checks for waiters when it finishes
+            return;
+        }
+
+        // Hibernate Reactive requires a safe duplicated context per unit of work
+        io.vertx.core.Context duplicatedContext = io.vertx.core.impl.VertxInternal.class.cast(vertx)
+                .getOrCreateContext().duplicate();
+        io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe(duplicatedContext, true);
+        duplicatedContext.runOnContext(v -> runFlushCycle());
+    }
+
+    private void runFlushCycle() {
+        // Waiters first: every vote enqueued before a waiter registered is drained below
+        List<FlushWaiter> waiters = new ArrayList<>();
+        FlushWaiter waiter;
+        while ((waiter = flushWaiters.poll()) != null) {
+            waiters.add(waiter);
+        }
+
+        List<CastVote> batch = drainPending();
+        long coalesced = coalescedSinceFlush.getAndSet(0);
+
+        if (batch.isEmpty()) {
+            waiters.forEach(w -> w.done().complete(null));
+            finishCycle();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        writeBatch(batch).subscribe().with(
+                failed -> {
+                    businessMetrics.recordVoteFlush(batch.size() - failed.size(), coalesced,
+                            System.nanoTime() - startNanos);
+                    completeCycle(batch, failed, waiters);
+                },
+                failure -> completeCycle(batch,
+                        batch.stream().map(vote -> new FailedVote(vote, failure)).toList(), waiters));
+    }
+
+    private void completeCycle(List<CastVote> batch, List<FailedVote> failed,
+                               List<FlushWaiter> waiters) {
+        Set<VoteKey> failedKeys = new HashSet<>();
+        failed.forEach(f -> failedKeys.add(VoteKey.of(f.vote())));
+        for (CastVote vote : batch) {
+            VoteKey key = VoteKey.of(vote);
+            if (!failedKeys.contains(key)) {
+                failedAttempts.remove(key);
+            }
+        }
+
+        // Only waiters of rooms with a failed vote fail
+        Map<String, Throwable> failedRooms = new HashMap<>();
+        failed.forEach(f -> failedRooms.putIfAbsent(f.vote().roomId(), f.failure()));
+        if (!failed.isEmpty()) {
+            handleFailedVotes(failed);
+        }
+        for (FlushWaiter w : waiters) {
+            Throwable failure = w.roomId() == null
+                    ? (failed.isEmpty() ? null : failed.get(0).failure())
+                    : failedRooms.get(w.roomId());
+            if (failure == null) {
+                w.done().complete(null);
+            } else {
+                w.done().completeExceptionally(failure);
+            }
+        }
+        finishCycle();
+    }
+
+    /**
+     * Removes and returns all pending votes. A vote enqueued for a drained key after its
+     * removal stays pending for the next cycle.
+     */
+    private List<CastVote> drainPending() {
+        List<CastVote> batch = new ArrayList<>(pending.size());
+        Iterator<Map.Entry<VoteKey, CastVote>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<VoteKey, CastVote> entry = iterator.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Writes the batch room by room, one transaction per chunk, and never fails.
+     *
+     * @return Uni containing the votes that could not be written
+     */
+    private Uni<List<FailedVote>> writeBatch(List<CastVote> batch) {
+        Map<String, List<CastVote>> byRoom = new LinkedHashMap<>();
+        batch.forEach(vote -> byRoom.computeIfAbsent(vote.roomId(), id -> new ArrayList<>()).add(vote));
+
+        List<FailedVote> failed = new ArrayList<>();
+        Uni<Void> chain = Uni.createFrom().voidItem();
+        for (List<CastVote> roomVotes : byRoom.values()) {
+            for (int from = 0; from < roomVotes.size(); from += maxBatchSize) {
+                List<CastVote> chunk = roomVotes.subList(from, Math.min(from + maxBatchSize, roomVotes.size()));
+                chain = chain.chain(() -> writeChunk(chunk, failed));
+            }
+        }
+        return chain.replaceWith(failed);
+    }
+
+    private Uni<Void> writeChunk(List<CastVote> chunk, List<FailedVote> failed) {
+        return Panache.withTransaction(() -> voteRepository.upsertAll(chunk))
+                .replaceWithVoid()
+                .onFailure().recoverWithUni(failure -> {
+                    if (chunk.size() == 1 || !isRejectedByDatabase(failure)) {
+                        // Single row, or Postgres unreachable: retrying row by row cannot help
+                        chunk.forEach(vote -> failed.add(new FailedVote(vote, failure)));
+                        return Uni.createFrom().voidItem();
+                    }
+                    Log.warnf("Write of %d votes for room %s was rejected (%s), retrying row by row",
+                            chunk.size(), chunk.get(0).roomId(), failure.getMessage());
+                    Uni<Void> rows = Uni.createFrom().voidItem();
+                    for (CastVote vote : chunk) {
+                        rows = rows.chain(() -> writeChunk(List.of(vote), failed));
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * Checks whether Postgres executed and rejected the statement, as opposed to the
+     * statement never reaching it.
+     */
+    private static boolean isRejectedByDatabase(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PgException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handleFailedVotes(List<FailedVote> failed) {
+        int dropped = 0;
+        int retried = 0;
+        for (FailedVote f : failed) {
+            VoteKey key = VoteKey.of(f.vote());
+            int attempts = failedAttempts.merge(key, 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                failedAttempts.remove(key);
+                dropped++;
+                Log.errorf(f.failure(), "Dropping vote of participant %s in round %s after %d failed write attempts",
+                        key.participantId(), key.roundId(), attempts);
+            } else if (pending.putIfAbsent(key, f.vote()) == null) {
+                retried++;
+            } else {
+                // A newer card enqueued while this vote was in flight supersedes the failed one
+                failedAttempts.remove(key);
+            }
+        }
+
+        if (retried > 0) {
+            Log.warnf(failed.get(0).failure(), "Failed to write %d votes, retrying on next flush", retried);
+        }
+        businessMetrics.incrementVotesDropped(dropped);
+    }
+
+    private void finishCycle() {
+        flushing.set(false);
+        // Waiters that arrived during this cycle are served right away; votes wait for the timer
+        if (!flushWaiters.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+}
@@ -2,25 +2,24 @@ package com.scrumpoker.domain.room;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.scrumpoker.domain.reporting.ParticipantSummary;
-import com.scrumpoker.domain.reporting.SessionSummaryStats;
-import com.scrumpoker.event.RoomEventPublisher;
+import com.scrumpoker.event.RoomEventBatcher;
 import com.scrumpoker.repository.RoomParticipantRepository;
 import com.scrumpoker.repository.RoomRepository;
 import com.scrumpoker.repository.RoundRepository;
 import com.scrumpoker.repository.SessionHistoryRepository;
+import com.scrumpoker.repository.StatsRollupRepository;
 import com.scrumpoker.repository.VoteRepository;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Domain service for voting operations in estimation rounds.
@@ -46,7 +45,10 @@ public class VotingService {
     SessionHistoryRepository sessionHistoryRepository;
 
     @Inject
-    RoomEventPublisher roomEventPublisher;
+    StatsRollupRepository statsRollupRepository;
+
+    @Inject
+    RoomEventBatcher roomEventBatcher;
 
     @Inject
     ObjectMapper objectMapper;
@@ -54,10 +56,22 @@ public class VotingService {
     @Inject
     com.scrumpoker.metrics.BusinessMetrics businessMetrics;
 
+    @Inject
+    RoomStateEngine roomStateEngine;
+
+    @Inject
+    VoteWriteBehindQueue voteWriteBehindQueue;
+
+    @Inject
+    RoomMetadataCache roomMetadataCache;
+
+    @ConfigProperty(name = "voting.write-behind.enabled", defaultValue = "false")
+    boolean writeBehindEnabled;
+
     /**
      * Casts a vote for a participant in an estimation round.
      * Implements upsert logic: updates existing vote if participant has already voted,
-     * otherwise creates a new vote.
+     * otherwise creates a new vote. The card must be part of the room's deck.
      * <p>
      * Publishes a "vote.recorded.v1" event after successful persistence.
      * </p>
@@ -66,7 +80,8 @@ public class VotingService {
      * @param roundId The round ID (UUID)
      * @param participantId The participant ID (UUID)
      * @param cardValue The card value (e.g., "5", "?", "∞", "☕")
-     * @return Uni containing the persisted Vote entity
+     * @return Uni containing the persisted Vote entity. Fails with
+     *         {@link IllegalArgumentException} if the card value is invalid or not in the room's deck
      */
     @WithTransaction
     public Uni<Vote> castVote(String roomId, UUID roundId, UUID participantId, String cardValue) {
@@ -80,43 +95,118 @@ public class VotingService {
                     new IllegalArgumentException("Card value cannot exceed 10 characters"));
         }
 
-        // Check if participant has already voted (for upsert)
-        return voteRepository.findByRoundIdAndParticipantId(roundId, participantId)
+        String card = cardValue.trim();
+
+        // Check the deck, then whether the participant has already voted (for upsert)
+        return validateCard(roomId, card)
+                .chain(() -> voteRepository.findByRoundIdAndParticipantId(roundId, participantId))
                 .onItem().transformToUni(existingVote -> {
                     if (existingVote != null) {
                         // Update existing vote
-                        existingVote.cardValue = cardValue.trim();
+                        existingVote.cardValue = card;
                         existingVote.votedAt = Instant.now();
                         return voteRepository.persist(existingVote);
                     } else {
                         // Create new vote - need to fetch Round and RoomParticipant entities first
-                        return createNewVote(roundId, participantId, cardValue.trim());
+                        return createNewVote(roundId, participantId, card);
                     }
                 })
                 .onItem().call(vote -> publishVoteRecordedEvent(roomId, vote))
-                .onItem().call(vote -> {
-                    // Increment business metrics after successful vote
-                    // Get the room's deck type to tag the metric
-                    return roomRepository.findById(roomId)
-                            .onItem().invoke(room -> {
-                                if (room != null && room.config != null) {
-                                    try {
-                                        RoomConfig roomConfig = objectMapper.readValue(
-                                                room.config, RoomConfig.class);
-                                        String deckType = roomConfig.getDeckType() != null
-                                                ? roomConfig.getDeckType()
-                                                : "unknown";
-                                        businessMetrics.incrementVotesCast(deckType);
-                                    } catch (JsonProcessingException e) {
-                                        Log.warnf(e, "Failed to parse room config for metrics: %s", roomId);
-                                        businessMetrics.incrementVotesCast("unknown");
-                                    }
-                                }
-                            })
-                            .replaceWithVoid();
+                .onItem().call(vote -> incrementVotesCastMetric(roomId));
+    }
+
+    /**
+     * Queues a vote for a participant in an estimation round for write-behind persistence.
+     * <p>
+     * Used instead of {@link #castVote} when {@code voting.write-behind.enabled} is true.
+     * The vote is handed to the {@link VoteWriteBehindQueue}, which coalesces card changes
+     * of the same participant and writes them in batches, so no transaction is opened here.
+     * The caller must already have verified that the round is open and the participant
+     * may vote; the card must be part of the room's deck.
+     * </p>
+     * <p>
+     * Publishes a "vote.recorded.v1" event once the vote is queued.
+     * </p>
+     *
+     * @param roomId The room ID (6-character nanoid)
+     * @param roundId The round ID (UUID)
+     * @param participantId The participant ID (UUID)
+     * @param cardValue The card value (e.g., "5", "?", "∞", "☕")
+     * @return Uni containing the queued vote. Fails with {@link IllegalArgumentException}
+     *         if the card value is invalid or not in the room's deck
+     */
+    @WithSession
+    public Uni<CastVote> queueVote(String roomId, UUID roundId, UUID participantId, String cardValue) {
+        // Validate input
+        if (cardValue == null || cardValue.trim().isEmpty()) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("Card value cannot be null or empty"));
+        }
+        if (cardValue.length() > 10) {
+            return Uni.createFrom().failure(
+                    new IllegalArgumentException("Card value cannot exceed 10 characters"));
+        }
+
+        String card = cardValue.trim();
+
+        return validateCard(roomId, card)
+                .map(valid -> {
+                    CastVote vote = new CastVote(roomId, roundId, participantId, card, Instant.now());
+                    voteWriteBehindQueue.enqueue(vote);
+                    return vote;
+                })
+                .call(vote -> publishVoteRecordedEvent(roomId, vote.participantId(), vote.votedAt()))
+                .call(() -> incrementVotesCastMetric(roomId));
+    }
+
+    /**
+     * Checks that a card is part of the room's deck (served from the room metadata cache).
+     *
+     * @param roomId The room ID
+     * @param cardValue The trimmed card value
+     * @return Uni that completes if the card is valid. Fails with {@link IllegalArgumentException}
+     *         if it is not in the room's deck
+     */
+    private Uni<Void> validateCard(String roomId, String cardValue) {
+        return roomMetadataCache.get(roomId)
+                .onItem().transformToUni(room -> {
+                    Deck deck = room.config().deck();
+                    if (deck.ordinalOf(cardValue) == Deck.NOT_IN_DECK) {
+                        return Uni.createFrom().failure(new IllegalArgumentException(
+                                "Card value '" + cardValue + "' is not valid for deck type '"
+                                        + deck.getType() + "'"));
+                    }
+                    return Uni.createFrom().voidItem();
                 });
     }
 
+    /**
+     * Checks whether votes cast outside the state engine are persisted write-behind.
+     *
+     * @return true if {@link #queueVote} should be used instead of {@link #castVote}
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    /**
+     * Increments the vote metric tagged with the room's deck type.
+     *
+     * @param roomId The room ID
+     * @return Uni<Void> that completes when the metric is recorded
+     */
+    private Uni<Void> incrementVotesCastMetric(String roomId) {
+        // Get the room's deck type to tag the metric (served from the room metadata cache)
+        return roomMetadataCache.get(roomId)
+                .onItem().invoke(room -> businessMetrics.incrementVotesCast(room.config().deckTypeTag()))
+                .onFailure(e -> !(e instanceof RoomNotFoundException)).invoke(e -> {
+                    Log.warnf(e, "Failed to resolve room config for metrics: %s", roomId);
+                    businessMetrics.incrementVotesCast("unknown");
+                })
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
     /**
      * Starts a new estimation round in a room.
      * Creates a Round entity with the next round number, story title, and started timestamp.
@@ -166,6 +256,7 @@ public class VotingService {
 
             return roundRepository.persist(round);
         })
+        .onItem().invoke(round -> roomStateEngine.onRoundStarted(roomId, round.roundId))
         .onItem().call(round -> publishRoundStartedEvent(roomId, round));
     }
 
@@ -178,7 +269,7 @@ public class VotingService {
      * - Consensus: true if variance < 2.0 for all numeric votes
      * </p>
      * <p>
-     * After revealing the round, updates the SessionHistory record with:
+     * After revealing the round, folds it into the SessionHistory record:
      * - Round count increment
      * - Participant summaries (vote counts per participant)
      * - Summary statistics (total votes, consensus rate)
@@ -186,6 +277,10 @@ public class VotingService {
      * <p>
      * Publishes a "round.revealed.v1" event with all votes and statistics.
      * </p>
+     * <p>
+     * Voting is closed in the {@link RoomStateEngine} and buffered votes are written
+     * by the {@link VoteWriteBehindQueue} before the votes are read.
+     * </p>
      *
      * @param roomId The room ID (6-character nanoid)
      * @param roundId The round ID (UUID)
@@ -193,24 +288,45 @@ public class VotingService {
      */
     @WithTransaction
     public Uni<Round> revealRound(String roomId, UUID roundId) {
-        // Fetch all votes for the round and the round entity
-        return Uni.combine().all().unis(
-                voteRepository.findByRoundId(roundId),
-                roundRepository.findById(roundId)
-        ).asTuple()
+        // Close voting in memory and write buffered votes, then fetch all votes and the round entity
+        return roomStateEngine.closeVoting(roomId)
+                .chain(() -> voteWriteBehindQueue.flush(roomId))
+                .chain(() -> Uni.combine().all().unis(
+                        voteRepository.findByRoundId(roundId),
+                        roundRepository.findById(roundId),
+                        roomMetadataCache.get(roomId)
+                                .map(room -> room.config().deck())
+                                .onFailure().recoverWithItem(DeckRegistry.FIBONACCI_DECK)
+                ).asTuple())
         .onItem().transformToUni(tuple -> {
             List<Vote> votes = tuple.getItem1();
             Round round = tuple.getItem2();
+            Deck deck = tuple.getItem3();
 
             if (round == null) {
                 return Uni.createFrom().failure(
                         new IllegalArgumentException("Round not found: " + roundId));
             }
 
-            // Calculate statistics using ConsensusCalculator
-            BigDecimal average = ConsensusCalculator.calculateAverage(votes);
-            String median = ConsensusCalculator.calculateMedian(votes);
-            boolean consensus = ConsensusCalculator.calculateConsensus(votes);
+            // Calculate statistics in a single pass over the votes, using the room's deck
+            ConsensusAccumulator stats = ConsensusCalculator.accumulate(votes, deck);
+            BigDecimal average = stats.average();
+            String median = stats.median();
+            boolean consensus = stats.consensus();
+
+            // Remember an earlier reveal so the session history replaces it instead of counting twice,
+            // and store the votes this reveal counts so that it can be replaced the same way
+            PreviousReveal previousReveal;
+            try {
+                previousReveal = round.revealedAt != null
+                        ? new PreviousReveal(round.revealedAt, Boolean.TRUE.equals(round.consensusReached),
+                                SessionHistoryAggregates.readTally(round, votes, objectMapper))
+                        : null;
+                round.revealedVotes = SessionHistoryAggregates.writeTally(votes, objectMapper);
+            } catch (JsonProcessingException e) {
+                Log.error("Failed to read the previous reveal of round " + roundId, e);
+                return Uni.createFrom().failure(e);
+            }
 
             // Update Round entity with statistics
             round.revealedAt = Instant.now();
@@ -220,17 +336,19 @@ public class VotingService {
 
             return roundRepository.persist(round)
                     .onItem().call(updatedRound -> publishRoundRevealedEvent(roomId, updatedRound, votes))
-                    .onItem().call(updatedRound -> updateSessionHistory(roomId, updatedRound, votes))
+                    .onItem().call(updatedRound -> updateSessionHistory(roomId, updatedRound, votes, previousReveal))
                     .onItem().invoke(updatedRound -> {
                         // Increment business metrics after successful round completion
                         businessMetrics.incrementRoundsCompleted(updatedRound.consensusReached);
                     });
-        });
+        })
+        .onFailure().invoke(e -> roomStateEngine.evict(roomId));
     }
 
     /**
      * Resets an estimation round by deleting all votes and clearing statistics.
      * The Round entity is preserved for audit trail but its statistics are reset.
+     * A revealed round is also removed from the room's SessionHistory record.
      * <p>
      * Publishes a "round.reset.v1" event after successful reset.
      * </p>
@@ -241,28 +359,40 @@ public class VotingService {
      */
     @WithTransaction
     public Uni<Round> resetRound(String roomId, UUID roundId) {
-        // Delete all votes and fetch round in parallel
-        return Uni.combine().all().unis(
-                voteRepository.delete("round.roundId", roundId),
-                roundRepository.findById(roundId)
-        ).asTuple()
-        .onItem().transformToUni(tuple -> {
-            Round round = tuple.getItem2();
-
+        // Close voting in memory and write buffered votes so none survive the delete,
+        // then fetch the round and delete all votes
+        return roomStateEngine.closeVoting(roomId)
+                .chain(() -> voteWriteBehindQueue.flush(roomId))
+                .chain(() -> roundRepository.findById(roundId))
+        .onItem().transformToUni(round -> {
             if (round == null) {
                 return Uni.createFrom().failure(
                         new IllegalArgumentException("Round not found: " + roundId));
             }
 
+            if (round.revealedAt == null) {
+                return voteRepository.delete("round.roundId", roundId).replaceWith(round);
+            }
+
+            // A revealed round leaves the session history; its votes are needed for that
+            return voteRepository.findByRoundId(roundId)
+                    .call(votes -> withdrawFromSessionHistory(roomId, round, votes))
+                    .chain(() -> voteRepository.delete("round.roundId", roundId))
+                    .replaceWith(round);
+        })
+        .onItem().transformToUni(round -> {
             // Reset statistics fields
             round.revealedAt = null;
             round.average = null;
             round.median = null;
             round.consensusReached = false;
+            round.revealedVotes = null;
 
             return roundRepository.persist(round);
         })
-        .onItem().call(round -> publishRoundResetEvent(roomId, round));
+        .onItem().invoke(round -> roomStateEngine.onRoundReset(roomId, round.roundId))
+        .onItem().call(round -> publishRoundResetEvent(roomId, round))
+        .onFailure().invoke(e -> roomStateEngine.evict(roomId));
     }
 
     /**
@@ -310,11 +440,27 @@ public class VotingService {
      * @return Uni<Void> that completes when event is published
      */
     private Uni<Void> publishVoteRecordedEvent(String roomId, Vote vote) {
+        return publishVoteRecordedEvent(roomId, vote.participant.participantId, vote.votedAt);
+    }
+
+    /**
+     * Publishes a "vote.recorded.v1" event to Redis Pub/Sub.
+     * <p>
+     * The event is aggregated with other votes of the room by the {@link RoomEventBatcher}
+     * and published when the room's window closes.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param participantId The voting participant ID
+     * @param votedAt The time the vote was cast
+     * @return Uni<Void> that completes when the event is queued for publishing
+     */
+    private Uni<Void> publishVoteRecordedEvent(String roomId, UUID participantId, Instant votedAt) {
         Map<String, Object> payload = new HashMap<>();
-        payload.put("participantId", vote.participant.participantId.toString());
-        payload.put("votedAt", vote.votedAt.toString());
+        payload.put("participantId", participantId.toString());
+        payload.put("votedAt", votedAt.toString());
 
-        return roomEventPublisher.publishEvent(roomId, "vote.recorded.v1", payload);
+        return roomEventBatcher.publish(roomId, "vote.recorded.v1", payload);
     }
 
     /**
@@ -331,7 +477,7 @@ public class VotingService {
         payload.put("storyTitle", round.storyTitle);
         payload.put("startedAt", round.startedAt.toString());
 
-        return roomEventPublisher.publishEvent(roomId, "round.started.v1", payload);
+        return roomEventBatcher.publish(roomId, "round.started.v1", payload);
     }
 
     /**
@@ -361,11 +507,12 @@ public class VotingService {
 
         // Build full payload
         Map<String, Object> payload = new HashMap<>();
+        payload.put("roundId", round.roundId.toString());
         payload.put("votes", votesPayload);
         payload.put("stats", stats);
         payload.put("revealedAt", round.revealedAt.toString());
 
-        return roomEventPublisher.publishEvent(roomId, "round.revealed.v1", payload);
+        return roomEventBatcher.publish(roomId, "round.revealed.v1", payload);
     }
 
     /**
@@ -379,60 +526,69 @@ public class VotingService {
         Map<String, Object> payload = new HashMap<>();
         payload.put("roundId", round.roundId.toString());
 
-        return roomEventPublisher.publishEvent(roomId, "round.reset.v1", payload);
+        return roomEventBatcher.publish(roomId, "round.reset.v1", payload);
     }
 
     /**
-     * Updates or creates SessionHistory record after revealing a round.
+     * Folds a revealed round into the room's SessionHistory record.
      * <p>
      * Session tracking strategy:
      * - Creates a new SessionHistory record if this is the first revealed round in the room
-     * - Updates existing SessionHistory record for subsequent rounds in the same session
+     * - Updates the room's latest SessionHistory record for subsequent rounds
      * - A "session" is defined as continuous estimation activity in a room
      * </p>
      * <p>
-     * Updates performed:
+     * Only this round's contribution is applied to the stored aggregates
+     * ({@link SessionHistoryAggregates}), so the work per reveal does not grow with the
+     * number of rounds in the session:
      * - Increment totalRounds counter
-     * - Update participants JSONB array with vote counts per participant
-     * - Recalculate summary statistics (consensus rate, total votes)
+     * - Add the round's votes to the participant vote counts
+     * - Update summary statistics (total votes, consensus rate, average estimation time)
      * - Update endedAt timestamp to current time
+     * - Apply the same change to the statistics rollups of the room, its owner and organization
+     * </p>
+     * <p>
+     * If the round had been revealed before, that reveal is folded out first. The session
+     * row is locked until the reveal's transaction commits, so concurrent reveals and resets
+     * of the room cannot overwrite each other's aggregates.
      * </p>
      *
      * @param roomId The room ID
      * @param revealedRound The revealed round with statistics
      * @param votes List of votes in the revealed round
+     * @param previousReveal The round's earlier reveal with the votes it counted, or null if
+     *                       it had not been revealed
      * @return Uni<Void> that completes when SessionHistory is updated
      */
-    private Uni<Void> updateSessionHistory(String roomId, Round revealedRound, List<Vote> votes) {
-        // Fetch all rounds for the room to determine session boundaries and calculate aggregate stats
-        return roundRepository.findRevealedByRoomId(roomId)
-                .onItem().transformToUni(allRevealedRounds -> {
-                    if (allRevealedRounds.isEmpty()) {
-                        Log.warn("No revealed rounds found for room " + roomId + " despite revealing a round");
-                        return Uni.createFrom().voidItem();
-                    }
-
-                    // Determine session start time (first revealed round's start time)
-                    Instant sessionStartedAt = allRevealedRounds.stream()
-                            .map(r -> r.startedAt)
-                            .min(Instant::compareTo)
-                            .orElse(revealedRound.startedAt);
-
-                    // Try to find existing session history for this room starting at this time
-                    // Use repository method with native SQL to avoid Hibernate Reactive @EmbeddedId bug
-                    return sessionHistoryRepository.findByRoomIdAndStartedAt(
-                            roomId, sessionStartedAt)
-                    .onItem().transformToUni(existingSession -> {
-                        if (existingSession != null) {
-                            // Update existing session
-                            return updateExistingSessionHistory(
-                                    existingSession, allRevealedRounds, roomId);
-                        } else {
-                            // Create new session history record
-                            return createNewSessionHistory(
-                                    roomId, sessionStartedAt, allRevealedRounds);
+    private Uni<Void> updateSessionHistory(String roomId, Round revealedRound, List<Vote> votes,
+                                           PreviousReveal previousReveal) {
+        // Use repository method with native SQL to avoid Hibernate Reactive @EmbeddedId bug
+        return sessionHistoryRepository.findLatestByRoomIdForUpdate(roomId)
+                .onItem().transformToUni(existingSession -> existingSession != null
+                        ? Uni.createFrom().item(existingSession)
+                        : newSessionHistory(roomId, revealedRound.startedAt))
+                .onItem().transformToUni(sessionHistory -> {
+                    try {
+                        SessionHistoryAggregates aggregates =
+                                SessionHistoryAggregates.read(sessionHistory, objectMapper);
+                        SessionHistoryAggregates before = aggregates.copy();
+                        if (previousReveal != null) {
+                            aggregates.removeRound(revealedRound.startedAt, previousReveal.revealedAt(),
+                                    previousReveal.consensus(), previousReveal.tally());
                         }
-                    });
+                        aggregates.addRound(revealedRound.startedAt, revealedRound.revealedAt,
+                                Boolean.TRUE.equals(revealedRound.consensusReached), votes);
+                        aggregates.writeTo(sessionHistory, objectMapper);
+                        sessionHistory.endedAt = Instant.now();
+
+                        return sessionHistoryRepository.persist(sessionHistory)
+                                .call(() -> statsRollupRepository.applyDelta(roomId,
+                                        sessionHistory.id.startedAt, aggregates.rollupDeltaSince(before)));
+
+                    } catch (JsonProcessingException e) {
+                        Log.error("Failed to update session history JSON for room " + roomId, e);
+                        return Uni.createFrom().failure(e);
+                    }
                 })
                 .replaceWithVoid()
                 .onFailure().invoke(throwable ->
@@ -440,190 +596,72 @@ public class VotingService {
     }
 
     /**
-     * Creates a new SessionHistory record for the first revealed round in a room.
+     * Folds a revealed round that is being reset out of the room's SessionHistory record.
      *
      * @param roomId The room ID
-     * @param sessionStartedAt The session start timestamp
-     * @param allRevealedRounds All revealed rounds in the room
-     * @return Uni<SessionHistory> containing the created record
+     * @param round The round being reset, before its statistics are cleared
+     * @param votes The round's votes, before they are deleted (used if the round's tally
+     *              was not stored)
+     * @return Uni<Void> that completes when SessionHistory is updated
      */
-    private Uni<SessionHistory> createNewSessionHistory(
-            String roomId, Instant sessionStartedAt, List<Round> allRevealedRounds) {
-
-        return roomRepository.findById(roomId)
-                .onItem().transformToUni(room -> {
-                    if (room == null) {
-                        return Uni.createFrom().failure(
-                                new IllegalArgumentException("Room not found: " + roomId));
+    private Uni<Void> withdrawFromSessionHistory(String roomId, Round round, List<Vote> votes) {
+        return sessionHistoryRepository.findLatestByRoomIdForUpdate(roomId)
+                .onItem().transformToUni(sessionHistory -> {
+                    if (sessionHistory == null) {
+                        return Uni.createFrom().voidItem();
                     }
-
-                    // Generate new session ID
-                    UUID sessionId = UUID.randomUUID();
-
-                    // Fetch all votes for all revealed rounds to calculate participant summaries
-                    return fetchAllVotesForRounds(allRevealedRounds)
-                            .onItem().transformToUni(allVotes -> {
-                                try {
-                                    // Build participant summaries
-                                    List<ParticipantSummary> participantSummaries =
-                                            buildParticipantSummaries(allVotes);
-                                    String participantsJson = objectMapper.writeValueAsString(participantSummaries);
-
-                                    // Build summary statistics
-                                    SessionSummaryStats stats = buildSummaryStats(allRevealedRounds, allVotes);
-                                    String summaryStatsJson = objectMapper.writeValueAsString(stats);
-
-                                    // Create SessionHistory entity
-                                    SessionHistory sessionHistory = new SessionHistory();
-                                    sessionHistory.id = new SessionHistoryId(sessionId, sessionStartedAt);
-                                    sessionHistory.room = room;
-                                    sessionHistory.endedAt = Instant.now();
-                                    sessionHistory.totalRounds = allRevealedRounds.size();
-                                    sessionHistory.totalStories = allRevealedRounds.size(); // One story per round
-                                    sessionHistory.participants = participantsJson;
-                                    sessionHistory.summaryStats = summaryStatsJson;
-
-                                    return sessionHistoryRepository.persist(sessionHistory);
-
-                                } catch (JsonProcessingException e) {
-                                    Log.error("Failed to serialize session history JSON", e);
-                                    return Uni.createFrom().failure(e);
-                                }
-                            });
-                });
-    }
-
-    /**
-     * Updates an existing SessionHistory record with new round data.
-     *
-     * @param existingSession The existing SessionHistory record
-     * @param allRevealedRounds All revealed rounds in the room
-     * @param roomId The room ID
-     * @return Uni<SessionHistory> containing the updated record
-     */
-    private Uni<SessionHistory> updateExistingSessionHistory(
-            SessionHistory existingSession, List<Round> allRevealedRounds, String roomId) {
-
-        // Fetch all votes for all revealed rounds
-        return fetchAllVotesForRounds(allRevealedRounds)
-                .onItem().transformToUni(allVotes -> {
                     try {
-                        // Rebuild participant summaries with updated vote counts
-                        List<ParticipantSummary> participantSummaries =
-                                buildParticipantSummaries(allVotes);
-                        String participantsJson = objectMapper.writeValueAsString(participantSummaries);
-
-                        // Recalculate summary statistics
-                        SessionSummaryStats stats = buildSummaryStats(allRevealedRounds, allVotes);
-                        String summaryStatsJson = objectMapper.writeValueAsString(stats);
-
-                        // Update existing session history
-                        existingSession.endedAt = Instant.now();
-                        existingSession.totalRounds = allRevealedRounds.size();
-                        existingSession.totalStories = allRevealedRounds.size();
-                        existingSession.participants = participantsJson;
-                        existingSession.summaryStats = summaryStatsJson;
-
-                        return sessionHistoryRepository.persist(existingSession);
+                        SessionHistoryAggregates aggregates =
+                                SessionHistoryAggregates.read(sessionHistory, objectMapper);
+                        SessionHistoryAggregates before = aggregates.copy();
+                        aggregates.removeRound(round.startedAt, round.revealedAt,
+                                Boolean.TRUE.equals(round.consensusReached),
+                                SessionHistoryAggregates.readTally(round, votes, objectMapper));
+                        aggregates.writeTo(sessionHistory, objectMapper);
+
+                        return sessionHistoryRepository.persist(sessionHistory)
+                                .call(() -> statsRollupRepository.applyDelta(roomId,
+                                        sessionHistory.id.startedAt, aggregates.rollupDeltaSince(before)))
+                                .replaceWithVoid();
 
                     } catch (JsonProcessingException e) {
-                        Log.error("Failed to serialize session history JSON for room " + roomId, e);
+                        Log.error("Failed to update session history JSON for room " + roomId, e);
                         return Uni.createFrom().failure(e);
                     }
-                });
+                })
+                .onFailure().invoke(throwable ->
+                        Log.error("Failed to update session history for room " + roomId, throwable));
     }
 
     /**
-     * Fetches all votes for a list of rounds.
+     * Creates an unsaved SessionHistory record for the first revealed round in a room.
      *
-     * @param rounds List of rounds
-     * @return Uni containing a flat list of all votes
+     * @param roomId The room ID
+     * @param sessionStartedAt The session start timestamp (first revealed round's start time)
+     * @return Uni containing the new record, without rounds
      */
-    private Uni<List<Vote>> fetchAllVotesForRounds(List<Round> rounds) {
-        if (rounds.isEmpty()) {
-            return Uni.createFrom().item(List.of());
-        }
+    private Uni<SessionHistory> newSessionHistory(String roomId, Instant sessionStartedAt) {
+        return roomRepository.findById(roomId)
+                .onItem().transformToUni(room -> {
+                    if (room == null) {
+                        return Uni.createFrom().failure(
+                                new IllegalArgumentException("Room not found: " + roomId));
+                    }
 
-        // Fetch votes for each round in parallel
-        List<Uni<List<Vote>>> voteUnis = rounds.stream()
-                .map(round -> voteRepository.findByRoundId(round.roundId))
-                .collect(Collectors.toList());
-
-        return Uni.combine().all().unis(voteUnis)
-                .with(voteLists -> {
-                    // Flatten list of lists into a single list
-                    return voteLists.stream()
-                            .flatMap(voteList -> ((List<Vote>) voteList).stream())
-                            .collect(Collectors.toList());
+                    SessionHistory sessionHistory = new SessionHistory();
+                    sessionHistory.id = new SessionHistoryId(UUID.randomUUID(), sessionStartedAt);
+                    sessionHistory.room = room;
+                    return Uni.createFrom().item(sessionHistory);
                 });
     }
 
     /**
-     * Builds participant summaries from all votes.
-     * Aggregates vote counts per participant.
-     *
-     * @param allVotes All votes across all rounds
-     * @return List of ParticipantSummary objects
-     */
-    private List<ParticipantSummary> buildParticipantSummaries(List<Vote> allVotes) {
-        // Group votes by participant
-        Map<UUID, List<Vote>> votesByParticipant = allVotes.stream()
-                .collect(Collectors.groupingBy(vote -> vote.participant.participantId));
-
-        return votesByParticipant.entrySet().stream()
-                .map(entry -> {
-                    RoomParticipant participant = entry.getValue().get(0).participant;
-                    int voteCount = entry.getValue().size();
-                    boolean isAuthenticated = participant.user != null;
-
-                    return new ParticipantSummary(
-                            participant.participantId,
-                            participant.displayName,
-                            participant.role.name(),
-                            voteCount,
-                            isAuthenticated
-                    );
-                })
-                .sorted(Comparator.comparing(ParticipantSummary::getVoteCount).reversed())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Builds summary statistics from all revealed rounds and votes.
+     * Reveal state of a round before it is revealed again.
      *
-     * @param allRevealedRounds All revealed rounds
-     * @param allVotes All votes across all rounds
-     * @return SessionSummaryStats object
+     * @param revealedAt When the round was revealed
+     * @param consensus Whether the round reached consensus
+     * @param tally Participants whose votes that reveal counted
      */
-    private SessionSummaryStats buildSummaryStats(List<Round> allRevealedRounds, List<Vote> allVotes) {
-        int totalVotes = allVotes.size();
-
-        // Count rounds with consensus
-        int roundsWithConsensus = (int) allRevealedRounds.stream()
-                .filter(round -> round.consensusReached != null && round.consensusReached)
-                .count();
-
-        // Calculate consensus rate
-        BigDecimal consensusRate = allRevealedRounds.isEmpty()
-                ? BigDecimal.ZERO
-                : BigDecimal.valueOf(roundsWithConsensus)
-                        .divide(BigDecimal.valueOf(allRevealedRounds.size()), 4, RoundingMode.HALF_UP);
-
-        // Calculate average estimation time (time from round start to reveal)
-        long totalEstimationTimeSeconds = allRevealedRounds.stream()
-                .filter(round -> round.revealedAt != null)
-                .mapToLong(round -> round.revealedAt.getEpochSecond() - round.startedAt.getEpochSecond())
-                .sum();
-
-        Long avgEstimationTimeSeconds = allRevealedRounds.isEmpty()
-                ? 0L
-                : totalEstimationTimeSeconds / allRevealedRounds.size();
-
-        return new SessionSummaryStats(
-                totalVotes,
-                consensusRate,
-                avgEstimationTimeSeconds,
-                roundsWithConsensus
-        );
+    private record PreviousReveal(Instant revealedAt, boolean consensus, List<UUID> tally) {
     }
 }
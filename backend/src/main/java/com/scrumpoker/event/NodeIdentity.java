@@ -0,0 +1,66 @@
+package com.scrumpoker.event;
+
+import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Identity of this application node within the cluster.
+ * <p>
+ * Events published to Redis are stamped with the node ID of the publisher so that
+ * the publishing node's own {@link RoomEventSubscriber} can recognize and skip the
+ * echo of events it has already delivered locally.
+ * </p>
+ * <p>
+ * The ID can be pinned with {@code events.node-id} (e.g. the Kubernetes pod name);
+ * otherwise a random UUID is generated per process start.
+ * </p>
+ */
+@ApplicationScoped
+public class NodeIdentity {
+
+    /**
+     * Optional configured node ID.
+     */
+    @ConfigProperty(name = "events.node-id")
+    Optional<String> configuredNodeId;
+
+    /**
+     * Resolved node ID for this process.
+     */
+    private String nodeId;
+
+    /**
+     * Resolves the node ID on startup.
+     */
+    @PostConstruct
+    void initialize() {
+        this.nodeId = configuredNodeId
+                .filter(id -> !id.isBlank())
+                .orElseGet(() -> UUID.randomUUID().toString());
+        Log.infof("Node identity resolved: %s", nodeId);
+    }
+
+    /**
+     * Gets the ID of this node.
+     *
+     * @return The node ID (never null)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Checks whether an event originated from this node.
+     *
+     * @param originNodeId The origin node ID carried by the event (may be null)
+     * @return true if the event was published by this node
+     */
+    public boolean isLocal(final String originNodeId) {
+        return nodeId.equals(originNodeId);
+    }
+}
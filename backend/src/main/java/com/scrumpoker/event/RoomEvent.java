@@ -2,6 +2,7 @@ package com.scrumpoker.event;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,12 +23,43 @@ import java.util.UUID;
  * The structure mirrors {@link com.scrumpoker.api.websocket.WebSocketMessage}
  * to enable seamless deserialization and forwarding to WebSocket clients.
  * </p>
+ * <p>
+ * The envelope additionally carries the target {@code roomId} and the publishing
+ * node's ID ({@code origin}) as its leading fields, so that a subscriber can route,
+ * drop, or skip its own echo after reading only the first tokens.
+ * </p>
+ * <p>
+ * When the replay log is enabled, {@link RoomEventLog} splices the room's event sequence
+ * number ({@code seq}) in front of these fields as the event is published.
+ * </p>
  *
  * @see com.scrumpoker.api.websocket.WebSocketMessage
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"seq", "roomId", "origin", "type", "requestId", "payload"})
 public class RoomEvent {
 
+    /**
+     * Position of the event in its room's event sequence, assigned by {@link RoomEventLog}.
+     * Null when the replay log is disabled.
+     */
+    @JsonProperty("seq")
+    private Long seq;
+
+    /**
+     * Target room ID (6-character nanoid). Used for dispatching events
+     * received through a multiplexed pattern subscription.
+     */
+    @JsonProperty("roomId")
+    private String roomId;
+
+    /**
+     * ID of the node that published the event and already delivered it to its
+     * local sessions. Null when the publisher did not deliver locally.
+     */
+    @JsonProperty("origin")
+    private String originNodeId;
+
     /**
      * Versioned message type following pattern: entity.action.version.
      * Examples: "vote.recorded.v1", "round.revealed.v1"
@@ -95,6 +127,60 @@ public class RoomEvent {
 
     // Getters and Setters
 
+    /**
+     * Gets the event's sequence number within its room.
+     *
+     * @return The sequence number, or null if the event was not sequenced
+     */
+    public Long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Sets the event's sequence number within its room.
+     *
+     * @param eventSeq The sequence number
+     */
+    public void setSeq(final Long eventSeq) {
+        this.seq = eventSeq;
+    }
+
+    /**
+     * Gets the target room ID.
+     *
+     * @return The room ID, or null for events published without one
+     */
+    public String getRoomId() {
+        return roomId;
+    }
+
+    /**
+     * Sets the target room ID.
+     *
+     * @param eventRoomId The room ID
+     */
+    public void setRoomId(final String eventRoomId) {
+        this.roomId = eventRoomId;
+    }
+
+    /**
+     * Gets the ID of the node that published this event.
+     *
+     * @return The origin node ID, or null if not set
+     */
+    public String getOriginNodeId() {
+        return originNodeId;
+    }
+
+    /**
+     * Sets the ID of the node that published this event.
+     *
+     * @param eventOriginNodeId The origin node ID
+     */
+    public void setOriginNodeId(final String eventOriginNodeId) {
+        this.originNodeId = eventOriginNodeId;
+    }
+
     /**
      * Gets the event type.
      *
@@ -179,7 +265,10 @@ public class RoomEvent {
     @Override
     public String toString() {
         return "RoomEvent{"
-                + "type='" + type + '\''
+                + "seq=" + seq
+                + ", roomId='" + roomId + '\''
+                + ", origin='" + originNodeId + '\''
+                + ", type='" + type + '\''
                 + ", requestId='" + requestId + '\''
                 + ", payload=" + payload
                 + '}';
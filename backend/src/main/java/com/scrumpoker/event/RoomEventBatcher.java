@@ -0,0 +1,256 @@
+package com.scrumpoker.event;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates high-frequency room events over a short per-room window before publishing.
+ * <p>
+ * During a vote burst every {@code vote.recorded.v1} would otherwise cost one Redis publish
+ * (and replay log append) plus one WebSocket frame per participant. Instead, a vote in a
+ * quiet room is published right away and opens a window of {@code events.batching.window-ms};
+ * votes arriving within it are published together as a single {@code votes.recorded.batch.v1}
+ * event when it closes, and a window that published votes opens the next one. A lone vote
+ * is therefore never delayed, while a burst costs one publish per window. A window that
+ * closes with one vote publishes a plain {@code vote.recorded.v1}.
+ * </p>
+ * <p>
+ * Round transitions ({@code round.*}) flush the room's window and are published only after
+ * the pending batch, so clients never see a vote of a round after that round's transition.
+ * Batches of one room are published one after another in window order. Other events are
+ * passed straight to the {@link RoomEventPublisher}.
+ * </p>
+ * <p>
+ * Batched events are fire-and-forget: {@link #publish} completes once the vote is in the
+ * window, and publish failures are logged by the {@link RoomEventPublisher}.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomEventBatcher {
+
+    /**
+     * Event type aggregated into batches.
+     */
+    public static final String VOTE_RECORDED = "vote.recorded.v1";
+
+    /**
+     * Event type carrying several {@link #VOTE_RECORDED} payloads under {@code votes}.
+     */
+    public static final String VOTES_RECORDED_BATCH = "votes.recorded.batch.v1";
+
+    /**
+     * Prefix of event types that flush the room's window before they are published.
+     */
+    private static final String ROUND_EVENT_PREFIX = "round.";
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    /**
+     * Publisher the batches are handed to.
+     */
+    @Inject
+    private RoomEventPublisher roomEventPublisher;
+
+    /**
+     * Metrics for batch sizes.
+     */
+    @Inject
+    private BusinessMetrics businessMetrics;
+
+    /**
+     * Vert.x instance for window timers.
+     */
+    @Inject
+    private Vertx vertx;
+
+    /**
+     * Aggregation window per room; 0 publishes every event immediately.
+     */
+    @ConfigProperty(name = "events.batching.window-ms", defaultValue = "20")
+    long windowMs;
+
+    /**
+     * Votes beyond which a window is published before its timer fires.
+     */
+    @ConfigProperty(name = "events.batching.max-batch-size", defaultValue = "100")
+    int maxBatchSize;
+
+    /**
+     * Map of roomId -> open or publishing window.
+     */
+    private final ConcurrentHashMap<String, RoomWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Publishes a room event, aggregating {@code vote.recorded.v1} events of the same room.
+     *
+     * @param roomId The room ID (6-character nanoid)
+     * @param type The versioned event type
+     * @param payload The event-specific payload data
+     * @return Uni<Void> that completes when the event is queued in the room's window, or
+     *         when it is published for events that are not batched
+     */
+    public Uni<Void> publish(final String roomId, final String type,
+                             final Map<String, Object> payload) {
+        if (windowMs <= 0) {
+            return roomEventPublisher.publishEvent(roomId, type, payload);
+        }
+        if (VOTE_RECORDED.equals(type)) {
+            enqueue(roomId, payload);
+            return Uni.createFrom().voidItem();
+        }
+        if (type.startsWith(ROUND_EVENT_PREFIX)) {
+            return flush(roomId).chain(() -> roomEventPublisher.publishEvent(roomId, type, payload));
+        }
+        return roomEventPublisher.publishEvent(roomId, type, payload);
+    }
+
+    /**
+     * Publishes the room's pending votes now.
+     *
+     * @param roomId The room ID
+     * @return Uni that completes once every vote queued before this call has been published
+     *         (or failed to publish)
+     */
+    public Uni<Void> flush(final String roomId) {
+        RoomWindow window = windows.get(roomId);
+        if (window == null) {
+            return Uni.createFrom().voidItem();
+        }
+
+        CompletableFuture<Void> done;
+        synchronized (window) {
+            done = window.votes.isEmpty() ? window.lastPublish : close(roomId, window);
+        }
+        return Uni.createFrom().completionStage(done);
+    }
+
+    private void enqueue(final String roomId, final Map<String, Object> payload) {
+        while (true) {
+            RoomWindow window = windows.computeIfAbsent(roomId, id -> new RoomWindow());
+            synchronized (window) {
+                if (window.retired) {
+                    // Removed after its last publish; start a fresh one
+                    continue;
+                }
+                window.votes.add(payload);
+                if (window.timerId < 0) {
+                    // Leading edge: nothing was published within the last window
+                    openWindow(roomId, window);
+                    close(roomId, window);
+                } else if (window.votes.size() >= maxBatchSize) {
+                    close(roomId, window);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts the timer closing the room's window. Must be called holding the window's monitor.
+     */
+    private void openWindow(final String roomId, final RoomWindow window) {
+        window.timerId = vertx.setTimer(windowMs, id -> onTimer(roomId, window));
+    }
+
+    private void onTimer(final String roomId, final RoomWindow window) {
+        synchronized (window) {
+            window.timerId = -1;
+            if (!window.votes.isEmpty()) {
+                // The burst goes on: keep aggregating for another window
+                openWindow(roomId, window);
+                close(roomId, window);
+            } else if (window.lastPublish.isDone()) {
+                retire(roomId, window);
+            }
+        }
+    }
+
+    /**
+     * Takes the window's votes and publishes them after the room's previous batch.
+     * Must be called holding the window's monitor with at least one vote queued.
+     *
+     * @return Future completing when the batch has been published
+     */
+    private CompletableFuture<Void> close(final String roomId, final RoomWindow window) {
+        List<Map<String, Object>> votes = window.votes;
+        window.votes = new ArrayList<>();
+
+        CompletableFuture<Void> previous = window.lastPublish;
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        window.lastPublish = done;
+
+        previous.whenComplete((ignored, failure) -> publishBatch(roomId, votes)
+                .subscribe().with(
+                        item -> done.complete(null),
+                        publishFailure -> done.complete(null)));
+        done.whenComplete((ignored, failure) -> retireIfIdle(roomId, window, done));
+        return done;
+    }
+
+    private Uni<Void> publishBatch(final String roomId, final List<Map<String, Object>> votes) {
+        businessMetrics.recordRoomEventBatch(votes.size());
+        if (votes.size() == 1) {
+            return roomEventPublisher.publishEvent(roomId, VOTE_RECORDED, votes.get(0));
+        }
+
+        Log.debugf("Publishing %d votes of room %s as one batch", votes.size(), roomId);
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("votes", votes);
+        return roomEventPublisher.publishEvent(roomId, VOTES_RECORDED_BATCH, payload);
+    }
+
+    private void retireIfIdle(final String roomId, final RoomWindow window,
+                              final CompletableFuture<Void> published) {
+        synchronized (window) {
+            if (window.votes.isEmpty() && window.timerId < 0 && window.lastPublish == published) {
+                retire(roomId, window);
+            }
+        }
+    }
+
+    /**
+     * Removes an idle window. Must be called holding the window's monitor.
+     */
+    private void retire(final String roomId, final RoomWindow window) {
+        window.retired = true;
+        windows.remove(roomId, window);
+    }
+
+    /**
+     * Aggregation window of one room. Guarded by its own monitor.
+     */
+    private static final class RoomWindow {
+
+        /**
+         * Payloads of the votes in the open window, in arrival order.
+         */
+        private List<Map<String, Object>> votes = new ArrayList<>();
+
+        /**
+         * Timer closing the open window, or -1 if no window is open.
+         */
+        private long timerId = -1;
+
+        /**
+         * Completes when the room's most recent batch has been published.
+         */
+        private CompletableFuture<Void> lastPublish = COMPLETED;
+
+        /**
+         * Set once the window is removed from the map; later votes open a new window.
+         */
+        private boolean retired;
+    }
+}
@@ -0,0 +1,123 @@
+package com.scrumpoker.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes {@link RoomEvent}s for Redis (pub/sub and the replay log) and decodes them.
+ * <p>
+ * Events are written in the format selected by {@code events.redis.wire-format}:
+ * {@code json} (default) or {@code cbor}. Decoding does not depend on the setting: a JSON
+ * event always starts with {@code '{'}, while a CBOR event starts with a map header, so
+ * nodes read events of either format (e.g. in a replay log written before the format was
+ * switched). Nodes older than this codec only read JSON, so {@code cbor} must only be
+ * enabled once every node in the cluster runs it.
+ * </p>
+ * <p>
+ * Both formats carry the envelope fields in the same order, so the leading routing fields
+ * can be read with a streaming parser from {@link #createParser(byte[])} in either case.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomEventCodec {
+
+    /**
+     * Events encoded as JSON text.
+     */
+    static final String FORMAT_JSON = "json";
+
+    /**
+     * Events encoded as CBOR.
+     */
+    static final String FORMAT_CBOR = "cbor";
+
+    /**
+     * Jackson ObjectMapper for JSON; the CBOR mapper is derived from it.
+     */
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Format new events are written in: "cbor" or "json".
+     */
+    @ConfigProperty(name = "events.redis.wire-format", defaultValue = FORMAT_JSON)
+    String wireFormat;
+
+    private ObjectMapper cborMapper;
+
+    @PostConstruct
+    void initialize() {
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * Checks whether new events are written as CBOR.
+     *
+     * @return true for CBOR, false for JSON
+     */
+    public boolean isBinary() {
+        return FORMAT_CBOR.equalsIgnoreCase(wireFormat);
+    }
+
+    /**
+     * Serializes an event in the configured format.
+     *
+     * @param event The event to encode
+     * @return The encoded event
+     * @throws IOException if serialization fails
+     */
+    public byte[] encode(final RoomEvent event) throws IOException {
+        return isBinary() ? cborMapper.writeValueAsBytes(event) : objectMapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * Deserializes an event of either format.
+     *
+     * @param data The encoded event
+     * @return The decoded event
+     * @throws IOException if the data is not a valid event
+     */
+    public RoomEvent decode(final byte[] data) throws IOException {
+        return mapperFor(data).readValue(data, RoomEvent.class);
+    }
+
+    /**
+     * Creates a streaming parser over an event of either format.
+     *
+     * @param data The encoded event
+     * @return A parser positioned before the first token
+     * @throws IOException if the parser cannot be created
+     */
+    public JsonParser createParser(final byte[] data) throws IOException {
+        return mapperFor(data).getFactory().createParser(data);
+    }
+
+    /**
+     * Describes an encoded event for log messages.
+     *
+     * @param data The encoded event
+     * @return The JSON text, or the size of a binary event
+     */
+    public static String describe(final byte[] data) {
+        if (isJson(data)) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        return "<" + data.length + " bytes CBOR>";
+    }
+
+    private ObjectMapper mapperFor(final byte[] data) {
+        return isJson(data) ? objectMapper : cborMapper;
+    }
+
+    private static boolean isJson(final byte[] data) {
+        return data.length > 0 && data[0] == '{';
+    }
+}
@@ -0,0 +1,262 @@
+package com.scrumpoker.event;
+
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Per-room event sequence and capped replay log in Redis.
+ * <p>
+ * Every published room event gets the next value of the room's sequence
+ * ({@code room-events:{roomId}:seq}) and is appended to a Redis Stream
+ * ({@code room-events:{roomId}:log}) whose entry ID is the sequence number. Numbering,
+ * appending and publishing happen in one Lua script, so the order of events on the
+ * room's pub/sub channel always matches their sequence numbers.
+ * </p>
+ * <p>
+ * Events are stored and published as encoded by {@link RoomEventCodec} (JSON or CBOR); the
+ * script splices the sequence number in as the leading field in either format.
+ * </p>
+ * <p>
+ * A reconnecting client reports the last sequence it has seen and receives only the
+ * events it missed ({@link #readSince(String, long)}), as long as they are still in the
+ * log and there are not more than {@code events.replay.max-events} of them; otherwise it
+ * gets a fresh snapshot. The log is trimmed to about {@code events.replay.max-length}
+ * entries and both keys expire after {@code events.replay.ttl} without events.
+ * </p>
+ *
+ * @see RoomEventPublisher
+ */
+@ApplicationScoped
+public class RoomEventLog {
+
+    /**
+     * Numbers the event, appends it to the log and publishes it.
+     * <p>
+     * KEYS: sequence, log. ARGV: encoded event (a JSON object or CBOR map without "seq"),
+     * max log length, channel, TTL seconds. The sequence is spliced in as the leading field:
+     * after the opening brace of a JSON object, or after the header of a CBOR map (as the
+     * text key "seq", encoded {@code 63 73 65 71}, and an unsigned integer; a definite-length
+     * header is incremented by one entry). If the log holds IDs beyond the sequence (the
+     * sequence key was lost), the log is dropped and restarted. Returns the sequence number.
+     * </p>
+     */
+    private static final String APPEND_SCRIPT = """
+            local seq = redis.call('INCR', KEYS[1])
+            local head = string.byte(ARGV[1], 1)
+            local event
+            if head == 123 then
+              event = '{"seq":' .. seq .. ',' .. string.sub(ARGV[1], 2)
+            else
+              local uint
+              if seq < 24 then
+                uint = string.char(seq)
+              elseif seq < 256 then
+                uint = string.char(24, seq)
+              elseif seq < 65536 then
+                uint = string.char(25, math.floor(seq / 256), seq % 256)
+              else
+                uint = string.char(26, math.floor(seq / 16777216) % 256, math.floor(seq / 65536) % 256,
+                  math.floor(seq / 256) % 256, seq % 256)
+              end
+              if head == 191 then
+                event = string.char(head) .. 'cseq' .. uint .. string.sub(ARGV[1], 2)
+              elseif head >= 160 and head < 183 then
+                event = string.char(head + 1) .. 'cseq' .. uint .. string.sub(ARGV[1], 2)
+              else
+                return redis.error_reply('ERR unsupported room event encoding')
+              end
+            end
+            local added = redis.pcall('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], seq .. '-0', 'event', event)
+            if type(added) == 'table' and added.err then
+              redis.call('DEL', KEYS[2])
+              redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], seq .. '-0', 'event', event)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            redis.call('PUBLISH', ARGV[3], event)
+            return seq
+            """;
+
+    /**
+     * Reads the events after a sequence number.
+     * <p>
+     * KEYS: sequence, log. ARGV: last seen sequence, max events. Returns the current
+     * sequence followed by the missed events; only the current sequence if
+     * nothing was missed, the client is ahead of the log, or too many events were missed.
+     * </p>
+     */
+    private static final String READ_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local after = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            if after >= current or current - after > limit then
+              return {current}
+            end
+            local entries = redis.call('XRANGE', KEYS[2], (after + 1) .. '-0', '+', 'COUNT', limit)
+            local result = {current}
+            for _, entry in ipairs(entries) do
+              result[#result + 1] = entry[2][2]
+            end
+            return result
+            """;
+
+    private static final String APPEND_SCRIPT_SHA = sha1(APPEND_SCRIPT);
+    private static final String READ_SCRIPT_SHA = sha1(READ_SCRIPT);
+
+    /**
+     * Events missed by a client.
+     *
+     * @param afterSeq The last sequence number the client has seen
+     * @param currentSeq The room's current sequence number
+     * @param events Encoded {@link RoomEvent}s after {@code afterSeq}, in sequence order
+     */
+    public record Replay(long afterSeq, long currentSeq, List<byte[]> events) {
+
+        /**
+         * Checks whether the events cover everything the client missed.
+         *
+         * @return true if the client can catch up from {@link #events()} alone, false if
+         *         it needs a snapshot (too far behind, log trimmed or reset)
+         */
+        public boolean isComplete() {
+            return afterSeq <= currentSeq && events.size() == currentSeq - afterSeq;
+        }
+    }
+
+    @Inject
+    ReactiveRedisDataSource redisDataSource;
+
+    @ConfigProperty(name = "events.replay.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "events.replay.max-length", defaultValue = "1000")
+    int maxLength;
+
+    @ConfigProperty(name = "events.replay.max-events", defaultValue = "200")
+    int maxReplayEvents;
+
+    @ConfigProperty(name = "events.replay.ttl", defaultValue = "PT24H")
+    Duration ttl;
+
+    /**
+     * Checks whether room events are sequenced and logged.
+     *
+     * @return true if the replay log is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Numbers an event, appends it to the room's log and publishes it on the room channel.
+     *
+     * @param roomId The room ID
+     * @param channel The room's pub/sub channel
+     * @param event The {@link RoomEvent} encoded by {@link RoomEventCodec}, without a sequence number
+     * @return Uni containing the event's sequence number
+     */
+    public Uni<Long> append(String roomId, String channel, byte[] event) {
+        return evalScript(APPEND_SCRIPT_SHA, APPEND_SCRIPT, sequenceKey(roomId), logKey(roomId),
+                event, String.valueOf(maxLength), channel, String.valueOf(Math.max(1L, ttl.toSeconds())))
+                .map(Response::toLong);
+    }
+
+    /**
+     * Reads the events of a room after a sequence number.
+     *
+     * @param roomId The room ID
+     * @param afterSeq The last sequence number the client has seen
+     * @return Uni containing the missed events
+     */
+    public Uni<Replay> readSince(String roomId, long afterSeq) {
+        return evalScript(READ_SCRIPT_SHA, READ_SCRIPT, sequenceKey(roomId), logKey(roomId),
+                String.valueOf(afterSeq), String.valueOf(maxReplayEvents))
+                .map(response -> {
+                    List<byte[]> events = new ArrayList<>(response.size() - 1);
+                    for (int i = 1; i < response.size(); i++) {
+                        events.add(response.get(i).toBytes());
+                    }
+                    return new Replay(afterSeq, response.get(0).toLong(), events);
+                });
+    }
+
+    /**
+     * Gets the current sequence number of a room.
+     *
+     * @param roomId The room ID
+     * @return Uni containing the sequence number of the room's latest event (0 if none)
+     */
+    public Uni<Long> currentSequence(String roomId) {
+        return redisDataSource.execute("GET", sequenceKey(roomId))
+                .map(response -> response != null ? response.toLong() : 0L);
+    }
+
+    /**
+     * Runs a script by its SHA-1, loading it on the first call to a Redis node.
+     * Arguments are Strings or byte arrays (sent as binary-safe bulk strings).
+     */
+    private Uni<Response> evalScript(String sha, String script, String sequenceKey, String logKey,
+                                     Object... args) {
+        return redisDataSource.getRedis().send(scriptRequest(Command.EVALSHA, sha, sequenceKey, logKey, args))
+                .onFailure(failure -> failure.getMessage() != null
+                        && failure.getMessage().startsWith("NOSCRIPT"))
+                .recoverWithUni(() -> {
+                    Log.debugf("Loading room event log script %s", sha);
+                    return redisDataSource.getRedis().send(
+                            scriptRequest(Command.EVAL, script, sequenceKey, logKey, args));
+                });
+    }
+
+    private static Request scriptRequest(Command command, String script, String sequenceKey, String logKey,
+                                         Object... args) {
+        Request request = Request.cmd(command)
+                .arg(script)
+                .arg("2")
+                .arg(sequenceKey)
+                .arg(logKey);
+        for (Object arg : args) {
+            if (arg instanceof byte[] bytes) {
+                request.arg(Buffer.buffer(bytes));
+            } else {
+                request.arg(String.valueOf(arg));
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Keys share the {roomId} hash tag so that both land on the same Redis Cluster slot.
+     */
+    private static String sequenceKey(String roomId) {
+        return "room-events:{" + roomId + "}:seq";
+    }
+
+    private static String logKey(String roomId) {
+        return "room-events:{" + roomId + "}:log";
+    }
+
+    private static String sha1(String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
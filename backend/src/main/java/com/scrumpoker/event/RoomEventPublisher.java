@@ -1,22 +1,24 @@
 package com.scrumpoker.event;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.WebSocketMessage;
 import io.quarkus.logging.Log;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.io.IOException;
 import java.util.Map;
 
 /**
  * Service for publishing WebSocket events to Redis Pub/Sub channels.
  * <p>
  * This publisher enables event broadcasting across all application nodes
- * in a horizontally scaled deployment. Events are serialized as JSON and
- * published to room-specific Redis channels.
+ * in a horizontally scaled deployment. Events are serialized by the
+ * {@link RoomEventCodec} (CBOR or JSON) and published to room-specific Redis channels.
  * </p>
  * <p>
  * <strong>Channel Naming Convention:</strong> room:{roomId}
@@ -26,6 +28,19 @@ import java.util.Map;
  * The {@link RoomEventSubscriber} on each application node subscribes to
  * these channels and forwards events to locally connected WebSocket clients.
  * </p>
+ * <p>
+ * <strong>Local Fast Path:</strong> When {@code events.local-delivery.enabled} is true
+ * (default), events are first delivered directly to this node's sessions, skipping
+ * the Redis round trip and the encode/decode. The Redis copy is stamped with this
+ * node's ID so the local subscriber skips the echo while other nodes deliver it as usual.
+ * </p>
+ * <p>
+ * <strong>Replay Log:</strong> When {@code events.replay.enabled} is true, every event is
+ * numbered and appended to its room's {@link RoomEventLog} as it is published, so
+ * reconnecting clients can catch up on the events they missed. Local delivery then waits
+ * for the sequence number, one Redis round trip, and goes through the
+ * {@link RoomEventSequencer}. It is disabled by default to keep the local fast path.
+ * </p>
  *
  * @see RoomEventSubscriber
  * @see RoomEvent
@@ -40,15 +55,45 @@ public class RoomEventPublisher {
     private ReactiveRedisDataSource redisDataSource;
 
     /**
-     * Jackson ObjectMapper for JSON serialization.
+     * Codec for the Redis wire format.
+     */
+    @Inject
+    private RoomEventCodec roomEventCodec;
+
+    /**
+     * Connection registry for local fast-path delivery.
+     */
+    @Inject
+    private ConnectionRegistry connectionRegistry;
+
+    /**
+     * Identity of this node, stamped on events delivered locally.
+     */
+    @Inject
+    private NodeIdentity nodeIdentity;
+
+    /**
+     * Per-room event sequence and replay log.
+     */
+    @Inject
+    private RoomEventLog roomEventLog;
+
+    /**
+     * Orders sequenced events for local delivery.
      */
     @Inject
-    private ObjectMapper objectMapper;
+    private RoomEventSequencer roomEventSequencer;
+
+    /**
+     * Whether events are delivered to local sessions before publishing to Redis.
+     */
+    @ConfigProperty(name = "events.local-delivery.enabled", defaultValue = "true")
+    boolean localDeliveryEnabled;
 
     /**
      * Redis Pub/Sub commands interface.
      */
-    private ReactivePubSubCommands<String> pubsub;
+    private ReactivePubSubCommands<byte[]> pubsub;
 
     /**
      * Initializes the Redis Pub/Sub publisher.
@@ -58,8 +103,9 @@ public class RoomEventPublisher {
      */
     @jakarta.annotation.PostConstruct
     void initialize() {
-        this.pubsub = redisDataSource.pubsub(String.class);
-        Log.info("RoomEventPublisher initialized with Redis Pub/Sub");
+        this.pubsub = redisDataSource.pubsub(byte[].class);
+        Log.infof("RoomEventPublisher initialized with Redis Pub/Sub (%s)",
+                roomEventCodec.isBinary() ? "CBOR" : "JSON");
     }
 
     /**
@@ -67,7 +113,8 @@ public class RoomEventPublisher {
      * <p>
      * This method is non-blocking and returns a Uni that completes when the
      * event has been published to Redis. The event will be broadcast to all
-     * application nodes subscribed to the room's channel.
+     * application nodes subscribed to the room's channel. Nothing is delivered
+     * or published until the Uni is subscribed.
      * </p>
      *
      * @param roomId The room ID (6-character nanoid)
@@ -101,11 +148,22 @@ public class RoomEventPublisher {
         RoomEvent event = requestId != null
                 ? new RoomEvent(type, requestId, payload)
                 : RoomEvent.create(type, payload);
+        event.setRoomId(roomId);
+
+        if (roomEventLog.isEnabled()) {
+            return publishSequenced(roomId, channel, event);
+        }
 
+        // Local delivery happens on subscription, before the Redis copy is encoded
         return Uni.createFrom().item(event)
+                .onItem().invoke(() -> {
+                    if (localDeliveryEnabled) {
+                        deliverLocally(roomId, event);
+                    }
+                })
                 .onItem().transform(this::serializeEvent)
-                .onItem().transformToUni(json ->
-                        publishToChannel(channel, json, event))
+                .onItem().transformToUni(encoded ->
+                        publishToChannel(channel, encoded, event))
                 .onFailure().invoke(failure ->
                         Log.errorf(failure,
                                 "Failed to publish event %s to room %s",
@@ -114,33 +172,125 @@ public class RoomEventPublisher {
     }
 
     /**
-     * Serializes a RoomEvent to JSON.
+     * Numbers an event in the room's replay log and publishes it.
+     * <p>
+     * {@link RoomEventLog#append} assigns the sequence number, appends the event to the
+     * log and publishes it to the room channel in one step. Local sessions are served
+     * from the reply through the {@link RoomEventSequencer}, which keeps them in
+     * sequence order with events from other nodes.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param channel The room channel
+     * @param event The event to publish
+     * @return Uni<Void> that completes when the event is logged and published
+     */
+    private Uni<Void> publishSequenced(final String roomId, final String channel,
+                                        final RoomEvent event) {
+        if (localDeliveryEnabled) {
+            event.setOriginNodeId(nodeIdentity.getNodeId());
+        }
+
+        return Uni.createFrom().item(event)
+                .onItem().transform(this::serializeEvent)
+                .onItem().transformToUni(encoded ->
+                        roomEventLog.append(roomId, channel, encoded))
+                .onItem().invoke(seq -> {
+                    Log.debugf("Published event %s to channel %s as seq %d",
+                            event.getType(), channel, seq);
+                    if (localDeliveryEnabled) {
+                        event.setSeq(seq);
+                        deliverSequenced(roomId, event);
+                    }
+                })
+                .onFailure().invoke(failure ->
+                        Log.errorf(failure,
+                                "Failed to publish event %s to room %s",
+                                event.getType(), roomId)
+                )
+                .replaceWithVoid();
+    }
+
+    /**
+     * Delivers a sequenced event to sessions connected to this node.
+     * <p>
+     * Delivery failures are logged and never fail the publish.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param event The event, carrying its sequence number
+     */
+    private void deliverSequenced(final String roomId, final RoomEvent event) {
+        if (connectionRegistry.getConnectionCount(roomId) == 0) {
+            return;
+        }
+
+        try {
+            WebSocketMessage message = new WebSocketMessage(
+                    event.getType(), event.getRequestId(), event.getPayload());
+            message.setSeq(event.getSeq());
+            roomEventSequencer.deliverLocal(roomId, event.getSeq(), message);
+        } catch (Exception e) {
+            Log.errorf(e, "Local delivery of event %s to room %s failed",
+                    event.getType(), roomId);
+        }
+    }
+
+    /**
+     * Delivers an event directly to sessions connected to this node.
+     * <p>
+     * The event is stamped with this node's ID so that the Redis echo is skipped
+     * by the local subscriber. Delivery failures are logged and never prevent the
+     * Redis publish that serves the other nodes.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param event The event to deliver
+     */
+    private void deliverLocally(final String roomId, final RoomEvent event) {
+        event.setOriginNodeId(nodeIdentity.getNodeId());
+
+        if (connectionRegistry.getConnectionCount(roomId) == 0) {
+            return;
+        }
+
+        try {
+            connectionRegistry.broadcastToRoom(roomId, new WebSocketMessage(
+                    event.getType(), event.getRequestId(), event.getPayload()));
+        } catch (Exception e) {
+            Log.errorf(e, "Local delivery of event %s to room %s failed",
+                    event.getType(), roomId);
+        }
+    }
+
+    /**
+     * Serializes a RoomEvent in the Redis wire format.
      *
      * @param event The event to serialize
-     * @return JSON string representation
+     * @return The encoded event
      * @throws RuntimeException if serialization fails
      */
-    private String serializeEvent(final RoomEvent event) {
+    private byte[] serializeEvent(final RoomEvent event) {
         try {
-            return objectMapper.writeValueAsString(event);
-        } catch (JsonProcessingException e) {
+            return roomEventCodec.encode(event);
+        } catch (IOException e) {
             Log.errorf(e, "Failed to serialize RoomEvent: %s", event);
             throw new RuntimeException("Event serialization failed", e);
         }
     }
 
     /**
-     * Publishes JSON message to Redis Pub/Sub channel.
+     * Publishes an encoded message to Redis Pub/Sub channel.
      *
      * @param channel The Redis channel name
-     * @param json The JSON message to publish
+     * @param encoded The encoded message to publish
      * @param event The original event (for logging)
      * @return Uni<Void> that completes when publish succeeds
      */
     private Uni<Void> publishToChannel(final String channel,
-                                        final String json,
+                                        final byte[] encoded,
                                         final RoomEvent event) {
-        return pubsub.publish(channel, json)
+        return pubsub.publish(channel, encoded)
                 .onItem().invoke(subscriberCount ->
                         Log.infof("Published event %s to channel %s "
                                 + "(reached %d subscribers)",
@@ -0,0 +1,288 @@
+package com.scrumpoker.event;
+
+import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.logging.Log;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delivers sequenced room events to local sessions in sequence order.
+ * <p>
+ * Sequenced events reach a node on two paths: events published by this node come back
+ * with their sequence number from {@link RoomEventLog#append} and are delivered right away
+ * (the local fast path), while every event, including the echo of this node's own, arrives
+ * in sequence order on the room's pub/sub channel. Since two publishes of one room can
+ * complete out of order, a local event is only delivered once it is next in sequence;
+ * otherwise it is held until the channel catches up. The channel is therefore the
+ * authority on order, and the fast path only saves the round trip when nothing is in
+ * between.
+ * </p>
+ * <p>
+ * Before the room's first channel event the position is unknown, so nothing is known to be
+ * missing: the first local event is delivered right away and becomes the room's anchor.
+ * Until the channel reaches the anchor, events numbered below it (of other nodes, or local
+ * publishes whose reply came later) are still delivered once as they arrive. Held events
+ * are delivered regardless after {@code events.local-delivery.hold-timeout-ms}, or once
+ * {@link #MAX_HELD_EVENTS} are waiting, so a stalled subscription delays them but never
+ * loses them.
+ * </p>
+ * <p>
+ * Events without a sequence number (replay log disabled) are delivered immediately.
+ * </p>
+ */
+@ApplicationScoped
+public class RoomEventSequencer {
+
+    /**
+     * Held local events beyond which a room stops waiting for its channel (e.g. while the
+     * subscription is reconnecting) and delivers them as they are.
+     */
+    static final int MAX_HELD_EVENTS = 64;
+
+    @Inject
+    ConnectionRegistry connectionRegistry;
+
+    @Inject
+    BusinessMetrics businessMetrics;
+
+    @Inject
+    Vertx vertx;
+
+    /**
+     * Time a held local event waits for the channel before it is delivered anyway.
+     */
+    @ConfigProperty(name = "events.local-delivery.hold-timeout-ms", defaultValue = "250")
+    long holdTimeoutMs;
+
+    /**
+     * Map of roomId -> delivery position, for rooms with local sessions.
+     */
+    private final ConcurrentHashMap<String, RoomPosition> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Delivers an event published by this node once it is next in its room's sequence.
+     *
+     * @param roomId The room ID
+     * @param seq The event's sequence number (null if not sequenced)
+     * @param message The message to broadcast
+     */
+    public void deliverLocal(String roomId, Long seq, WebSocketMessage message) {
+        if (seq == null) {
+            connectionRegistry.broadcastToRoom(roomId, message);
+            return;
+        }
+        RoomPosition position = positions.computeIfAbsent(roomId, RoomPosition::new);
+        synchronized (position) {
+            if (position.delivered < 0) {
+                // First event seen for the room: no earlier event is known to be missing
+                position.anchor = seq;
+                deliver(position, seq, message);
+            } else if (seq < position.anchor) {
+                deliverBelowAnchor(position, seq, message);
+            } else if (seq <= position.delivered) {
+                // Already delivered from the channel
+                return;
+            } else if (seq == position.delivered + 1) {
+                deliver(position, seq, message);
+                deliverHeldInSequence(position);
+            } else {
+                // Not next in sequence: wait for the channel
+                position.held.put(seq, message);
+                if (position.held.size() > MAX_HELD_EVENTS) {
+                    Log.warnf("Room %s channel is %d events behind, delivering held events",
+                            roomId, position.held.size());
+                    deliverHeldUpTo(position, Long.MAX_VALUE);
+                }
+            }
+            updateHoldTimer(position);
+        }
+    }
+
+    /**
+     * Delivers an event received on the room's pub/sub channel, unless it was already
+     * delivered through the local fast path.
+     *
+     * @param roomId The room ID
+     * @param seq The event's sequence number (null if not sequenced)
+     * @param message The message to broadcast
+     * @return true if the event was delivered, false if it was already delivered
+     */
+    public boolean deliverFromChannel(String roomId, Long seq, WebSocketMessage message) {
+        if (seq == null) {
+            connectionRegistry.broadcastToRoom(roomId, message);
+            return true;
+        }
+        RoomPosition position = positions.computeIfAbsent(roomId, RoomPosition::new);
+        synchronized (position) {
+            if (seq < position.anchor) {
+                return deliverBelowAnchor(position, seq, message);
+            }
+            // The channel has reached the anchor: from here on it alone defines the order
+            position.anchor = -1;
+            position.deliveredBelowAnchor.clear();
+            if (position.delivered >= 0 && seq <= position.delivered) {
+                return false;
+            }
+            // The channel is ordered: held events before this one lost their echo
+            deliverHeldUpTo(position, seq - 1);
+            WebSocketMessage held = position.held.remove(seq);
+            deliver(position, seq, held != null ? held : message);
+            deliverHeldInSequence(position);
+            updateHoldTimer(position);
+            return true;
+        }
+    }
+
+    /**
+     * Checks whether an event has already been delivered to the room's local sessions.
+     *
+     * @param roomId The room ID
+     * @param seq The event's sequence number
+     * @return true if the event or a later one has been delivered
+     */
+    public boolean isDelivered(String roomId, long seq) {
+        RoomPosition position = positions.get(roomId);
+        if (position == null) {
+            return false;
+        }
+        synchronized (position) {
+            return position.delivered >= 0 && seq <= position.delivered;
+        }
+    }
+
+    /**
+     * Drops the delivery position of a room that no longer has local sessions.
+     *
+     * @param roomId The room ID
+     */
+    public void forget(String roomId) {
+        RoomPosition position = positions.remove(roomId);
+        if (position != null) {
+            synchronized (position) {
+                position.held.clear();
+                updateHoldTimer(position);
+            }
+        }
+    }
+
+    private void deliver(RoomPosition position, long seq, WebSocketMessage message) {
+        try {
+            connectionRegistry.broadcastToRoom(position.roomId, message);
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to deliver event %d to room %s", seq, position.roomId);
+        }
+        position.delivered = seq;
+    }
+
+    /**
+     * Delivers an event numbered below the anchor, unless it was delivered already.
+     *
+     * @return true if the event was delivered
+     */
+    private boolean deliverBelowAnchor(RoomPosition position, long seq, WebSocketMessage message) {
+        if (!position.deliveredBelowAnchor.add(seq)) {
+            return false;
+        }
+        businessMetrics.incrementRoomEventSequenceGaps();
+        try {
+            connectionRegistry.broadcastToRoom(position.roomId, message);
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to deliver event %d to room %s", seq, position.roomId);
+        }
+        return true;
+    }
+
+    private void deliverHeldInSequence(RoomPosition position) {
+        WebSocketMessage next;
+        while ((next = position.held.remove(position.delivered + 1)) != null) {
+            deliver(position, position.delivered + 1, next);
+        }
+    }
+
+    /**
+     * Starts the hold timer when events are waiting, and cancels it when none are.
+     * Must be called holding the position's monitor.
+     */
+    private void updateHoldTimer(RoomPosition position) {
+        if (position.held.isEmpty()) {
+            if (position.holdTimerId >= 0) {
+                vertx.cancelTimer(position.holdTimerId);
+                position.holdTimerId = -1;
+            }
+        } else if (position.holdTimerId < 0) {
+            position.holdTimerId = vertx.setTimer(holdTimeoutMs, id -> onHoldTimeout(position, id));
+        }
+    }
+
+    private void onHoldTimeout(RoomPosition position, long timerId) {
+        synchronized (position) {
+            if (position.holdTimerId != timerId) {
+                return;
+            }
+            position.holdTimerId = -1;
+            if (!position.held.isEmpty()) {
+                Log.debugf("Room %s channel did not deliver within %d ms, delivering %d held events",
+                        position.roomId, holdTimeoutMs, position.held.size());
+                deliverHeldUpTo(position, Long.MAX_VALUE);
+            }
+        }
+    }
+
+    private void deliverHeldUpTo(RoomPosition position, long maxSeq) {
+        while (!position.held.isEmpty() && position.held.firstKey() <= maxSeq) {
+            Map.Entry<Long, WebSocketMessage> entry = position.held.pollFirstEntry();
+            if (entry.getKey() > position.delivered) {
+                businessMetrics.incrementRoomEventSequenceGaps();
+                deliver(position, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Delivery position of one room. Guarded by its own monitor.
+     */
+    private static final class RoomPosition {
+
+        private final String roomId;
+
+        /**
+         * Highest sequence number delivered, or -1 before the first event.
+         */
+        private long delivered = -1;
+
+        /**
+         * Local events waiting for an earlier event, by sequence number.
+         */
+        private final TreeMap<Long, WebSocketMessage> held = new TreeMap<>();
+
+        /**
+         * First event delivered locally before the channel delivered any, or -1 once the
+         * channel has reached it.
+         */
+        private long anchor = -1;
+
+        /**
+         * Events below the anchor delivered so far, so that each is delivered once.
+         */
+        private final Set<Long> deliveredBelowAnchor = new HashSet<>();
+
+        /**
+         * Timer delivering held events if the channel stalls, or -1 if none is running.
+         */
+        private long holdTimerId = -1;
+
+        private RoomPosition(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.scrumpoker.event;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.scrumpoker.api.websocket.ConnectionRegistry;
 import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.domain.room.RoomStateEngine;
+import com.scrumpoker.metrics.BusinessMetrics;
 import io.quarkus.logging.Log;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
 import io.smallrye.mutiny.subscription.Cancellable;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service for subscribing to Redis Pub/Sub room channels and forwarding
@@ -21,11 +28,14 @@ import java.util.concurrent.ConcurrentHashMap;
  * locally connected clients.
  * </p>
  * <p>
- * <strong>Subscription Lifecycle:</strong>
+ * <strong>Subscription Modes</strong> ({@code events.redis.subscription-mode}):
  * <ul>
- *   <li>Subscribe to room:{roomId} when first client joins the room</li>
- *   <li>Unsubscribe when last client leaves the room</li>
- *   <li>Automatic reconnection on Redis connection failures</li>
+ *   <li>{@code per-room} (default): subscribe to room:{roomId} when the first client
+ *       joins the room and unsubscribe when the last client leaves</li>
+ *   <li>{@code pattern}: a single {@code PSUBSCRIBE room:*} per node, opened on first use
+ *       and kept for the lifetime of the node. Events are dispatched through the
+ *       {@link ConnectionRegistry} room index and dropped for rooms without local
+ *       sessions, so per-node subscription cost stays flat as the number of rooms grows</li>
  * </ul>
  * </p>
  * <p>
@@ -40,6 +50,21 @@ import java.util.concurrent.ConcurrentHashMap;
 @ApplicationScoped
 public class RoomEventSubscriber {
 
+    /**
+     * One Redis subscription per room with local connections.
+     */
+    static final String MODE_PER_ROOM = "per-room";
+
+    /**
+     * One pattern subscription per node for all rooms.
+     */
+    static final String MODE_PATTERN = "pattern";
+
+    /**
+     * Pattern matching every room channel.
+     */
+    private static final String ROOM_CHANNEL_PATTERN = "room:*";
+
     /**
      * Reactive Redis data source for pub/sub operations.
      */
@@ -47,10 +72,10 @@ public class RoomEventSubscriber {
     private ReactiveRedisDataSource redisDataSource;
 
     /**
-     * Jackson ObjectMapper for JSON deserialization.
+     * Codec for the Redis wire format (events of either format are accepted).
      */
     @Inject
-    private ObjectMapper objectMapper;
+    private RoomEventCodec roomEventCodec;
 
     /**
      * Connection registry for accessing WebSocket sessions.
@@ -58,10 +83,40 @@ public class RoomEventSubscriber {
     @Inject
     private ConnectionRegistry connectionRegistry;
 
+    /**
+     * Business metrics for delivered/dropped event counters.
+     */
+    @Inject
+    private BusinessMetrics businessMetrics;
+
+    /**
+     * Identity of this node, used to skip echoes of locally delivered events.
+     */
+    @Inject
+    private NodeIdentity nodeIdentity;
+
+    /**
+     * In-memory room state, updated with round transitions from other nodes.
+     */
+    @Inject
+    private RoomStateEngine roomStateEngine;
+
+    /**
+     * Orders sequenced events for local delivery.
+     */
+    @Inject
+    private RoomEventSequencer roomEventSequencer;
+
+    /**
+     * Subscription mode: "per-room" or "pattern".
+     */
+    @ConfigProperty(name = "events.redis.subscription-mode", defaultValue = MODE_PER_ROOM)
+    String subscriptionMode;
+
     /**
      * Redis Pub/Sub commands interface.
      */
-    private ReactivePubSubCommands<String> pubsub;
+    private ReactivePubSubCommands<byte[]> pubsub;
 
     /**
      * Map of roomId -> active subscription cancellable.
@@ -70,10 +125,22 @@ public class RoomEventSubscriber {
     private final ConcurrentHashMap<String, Cancellable> activeSubscriptions;
 
     /**
-     * Constructor initializing the active subscriptions map.
+     * Rooms with local connections while running in pattern mode.
+     */
+    private final Set<String> localRooms;
+
+    /**
+     * The node-wide pattern subscription (pattern mode only).
+     */
+    private final AtomicReference<Cancellable> patternSubscription;
+
+    /**
+     * Constructor initializing the subscription tracking structures.
      */
     public RoomEventSubscriber() {
         this.activeSubscriptions = new ConcurrentHashMap<>();
+        this.localRooms = ConcurrentHashMap.newKeySet();
+        this.patternSubscription = new AtomicReference<>();
     }
 
     /**
@@ -84,8 +151,9 @@ public class RoomEventSubscriber {
      */
     @jakarta.annotation.PostConstruct
     void initialize() {
-        this.pubsub = redisDataSource.pubsub(String.class);
-        Log.info("RoomEventSubscriber initialized with Redis Pub/Sub");
+        this.pubsub = redisDataSource.pubsub(byte[].class);
+        Log.infof("RoomEventSubscriber initialized with Redis Pub/Sub (mode: %s)",
+                subscriptionMode);
     }
 
     /**
@@ -98,6 +166,12 @@ public class RoomEventSubscriber {
      * @param roomId The room ID (6-character nanoid)
      */
     public void subscribeToRoom(final String roomId) {
+        if (isPatternMode()) {
+            localRooms.add(roomId);
+            ensurePatternSubscription();
+            return;
+        }
+
         // Check if already subscribed
         if (activeSubscriptions.containsKey(roomId)) {
             Log.debugf("Already subscribed to room %s, skipping", roomId);
@@ -106,7 +180,7 @@ public class RoomEventSubscriber {
 
         String channel = buildChannelName(roomId);
 
-        // Subscribe to Redis channel and get Multi<String> stream
+        // Subscribe to Redis channel and get Multi<byte[]> stream
         Cancellable subscription = pubsub.subscribe(channel)
                 .subscribe().with(
                         message -> handleReceivedMessage(roomId, message),
@@ -129,6 +203,15 @@ public class RoomEventSubscriber {
      * @param roomId The room ID (6-character nanoid)
      */
     public void unsubscribeFromRoom(final String roomId) {
+        roomEventSequencer.forget(roomId);
+
+        if (isPatternMode()) {
+            // The node-wide pattern subscription stays open; events for
+            // this room are simply dropped from now on
+            localRooms.remove(roomId);
+            return;
+        }
+
         Cancellable subscription = activeSubscriptions.remove(roomId);
 
         if (subscription != null) {
@@ -141,25 +224,174 @@ public class RoomEventSubscriber {
         }
     }
 
+    /**
+     * Opens the node-wide pattern subscription if it is not open yet.
+     * <p>
+     * Transient Redis failures are retried with exponential backoff, since
+     * every room on this node depends on this single subscription.
+     * </p>
+     */
+    private void ensurePatternSubscription() {
+        if (patternSubscription.get() != null) {
+            return;
+        }
+
+        synchronized (patternSubscription) {
+            if (patternSubscription.get() != null) {
+                return;
+            }
+
+            Cancellable subscription = pubsub.subscribeToPatterns(ROOM_CHANNEL_PATTERN)
+                    .onFailure().invoke(failure ->
+                            Log.errorf(failure, "Redis pattern subscription %s failed, retrying",
+                                    ROOM_CHANNEL_PATTERN))
+                    .onFailure().retry()
+                    .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(30))
+                    .indefinitely()
+                    .subscribe().with(
+                            this::dispatchPatternMessage,
+                            failure -> {
+                                Log.errorf(failure, "Redis pattern subscription %s terminated",
+                                        ROOM_CHANNEL_PATTERN);
+                                patternSubscription.set(null);
+                            }
+                    );
+
+            patternSubscription.set(subscription);
+            Log.infof("Subscribed to Redis pattern: %s", ROOM_CHANNEL_PATTERN);
+        }
+    }
+
+    /**
+     * Dispatches a message received through the pattern subscription.
+     * <p>
+     * The room ID is read from the first field of the envelope with a streaming
+     * parser, so events for rooms without local sessions are dropped without
+     * materializing the payload.
+     * </p>
+     *
+     * @param data The encoded message received from Redis
+     */
+    private void dispatchPatternMessage(final byte[] data) {
+        EventHeader header = peekHeader(data);
+
+        if (header.roomId() == null) {
+            Log.warnf("Dropping Redis event without roomId: %s", RoomEventCodec.describe(data));
+            businessMetrics.incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_MALFORMED);
+            return;
+        }
+
+        if (nodeIdentity.isLocal(header.origin())
+                && (header.seq() == null || roomEventSequencer.isDelivered(header.roomId(), header.seq()))) {
+            businessMetrics.incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_ECHO);
+            return;
+        }
+
+        if (!localRooms.contains(header.roomId())
+                || connectionRegistry.getConnectionCount(header.roomId()) == 0) {
+            businessMetrics.incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_NO_LOCAL_SESSIONS);
+            return;
+        }
+
+        handleReceivedMessage(header.roomId(), data);
+    }
+
+    /**
+     * Reads the leading {@code seq}, {@code roomId} and {@code origin} fields of a
+     * serialized {@link RoomEvent}.
+     *
+     * @param data The encoded event (JSON or CBOR)
+     * @return The envelope header; fields are null when absent or unreadable
+     */
+    EventHeader peekHeader(final byte[] data) {
+        Long seq = null;
+        String roomId = null;
+        String origin = null;
+
+        try (JsonParser parser = roomEventCodec.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new EventHeader(null, null, null);
+            }
+            // Header fields lead the envelope; stop at the first other field
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value;
+                if ("seq".equals(field)) {
+                    value = parser.nextToken();
+                    seq = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    continue;
+                }
+                if (!"roomId".equals(field) && !"origin".equals(field)) {
+                    break;
+                }
+                value = parser.nextToken();
+                String text = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                if ("roomId".equals(field)) {
+                    roomId = text;
+                } else {
+                    origin = text;
+                }
+            }
+        } catch (Exception e) {
+            Log.debugf(e, "Failed to read header from Redis message");
+            return new EventHeader(null, null, null);
+        }
+
+        if (roomId != null) {
+            return new EventHeader(seq, roomId, origin);
+        }
+
+        // Not the leading field (e.g. published by an older node); fall back to a full parse
+        try {
+            RoomEvent event = roomEventCodec.decode(data);
+            return new EventHeader(event.getSeq(), event.getRoomId(), event.getOriginNodeId());
+        } catch (Exception e) {
+            Log.debugf(e, "Failed to parse Redis message");
+            return new EventHeader(null, null, null);
+        }
+    }
+
+    /**
+     * Routing fields read from the head of a serialized {@link RoomEvent}.
+     *
+     * @param seq The event's sequence number within its room
+     * @param roomId The target room ID
+     * @param origin The publishing node ID
+     */
+    record EventHeader(Long seq, String roomId, String origin) {
+    }
+
     /**
      * Handles a message received from Redis Pub/Sub channel.
      * <p>
-     * Deserializes the JSON message to a RoomEvent, converts it to a
+     * Deserializes the message to a RoomEvent, converts it to a
      * WebSocketMessage, and broadcasts to all locally connected clients
      * in the target room via {@link ConnectionRegistry}.
      * </p>
      *
      * @param roomId The room ID
-     * @param json The JSON message received from Redis
+     * @param data The encoded message received from Redis
      */
     private void handleReceivedMessage(final String roomId,
-                                        final String json) {
+                                        final byte[] data) {
         try {
             // Deserialize Redis message to RoomEvent
-            RoomEvent event = objectMapper.readValue(json, RoomEvent.class);
+            RoomEvent event = roomEventCodec.decode(data);
+            boolean echo = nodeIdentity.isLocal(event.getOriginNodeId());
+
+            // Unsequenced echoes were already delivered by the local fast path in RoomEventPublisher
+            if (echo && event.getSeq() == null) {
+                businessMetrics.incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_ECHO);
+                return;
+            }
+
+            Log.debugf("Received event %s (seq %s) from Redis for room %s",
+                    event.getType(), event.getSeq(), roomId);
 
-            Log.debugf("Received event %s from Redis for room %s",
-                    event.getType(), roomId);
+            // Keep the in-memory room state in step with other nodes
+            if (!echo) {
+                roomStateEngine.applyRemoteEvent(roomId, event);
+            }
 
             // Convert RoomEvent to WebSocketMessage for client delivery
             WebSocketMessage message = new WebSocketMessage(
@@ -167,13 +399,17 @@ public class RoomEventSubscriber {
                     event.getRequestId(),
                     event.getPayload()
             );
+            message.setSeq(event.getSeq());
 
-            // Broadcast to all locally connected WebSocket clients in this room
-            connectionRegistry.broadcastToRoom(roomId, message);
+            // Broadcast to all locally connected WebSocket clients in this room,
+            // in sequence order with events published by this node
+            if (!roomEventSequencer.deliverFromChannel(roomId, event.getSeq(), message)) {
+                businessMetrics.incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_ECHO);
+            }
 
         } catch (Exception e) {
             Log.errorf(e, "Failed to process Redis message "
-                    + "for room %s: %s", roomId, json);
+                    + "for room %s: %s", roomId, RoomEventCodec.describe(data));
         }
     }
 
@@ -212,21 +448,39 @@ public class RoomEventSubscriber {
     }
 
     /**
-     * Gets the count of active subscriptions (for monitoring/debugging).
+     * Checks whether the node-wide pattern subscription mode is active.
+     *
+     * @return true in pattern mode, false in per-room mode
+     */
+    private boolean isPatternMode() {
+        return MODE_PATTERN.equalsIgnoreCase(subscriptionMode);
+    }
+
+    /**
+     * Gets the count of active Redis subscriptions (for monitoring/debugging).
+     * <p>
+     * In pattern mode this is at most one regardless of the number of rooms.
+     * </p>
      *
      * @return Number of active Redis subscriptions
      */
     public int getActiveSubscriptionCount() {
+        if (isPatternMode()) {
+            return patternSubscription.get() != null ? 1 : 0;
+        }
         return activeSubscriptions.size();
     }
 
     /**
-     * Checks if subscribed to a specific room.
+     * Checks if events for a specific room are being received.
      *
      * @param roomId The room ID
      * @return true if subscribed, false otherwise
      */
     public boolean isSubscribedToRoom(final String roomId) {
+        if (isPatternMode()) {
+            return patternSubscription.get() != null && localRooms.contains(roomId);
+        }
         return activeSubscriptions.containsKey(roomId);
     }
 }
@@ -1,5 +1,6 @@
 package com.scrumpoker.integration.s3;
 
+import com.scrumpoker.config.BlockingExecution;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -24,6 +25,7 @@ import java.util.UUID;
  * Provides methods for:
  * <ul>
  *   <li>Uploading CSV/PDF files to S3 bucket</li>
+ *   <li>Streaming large files to S3 as multipart uploads ({@link S3MultipartOutputStream})</li>
  *   <li>Generating time-limited presigned URLs for downloads (7-day expiration)</li>
  * </ul>
  * </p>
@@ -58,6 +60,12 @@ public class S3Adapter {
     @ConfigProperty(name = "export.signed-url-expiration", defaultValue = "604800")
     private long signedUrlExpirationSeconds;
 
+    /**
+     * Part size of streamed uploads in bytes (default: 8 MiB, minimum 5 MiB).
+     */
+    @ConfigProperty(name = "export.multipart.part-size-bytes", defaultValue = "8388608")
+    private int multipartPartSize;
+
     /**
      * AWS S3 synchronous client (blocking).
      */
@@ -70,6 +78,12 @@ public class S3Adapter {
     @Inject
     private S3Presigner s3Presigner;
 
+    /**
+     * Executor for the blocking completion and abort calls of streamed uploads.
+     */
+    @Inject
+    private BlockingExecution blockingExecution;
+
     /**
      * Uploads a file to S3 bucket and returns a presigned URL for download.
      * <p>
@@ -143,6 +157,62 @@ public class S3Adapter {
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    /**
+     * Opens a streamed upload of an export file.
+     * <p>
+     * The object key is the same as for {@link #uploadFileAndGenerateUrl}. Bytes
+     * written to the stream are uploaded in parts of
+     * {@code export.multipart.part-size-bytes}; writes block while a part
+     * uploads, so write from a worker thread. Finish the upload with
+     * {@link #completeUploadAndGenerateUrl} or {@link #abortUpload}.
+     * </p>
+     *
+     * @param sessionId The session UUID (used in object key path)
+     * @param jobId The job UUID (used in object key filename)
+     * @param format File format ("CSV" or "PDF")
+     * @return The upload stream
+     */
+    public S3MultipartOutputStream openUpload(
+            final UUID sessionId,
+            final UUID jobId,
+            final String format) {
+        final String objectKey = buildObjectKey(sessionId, jobId, format);
+
+        Log.infof("Starting streamed upload to S3: bucket=%s, key=%s, partSize=%d bytes",
+                bucketName, objectKey, multipartPartSize);
+
+        return new S3MultipartOutputStream(s3Client, bucketName, objectKey,
+                getContentType(format),
+                Math.max(multipartPartSize, S3MultipartOutputStream.MIN_PART_SIZE));
+    }
+
+    /**
+     * Completes a streamed upload and returns a presigned URL for download.
+     *
+     * @param upload The upload opened with {@link #openUpload}
+     * @return Uni containing the presigned download URL
+     * @throws S3UploadException if the upload cannot be completed
+     */
+    public Uni<String> completeUploadAndGenerateUrl(final S3MultipartOutputStream upload) {
+        return blockingExecution.supply(() -> {
+            upload.complete();
+            return generatePresignedUrl(upload.getObjectKey());
+        });
+    }
+
+    /**
+     * Aborts a streamed upload, discarding the parts uploaded so far.
+     *
+     * @param upload The upload opened with {@link #openUpload}
+     * @return Uni completing when the upload is aborted
+     */
+    public Uni<Void> abortUpload(final S3MultipartOutputStream upload) {
+        return blockingExecution.supply(() -> {
+            upload.abort();
+            return null;
+        }).replaceWithVoid();
+    }
+
     /**
      * Generates a presigned URL for downloading an S3 object.
      * <p>
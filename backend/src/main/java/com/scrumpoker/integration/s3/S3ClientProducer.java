@@ -7,6 +7,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
@@ -22,6 +23,9 @@ public class S3ClientProducer {
     @ConfigProperty(name = "aws.s3.endpoint-override")
     Optional<String> endpointOverride;
 
+    @ConfigProperty(name = "aws.s3.path-style-access", defaultValue = "false")
+    boolean pathStyleAccess;
+
     @ConfigProperty(name = "aws.s3.region", defaultValue = "us-east-1")
     String region;
 
@@ -36,6 +40,8 @@ public class S3ClientProducer {
      * <p>
      * Configuration:
      * - aws.s3.endpoint-override: Custom S3 endpoint (e.g., LocalStack for testing)
+     * - aws.s3.path-style-access: Bucket in the path instead of the host name
+     *   (for S3-compatible stores such as MinIO)
      * - aws.s3.region: AWS region (default: us-east-1)
      * - aws.access-key-id: AWS access key
      * - aws.secret-access-key: AWS secret key
@@ -47,7 +53,8 @@ public class S3ClientProducer {
     @ApplicationScoped
     public S3Client s3Client() {
         var builder = S3Client.builder()
-                .region(Region.of(region));
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess);
 
         // Use custom endpoint for testing (e.g., LocalStack)
         endpointOverride.ifPresent(endpoint -> builder.endpointOverride(URI.create(endpoint)));
@@ -73,7 +80,10 @@ public class S3ClientProducer {
     @ApplicationScoped
     public S3Presigner s3Presigner() {
         var builder = S3Presigner.builder()
-                .region(Region.of(region));
+                .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyleAccess)
+                        .build());
 
         // Use custom endpoint for testing (e.g., LocalStack)
         endpointOverride.ifPresent(endpoint -> builder.endpointOverride(URI.create(endpoint)));
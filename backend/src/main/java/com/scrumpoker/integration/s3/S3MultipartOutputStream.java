@@ -0,0 +1,238 @@
+package com.scrumpoker.integration.s3;
+
+import io.quarkus.logging.Log;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output stream that uploads what is written to it as an S3 object, one
+ * fixed-size part at a time.
+ * <p>
+ * Bytes are collected in a single buffer of the part size. Each time the
+ * buffer is full it is uploaded as the next part of a multipart upload and
+ * reused, so memory use does not depend on the object size. Objects that
+ * fit into one buffer are uploaded with a single PutObject request instead.
+ * </p>
+ *
+ * <p><strong>Lifecycle:</strong></p>
+ * <ul>
+ *   <li>{@link #complete()} uploads the rest of the buffer and finishes the object</li>
+ *   <li>{@link #abort()} discards the parts uploaded so far</li>
+ *   <li>{@link #close()} does neither; call one of them</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong></p>
+ * <p>
+ * Not thread-safe. Writes block while a part uploads, so the stream must be
+ * written from a worker thread, never from the event loop.
+ * </p>
+ *
+ * @see S3Adapter#openUpload(java.util.UUID, java.util.UUID, String)
+ */
+public class S3MultipartOutputStream extends OutputStream {
+
+    /**
+     * Smallest part size S3 accepts for all parts but the last (5 MiB).
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String objectKey;
+    private final String contentType;
+    private final byte[] buffer;
+    private final List<CompletedPart> parts = new ArrayList<>();
+
+    private int bufferedBytes;
+    private long totalBytes;
+    private String uploadId;
+    private boolean finished;
+
+    /**
+     * Creates the stream. No request is made until the first part is full.
+     *
+     * @param s3Client The S3 client
+     * @param bucketName The bucket name
+     * @param objectKey The object key
+     * @param contentType The MIME content type of the object
+     * @param partSize Bytes per part, at least {@link #MIN_PART_SIZE}
+     */
+    public S3MultipartOutputStream(final S3Client s3Client,
+                                   final String bucketName,
+                                   final String objectKey,
+                                   final String contentType,
+                                   final int partSize) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException(
+                    "partSize must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(final int b) {
+        ensureOpen();
+        if (bufferedBytes == buffer.length) {
+            uploadBufferedPart();
+        }
+        buffer[bufferedBytes++] = (byte) b;
+        totalBytes++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        ensureOpen();
+        int position = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            if (bufferedBytes == buffer.length) {
+                uploadBufferedPart();
+            }
+            final int chunk = Math.min(remaining, buffer.length - bufferedBytes);
+            System.arraycopy(bytes, position, buffer, bufferedBytes, chunk);
+            bufferedBytes += chunk;
+            position += chunk;
+            remaining -= chunk;
+        }
+        totalBytes += length;
+    }
+
+    /**
+     * Uploads the buffered bytes and finishes the object.
+     *
+     * @throws S3UploadException if the upload fails
+     */
+    public void complete() {
+        ensureOpen();
+        try {
+            if (uploadId == null) {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(objectKey)
+                                .contentType(contentType)
+                                .contentLength((long) bufferedBytes)
+                                .build(),
+                        RequestBody.fromInputStream(
+                                new ByteArrayInputStream(buffer, 0, bufferedBytes), bufferedBytes));
+            } else {
+                if (bufferedBytes > 0) {
+                    uploadBufferedPart();
+                }
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+            }
+        } catch (SdkException e) {
+            throw new S3UploadException(
+                    "Failed to complete upload of " + objectKey + ": " + e.getMessage(), e);
+        }
+        finished = true;
+
+        Log.infof("Uploaded %s: %d bytes in %d part(s)", objectKey, totalBytes, Math.max(1, parts.size()));
+    }
+
+    /**
+     * Discards the upload. Parts already uploaded are deleted by S3.
+     * Failures are logged, not thrown.
+     */
+    public void abort() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+            Log.infof("Aborted multipart upload of %s after %d part(s)", objectKey, parts.size());
+        } catch (SdkException e) {
+            Log.warnf(e, "Failed to abort multipart upload of %s (uploadId=%s)", objectKey, uploadId);
+        }
+    }
+
+    /**
+     * Does nothing; the upload ends with {@link #complete()} or {@link #abort()}.
+     */
+    @Override
+    public void close() {
+        // Closing a writer wrapped around this stream must not finish the object
+    }
+
+    /**
+     * Gets the object key.
+     *
+     * @return The object key
+     */
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    /**
+     * Gets the number of bytes written so far.
+     *
+     * @return Bytes written
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void uploadBufferedPart() {
+        final int partNumber = parts.size() + 1;
+        try {
+            if (uploadId == null) {
+                uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .build()).uploadId();
+            }
+            final UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(objectKey)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) bufferedBytes)
+                            .build(),
+                    RequestBody.fromInputStream(
+                            new ByteArrayInputStream(buffer, 0, bufferedBytes), bufferedBytes));
+            parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+        } catch (SdkException e) {
+            throw new S3UploadException(
+                    "Failed to upload part " + partNumber + " of " + objectKey + ": " + e.getMessage(), e);
+        }
+        Log.debugf("Uploaded part %d of %s (%d bytes)", partNumber, objectKey, bufferedBytes);
+        bufferedBytes = 0;
+    }
+
+    private void ensureOpen() {
+        if (finished) {
+            throw new IllegalStateException("Upload of " + objectKey + " already completed or aborted");
+        }
+    }
+}
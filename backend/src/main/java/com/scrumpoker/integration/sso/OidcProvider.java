@@ -1,6 +1,7 @@
 package com.scrumpoker.integration.sso;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.config.BlockingExecution;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -65,6 +66,10 @@ public class OidcProvider {
     @Inject
     private ObjectMapper objectMapper;
 
+    /** Runs the blocking HTTP calls off the event loop. */
+    @Inject
+    private BlockingExecution blockingExecution;
+
     /** HTTP client for token endpoint requests. */
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(CONNECT_TIMEOUT_SECONDS))
@@ -75,8 +80,9 @@ public class OidcProvider {
      * Implements OAuth2 Authorization Code Flow with PKCE.
      * <p>
      * This method is REACTIVE (returns Uni) but internally uses
-     * blocking HTTP client. Future enhancement: replace with
-     * Mutiny WebClient for fully reactive flow.
+     * blocking HTTP client, which runs on the {@link BlockingExecution}
+     * executor (worker pool or virtual threads). Future enhancement:
+     * replace with Mutiny WebClient for fully reactive flow.
      * </p>
      *
      * @param authorizationCode Authorization code from OIDC callback
@@ -101,7 +107,7 @@ public class OidcProvider {
                 + "(org: %s, issuer: %s)",
                 organizationId, oidcConfig.getIssuer());
 
-        return Uni.createFrom().item(() -> {
+        return blockingExecution.supply(() -> {
             try {
                 // Build token request parameters
                 Map<String, String> params = new HashMap<>();
@@ -330,7 +336,7 @@ public class OidcProvider {
             return Uni.createFrom().item(false);
         }
 
-        return Uni.createFrom().item(() -> {
+        return blockingExecution.supply(() -> {
             try {
                 // Build logout request URL with query parameters
                 String logoutUrl = logoutEndpoint
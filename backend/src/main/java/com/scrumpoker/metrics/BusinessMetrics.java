@@ -1,14 +1,25 @@
 package com.scrumpoker.metrics;
 
 import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.RoomExecutionLanes;
+import com.scrumpoker.api.websocket.RoomWebSocketHandler;
+import com.scrumpoker.api.websocket.message.MessageType;
 import com.scrumpoker.domain.billing.EntityType;
 import com.scrumpoker.domain.billing.SubscriptionStatus;
+import com.scrumpoker.domain.room.RoomMetadataCache;
+import com.scrumpoker.domain.room.RoomStateEngine;
+import com.scrumpoker.domain.room.VoteWriteBehindQueue;
 import com.scrumpoker.domain.user.SubscriptionTier;
+import com.scrumpoker.event.RoomEventSubscriber;
 import com.scrumpoker.repository.SubscriptionRepository;
+import com.scrumpoker.security.JwtClaimsCache;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.logging.Log;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
@@ -18,6 +29,7 @@ import jakarta.inject.Inject;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -27,6 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * This class registers custom business metrics with Micrometer for export to Prometheus.
  * It includes metrics for tracking:
  * - Active WebSocket connections and rooms
+ * - WebSocket frames and bytes sent (per room broadcast and in total)
  * - Vote and round completion events
  * - Active subscriptions by tier
  * - Monthly Recurring Revenue (MRR)
@@ -38,6 +51,76 @@ import java.util.concurrent.atomic.AtomicReference;
 @ApplicationScoped
 public class BusinessMetrics {
 
+    /**
+     * Drop reason: the room has no sessions on this node.
+     */
+    public static final String DROP_REASON_NO_LOCAL_SESSIONS = "no_local_sessions";
+
+    /**
+     * Drop reason: the event was published and already delivered by this node.
+     */
+    public static final String DROP_REASON_ECHO = "echo";
+
+    /**
+     * Drop reason: the event envelope could not be read.
+     */
+    public static final String DROP_REASON_MALFORMED = "malformed";
+
+    /**
+     * Invalidation source: a room was changed on this node.
+     */
+    public static final String INVALIDATION_SOURCE_LOCAL = "local";
+
+    /**
+     * Invalidation source: a message on the Redis invalidation channel.
+     */
+    public static final String INVALIDATION_SOURCE_REMOTE = "remote";
+
+    /**
+     * Handshake rejection reason: too many handshakes in flight on this node.
+     */
+    public static final String HANDSHAKE_REJECTED_OVERLOADED = "overloaded";
+
+    /**
+     * Handshake rejection reason: the handshake did not complete within its timeout.
+     */
+    public static final String HANDSHAKE_REJECTED_TIMEOUT = "timeout";
+
+    /**
+     * Handshake rejection reason: the JWT token is invalid, expired or revoked.
+     */
+    public static final String HANDSHAKE_REJECTED_UNAUTHORIZED = "unauthorized";
+
+    /**
+     * Handshake rejection reason: the room does not exist or is deleted.
+     */
+    public static final String HANDSHAKE_REJECTED_ROOM_NOT_FOUND = "room_not_found";
+
+    /**
+     * Handshake rejection reason: unexpected failure (e.g., database unavailable).
+     */
+    public static final String HANDSHAKE_REJECTED_ERROR = "error";
+
+    /**
+     * Outbound drop reason: a queued state message was superseded by a newer one.
+     */
+    public static final String OUTBOUND_DROP_COALESCED = "coalesced";
+
+    /**
+     * Outbound drop reason: a progress tick was dropped because the session's queue was over budget.
+     */
+    public static final String OUTBOUND_DROP_PROGRESS = "progress";
+
+    /**
+     * Resync mode: a joining client caught up from the room's replay log.
+     */
+    public static final String RESYNC_REPLAY = "replay";
+
+    /**
+     * Resync mode: a joining client was sent a room state snapshot.
+     */
+    public static final String RESYNC_SNAPSHOT = "snapshot";
+
     @Inject
     MeterRegistry registry;
 
@@ -47,6 +130,27 @@ public class BusinessMetrics {
     @Inject
     SubscriptionRepository subscriptionRepository;
 
+    @Inject
+    RoomEventSubscriber roomEventSubscriber;
+
+    @Inject
+    RoomStateEngine roomStateEngine;
+
+    @Inject
+    VoteWriteBehindQueue voteWriteBehindQueue;
+
+    @Inject
+    RoomMetadataCache roomMetadataCache;
+
+    @Inject
+    JwtClaimsCache jwtClaimsCache;
+
+    @Inject
+    RoomWebSocketHandler roomWebSocketHandler;
+
+    @Inject
+    RoomExecutionLanes roomExecutionLanes;
+
     /**
      * Map to store vote counters by deck type.
      * Key: deck type (e.g., "fibonacci", "t-shirt", "modified-fibonacci")
@@ -73,6 +177,145 @@ public class BusinessMetrics {
      */
     private final AtomicReference<Double> cachedMRR = new AtomicReference<>(0.0);
 
+    /**
+     * Counter of WebSocket frames written to sessions (broadcast and unicast).
+     */
+    private Counter framesSentCounter;
+
+    /**
+     * Counter of WebSocket payload bytes written to sessions (broadcast and unicast).
+     */
+    private Counter bytesSentCounter;
+
+    /**
+     * Distribution of frames sent per room broadcast (i.e. room fan-out).
+     * Recorded as a distribution rather than a per-room tag to keep metric cardinality bounded.
+     */
+    private DistributionSummary roomBroadcastFrames;
+
+    /**
+     * Distribution of bytes sent per room broadcast (frame size x recipients).
+     */
+    private DistributionSummary roomBroadcastBytes;
+
+    /**
+     * Map to store dropped Redis room event counters by reason.
+     * Key: drop reason (e.g., "no_local_sessions", "echo", "malformed")
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> roomEventsDroppedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Counter of votes handed to the write-behind queue.
+     */
+    private Counter votesEnqueuedCounter;
+
+    /**
+     * Counter of queued votes that replaced a not yet written vote of the same participant.
+     */
+    private Counter votesCoalescedCounter;
+
+    /**
+     * Counter of vote rows written by write-behind flushes.
+     */
+    private Counter votesWrittenCounter;
+
+    /**
+     * Counter of votes given up on after repeated write failures.
+     */
+    private Counter votesDroppedCounter;
+
+    /**
+     * Latency of write-behind flushes.
+     */
+    private Timer voteFlushTimer;
+
+    /**
+     * Distribution of votes received per row written, per flush (1.0 = nothing coalesced).
+     */
+    private DistributionSummary voteCoalescingRatio;
+
+    /**
+     * Map to store room metadata cache invalidation counters by source.
+     * Key: invalidation source ("local" or "remote")
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> roomCacheInvalidationCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Latency of WebSocket handshakes that completed (token check, room lookup, registration).
+     */
+    private Timer handshakeAcceptedTimer;
+
+    /**
+     * Latency of WebSocket handshakes that were rejected.
+     */
+    private Timer handshakeRejectedTimer;
+
+    /**
+     * Map to store WebSocket handshake rejection counters by reason.
+     * Key: rejection reason (one of the {@code HANDSHAKE_REJECTED_*} constants)
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> handshakeRejectionCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Distribution of per-session outbound queue depth, recorded whenever a frame is queued.
+     * Recorded as a distribution rather than a per-session tag to keep metric cardinality bounded.
+     */
+    private DistributionSummary outboundQueueDepth;
+
+    /**
+     * Counter of sessions closed because they exceeded their outbound queue budget.
+     */
+    private Counter slowConsumerDisconnectsCounter;
+
+    /**
+     * Map to store outbound frame drop counters by reason.
+     * Key: drop reason (one of the {@code OUTBOUND_DROP_*} constants)
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> outboundDroppedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Map to store room join resync counters by mode.
+     * Key: resync mode (one of the {@code RESYNC_*} constants)
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> roomResyncCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Distribution of events replayed to a rejoining client.
+     */
+    private DistributionSummary replayedEvents;
+
+    /**
+     * Counter of sequenced room events delivered past a gap in the room's event sequence.
+     */
+    private Counter sequenceGapsCounter;
+
+    /**
+     * Distribution of events published per room event batch.
+     */
+    private DistributionSummary roomEventBatchSize;
+
+    /**
+     * Time incoming messages wait on their room's execution lane, indexed by lane.
+     */
+    private Timer[] roomLaneWaitTimers;
+
+    /**
+     * Map to store counters of rate-limited incoming messages.
+     * Key: message type and scope ({@code type:scope})
+     * Value: Counter instance
+     */
+    private final Map<String, Counter> rateLimitedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Distribution of the peak heap growth observed while an export job ran.
+     */
+    private DistributionSummary exportHeapPeak;
+
     /**
      * Initializes all business metrics on application startup.
      * Registers gauges with lambda suppliers that provide real-time values.
@@ -117,6 +360,160 @@ public class BusinessMetrics {
                 .description("Monthly recurring revenue in cents")
                 .register(registry);
 
+        // Register WebSocket outbound traffic meters
+        framesSentCounter = Counter.builder("scrumpoker_websocket_frames_sent_total")
+                .description("WebSocket frames written to client sessions")
+                .register(registry);
+        bytesSentCounter = Counter.builder("scrumpoker_websocket_bytes_sent_total")
+                .description("WebSocket payload bytes written to client sessions")
+                .baseUnit("bytes")
+                .register(registry);
+        roomBroadcastFrames = DistributionSummary.builder("scrumpoker_websocket_room_broadcast_frames")
+                .description("Frames sent per room broadcast")
+                .register(registry);
+        roomBroadcastBytes = DistributionSummary.builder("scrumpoker_websocket_room_broadcast_bytes")
+                .description("Bytes sent per room broadcast")
+                .baseUnit("bytes")
+                .register(registry);
+
+        // Register Redis Pub/Sub meters
+        Gauge.builder("scrumpoker_redis_subscriptions_active", roomEventSubscriber,
+                RoomEventSubscriber::getActiveSubscriptionCount)
+                .description("Active Redis Pub/Sub subscriptions on this node")
+                .register(registry);
+
+        // Register in-memory room state gauge
+        Gauge.builder("scrumpoker_room_state_rooms_loaded", roomStateEngine,
+                RoomStateEngine::getLoadedRoomCount)
+                .description("Rooms with voting state held in memory on this node")
+                .register(registry);
+
+        // Register vote write-behind meters
+        Gauge.builder("scrumpoker_vote_write_behind_depth", voteWriteBehindQueue,
+                VoteWriteBehindQueue::getPendingCount)
+                .description("Votes waiting to be written by the write-behind queue")
+                .register(registry);
+        votesEnqueuedCounter = Counter.builder("scrumpoker_vote_write_behind_enqueued_total")
+                .description("Votes handed to the write-behind queue")
+                .register(registry);
+        votesCoalescedCounter = Counter.builder("scrumpoker_vote_write_behind_coalesced_total")
+                .description("Queued votes that replaced a pending vote of the same participant")
+                .register(registry);
+        votesWrittenCounter = Counter.builder("scrumpoker_vote_write_behind_written_total")
+                .description("Vote rows written by write-behind flushes")
+                .register(registry);
+        votesDroppedCounter = Counter.builder("scrumpoker_vote_write_behind_dropped_total")
+                .description("Votes dropped by the write-behind queue after repeated write failures")
+                .register(registry);
+        voteFlushTimer = Timer.builder("scrumpoker_vote_write_behind_flush_seconds")
+                .description("Latency of write-behind vote flushes")
+                .register(registry);
+        voteCoalescingRatio = DistributionSummary.builder("scrumpoker_vote_write_behind_coalescing_ratio")
+                .description("Votes received per row written in a write-behind flush")
+                .register(registry);
+
+        // Register room metadata cache meters (read from Caffeine statistics)
+        Gauge.builder("scrumpoker_room_cache_size", roomMetadataCache, RoomMetadataCache::size)
+                .description("Rooms held in the room metadata cache on this node")
+                .register(registry);
+        Gauge.builder("scrumpoker_room_cache_hit_ratio", roomMetadataCache,
+                cache -> cache.stats().hitRate())
+                .description("Ratio of room metadata lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("scrumpoker_room_cache_requests_total", roomMetadataCache,
+                cache -> cache.stats().hitCount())
+                .description("Room metadata cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("scrumpoker_room_cache_requests_total", roomMetadataCache,
+                cache -> cache.stats().missCount())
+                .description("Room metadata cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("scrumpoker_room_cache_evictions_total", roomMetadataCache,
+                cache -> cache.stats().evictionCount())
+                .description("Room metadata cache entries evicted by size or expiry")
+                .register(registry);
+
+        // Register JWT claims cache meters (a miss costs a signature verification)
+        FunctionCounter.builder("scrumpoker_jwt_cache_requests_total", jwtClaimsCache,
+                cache -> cache.stats().hitCount())
+                .description("Access token validations looked up in the JWT claims cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("scrumpoker_jwt_cache_requests_total", jwtClaimsCache,
+                cache -> cache.stats().missCount())
+                .description("Access token validations looked up in the JWT claims cache")
+                .tag("result", "miss")
+                .register(registry);
+
+        // Register WebSocket handshake meters
+        handshakeAcceptedTimer = Timer.builder("scrumpoker_websocket_handshake_seconds")
+                .description("Latency of WebSocket handshakes from onOpen to registration or rejection")
+                .tag("outcome", "accepted")
+                .register(registry);
+        handshakeRejectedTimer = Timer.builder("scrumpoker_websocket_handshake_seconds")
+                .description("Latency of WebSocket handshakes from onOpen to registration or rejection")
+                .tag("outcome", "rejected")
+                .register(registry);
+        Gauge.builder("scrumpoker_websocket_handshakes_in_flight", roomWebSocketHandler,
+                RoomWebSocketHandler::getHandshakesInFlight)
+                .description("WebSocket handshakes currently being processed on this node")
+                .register(registry);
+        // Register per-session outbound queue meters
+        Gauge.builder("scrumpoker_websocket_outbound_queued_frames", connectionRegistry,
+                ConnectionRegistry::getOutboundQueuedFrames)
+                .description("Frames waiting in per-session outbound queues on this node")
+                .register(registry);
+        Gauge.builder("scrumpoker_websocket_outbound_queued_bytes", connectionRegistry,
+                ConnectionRegistry::getOutboundQueuedBytes)
+                .description("Bytes waiting in per-session outbound queues on this node")
+                .register(registry);
+        outboundQueueDepth = DistributionSummary.builder("scrumpoker_websocket_outbound_queue_depth")
+                .description("Per-session outbound queue depth when a frame is queued")
+                .register(registry);
+        slowConsumerDisconnectsCounter = Counter.builder("scrumpoker_websocket_slow_consumer_disconnects_total")
+                .description("Sessions closed for exceeding their outbound queue budget")
+                .register(registry);
+        Gauge.builder("scrumpoker_websocket_timers_pending", roomWebSocketHandler,
+                RoomWebSocketHandler::getPendingTimers)
+                .description("Join timeouts and heartbeats scheduled on the WebSocket timing wheel")
+                .register(registry);
+
+        // Register room event replay meters
+        replayedEvents = DistributionSummary.builder("scrumpoker_room_events_replayed")
+                .description("Room events replayed to a rejoining client")
+                .register(registry);
+        sequenceGapsCounter = Counter.builder("scrumpoker_room_event_sequence_gaps_total")
+                .description("Room events delivered without waiting further for an earlier event")
+                .register(registry);
+        roomEventBatchSize = DistributionSummary.builder("scrumpoker_room_event_batch_size")
+                .description("Vote events published together per aggregation window")
+                .register(registry);
+
+        // Register export job meters
+        exportHeapPeak = DistributionSummary.builder("scrumpoker_export_heap_peak_bytes")
+                .description("Peak heap growth over the start of an export job, sampled while it runs")
+                .baseUnit("bytes")
+                .register(registry);
+
+        // Register per-lane meters for room message execution
+        Timer[] laneWaitTimers = new Timer[roomExecutionLanes.getLaneCount()];
+        for (int i = 0; i < laneWaitTimers.length; i++) {
+            int lane = i;
+            String laneTag = String.valueOf(lane);
+            Gauge.builder("scrumpoker_websocket_room_lane_queue_depth", roomExecutionLanes,
+                    lanes -> lanes.getQueueDepth(lane))
+                    .description("Incoming messages queued or running on a room execution lane")
+                    .tag("lane", laneTag)
+                    .register(registry);
+            laneWaitTimers[i] = Timer.builder("scrumpoker_websocket_room_lane_wait_seconds")
+                    .description("Time incoming messages wait on their room's lane before being handled")
+                    .tag("lane", laneTag)
+                    .register(registry);
+        }
+        roomLaneWaitTimers = laneWaitTimers;
+
         Log.info("Business metrics initialized successfully");
     }
 
@@ -165,6 +562,270 @@ public class BusinessMetrics {
         counter.increment();
     }
 
+    /**
+     * Records WebSocket frames written to sessions.
+     * <p>
+     * This method should be called from ConnectionRegistry after frames have been
+     * handed to the container. It is a no-op until metrics are initialized at startup.
+     * </p>
+     *
+     * @param frames Number of frames sent
+     * @param bytes Total payload bytes sent
+     */
+    public void recordFramesSent(int frames, long bytes) {
+        if (framesSentCounter == null || frames <= 0) {
+            return;
+        }
+        framesSentCounter.increment(frames);
+        bytesSentCounter.increment(bytes);
+    }
+
+    /**
+     * Records a broadcast to all sessions of a room.
+     * <p>
+     * Updates the total frame/byte counters and the per-broadcast distributions.
+     * </p>
+     *
+     * @param frames Number of sessions the frame was sent to
+     * @param bytes Total payload bytes sent across those sessions
+     */
+    public void recordRoomBroadcast(int frames, long bytes) {
+        if (roomBroadcastFrames == null) {
+            return;
+        }
+        recordFramesSent(frames, bytes);
+        roomBroadcastFrames.record(frames);
+        roomBroadcastBytes.record(bytes);
+    }
+
+    /**
+     * Increments the counter of Redis room events that were not delivered by this node.
+     *
+     * @param reason Drop reason (one of the {@code DROP_REASON_*} constants)
+     */
+    public void incrementRoomEventsDropped(String reason) {
+        Counter counter = roomEventsDroppedCounters.computeIfAbsent(reason, key ->
+                Counter.builder("scrumpoker_room_events_dropped_total")
+                        .description("Redis room events not delivered by this node")
+                        .tag("reason", key)
+                        .register(registry)
+        );
+
+        counter.increment();
+    }
+
+    /**
+     * Increments the room metadata cache invalidation counter.
+     *
+     * @param source Invalidation source (one of the {@code INVALIDATION_SOURCE_*} constants)
+     */
+    public void incrementRoomCacheInvalidations(String source) {
+        Counter counter = roomCacheInvalidationCounters.computeIfAbsent(source, key ->
+                Counter.builder("scrumpoker_room_cache_invalidations_total")
+                        .description("Room metadata cache invalidations")
+                        .tag("source", key)
+                        .register(registry)
+        );
+
+        counter.increment();
+    }
+
+    /**
+     * Records a completed WebSocket handshake.
+     *
+     * @param durationNanos Handshake duration in nanoseconds
+     */
+    public void recordHandshakeAccepted(long durationNanos) {
+        if (handshakeAcceptedTimer == null) {
+            return;
+        }
+        handshakeAcceptedTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a rejected WebSocket handshake.
+     *
+     * @param reason Rejection reason (one of the {@code HANDSHAKE_REJECTED_*} constants)
+     * @param durationNanos Handshake duration in nanoseconds
+     */
+    public void recordHandshakeRejected(String reason, long durationNanos) {
+        if (handshakeRejectedTimer == null) {
+            return;
+        }
+        handshakeRejectedTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        handshakeRejectionCounters.computeIfAbsent(reason, key ->
+                Counter.builder("scrumpoker_websocket_handshake_rejections_total")
+                        .description("WebSocket handshakes rejected by this node")
+                        .tag("reason", key)
+                        .register(registry)
+        ).increment();
+    }
+
+    /**
+     * Records the depth of a session's outbound queue after a frame was queued.
+     *
+     * @param depth Frames waiting behind the in-flight send
+     */
+    public void recordOutboundQueueDepth(int depth) {
+        if (outboundQueueDepth == null) {
+            return;
+        }
+        outboundQueueDepth.record(depth);
+    }
+
+    /**
+     * Increments the counter of outbound frames that were not sent.
+     *
+     * @param reason Drop reason (one of the {@code OUTBOUND_DROP_*} constants)
+     */
+    public void incrementOutboundDropped(String reason) {
+        Counter counter = outboundDroppedCounters.computeIfAbsent(reason, key ->
+                Counter.builder("scrumpoker_websocket_outbound_dropped_total")
+                        .description("Outbound frames coalesced or dropped by per-session queues")
+                        .tag("reason", key)
+                        .register(registry)
+        );
+
+        counter.increment();
+    }
+
+    /**
+     * Increments the counter of sessions disconnected as slow consumers.
+     */
+    public void incrementSlowConsumerDisconnects() {
+        if (slowConsumerDisconnectsCounter == null) {
+            return;
+        }
+        slowConsumerDisconnectsCounter.increment();
+    }
+
+    /**
+     * Records how a joining client was brought up to date with its room.
+     *
+     * @param mode Resync mode (one of the {@code RESYNC_*} constants)
+     * @param eventCount Number of events replayed (0 for a snapshot)
+     */
+    public void recordRoomResync(String mode, int eventCount) {
+        roomResyncCounters.computeIfAbsent(mode, key ->
+                Counter.builder("scrumpoker_room_resyncs_total")
+                        .description("Room joins brought up to date by replay or snapshot")
+                        .tag("mode", key)
+                        .register(registry)
+        ).increment();
+
+        if (replayedEvents != null && RESYNC_REPLAY.equals(mode)) {
+            replayedEvents.record(eventCount);
+        }
+    }
+
+    /**
+     * Increments the counter of room events delivered past a gap in the room's event sequence.
+     */
+    public void incrementRoomEventSequenceGaps() {
+        if (sequenceGapsCounter == null) {
+            return;
+        }
+        sequenceGapsCounter.increment();
+    }
+
+    /**
+     * Records the number of events published together from one aggregation window.
+     *
+     * @param eventCount Events in the batch
+     */
+    public void recordRoomEventBatch(int eventCount) {
+        if (roomEventBatchSize == null) {
+            return;
+        }
+        roomEventBatchSize.record(eventCount);
+    }
+
+    /**
+     * Records how long an incoming message waited on its room's execution lane.
+     *
+     * @param lane The lane index
+     * @param waitNanos Time from submission to start in nanoseconds
+     */
+    public void recordRoomLaneWait(int lane, long waitNanos) {
+        Timer[] timers = roomLaneWaitTimers;
+        if (timers == null || lane >= timers.length) {
+            return;
+        }
+        timers[lane].record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records an incoming message refused by the rate limiter.
+     *
+     * @param messageType The message type, or null for unknown types
+     * @param scope The limit that refused the message ({@code session} or {@code room})
+     */
+    public void incrementRateLimited(MessageType messageType, String scope) {
+        String type = messageType != null ? messageType.getType() : "unknown";
+        rateLimitedCounters.computeIfAbsent(type + ":" + scope, key ->
+                Counter.builder("scrumpoker_websocket_rate_limited_total")
+                        .description("Incoming WebSocket messages refused by rate limits")
+                        .tag("type", type)
+                        .tag("scope", scope)
+                        .register(registry)
+        ).increment();
+    }
+
+    /**
+     * Records the peak heap growth of a finished export job.
+     *
+     * @param bytes Peak heap in use above the level at the start of the job
+     */
+    public void recordExportHeapPeak(long bytes) {
+        if (exportHeapPeak == null) {
+            return;
+        }
+        exportHeapPeak.record(bytes);
+    }
+
+    /**
+     * Records a vote handed to the write-behind queue.
+     *
+     * @param coalesced true if the vote replaced a pending vote of the same participant
+     */
+    public void incrementVotesEnqueued(boolean coalesced) {
+        if (votesEnqueuedCounter == null) {
+            return;
+        }
+        votesEnqueuedCounter.increment();
+        if (coalesced) {
+            votesCoalescedCounter.increment();
+        }
+    }
+
+    /**
+     * Records a successful write-behind flush.
+     *
+     * @param rows Vote rows written
+     * @param coalesced Votes that were replaced before being written since the previous flush
+     * @param durationNanos Flush duration in nanoseconds
+     */
+    public void recordVoteFlush(int rows, long coalesced, long durationNanos) {
+        if (voteFlushTimer == null || rows <= 0) {
+            return;
+        }
+        votesWrittenCounter.increment(rows);
+        voteFlushTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        voteCoalescingRatio.record((double) (rows + coalesced) / rows);
+    }
+
+    /**
+     * Records votes the write-behind queue gave up on.
+     *
+     * @param count Votes dropped
+     */
+    public void incrementVotesDropped(int count) {
+        if (votesDroppedCounter == null || count <= 0) {
+            return;
+        }
+        votesDroppedCounter.increment(count);
+    }
+
     /**
      * Scheduled task that updates subscription metrics periodically.
      * <p>
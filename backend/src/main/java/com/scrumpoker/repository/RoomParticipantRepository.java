@@ -47,6 +47,17 @@ public class RoomParticipantRepository implements PanacheRepositoryBase<RoomPart
         return find("user.userId", userId).list();
     }
 
+    /**
+     * Find the participant record of a user in a room.
+     *
+     * @param roomId The room ID
+     * @param userId The user ID
+     * @return Uni containing the participant if found, or null if not found
+     */
+    public Uni<RoomParticipant> findByRoomIdAndUserId(String roomId, UUID userId) {
+        return find("room.roomId = ?1 and user.userId = ?2", roomId, userId).firstResult();
+    }
+
     /**
      * Find active voter participants in a room.
      * Voters are participants who can cast votes.
@@ -5,6 +5,7 @@ import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +26,31 @@ public class RoundRepository implements PanacheRepositoryBase<Round, UUID> {
         return find("room.roomId = ?1 order by roundNumber", roomId).list();
     }
 
+    /**
+     * Find a page of a room's rounds started within a time window, ordered by round number.
+     * <p>
+     * Pages are keyed by round number: pass the last round number of the previous page
+     * (or 0 for the first page) to continue after it.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param from Earliest round start (inclusive)
+     * @param to Latest round start (inclusive), or null for no upper bound
+     * @param afterRoundNumber Round number the page starts after
+     * @param limit Maximum number of rounds in the page
+     * @return Uni of list of rounds in the page
+     */
+    public Uni<List<Round>> findPageByRoomIdAndWindow(String roomId, Instant from, Instant to,
+                                                      int afterRoundNumber, int limit) {
+        String query = "room.roomId = ?1 and roundNumber > ?2 and startedAt >= ?3";
+        String order = " order by roundNumber";
+        if (to == null) {
+            return find(query + order, roomId, afterRoundNumber, from).page(0, limit).list();
+        }
+        return find(query + " and startedAt <= ?4" + order, roomId, afterRoundNumber, from, to)
+                .page(0, limit).list();
+    }
+
     /**
      * Find a specific round by room ID and round number.
      *
@@ -1,13 +1,20 @@
 package com.scrumpoker.repository;
 
+import com.scrumpoker.domain.reporting.SessionCursor;
+import com.scrumpoker.domain.reporting.SessionSummaryDTO;
 import com.scrumpoker.domain.room.SessionHistory;
 import com.scrumpoker.domain.room.SessionHistoryId;
 import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.reactive.mutiny.Mutiny;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -187,6 +194,174 @@ public class SessionHistoryRepository
                         .getSingleResultOrNull());
     }
 
+    /**
+     * Find the most recent session of a room.
+     *
+     * @param roomId The room ID
+     * @return Uni containing the latest session, or null if the room has none
+     */
+    public Uni<SessionHistory> findLatestByRoomId(final String roomId) {
+        // Use native SQL to avoid Hibernate Reactive @EmbeddedId bug
+        final String sql = """
+                SELECT sh.* FROM session_history sh
+                WHERE sh.room_id = ?1
+                ORDER BY sh.started_at DESC
+                LIMIT 1
+                """;
+        return Panache.getSession()
+                .chain(session -> session
+                        .createNativeQuery(sql, SessionHistory.class)
+                        .setParameter(1, roomId)
+                        .getSingleResultOrNull());
+    }
+
+    /**
+     * Find the most recent session of a room and lock its row until the current
+     * transaction ends.
+     * <p>
+     * Used for read-modify-write of the session's JSONB aggregates, so that concurrent
+     * reveals and resets of the room apply their changes one after another instead of
+     * overwriting each other. Must be called inside a transaction.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @return Uni containing the latest session, or null if the room has none
+     */
+    public Uni<SessionHistory> findLatestByRoomIdForUpdate(final String roomId) {
+        // Use native SQL to avoid Hibernate Reactive @EmbeddedId bug
+        final String sql = """
+                SELECT sh.* FROM session_history sh
+                WHERE sh.room_id = ?1
+                ORDER BY sh.started_at DESC
+                LIMIT 1
+                FOR UPDATE
+                """;
+        return Panache.getSession()
+                .chain(session -> session
+                        .createNativeQuery(sql, SessionHistory.class)
+                        .setParameter(1, roomId)
+                        .getSingleResultOrNull());
+    }
+
+    /**
+     * Find one page of session summaries for a room owner's sessions within a date range,
+     * newest first.
+     * <p>
+     * The page starts after {@code after} (keyset pagination on started_at and session_id),
+     * so the cost of a page does not depend on how many pages precede it. Summary columns
+     * are computed in the same query: counts come from the JSONB summary stats, and the
+     * average vote is the average of the session's round averages.
+     * </p>
+     *
+     * @param ownerId The room owner's user ID
+     * @param startDate The start of the date range
+     * @param endDate The end of the date range
+     * @param after Cursor of the last session of the previous page, or null for the first page
+     * @param limit Maximum number of summaries to return
+     * @return Uni of list of session summaries
+     */
+    public Uni<List<SessionSummaryDTO>> findSummaryPageByOwner(
+            final UUID ownerId, final Instant startDate, final Instant endDate,
+            final SessionCursor after, final int limit) {
+        return findSummaryPage("r.owner_id = ?1", ownerId,
+                startDate, endDate, after, limit);
+    }
+
+    /**
+     * Find one page of session summaries for a room's sessions within a date range,
+     * newest first.
+     *
+     * @param roomId The room ID
+     * @param startDate The start of the date range
+     * @param endDate The end of the date range
+     * @param after Cursor of the last session of the previous page, or null for the first page
+     * @param limit Maximum number of summaries to return
+     * @return Uni of list of session summaries
+     * @see #findSummaryPageByOwner(UUID, Instant, Instant, SessionCursor, int)
+     */
+    public Uni<List<SessionSummaryDTO>> findSummaryPageByRoom(
+            final String roomId, final Instant startDate, final Instant endDate,
+            final SessionCursor after, final int limit) {
+        return findSummaryPage("sh.room_id = ?1", roomId,
+                startDate, endDate, after, limit);
+    }
+
+    // SUPPRESS CHECKSTYLE MagicNumber
+    private Uni<List<SessionSummaryDTO>> findSummaryPage(
+            final String filter, final Object filterValue,
+            final Instant startDate, final Instant endDate,
+            final SessionCursor after, final int limit) {
+        // Use native SQL to avoid Hibernate Reactive @EmbeddedId bug
+        final String keyset = after != null
+                ? "  AND (sh.started_at, sh.session_id) < (?4, ?5)\n"
+                : "";
+        final int limitParameter = after != null ? 6 : 4;
+        final String sql = """
+                SELECT sh.session_id, sh.started_at, sh.ended_at, r.title,
+                       sh.total_stories, sh.total_rounds,
+                       (sh.summary_stats ->> 'consensus_rate')::numeric,
+                       (SELECT AVG(rd.average) FROM round rd
+                        WHERE rd.room_id = sh.room_id
+                          AND rd.average IS NOT NULL
+                          AND rd.started_at >= sh.started_at
+                          AND rd.started_at <= sh.ended_at),
+                       jsonb_array_length(sh.participants),
+                       (sh.summary_stats ->> 'total_votes')::integer
+                FROM session_history sh
+                INNER JOIN room r ON sh.room_id = r.room_id
+                WHERE %s
+                  AND sh.started_at >= ?2
+                  AND sh.started_at <= ?3
+                %sORDER BY sh.started_at DESC, sh.session_id DESC
+                LIMIT ?%d
+                """.formatted(filter, keyset, limitParameter);
+        return Panache.getSession()
+                .chain(session -> {
+                    final Mutiny.SelectionQuery<Object[]> query = session
+                            .createNativeQuery(sql, Object[].class)
+                            .setParameter(1, filterValue)
+                            .setParameter(2, startDate)
+                            .setParameter(3, endDate);
+                    if (after != null) {
+                        query.setParameter(4, after.startedAt())
+                                .setParameter(5, after.sessionId());
+                    }
+                    return query.setParameter(limitParameter, limit)
+                            .getResultList();
+                })
+                .map(rows -> rows.stream()
+                        .map(SessionHistoryRepository::toSessionSummary)
+                        .toList());
+    }
+
+    // SUPPRESS CHECKSTYLE MagicNumber
+    private static SessionSummaryDTO toSessionSummary(final Object[] row) {
+        final BigDecimal averageVote = row[7] != null
+                ? ((BigDecimal) row[7]).setScale(4, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(4);
+        return new SessionSummaryDTO(
+                (UUID) row[0],
+                (String) row[3],
+                toInstant(row[1]),
+                toInstant(row[2]),
+                ((Number) row[4]).intValue(),
+                ((Number) row[5]).intValue(),
+                row[6] != null ? (BigDecimal) row[6] : BigDecimal.ZERO,
+                averageVote,
+                ((Number) row[8]).intValue(),
+                row[9] != null ? ((Number) row[9]).intValue() : 0);
+    }
+
+    private static Instant toInstant(final Object value) {
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return (Instant) value;
+    }
+
     /**
      * Find session history by owner user ID and date range.
      * Optimized for partition pruning.
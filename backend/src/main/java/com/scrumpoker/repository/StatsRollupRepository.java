@@ -0,0 +1,304 @@
+package com.scrumpoker.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.domain.reporting.StatsRollupDelta;
+import com.scrumpoker.domain.reporting.StatsRollupRange;
+import com.scrumpoker.domain.reporting.StatsRollupScope;
+import com.scrumpoker.domain.reporting.StatsRollupTotals;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Repository for the statistics rollup tables ({@code stats_rollup} and
+ * {@code stats_rollup_participant}).
+ * <p>
+ * Rollups hold session counters per scope (owner user, room,
+ * organization) and per UTC day and month of session start. They are
+ * updated with deltas in the transaction that writes the session
+ * history record, so statistics read a handful of buckets instead of
+ * parsing every session's JSONB columns.
+ * </p>
+ * <p>
+ * The rollup rows are plain counters without an entity mapping, so all
+ * queries are native SQL.
+ * </p>
+ */
+@ApplicationScoped
+public class StatsRollupRepository {
+
+    /**
+     * Scopes of a room and bucket keys of a session start, shared by the
+     * delta upserts. Parameters: ?1 room ID, ?2 day bucket, ?3 month bucket.
+     */
+    private static final String ROOM_SCOPES_AND_BUCKETS = """
+            FROM room r
+            CROSS JOIN LATERAL (VALUES
+                    ('ROOM', CAST(r.room_id AS VARCHAR)),
+                    ('USER', CAST(r.owner_id AS VARCHAR)),
+                    ('ORGANIZATION', CAST(r.org_id AS VARCHAR))) AS sc(scope_type, scope_id)
+            CROSS JOIN (VALUES
+                    ('DAY', CAST(?2 AS DATE)),
+                    ('MONTH', CAST(?3 AS DATE))) AS b(granularity, bucket_start)
+            """;
+
+    /**
+     * Bucket filter of a scope and range. Parameters: ?1 scope type,
+     * ?2 scope ID, ?3-?8 range bounds.
+     */
+    private static final String SCOPE_AND_RANGE = """
+            WHERE scope_type = ?1 AND scope_id = ?2
+              AND ((granularity = 'MONTH' AND bucket_start >= ?3 AND bucket_start < ?4)
+                OR (granularity = 'DAY' AND ((bucket_start >= ?5 AND bucket_start < ?6)
+                                          OR (bucket_start >= ?7 AND bucket_start < ?8))))
+            """;
+
+    /**
+     * Scopes and buckets of every session history record, shared by the
+     * rebuild statements.
+     */
+    private static final String SESSION_SCOPES_AND_BUCKETS = """
+            FROM session_history sh
+            INNER JOIN room r ON sh.room_id = r.room_id
+            CROSS JOIN LATERAL (VALUES
+                    ('ROOM', CAST(r.room_id AS VARCHAR)),
+                    ('USER', CAST(r.owner_id AS VARCHAR)),
+                    ('ORGANIZATION', CAST(r.org_id AS VARCHAR))) AS sc(scope_type, scope_id)
+            CROSS JOIN LATERAL (VALUES
+                    ('DAY', CAST(sh.started_at AT TIME ZONE 'UTC' AS DATE)),
+                    ('MONTH', CAST(date_trunc('month', sh.started_at AT TIME ZONE 'UTC') AS DATE)))
+                    AS b(granularity, bucket_start)
+            """;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Applies a session history change to the rollups of the session's
+     * room, owner and organization.
+     *
+     * @param roomId The session's room ID
+     * @param sessionStartedAt The session start time (selects the buckets)
+     * @param delta The change to apply
+     * @return Uni that completes when the rollups are updated
+     */
+    // SUPPRESS CHECKSTYLE MagicNumber
+    public Uni<Void> applyDelta(final String roomId, final Instant sessionStartedAt,
+                                final StatsRollupDelta delta) {
+        if (delta.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        final LocalDate day = LocalDate.ofInstant(sessionStartedAt, ZoneOffset.UTC);
+        final LocalDate month = day.withDayOfMonth(1);
+
+        final String countersSql = """
+                INSERT INTO stats_rollup AS s (scope_type, scope_id, granularity, bucket_start,
+                        sessions, rounds, stories, votes, consensus_rounds, consensus_rate_sum)
+                SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+                       ?4, ?5, ?6, ?7, ?8, ?9
+                """ + ROOM_SCOPES_AND_BUCKETS + """
+                WHERE r.room_id = ?1 AND sc.scope_id IS NOT NULL
+                ON CONFLICT (scope_type, scope_id, granularity, bucket_start) DO UPDATE SET
+                    sessions = s.sessions + EXCLUDED.sessions,
+                    rounds = s.rounds + EXCLUDED.rounds,
+                    stories = s.stories + EXCLUDED.stories,
+                    votes = s.votes + EXCLUDED.votes,
+                    consensus_rounds = s.consensus_rounds + EXCLUDED.consensus_rounds,
+                    consensus_rate_sum = s.consensus_rate_sum + EXCLUDED.consensus_rate_sum
+                """;
+
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(countersSql)
+                        .setParameter(1, roomId)
+                        .setParameter(2, day)
+                        .setParameter(3, month)
+                        .setParameter(4, delta.sessions())
+                        .setParameter(5, delta.rounds())
+                        .setParameter(6, delta.stories())
+                        .setParameter(7, delta.votes())
+                        .setParameter(8, delta.consensusRounds())
+                        .setParameter(9, delta.consensusRateSum())
+                        .executeUpdate()
+                        .chain(() -> applyParticipantVotes(session, roomId, day, month,
+                                delta.participantVotes())))
+                .replaceWithVoid();
+    }
+
+    private Uni<Integer> applyParticipantVotes(final Mutiny.Session session, final String roomId,
+                                               final LocalDate day, final LocalDate month,
+                                               final Map<String, Integer> participantVotes) {
+        if (participantVotes.isEmpty()) {
+            return Uni.createFrom().item(0);
+        }
+        final String votesJson;
+        try {
+            votesJson = objectMapper.writeValueAsString(participantVotes);
+        } catch (JsonProcessingException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        final String sql = """
+                INSERT INTO stats_rollup_participant AS s (scope_type, scope_id, granularity,
+                        bucket_start, display_name, vote_count)
+                SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+                       p.key, CAST(p.value AS INTEGER)
+                """ + ROOM_SCOPES_AND_BUCKETS + """
+                CROSS JOIN jsonb_each_text(CAST(?4 AS JSONB)) AS p
+                WHERE r.room_id = ?1 AND sc.scope_id IS NOT NULL
+                ON CONFLICT (scope_type, scope_id, granularity, bucket_start, display_name)
+                DO UPDATE SET vote_count = s.vote_count + EXCLUDED.vote_count
+                """;
+        return session.createNativeQuery(sql)
+                .setParameter(1, roomId)
+                .setParameter(2, day)
+                .setParameter(3, month)
+                .setParameter(4, votesJson)
+                .executeUpdate();
+    }
+
+    /**
+     * Sums the rollup counters of a scope over a range.
+     *
+     * @param scope The scope type
+     * @param scopeId The user ID, room ID or organization ID
+     * @param range The buckets to sum
+     * @return Uni containing the summed counters
+     */
+    public Uni<StatsRollupTotals> sumTotals(final StatsRollupScope scope, final String scopeId,
+                                            final StatsRollupRange range) {
+        final String sql = """
+                SELECT COALESCE(SUM(sessions), 0), COALESCE(SUM(rounds), 0),
+                       COALESCE(SUM(stories), 0), COALESCE(SUM(votes), 0),
+                       COALESCE(SUM(consensus_rounds), 0), COALESCE(SUM(consensus_rate_sum), 0)
+                FROM stats_rollup
+                """ + SCOPE_AND_RANGE;
+        return Panache.getSession()
+                .chain(session -> bindScopeAndRange(
+                        session.createNativeQuery(sql, Object[].class), scope, scopeId, range)
+                        .getSingleResult())
+                .map(row -> new StatsRollupTotals(
+                        ((Number) row[0]).intValue(),
+                        ((Number) row[1]).intValue(),
+                        ((Number) row[2]).intValue(),
+                        ((Number) row[3]).intValue(),
+                        ((Number) row[4]).intValue(),
+                        (BigDecimal) row[5]));
+    }
+
+    /**
+     * Finds the participants with the most votes in a scope over a range.
+     *
+     * @param scope The scope type
+     * @param scopeId The user ID, room ID or organization ID
+     * @param range The buckets to sum
+     * @param limit Maximum number of participants
+     * @return Uni containing vote counts by display name, highest first
+     */
+    // SUPPRESS CHECKSTYLE MagicNumber
+    public Uni<Map<String, Integer>> findTopParticipants(final StatsRollupScope scope,
+                                                         final String scopeId,
+                                                         final StatsRollupRange range,
+                                                         final int limit) {
+        final String sql = """
+                SELECT display_name, SUM(vote_count)
+                FROM stats_rollup_participant
+                """ + SCOPE_AND_RANGE + """
+                GROUP BY display_name
+                HAVING SUM(vote_count) > 0
+                ORDER BY SUM(vote_count) DESC, display_name
+                LIMIT ?9
+                """;
+        return Panache.getSession()
+                .chain(session -> bindScopeAndRange(
+                        session.createNativeQuery(sql, Object[].class), scope, scopeId, range)
+                        .setParameter(9, limit)
+                        .getResultList())
+                .map(rows -> {
+                    final Map<String, Integer> votesByName = new LinkedHashMap<>();
+                    for (final Object[] row : rows) {
+                        votesByName.put((String) row[0], ((Number) row[1]).intValue());
+                    }
+                    return votesByName;
+                });
+    }
+
+    /**
+     * Rebuilds all rollups from the session history table.
+     * <p>
+     * Must run in a transaction. The rollup tables are locked against
+     * concurrent delta updates first; a session written meanwhile is
+     * either already visible to the rebuild or applies its delta after
+     * the rebuild commits, so it is counted exactly once.
+     * </p>
+     *
+     * @return Uni containing the number of rollup rows written
+     */
+    public Uni<Integer> rebuild() {
+        final String countersSql = """
+                INSERT INTO stats_rollup (scope_type, scope_id, granularity, bucket_start,
+                        sessions, rounds, stories, votes, consensus_rounds, consensus_rate_sum)
+                SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+                       COUNT(*),
+                       SUM(sh.total_rounds),
+                       SUM(sh.total_stories),
+                       SUM(COALESCE((sh.summary_stats ->> 'total_votes')::integer, 0)),
+                       SUM(COALESCE((sh.summary_stats ->> 'rounds_with_consensus')::integer, 0)),
+                       SUM(COALESCE((sh.summary_stats ->> 'consensus_rate')::numeric, 0))
+                """ + SESSION_SCOPES_AND_BUCKETS + """
+                WHERE sh.total_rounds > 0
+                  AND sc.scope_id IS NOT NULL
+                GROUP BY sc.scope_type, sc.scope_id, b.granularity, b.bucket_start
+                """;
+        final String participantsSql = """
+                INSERT INTO stats_rollup_participant (scope_type, scope_id, granularity,
+                        bucket_start, display_name, vote_count)
+                SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+                       p.value ->> 'display_name',
+                       SUM(COALESCE((p.value ->> 'vote_count')::integer, 0))
+                """ + SESSION_SCOPES_AND_BUCKETS + """
+                CROSS JOIN LATERAL jsonb_array_elements(sh.participants) AS p(value)
+                WHERE sh.total_rounds > 0
+                  AND sc.scope_id IS NOT NULL
+                  AND p.value ->> 'display_name' IS NOT NULL
+                GROUP BY sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+                         p.value ->> 'display_name'
+                """;
+
+        return Panache.getSession()
+                .chain(session -> execute(session,
+                        "LOCK TABLE stats_rollup, stats_rollup_participant IN EXCLUSIVE MODE")
+                        .chain(() -> execute(session, "DELETE FROM stats_rollup_participant"))
+                        .chain(() -> execute(session, "DELETE FROM stats_rollup"))
+                        .chain(() -> execute(session, countersSql))
+                        .chain(counters -> execute(session, participantsSql)
+                                .map(participants -> counters + participants)));
+    }
+
+    private static Uni<Integer> execute(final Mutiny.Session session, final String sql) {
+        return session.createNativeQuery(sql).executeUpdate();
+    }
+
+    // SUPPRESS CHECKSTYLE MagicNumber
+    private static <R> Mutiny.SelectionQuery<R> bindScopeAndRange(
+            final Mutiny.SelectionQuery<R> query, final StatsRollupScope scope,
+            final String scopeId, final StatsRollupRange range) {
+        return query.setParameter(1, scope.name())
+                .setParameter(2, scopeId)
+                .setParameter(3, range.monthsFrom())
+                .setParameter(4, range.monthsTo())
+                .setParameter(5, range.headFrom())
+                .setParameter(6, range.headTo())
+                .setParameter(7, range.tailFrom())
+                .setParameter(8, range.tailTo());
+    }
+}
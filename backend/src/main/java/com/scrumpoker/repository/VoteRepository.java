@@ -1,11 +1,19 @@
 package com.scrumpoker.repository;
 
+import com.scrumpoker.domain.room.CastVote;
 import com.scrumpoker.domain.room.Vote;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,6 +34,60 @@ public class VoteRepository implements PanacheRepositoryBase<Vote, UUID> {
         return find("round.roundId = ?1 order by votedAt", roundId).list();
     }
 
+    /**
+     * Stream the votes of a set of rounds with one query, ordered by round (start time)
+     * and vote time.
+     * <p>
+     * Rounds and participants are join-fetched, so callers can read display names and
+     * round data without further queries.
+     * </p>
+     *
+     * @param roundIds The round IDs
+     * @return Multi of the rounds' votes
+     */
+    public Multi<Vote> streamByRoundIds(Collection<UUID> roundIds) {
+        if (roundIds.isEmpty()) {
+            return Multi.createFrom().empty();
+        }
+        return find("select v from Vote v join fetch v.participant join fetch v.round r"
+                + " where r.roundId in ?1 order by r.startedAt, r.roundId, v.votedAt", roundIds).stream();
+    }
+
+    /**
+     * Stream the votes of a room's rounds started within a time window with one query,
+     * ordered by round (start time) and vote time.
+     * <p>
+     * Rounds and participants are join-fetched, as in {@link #streamByRoundIds}.
+     * </p>
+     *
+     * @param roomId The room ID
+     * @param from Earliest round start (inclusive)
+     * @param to Latest round start (inclusive), or null for no upper bound
+     * @return Multi of the votes
+     */
+    public Multi<Vote> streamByRoomIdAndWindow(String roomId, Instant from, Instant to) {
+        String query = "select v from Vote v join fetch v.participant join fetch v.round r"
+                + " where r.room.roomId = ?1 and r.startedAt >= ?2";
+        String order = " order by r.startedAt, r.roundId, v.votedAt";
+        if (to == null) {
+            return find(query + order, roomId, from).stream();
+        }
+        return find(query + " and r.startedAt <= ?3" + order, roomId, from, to).stream();
+    }
+
+    /**
+     * Load the votes of a set of rounds with one query, grouped by round ID.
+     *
+     * @param roundIds The round IDs
+     * @return Uni of a map from round ID to the round's votes in vote time order;
+     *         rounds without votes have no entry
+     */
+    public Uni<Map<UUID, List<Vote>>> findGroupedByRoundIds(Collection<UUID> roundIds) {
+        return streamByRoundIds(roundIds)
+                .collect().in(LinkedHashMap::new, (votesByRound, vote) ->
+                        votesByRound.computeIfAbsent(vote.round.roundId, id -> new ArrayList<>()).add(vote));
+    }
+
     /**
      * Find votes by room ID and round number.
      * Alternative query pattern for round-based vote retrieval.
@@ -83,4 +145,47 @@ public class VoteRepository implements PanacheRepositoryBase<Vote, UUID> {
     public Uni<List<Vote>> findByRoundIdAndCardValue(UUID roundId, String cardValue) {
         return find("round.roundId = ?1 and cardValue = ?2", roundId, cardValue).list();
     }
+
+    /**
+     * Insert votes or update their card values if they already exist, in one statement.
+     * Used by the vote write-behind queue, which persists votes without loading entities.
+     * The original voted_at is kept on update, matching {@link Vote#votedAt} semantics.
+     * <p>
+     * Each (round, participant) pair may appear at most once per call, since Postgres
+     * rejects an {@code ON CONFLICT DO UPDATE} that touches the same row twice.
+     * </p>
+     *
+     * @param votes The votes to write (non-empty)
+     * @return Uni containing the number of affected rows
+     */
+    public Uni<Integer> upsertAll(List<CastVote> votes) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO vote (round_id, participant_id, card_value, voted_at) VALUES ");
+        for (int i = 0; i < votes.size(); i++) {
+            int p = i * 4;
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?").append(p + 1)
+                    .append(", ?").append(p + 2)
+                    .append(", ?").append(p + 3)
+                    .append(", ?").append(p + 4)
+                    .append(')');
+        }
+        sql.append(" ON CONFLICT (round_id, participant_id) DO UPDATE SET card_value = EXCLUDED.card_value");
+
+        return Panache.getSession()
+                .chain(session -> {
+                    var query = session.createNativeQuery(sql.toString());
+                    for (int i = 0; i < votes.size(); i++) {
+                        CastVote vote = votes.get(i);
+                        int p = i * 4;
+                        query.setParameter(p + 1, vote.roundId());
+                        query.setParameter(p + 2, vote.participantId());
+                        query.setParameter(p + 3, vote.cardValue());
+                        query.setParameter(p + 4, vote.votedAt());
+                    }
+                    return query.executeUpdate();
+                });
+    }
 }
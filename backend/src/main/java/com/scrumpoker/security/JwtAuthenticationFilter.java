@@ -5,21 +5,19 @@ import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.runtime.QuarkusPrincipal;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.mutiny.Uni;
-import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.ext.Provider;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 
 import java.util.HashSet;
 
 /**
- * JAX-RS request filter for JWT-based authentication.
+ * Non-blocking request filter for JWT-based authentication.
  * <p>
  * This filter intercepts all incoming HTTP requests to protected endpoints and performs
  * JWT token validation before allowing the request to proceed. It integrates with Quarkus
@@ -30,7 +28,7 @@ import java.util.HashSet;
  * <ol>
  *   <li>Check if endpoint is public (auth endpoints, health checks, OPTIONS requests) - skip authentication</li>
  *   <li>Extract JWT token from {@code Authorization: Bearer <token>} header</li>
- *   <li>Validate token signature, expiration, and claims using {@link JwtTokenService}</li>
+ *   <li>Validate token signature, expiration, revocation and claims using {@link JwtTokenService}</li>
  *   <li>Extract user claims (userId, email, roles, tier) from validated token</li>
  *   <li>Create {@link SecurityIdentity} with user principal and roles</li>
  *   <li>Set security context in request for downstream authorization checks</li>
@@ -67,6 +65,7 @@ import java.util.HashSet;
  *   <li>JWT token is invalid or malformed</li>
  *   <li>JWT token has expired</li>
  *   <li>JWT signature verification fails</li>
+ *   <li>JWT token has been revoked (logout)</li>
  * </ul>
  * </p>
  * <p>
@@ -88,8 +87,10 @@ import java.util.HashSet;
  * <strong>Implementation Notes:</strong>
  * <ul>
  *   <li>Filter priority is {@code AUTHENTICATION} to run before authorization checks</li>
- *   <li>Uses reactive {@link JwtTokenService#validateAccessToken} with blocking await</li>
- *   <li>Blocking is acceptable here since JWT validation is fast (&lt;50ms)</li>
+ *   <li>Registered as a RESTEasy Reactive {@link ServerRequestFilter} returning a {@link Uni},
+ *       so validation never blocks the event loop</li>
+ *   <li>Tokens seen before are answered from the {@link JwtClaimsCache} without signature
+ *       verification</li>
  *   <li>Never logs full token values, only metadata for security</li>
  * </ul>
  * </p>
@@ -98,9 +99,7 @@ import java.util.HashSet;
  * @see JwtClaims
  * @see jakarta.annotation.security.RolesAllowed
  */
-@Provider
-@Priority(Priorities.AUTHENTICATION)
-public class JwtAuthenticationFilter implements ContainerRequestFilter {
+public class JwtAuthenticationFilter {
 
     private static final Logger LOG = Logger.getLogger(JwtAuthenticationFilter.class);
 
@@ -131,13 +130,14 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
      * </p>
      *
      * @param requestContext The request context containing headers, URI, method, etc.
+     * @return Uni containing null to continue processing, or a 401 response to abort the request
      */
-    @Override
-    public void filter(ContainerRequestContext requestContext) {
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION)
+    public Uni<Response> filter(ContainerRequestContext requestContext) {
         // Skip authentication if disabled (e.g., in test profile)
         if (!authenticationEnabled) {
             LOG.debugf("Authentication disabled by configuration");
-            return;
+            return Uni.createFrom().nullItem();
         }
 
         String path = requestContext.getUriInfo().getPath();
@@ -148,76 +148,70 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
         // Step 1: Check if endpoint is public (skip authentication)
         if (isPublicEndpoint(path, method)) {
             LOG.debugf("Public endpoint detected, skipping authentication: %s %s", method, path);
-            return;
+            return Uni.createFrom().nullItem();
         }
 
         // Step 2: Extract Authorization header
         String authHeader = requestContext.getHeaderString("Authorization");
         if (authHeader == null || authHeader.isBlank()) {
             LOG.warnf("Missing Authorization header for protected endpoint: %s %s", method, path);
-            abortWithUnauthorized(requestContext, "MISSING_TOKEN",
+            return unauthorized("MISSING_TOKEN",
                 "Authorization header is required for protected endpoints");
-            return;
         }
 
         // Step 3: Validate Bearer token format
         if (!authHeader.startsWith("Bearer ")) {
             LOG.warnf("Invalid Authorization header format (expected 'Bearer <token>'): %s",
                 authHeader.substring(0, Math.min(20, authHeader.length())));
-            abortWithUnauthorized(requestContext, "INVALID_TOKEN_FORMAT",
+            return unauthorized("INVALID_TOKEN_FORMAT",
                 "Authorization header must use Bearer token format: 'Bearer <token>'");
-            return;
         }
 
         // Step 4: Extract token from "Bearer <token>" header
         String token = authHeader.substring(7).trim();
         if (token.isBlank()) {
             LOG.warnf("Empty token in Authorization header");
-            abortWithUnauthorized(requestContext, "EMPTY_TOKEN",
+            return unauthorized("EMPTY_TOKEN",
                 "Bearer token cannot be empty");
-            return;
         }
 
         LOG.debugf("Extracted Bearer token (first 10 chars: %s...) for path: %s",
             token.substring(0, Math.min(10, token.length())), path);
 
-        try {
-            // Step 5: Validate token using JwtTokenService (reactive with blocking await)
-            // Blocking is acceptable here since JWT validation is fast (<50ms)
-            // and must complete before request proceeds
-            Uni<JwtClaims> claimsUni = jwtTokenService.validateAccessToken(token);
-            JwtClaims claims = claimsUni.await().indefinitely();
-
-            LOG.infof("JWT validated successfully for user: %s (roles: %s)",
-                claims.userId(), claims.roles());
-
-            // Step 6: Create SecurityIdentity with user principal and roles
-            SecurityIdentity securityIdentity = QuarkusSecurityIdentity.builder()
-                .setPrincipal(new QuarkusPrincipal(claims.userId().toString()))
-                .addRoles(new HashSet<>(claims.roles()))
-                .addAttribute(JWT_CLAIMS_ATTRIBUTE, claims)
-                .build();
-
-            // Step 7: Set security context in request for Quarkus Security
-            requestContext.setProperty(SECURITY_IDENTITY_KEY, securityIdentity);
-
-            LOG.debugf("Security context populated for user: %s with roles: %s",
-                claims.userId(), claims.roles());
-
-        } catch (Exception e) {
-            // Token validation failed (invalid signature, expired, malformed, etc.)
-            LOG.warnf(e, "JWT validation failed for path %s: %s", path, e.getMessage());
-
-            // Determine appropriate error message based on exception
-            String errorMessage = "Invalid or expired authentication token";
-            if (e.getMessage() != null && e.getMessage().contains("expired")) {
-                errorMessage = "Authentication token has expired";
-            } else if (e.getMessage() != null && e.getMessage().contains("signature")) {
-                errorMessage = "Invalid token signature";
-            }
-
-            abortWithUnauthorized(requestContext, "INVALID_TOKEN", errorMessage);
-        }
+        // Step 5: Validate token using JwtTokenService (completes immediately on a cache hit)
+        return jwtTokenService.validateAccessToken(token)
+            .map(claims -> {
+                LOG.debugf("JWT validated successfully for user: %s (roles: %s)",
+                    claims.userId(), claims.roles());
+
+                // Step 6: Create SecurityIdentity with user principal and roles
+                SecurityIdentity securityIdentity = QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal(claims.userId().toString()))
+                    .addRoles(new HashSet<>(claims.roles()))
+                    .addAttribute(JWT_CLAIMS_ATTRIBUTE, claims)
+                    .build();
+
+                // Step 7: Set security context in request for Quarkus Security
+                requestContext.setProperty(SECURITY_IDENTITY_KEY, securityIdentity);
+
+                LOG.debugf("Security context populated for user: %s with roles: %s",
+                    claims.userId(), claims.roles());
+                return (Response) null;
+            })
+            .onFailure().recoverWithUni(e -> {
+                // Token validation failed (invalid signature, expired, revoked, malformed, etc.)
+                LOG.warnf(e, "JWT validation failed for path %s: %s", path, e.getMessage());
+
+                // Determine appropriate error message based on exception
+                String errorMessage = "Invalid or expired authentication token";
+                if (e.getMessage() != null && e.getMessage().contains("expired")) {
+                    errorMessage = "Authentication token has expired";
+                } else if (e.getMessage() != null && e.getMessage().contains("signature")) {
+                    errorMessage = "Invalid token signature";
+                }
+
+                return unauthorized("INVALID_TOKEN", errorMessage);
+            });
     }
 
     /**
@@ -277,26 +271,24 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
     }
 
     /**
-     * Aborts the request with a 401 Unauthorized response.
+     * Builds a 401 Unauthorized response that aborts the request.
      * <p>
      * Constructs a JSON error response using {@link ErrorResponse} with the given
-     * error code and message. This method terminates request processing immediately.
+     * error code and message. Returning it from the filter terminates request processing.
      * </p>
      *
-     * @param requestContext The request context to abort
-     * @param errorCode      Error code for client reference (e.g., "MISSING_TOKEN", "INVALID_TOKEN")
-     * @param errorMessage   Human-readable error message
+     * @param errorCode    Error code for client reference (e.g., "MISSING_TOKEN", "INVALID_TOKEN")
+     * @param errorMessage Human-readable error message
+     * @return Uni containing the 401 response
      */
-    private void abortWithUnauthorized(ContainerRequestContext requestContext,
-                                      String errorCode, String errorMessage) {
+    private Uni<Response> unauthorized(String errorCode, String errorMessage) {
         ErrorResponse error = new ErrorResponse(errorCode, errorMessage);
         Response response = Response.status(Response.Status.UNAUTHORIZED)
             .entity(error)
             .type(MediaType.APPLICATION_JSON)
             .build();
 
-        requestContext.abortWith(response);
-
         LOG.debugf("Request aborted with 401 Unauthorized: %s - %s", errorCode, errorMessage);
+        return Uni.createFrom().item(response);
     }
 }
@@ -0,0 +1,266 @@
+package com.scrumpoker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified access token claims, keyed by a SHA-256 hash of the token.
+ * <p>
+ * A cached entry spares the RSA signature verification and claims extraction on every
+ * REST request and WebSocket reconnect. Each entry expires at the token's own {@code exp},
+ * so a cached token is never accepted longer than it would be when verified.
+ * Raw tokens are never stored. Caching can be disabled with
+ * {@code security.jwt.claims-cache.enabled=false}; revocations are still enforced then.
+ * </p>
+ * <p>
+ * <strong>Revocation:</strong> {@link #revoke(String, Instant)} (wired to logout) drops the
+ * entry and adds the hash to a local deny list until the token expires. The revocation is
+ * also stored in Redis ({@code revoked_access_token:{hash}} with the remaining lifetime as TTL),
+ * which nodes check before caching a newly verified token, and published on the
+ * {@value #REVOCATION_CHANNEL} channel so other nodes drop their cached entry right away.
+ * </p>
+ */
+@ApplicationScoped
+public class JwtClaimsCache {
+
+    private static final Logger LOG = Logger.getLogger(JwtClaimsCache.class);
+
+    /**
+     * Redis key prefix for revoked access tokens.
+     * Format: "revoked_access_token:{hash}" -> expiration epoch second
+     */
+    private static final String REVOKED_KEY_PREFIX = "revoked_access_token:";
+
+    /**
+     * Redis channel carrying "{hash} {expiration epoch second}" of revoked access tokens.
+     */
+    static final String REVOCATION_CHANNEL = "jwt:revoked";
+
+    /**
+     * Claims of a verified token together with its expiration.
+     *
+     * @param claims The verified claims
+     * @param expiresAt The token's expiration time
+     */
+    record CachedClaims(JwtClaims claims, Instant expiresAt) {
+    }
+
+    @Inject
+    ReactiveRedisDataSource redisDataSource;
+
+    @ConfigProperty(name = "security.jwt.claims-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "security.jwt.claims-cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    /**
+     * Time source for token expiration checks (replaced in tests).
+     */
+    Clock clock = Clock.systemUTC();
+
+    private Cache<String, CachedClaims> claimsByTokenHash;
+
+    /**
+     * Hashes of revoked tokens -> token expiration. Entries expire with the token.
+     */
+    private Cache<String, Instant> revokedTokenHashes;
+
+    private ReactiveValueCommands<String, String> values;
+    private ReactiveKeyCommands<String> keys;
+    private ReactivePubSubCommands<String> pubsub;
+
+    @jakarta.annotation.PostConstruct
+    void initialize() {
+        this.claimsByTokenHash = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAt<CachedClaims>(clock, CachedClaims::expiresAt))
+                .recordStats()
+                .build();
+        this.revokedTokenHashes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAt<Instant>(clock, expiresAt -> expiresAt))
+                .build();
+        this.values = redisDataSource.value(String.class);
+        this.keys = redisDataSource.key();
+        this.pubsub = redisDataSource.pubsub(String.class);
+    }
+
+    /**
+     * Subscribes to revocations published by other nodes.
+     */
+    void onStart(@Observes StartupEvent event) {
+        pubsub.subscribe(REVOCATION_CHANNEL)
+                .onFailure().invoke(failure ->
+                        LOG.errorf(failure, "Redis subscription %s failed, retrying", REVOCATION_CHANNEL))
+                .onFailure().retry()
+                .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(30))
+                .indefinitely()
+                .subscribe().with(
+                        this::handleRevocationMessage,
+                        failure -> LOG.errorf(failure, "Redis subscription %s terminated", REVOCATION_CHANNEL));
+        LOG.infof("Subscribed to Redis channel: %s", REVOCATION_CHANNEL);
+    }
+
+    /**
+     * Gets the cached claims of a token.
+     *
+     * @param tokenHash The token hash (see {@link #hash(String)})
+     * @return The claims, or null if not cached, expired or revoked
+     */
+    public JwtClaims get(String tokenHash) {
+        if (!enabled) {
+            return null;
+        }
+        CachedClaims cached = claimsByTokenHash.getIfPresent(tokenHash);
+        if (cached == null || !cached.expiresAt().isAfter(clock.instant())) {
+            return null;
+        }
+        return cached.claims();
+    }
+
+    /**
+     * Caches the claims of a freshly verified token, unless it has been revoked.
+     * <p>
+     * If Redis is unavailable only the local deny list is consulted and the claims are
+     * not cached, so the revocation check is retried on the next request.
+     * </p>
+     *
+     * @param tokenHash The token hash
+     * @param claims The verified claims
+     * @param expiresAt The token's expiration time
+     * @return Uni containing true if the token is revoked (claims are not cached then)
+     */
+    public Uni<Boolean> putIfNotRevoked(String tokenHash, JwtClaims claims, Instant expiresAt) {
+        if (revokedTokenHashes.getIfPresent(tokenHash) != null) {
+            return Uni.createFrom().item(true);
+        }
+        return keys.exists(REVOKED_KEY_PREFIX + tokenHash)
+                .invoke(revoked -> {
+                    if (revoked) {
+                        revokedTokenHashes.put(tokenHash, expiresAt);
+                    } else if (enabled) {
+                        claimsByTokenHash.put(tokenHash, new CachedClaims(claims, expiresAt));
+                    }
+                })
+                .onFailure().invoke(failure ->
+                        LOG.warnf(failure, "Failed to check access token revocation in Redis"))
+                .onFailure().recoverWithItem(false);
+    }
+
+    /**
+     * Revokes a token on all nodes until it expires.
+     *
+     * @param tokenHash The token hash
+     * @param expiresAt The token's expiration time
+     * @return Uni that completes once the revocation is stored and published
+     */
+    public Uni<Void> revoke(String tokenHash, Instant expiresAt) {
+        long remainingSeconds = Duration.between(clock.instant(), expiresAt).toSeconds();
+        if (remainingSeconds <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+
+        revokeLocally(tokenHash, expiresAt);
+        return values.setex(REVOKED_KEY_PREFIX + tokenHash, remainingSeconds,
+                        String.valueOf(expiresAt.getEpochSecond()))
+                .chain(() -> pubsub.publish(REVOCATION_CHANNEL, tokenHash + " " + expiresAt.getEpochSecond()))
+                .invoke(() -> LOG.debugf("Access token revoked (hash %s..., TTL %d seconds)",
+                        tokenHash.substring(0, 8), remainingSeconds));
+    }
+
+    /**
+     * Gets the claims cache statistics (hits, misses, evictions) since startup.
+     *
+     * @return Cache statistics snapshot
+     */
+    public CacheStats stats() {
+        return claimsByTokenHash.stats();
+    }
+
+    /**
+     * Hashes a token for use as cache key.
+     *
+     * @param token The raw token
+     * @return Base64url-encoded SHA-256 hash of the token
+     */
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void revokeLocally(String tokenHash, Instant expiresAt) {
+        revokedTokenHashes.put(tokenHash, expiresAt);
+        claimsByTokenHash.invalidate(tokenHash);
+    }
+
+    private void handleRevocationMessage(String message) {
+        int separator = message.indexOf(' ');
+        if (separator <= 0) {
+            LOG.warnf("Ignoring malformed token revocation message");
+            return;
+        }
+        try {
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(message.substring(separator + 1)));
+            revokeLocally(message.substring(0, separator), expiresAt);
+        } catch (NumberFormatException e) {
+            LOG.warnf("Ignoring malformed token revocation message");
+        }
+    }
+
+    /**
+     * Caffeine expiry that expires each entry at an absolute time derived from its value.
+     */
+    private static final class ExpireAt<V> implements Expiry<String, V> {
+
+        private final Clock clock;
+        private final Function<V, Instant> expiration;
+
+        ExpireAt(Clock clock, Function<V, Instant> expiration) {
+            this.clock = clock;
+            this.expiration = expiration;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, V value, long currentTime) {
+            long nanos = Duration.between(clock.instant(), expiration.apply(value)).toNanos();
+            return Math.max(nanos, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.UUID;
  * <ul>
  *   <li>Token generation (access + refresh tokens)</li>
  *   <li>Token validation (signature, expiration, claims extraction)</li>
+ *   <li>Access token revocation on logout</li>
  *   <li>Token refresh with rotation (enhanced security)</li>
  * </ul>
  * </p>
@@ -75,6 +76,9 @@ public class JwtTokenService {
     @Inject
     JWTParser jwtParser;
 
+    @Inject
+    JwtClaimsCache jwtClaimsCache;
+
     @ConfigProperty(name = "mp.jwt.verify.issuer")
     String issuer;
 
@@ -164,6 +168,7 @@ public class JwtTokenService {
      *   <li>Expiration check</li>
      *   <li>Issuer verification</li>
      *   <li>Claims extraction and validation</li>
+     *   <li>Revocation check (tokens revoked on logout)</li>
      * </ul>
      * </p>
      * <p>
@@ -171,17 +176,74 @@ public class JwtTokenService {
      * validates the signature using the RSA public key configured in application.properties
      * (mp.jwt.verify.publickey.location). The parser also verifies expiration and issuer claims.
      * </p>
+     * <p>
+     * Verified claims are kept in the {@link JwtClaimsCache} until the token expires, so
+     * repeated requests with the same token skip signature verification. A cache hit
+     * completes synchronously without I/O.
+     * </p>
      *
      * @param token The JWT access token to validate (must not be null or blank)
      * @return Uni containing JwtClaims with extracted user claims (userId, email, roles, tier)
      * @throws IllegalArgumentException if token is null or blank
-     * @throws RuntimeException if token is invalid, expired, or signature verification fails
+     * @throws RuntimeException if token is invalid, expired, revoked, or signature verification fails
      */
     public Uni<com.scrumpoker.security.JwtClaims> validateAccessToken(String token) {
         if (token == null || token.isBlank()) {
             throw new IllegalArgumentException("Token cannot be null or blank");
         }
 
+        String tokenHash = JwtClaimsCache.hash(token);
+        com.scrumpoker.security.JwtClaims cached = jwtClaimsCache.get(tokenHash);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+
+        return verifyAccessToken(token)
+                .chain(verified -> jwtClaimsCache
+                        .putIfNotRevoked(tokenHash, verified.claims(), verified.expiresAt())
+                        .map(revoked -> {
+                            if (revoked) {
+                                LOG.infof("Rejected revoked access token for user: %s",
+                                          verified.claims().userId());
+                                throw new RuntimeException("Invalid or expired token: token has been revoked");
+                            }
+                            return verified.claims();
+                        }));
+    }
+
+    /**
+     * Revokes an access token until it expires (used on logout).
+     * <p>
+     * Tokens that are invalid or already expired are ignored, since they are rejected anyway.
+     * </p>
+     *
+     * @param token The JWT access token to revoke
+     * @return Uni that completes when the revocation is stored and published to all nodes
+     */
+    public Uni<Void> revokeAccessToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Token cannot be null or blank");
+        }
+
+        return verifyAccessToken(token)
+                .onFailure().recoverWithNull()
+                .chain(verified -> {
+                    if (verified == null) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    LOG.infof("Revoking access token for user: %s (expires at: %s)",
+                              verified.claims().userId(), verified.expiresAt());
+                    return jwtClaimsCache.revoke(JwtClaimsCache.hash(token), verified.expiresAt());
+                });
+    }
+
+    /**
+     * Verifies a token's signature, expiration and issuer and extracts its claims.
+     *
+     * @param token The JWT access token
+     * @return Uni containing the claims and expiration of the token
+     */
+    private Uni<VerifiedToken> verifyAccessToken(String token) {
         LOG.debugf("Validating access token (first 10 chars: %s...)",
                    token.substring(0, Math.min(10, token.length())));
 
@@ -206,7 +268,8 @@ public class JwtTokenService {
 
                 LOG.infof("Access token validated successfully for user: %s", userId);
 
-                return new com.scrumpoker.security.JwtClaims(userId, email, roles, tier);
+                return new VerifiedToken(new com.scrumpoker.security.JwtClaims(userId, email, roles, tier),
+                        Instant.ofEpochSecond(jwt.getExpirationTime()));
 
             } catch (Exception e) {
                 LOG.errorf(e, "Token validation failed: %s", e.getMessage());
@@ -215,6 +278,12 @@ public class JwtTokenService {
         });
     }
 
+    /**
+     * Claims of a verified access token together with its expiration.
+     */
+    private record VerifiedToken(com.scrumpoker.security.JwtClaims claims, Instant expiresAt) {
+    }
+
     /**
      * Refreshes an access token using a valid refresh token.
      * <p>
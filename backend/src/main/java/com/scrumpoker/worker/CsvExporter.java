@@ -1,20 +1,27 @@
 package com.scrumpoker.worker;
 
+import com.scrumpoker.config.BlockingExecution;
 import com.scrumpoker.domain.room.Round;
 import com.scrumpoker.domain.room.SessionHistory;
 import com.scrumpoker.domain.room.Vote;
+import com.scrumpoker.metrics.BusinessMetrics;
 import com.scrumpoker.repository.RoundRepository;
 import com.scrumpoker.repository.VoteRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -35,6 +42,14 @@ import java.util.stream.Collectors;
  * </ul>
  * </p>
  *
+ * <p><strong>Streaming:</strong></p>
+ * <p>
+ * Rounds are read in pages of {@code export.csv.rounds-per-page}, with the votes of each
+ * page loaded in one query, and written to the caller's output stream page by page. Only
+ * one page is held in memory, whatever the size of the session. Writing runs off the
+ * event loop, as the output stream may block (e.g. while an upload part is sent).
+ * </p>
+ *
  * <p><strong>CSV Structure:</strong></p>
  * <pre>
  *   Session Report,Room Name,2025-01-15 10:30:00,2025-01-15 11:45:00
@@ -59,6 +74,26 @@ public class CsvExporter {
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
                     .withZone(ZoneId.of("UTC"));
 
+    /**
+     * CSV format with the data row header.
+     */
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader("Round Number", "Story Title", "Participant Name",
+                    "Vote", "Average", "Median", "Consensus",
+                    "Started At", "Revealed At")
+            .build();
+
+    /**
+     * JVM memory bean used to sample heap usage while an export runs.
+     */
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Number of rounds read and written per page.
+     */
+    @ConfigProperty(name = "export.csv.rounds-per-page", defaultValue = "200")
+    private int roundsPerPage;
+
     /**
      * Repository for querying rounds.
      */
@@ -72,104 +107,146 @@ public class CsvExporter {
     private VoteRepository voteRepository;
 
     /**
-     * Generates a CSV export file for the given session.
+     * Executor for writing to the (blocking) output stream.
+     */
+    @Inject
+    private BlockingExecution blockingExecution;
+
+    /**
+     * Metrics for reporting the heap used by each export.
+     */
+    @Inject
+    private BusinessMetrics businessMetrics;
+
+    /**
+     * Streams a CSV export of the given session to an output stream.
      * <p>
-     * Queries all rounds and votes for the session, formats data as CSV,
-     * and returns the file content as a byte array.
+     * Queries the session's rounds page by page, with the votes of each page in one
+     * query, and writes them as CSV. Written pages are detached from the Hibernate session.
+     * The output stream is flushed but not closed.
+     * The peak heap growth while the export runs is recorded as a metric.
      * </p>
      *
      * @param session The session history record
      * @param sessionId The session UUID
-     * @return Uni containing the CSV file content as byte array
+     * @param output The stream the CSV file is written to
+     * @return Uni completing when the whole file is written
      * @throws ExportGenerationException if CSV generation fails
      */
-    public Uni<byte[]> generateCsvExport(final SessionHistory session, final UUID sessionId) {
-        if (session == null || sessionId == null) {
+    public Uni<Void> streamCsvExport(final SessionHistory session,
+                                     final UUID sessionId,
+                                     final OutputStream output) {
+        if (session == null || sessionId == null || output == null) {
             return Uni.createFrom().failure(
-                    new IllegalArgumentException("session and sessionId cannot be null"));
+                    new IllegalArgumentException("session, sessionId and output cannot be null"));
         }
 
-        Log.infof("Generating CSV export for session %s (room: %s)",
+        Log.infof("Streaming CSV export for session %s (room: %s)",
                 sessionId, session.room.title);
 
-        // Fetch all rounds for the room and filter by session timeframe
-        return roundRepository.findByRoomId(session.room.roomId)
-                .onItem().transformToUni(allRounds -> {
-                    // Filter rounds by session timeframe
-                    final List<Round> sessionRounds = allRounds.stream()
-                            .filter(r -> !r.startedAt.isBefore(session.id.startedAt)
-                                    && (session.endedAt == null
-                                    || !r.startedAt.isAfter(session.endedAt)))
-                            .collect(Collectors.toList());
+        final CsvStream stream;
+        try {
+            stream = new CsvStream(new CSVPrinter(
+                    new OutputStreamWriter(output, StandardCharsets.UTF_8), CSV_FORMAT));
+        } catch (IOException e) {
+            return Uni.createFrom().failure(
+                    new ExportGenerationException("CSV write failed: " + e.getMessage(), e));
+        }
 
-                    if (sessionRounds.isEmpty()) {
-                        Log.warnf("No rounds found for session %s, generating empty CSV", sessionId);
-                        return generateEmptyCsv(session);
+        return writeRoundPages(session, stream)
+                .chain(() -> blockingExecution.supply(() -> {
+                    try {
+                        stream.printer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
                     }
-
-                    // Fetch votes for all rounds
-                    return fetchVotesForRounds(sessionRounds)
-                            .onItem().transform(roundVoteMap ->
-                                    generateCsvContent(session, sessionRounds, roundVoteMap));
+                    stream.sampleHeap();
+                    return null;
+                }))
+                .invoke(() -> {
+                    businessMetrics.recordExportHeapPeak(stream.peakHeapGrowth());
+                    Log.infof("Streamed CSV export: %d rounds, peak heap growth %d bytes, session=%s",
+                            stream.roundsWritten, stream.peakHeapGrowth(), sessionId);
                 })
                 .onFailure().transform(e -> {
                     Log.errorf(e, "Failed to generate CSV export for session %s", sessionId);
                     return new ExportGenerationException(
                             "CSV generation failed: " + e.getMessage(), e);
-                });
+                })
+                .replaceWithVoid();
     }
 
     /**
-     * Fetches votes for all rounds in parallel.
+     * Reads the next page of the session's rounds and their votes, writes it, and
+     * continues with the following page until a short page is read.
+     *
+     * @param session The session history
+     * @param stream The export in progress
+     * @return Uni completing when the last page is written
+     */
+    private Uni<Void> writeRoundPages(final SessionHistory session, final CsvStream stream) {
+        return roundRepository.findPageByRoomIdAndWindow(session.room.roomId,
+                        session.id.startedAt, session.endedAt, stream.lastRoundNumber, roundsPerPage)
+                .chain(rounds -> fetchVotesForRounds(rounds)
+                        .chain(roundVoteMap -> blockingExecution.supply(() -> {
+                                    writePage(session, stream, rounds, roundVoteMap);
+                                    return null;
+                                })
+                                .chain(() -> detachPage(rounds, roundVoteMap)))
+                        .chain(() -> rounds.size() < roundsPerPage
+                                ? Uni.createFrom().voidItem()
+                                : writeRoundPages(session, stream)));
+    }
+
+    /**
+     * Detaches the rounds and votes of a written page from the Hibernate Reactive session,
+     * so the persistence context does not grow with the number of pages. The session is
+     * not cleared, since the export job entity of the caller is managed in it as well.
+     *
+     * @param rounds Rounds of the page
+     * @param roundVoteMap Map of round ID to votes
+     * @return Uni completing when the entities are detached
+     */
+    private Uni<Void> detachPage(final List<Round> rounds, final Map<UUID, List<Vote>> roundVoteMap) {
+        return Panache.getSession()
+                .invoke(hibernateSession -> {
+                    roundVoteMap.values().forEach(votes -> votes.forEach(hibernateSession::detach));
+                    rounds.forEach(hibernateSession::detach);
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * Fetches votes for all rounds with a single query.
      *
      * @param rounds List of rounds
      * @return Uni containing map of round ID to votes list
      */
     private Uni<Map<UUID, List<Vote>>> fetchVotesForRounds(final List<Round> rounds) {
-        // Create a list of Uni items for each round's votes
-        final List<Uni<Map.Entry<UUID, List<Vote>>>> voteFetches = rounds.stream()
-                .map(round -> voteRepository.findByRoundId(round.roundId)
-                        .onItem().transform(votes -> Map.entry(round.roundId, votes)))
-                .collect(Collectors.toList());
-
-        // Combine all Uni items and collect into a map
-        return Uni.combine().all().unis(voteFetches)
-                .with(results -> results.stream()
-                        .map(obj -> (Map.Entry<UUID, List<Vote>>) obj)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        if (rounds.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        return voteRepository.findGroupedByRoundIds(
+                rounds.stream().map(round -> round.roundId).collect(Collectors.toList()));
     }
 
     /**
-     * Generates CSV content from session, rounds, and votes.
+     * Writes a page of rounds, preceded by the session metadata on the first page.
      *
      * @param session The session history
-     * @param rounds List of rounds in the session
+     * @param stream The export in progress
+     * @param rounds Rounds of the page
      * @param roundVoteMap Map of round ID to votes
-     * @return CSV file content as byte array
      */
-    private byte[] generateCsvContent(
-            final SessionHistory session,
-            final List<Round> rounds,
-            final Map<UUID, List<Vote>> roundVoteMap) {
-
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-             final OutputStreamWriter writer = new OutputStreamWriter(
-                     outputStream, StandardCharsets.UTF_8);
-             final CSVPrinter csvPrinter = new CSVPrinter(writer,
-                     CSVFormat.DEFAULT.builder()
-                             .setHeader("Round Number", "Story Title", "Participant Name",
-                                     "Vote", "Average", "Median", "Consensus",
-                                     "Started At", "Revealed At")
-                             .build())) {
-
-            // Write session metadata header
-            csvPrinter.printComment(String.format("Session Report: %s", session.room.title));
-            csvPrinter.printComment(String.format("Session Period: %s to %s",
-                    formatTimestamp(session.id.startedAt),
-                    session.endedAt != null ? formatTimestamp(session.endedAt) : "Ongoing"));
-            csvPrinter.printComment(String.format("Total Stories: %d", session.totalStories));
-            csvPrinter.printComment(String.format("Total Rounds: %d", session.totalRounds));
-            csvPrinter.println();
+    private void writePage(final SessionHistory session,
+                           final CsvStream stream,
+                           final List<Round> rounds,
+                           final Map<UUID, List<Vote>> roundVoteMap) {
+        final CSVPrinter csvPrinter = stream.printer;
+        try {
+            if (stream.roundsWritten == 0) {
+                writeMetadata(csvPrinter, session, rounds.isEmpty());
+            }
 
             // Write data rows (one row per vote)
             for (final Round round : rounds) {
@@ -205,52 +282,41 @@ public class CsvExporter {
                     }
                 }
             }
-
-            csvPrinter.flush();
-            final byte[] csvBytes = outputStream.toByteArray();
-
-            Log.infof("Generated CSV export: %d bytes, %d rounds, session=%s",
-                    csvBytes.length, rounds.size(), session.id.sessionId);
-
-            return csvBytes;
-
         } catch (IOException e) {
             Log.errorf(e, "Failed to write CSV content for session %s", session.id.sessionId);
             throw new ExportGenerationException("CSV write failed: " + e.getMessage(), e);
         }
+
+        if (!rounds.isEmpty()) {
+            stream.roundsWritten += rounds.size();
+            stream.lastRoundNumber = rounds.get(rounds.size() - 1).roundNumber;
+        }
+        stream.sampleHeap();
     }
 
     /**
-     * Generates an empty CSV file with session metadata only.
+     * Writes the session metadata comments.
      *
+     * @param csvPrinter The CSV printer
      * @param session The session history
-     * @return Uni containing empty CSV as byte array
+     * @param noRounds Whether the session has no rounds
+     * @throws IOException if writing fails
      */
-    private Uni<byte[]> generateEmptyCsv(final SessionHistory session) {
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-             final OutputStreamWriter writer = new OutputStreamWriter(
-                     outputStream, StandardCharsets.UTF_8);
-             final CSVPrinter csvPrinter = new CSVPrinter(writer,
-                     CSVFormat.DEFAULT.builder()
-                             .setHeader("Round Number", "Story Title", "Participant Name",
-                                     "Vote", "Average", "Median", "Consensus",
-                                     "Started At", "Revealed At")
-                             .build())) {
-
-            csvPrinter.printComment(String.format("Session Report: %s", session.room.title));
-            csvPrinter.printComment(String.format("Session Period: %s to %s",
-                    formatTimestamp(session.id.startedAt),
-                    session.endedAt != null ? formatTimestamp(session.endedAt) : "Ongoing"));
+    private void writeMetadata(final CSVPrinter csvPrinter,
+                               final SessionHistory session,
+                               final boolean noRounds) throws IOException {
+        csvPrinter.printComment(String.format("Session Report: %s", session.room.title));
+        csvPrinter.printComment(String.format("Session Period: %s to %s",
+                formatTimestamp(session.id.startedAt),
+                session.endedAt != null ? formatTimestamp(session.endedAt) : "Ongoing"));
+        if (noRounds) {
+            Log.warnf("No rounds found for session %s, generating empty CSV", session.id.sessionId);
             csvPrinter.printComment("No rounds found for this session");
-            csvPrinter.println();
-
-            csvPrinter.flush();
-            return Uni.createFrom().item(outputStream.toByteArray());
-
-        } catch (IOException e) {
-            return Uni.createFrom().failure(
-                    new ExportGenerationException("Failed to generate empty CSV: " + e.getMessage(), e));
+        } else {
+            csvPrinter.printComment(String.format("Total Stories: %d", session.totalStories));
+            csvPrinter.printComment(String.format("Total Rounds: %d", session.totalRounds));
         }
+        csvPrinter.println();
     }
 
     /**
@@ -262,4 +328,29 @@ public class CsvExporter {
     private String formatTimestamp(final Instant timestamp) {
         return timestamp != null ? DATE_TIME_FORMATTER.format(timestamp) : "";
     }
+
+    /**
+     * State of one streamed export. Pages are written one after another, so the
+     * state is only ever touched by one thread at a time.
+     */
+    private static final class CsvStream {
+
+        private final CSVPrinter printer;
+        private final long baselineHeap = MEMORY.getHeapMemoryUsage().getUsed();
+        private long peakHeap = baselineHeap;
+        private int roundsWritten;
+        private int lastRoundNumber = Integer.MIN_VALUE;
+
+        private CsvStream(final CSVPrinter printer) {
+            this.printer = printer;
+        }
+
+        private void sampleHeap() {
+            peakHeap = Math.max(peakHeap, MEMORY.getHeapMemoryUsage().getUsed());
+        }
+
+        private long peakHeapGrowth() {
+            return Math.max(0L, peakHeap - baselineHeap);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.scrumpoker.domain.reporting.SessionHistoryService;
 import com.scrumpoker.domain.room.SessionHistory;
 import com.scrumpoker.domain.user.User;
 import com.scrumpoker.integration.s3.S3Adapter;
+import com.scrumpoker.integration.s3.S3MultipartOutputStream;
 import com.scrumpoker.integration.s3.S3UploadException;
 import io.quarkus.logging.Log;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
@@ -35,7 +36,7 @@ import java.util.UUID;
  *   <li>Consume job messages from {@code jobs:reports} Redis Stream</li>
  *   <li>Query session data from PostgreSQL</li>
  *   <li>Generate CSV or PDF file using {@link CsvExporter} or {@link PdfExporter}</li>
- *   <li>Upload file to S3 bucket using {@link S3Adapter}</li>
+ *   <li>Upload file to S3 bucket using {@link S3Adapter} (CSV files are streamed in parts)</li>
  *   <li>Generate time-limited signed URL (7-day expiration)</li>
  *   <li>Update job status in database (PENDING → PROCESSING → COMPLETED/FAILED)</li>
  *   <li>Handle errors with exponential backoff retry for transient failures</li>
@@ -326,15 +327,11 @@ public class ExportJobProcessor {
                                                     new IllegalArgumentException(
                                                             "Session not found: " + sessionId))
                                             .onItem().transformToUni(session ->
-                                                    // Generate export file
-                                                    generateExportFile(session, sessionId, format)
-                                                            .onItem().transformToUni(fileContent ->
-                                                                    // Upload to S3 and get signed URL
-                                                                    s3Adapter.uploadFileAndGenerateUrl(
-                                                                                    sessionId, jobId, format, fileContent)
-                                                                            .onItem().transformToUni(downloadUrl ->
-                                                                                    // Mark job as completed
-                                                                                    job.markAsCompleted(downloadUrl)))));
+                                                    // Generate export file, upload to S3 and get signed URL
+                                                    generateAndUploadExportFile(session, sessionId, jobId, format)
+                                                            .onItem().transformToUni(downloadUrl ->
+                                                                    // Mark job as completed
+                                                                    job.markAsCompleted(downloadUrl))));
                 })
                 .onFailure().recoverWithUni(failure -> {
                     // Handle failure: mark job as failed
@@ -377,19 +374,33 @@ public class ExportJobProcessor {
     }
 
     /**
-     * Generates the export file content based on format.
+     * Generates the export file based on format and uploads it to S3.
+     * <p>
+     * CSV files are streamed to S3 as they are written, in multipart upload parts,
+     * so their size is not limited by the heap; a failed CSV upload is aborted.
+     * PDF files are generated in memory and uploaded in one request.
+     * </p>
      *
      * @param session The session history
      * @param sessionId The session UUID
+     * @param jobId The job UUID
      * @param format Export format (CSV or PDF)
-     * @return Uni containing the file content as byte array
+     * @return Uni containing the presigned download URL
      */
-    private Uni<byte[]> generateExportFile(final SessionHistory session,
-                                            final UUID sessionId,
-                                            final String format) {
+    private Uni<String> generateAndUploadExportFile(final SessionHistory session,
+                                                    final UUID sessionId,
+                                                    final UUID jobId,
+                                                    final String format) {
         return switch (format.toUpperCase()) {
-            case "CSV" -> csvExporter.generateCsvExport(session, sessionId);
-            case "PDF" -> pdfExporter.generatePdfExport(session, sessionId);
+            case "CSV" -> {
+                final S3MultipartOutputStream upload = s3Adapter.openUpload(sessionId, jobId, format);
+                yield csvExporter.streamCsvExport(session, sessionId, upload)
+                        .chain(() -> s3Adapter.completeUploadAndGenerateUrl(upload))
+                        .onFailure().call(() -> s3Adapter.abortUpload(upload));
+            }
+            case "PDF" -> pdfExporter.generatePdfExport(session, sessionId)
+                    .onItem().transformToUni(fileContent ->
+                            s3Adapter.uploadFileAndGenerateUrl(sessionId, jobId, format, fileContent));
             default -> Uni.createFrom().failure(
                     new IllegalArgumentException("Unsupported format: " + format));
         };
@@ -136,7 +136,7 @@ public class PdfExporter {
                             .sorted((r1, r2) -> r1.roundNumber.compareTo(r2.roundNumber))
                             .collect(Collectors.toList());
 
-                    // Fetch votes for all rounds
+                    // Fetch votes for all rounds in one query
                     return fetchVotesForRounds(sessionRounds)
                             .onItem().transform(roundVoteMap ->
                                     generatePdfContent(session, sessionRounds, roundVoteMap));
@@ -149,25 +149,14 @@ public class PdfExporter {
     }
 
     /**
-     * Fetches votes for all rounds in parallel.
+     * Fetches votes for all rounds with a single query.
      *
      * @param rounds List of rounds
      * @return Uni containing map of round ID to votes list
      */
     private Uni<Map<UUID, List<Vote>>> fetchVotesForRounds(final List<Round> rounds) {
-        if (rounds.isEmpty()) {
-            return Uni.createFrom().item(Map.of());
-        }
-
-        final List<Uni<Map.Entry<UUID, List<Vote>>>> voteFetches = rounds.stream()
-                .map(round -> voteRepository.findByRoundId(round.roundId)
-                        .onItem().transform(votes -> Map.entry(round.roundId, votes)))
-                .collect(Collectors.toList());
-
-        return Uni.combine().all().unis(voteFetches)
-                .with(results -> results.stream()
-                        .map(obj -> (Map.Entry<UUID, List<Vote>>) obj)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        return voteRepository.findGroupedByRoundIds(
+                rounds.stream().map(round -> round.roundId).collect(Collectors.toList()));
     }
 
     /**
@@ -0,0 +1,41 @@
+package com.scrumpoker.worker;
+
+import com.scrumpoker.repository.StatsRollupRepository;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Scheduled job that rebuilds the statistics rollups from session history.
+ * <p>
+ * The rollups are kept current by {@code VotingService} as rounds are
+ * revealed, and the V8 migration fills them once for existing history.
+ * This job re-syncs them after history was changed outside the application.
+ * It is disabled unless {@code stats.rollup.backfill.cron} is set.
+ * </p>
+ */
+@ApplicationScoped
+public class StatsRollupBackfillJob {
+
+    @Inject
+    StatsRollupRepository statsRollupRepository;
+
+    /**
+     * Rebuilds all rollup buckets in one transaction.
+     *
+     * @return Uni completing when the rebuild is committed
+     */
+    @Scheduled(cron = "{stats.rollup.backfill.cron}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @WithTransaction
+    Uni<Void> rebuildRollups() {
+        Log.info("Rebuilding statistics rollups from session history");
+        return statsRollupRepository.rebuild()
+                .invoke(rows -> Log.infof("Rebuilt statistics rollups: %d rows", rows))
+                .onFailure().invoke(e -> Log.errorf(e, "Failed to rebuild statistics rollups"))
+                .replaceWithVoid();
+    }
+}
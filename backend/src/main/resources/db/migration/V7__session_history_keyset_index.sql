@@ -0,0 +1,9 @@
+-- Keyset pagination of session history listings
+-- Session lists page on (started_at, session_id) per room, newest first; the tie-breaker
+-- column lets each page continue from the previous one with an index range scan.
+-- The new index covers every query idx_session_history_room served.
+
+CREATE INDEX idx_session_history_room_keyset
+    ON session_history(room_id, started_at DESC, session_id DESC);
+
+DROP INDEX IF EXISTS idx_session_history_room;
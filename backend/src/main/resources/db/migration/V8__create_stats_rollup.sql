@@ -0,0 +1,87 @@
+-- ============================================================================
+-- Planning Poker - Statistics Rollup Migration
+-- Version: V8
+-- Description: Creates daily and monthly pre-aggregated statistics per user,
+--              room and organization, and fills them from session_history
+-- ============================================================================
+
+-- ----------------------------------------------------------------------------
+-- Rollup Counters
+-- ----------------------------------------------------------------------------
+
+CREATE TABLE stats_rollup (
+    scope_type VARCHAR(16) NOT NULL CHECK (scope_type IN ('USER', 'ROOM', 'ORGANIZATION')),
+    scope_id VARCHAR(36) NOT NULL,
+    granularity VARCHAR(8) NOT NULL CHECK (granularity IN ('DAY', 'MONTH')),
+    bucket_start DATE NOT NULL,
+    sessions INTEGER NOT NULL DEFAULT 0,
+    rounds INTEGER NOT NULL DEFAULT 0,
+    stories INTEGER NOT NULL DEFAULT 0,
+    votes INTEGER NOT NULL DEFAULT 0,
+    consensus_rounds INTEGER NOT NULL DEFAULT 0,
+    consensus_rate_sum NUMERIC(14,4) NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope_type, scope_id, granularity, bucket_start)
+);
+
+COMMENT ON TABLE stats_rollup IS 'Session statistics per scope and UTC day/month of session start, maintained as sessions are revealed';
+COMMENT ON COLUMN stats_rollup.scope_id IS 'Room ID, or owner user ID / organization ID as text';
+COMMENT ON COLUMN stats_rollup.sessions IS 'Sessions with at least one revealed round';
+COMMENT ON COLUMN stats_rollup.consensus_rate_sum IS 'Sum of the sessions'' consensus rates (divide by sessions for the average)';
+
+CREATE TABLE stats_rollup_participant (
+    scope_type VARCHAR(16) NOT NULL,
+    scope_id VARCHAR(36) NOT NULL,
+    granularity VARCHAR(8) NOT NULL,
+    bucket_start DATE NOT NULL,
+    display_name VARCHAR(255) NOT NULL,
+    vote_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope_type, scope_id, granularity, bucket_start, display_name)
+);
+
+COMMENT ON TABLE stats_rollup_participant IS 'Votes per participant display name, bucketed like stats_rollup';
+
+-- ----------------------------------------------------------------------------
+-- Initial Fill
+-- ----------------------------------------------------------------------------
+
+INSERT INTO stats_rollup (scope_type, scope_id, granularity, bucket_start,
+        sessions, rounds, stories, votes, consensus_rounds, consensus_rate_sum)
+SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+       COUNT(*),
+       SUM(sh.total_rounds),
+       SUM(sh.total_stories),
+       SUM(COALESCE((sh.summary_stats ->> 'total_votes')::integer, 0)),
+       SUM(COALESCE((sh.summary_stats ->> 'rounds_with_consensus')::integer, 0)),
+       SUM(COALESCE((sh.summary_stats ->> 'consensus_rate')::numeric, 0))
+FROM session_history sh
+INNER JOIN room r ON sh.room_id = r.room_id
+CROSS JOIN LATERAL (VALUES
+        ('ROOM', CAST(r.room_id AS VARCHAR)),
+        ('USER', CAST(r.owner_id AS VARCHAR)),
+        ('ORGANIZATION', CAST(r.org_id AS VARCHAR))) AS sc(scope_type, scope_id)
+CROSS JOIN LATERAL (VALUES
+        ('DAY', CAST(sh.started_at AT TIME ZONE 'UTC' AS DATE)),
+        ('MONTH', CAST(date_trunc('month', sh.started_at AT TIME ZONE 'UTC') AS DATE))) AS b(granularity, bucket_start)
+WHERE sh.total_rounds > 0
+  AND sc.scope_id IS NOT NULL
+GROUP BY sc.scope_type, sc.scope_id, b.granularity, b.bucket_start;
+
+INSERT INTO stats_rollup_participant (scope_type, scope_id, granularity, bucket_start,
+        display_name, vote_count)
+SELECT sc.scope_type, sc.scope_id, b.granularity, b.bucket_start,
+       p.value ->> 'display_name',
+       SUM(COALESCE((p.value ->> 'vote_count')::integer, 0))
+FROM session_history sh
+INNER JOIN room r ON sh.room_id = r.room_id
+CROSS JOIN LATERAL (VALUES
+        ('ROOM', CAST(r.room_id AS VARCHAR)),
+        ('USER', CAST(r.owner_id AS VARCHAR)),
+        ('ORGANIZATION', CAST(r.org_id AS VARCHAR))) AS sc(scope_type, scope_id)
+CROSS JOIN LATERAL (VALUES
+        ('DAY', CAST(sh.started_at AT TIME ZONE 'UTC' AS DATE)),
+        ('MONTH', CAST(date_trunc('month', sh.started_at AT TIME ZONE 'UTC') AS DATE))) AS b(granularity, bucket_start)
+CROSS JOIN LATERAL jsonb_array_elements(sh.participants) AS p(value)
+WHERE sh.total_rounds > 0
+  AND sc.scope_id IS NOT NULL
+  AND p.value ->> 'display_name' IS NOT NULL
+GROUP BY sc.scope_type, sc.scope_id, b.granularity, b.bucket_start, p.value ->> 'display_name';
@@ -0,0 +1,8 @@
+-- Votes counted at a round's last reveal
+-- A round revealed again or reset is folded out of its session history with the votes it
+-- was folded in with, which may differ from the votes the round has by then.
+-- Rounds revealed before this column existed are folded out with their current votes.
+
+ALTER TABLE round ADD COLUMN revealed_votes JSONB;
+
+COMMENT ON COLUMN round.revealed_votes IS 'Participant IDs whose votes the last reveal counted into session_history (JSON array)';
@@ -47,7 +47,7 @@ public class ReportingControllerTest {
     }
 
     /**
-     * Test listing sessions with default pagination (page 0, size 20).
+     * Test listing sessions with default pagination (first page, size 20).
      * Expects: 200 OK with empty list (no auth implemented yet).
      */
     @Test
@@ -69,22 +69,19 @@ public class ReportingControllerTest {
         } else {
             // If auth is implemented, check pagination response
             response.then()
-                    .body("page", equalTo(0))
                     .body("size", equalTo(20))
-                    .body("total", greaterThanOrEqualTo(0))
-                    .body("hasNext", anyOf(is(true), is(false)));
+                    .body("has_next", anyOf(is(true), is(false)));
         }
     }
 
     /**
      * Test listing sessions with custom pagination.
-     * Expects: 200 OK with custom page and size values.
+     * Expects: 200 OK with custom size value.
      */
     @Test
     public void testListSessions_CustomPagination() {
         Response response = given()
                 .contentType(ContentType.JSON)
-                .queryParam("page", 1)
                 .queryParam("size", 10)
                 .when()
                 .get("/api/v1/reports/sessions")
@@ -94,20 +91,19 @@ public class ReportingControllerTest {
 
         if (response.statusCode() == 200) {
             response.then()
-                    .body("page", equalTo(1))
                     .body("size", equalTo(10));
         }
     }
 
     /**
-     * Test listing sessions with invalid pagination (negative page).
+     * Test listing sessions with invalid pagination (malformed cursor).
      * Expects: 400 Bad Request with validation error.
      */
     @Test
-    public void testListSessions_InvalidPagination_NegativePage() {
+    public void testListSessions_InvalidPagination_MalformedCursor() {
         given()
                 .contentType(ContentType.JSON)
-                .queryParam("page", -1)
+                .queryParam("cursor", "not-a-cursor")
                 .queryParam("size", 20)
                 .when()
                 .get("/api/v1/reports/sessions")
@@ -124,7 +120,6 @@ public class ReportingControllerTest {
     public void testListSessions_InvalidPagination_SizeTooLarge() {
         given()
                 .contentType(ContentType.JSON)
-                .queryParam("page", 0)
                 .queryParam("size", 101)
                 .when()
                 .get("/api/v1/reports/sessions")
@@ -0,0 +1,75 @@
+package com.scrumpoker.api.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for EncodedFrame reference counting and payload sharing.
+ */
+class EncodedFrameTest {
+
+    private static final String JSON = "{\"type\":\"vote.recorded.v1\",\"payload\":{\"card\":\"☕\",\"note\":\"😀 é\"}}";
+
+    @Test
+    void testAsText_ReturnsSameInstanceForEveryRecipient() {
+        EncodedFrame frame = EncodedFrame.ofText("vote.recorded.v1", JSON);
+
+        String first = frame.asText();
+        String second = frame.asText();
+
+        assertThat(first).isSameAs(JSON);
+        assertThat(second).isSameAs(first);
+        assertThat(frame.isBinary()).isFalse();
+    }
+
+    @Test
+    void testByteLength_CountsUtf8BytesOfText() {
+        EncodedFrame frame = EncodedFrame.ofText("vote.recorded.v1", JSON);
+
+        assertThat(frame.getByteLength()).isEqualTo(JSON.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(frame.getByteLength()).isGreaterThan(JSON.length());
+    }
+
+    @Test
+    void testUtf8Length_MatchesEncoderForUnpairedSurrogate() {
+        String text = "a\uD83Db";
+
+        assertThat(EncodedFrame.utf8Length(text)).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testAsBinary_ReturnsIndependentReadOnlyViews() {
+        byte[] cbor = {(byte) 0xA1, 0x61, 0x61, 0x01};
+        EncodedFrame frame = EncodedFrame.ofBinary("vote.recorded.v1", cbor);
+
+        ByteBuffer first = frame.asBinary();
+        ByteBuffer second = frame.asBinary();
+        first.get();
+
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(second.position()).isZero();
+        assertThat(second.remaining()).isEqualTo(frame.getByteLength());
+        assertThatThrownBy(frame::asText).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRelease_DropsPayloadAfterLastReference() {
+        EncodedFrame frame = EncodedFrame.ofText("vote.recorded.v1", JSON);
+        frame.retain();
+        frame.retain();
+
+        assertThat(frame.release()).isFalse();
+        assertThat(frame.release()).isFalse();
+        assertThat(frame.asText()).isEqualTo(JSON);
+        assertThat(frame.release()).isTrue();
+
+        assertThat(frame.refCount()).isZero();
+        assertThatThrownBy(frame::asText).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(frame::retain).isInstanceOf(IllegalStateException.class);
+    }
+}
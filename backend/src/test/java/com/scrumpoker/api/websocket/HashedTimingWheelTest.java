@@ -0,0 +1,105 @@
+package com.scrumpoker.api.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HashedTimingWheel, driven by a manual clock.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testSchedule_FiresWithinOneTickAfterDeadline() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test", TICK, 8, 0L);
+        List<String> fired = new ArrayList<>();
+
+        wheel.schedule(() -> fired.add("a"), 250 * 1_000_000L, 0L);
+        wheel.advanceTo(200 * 1_000_000L);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(300 * 1_000_000L);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void testSchedule_DeadlineBeyondOneRotation() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test", TICK, 8, 0L);
+        List<String> fired = new ArrayList<>();
+
+        // 8 buckets x 100ms = 800ms per rotation
+        wheel.schedule(() -> fired.add("late"), 2_050 * 1_000_000L, 0L);
+        wheel.schedule(() -> fired.add("early"), 50 * 1_000_000L, 0L);
+
+        wheel.advanceTo(1_000 * 1_000_000L);
+        assertThat(fired).containsExactly("early");
+
+        wheel.advanceTo(2_000 * 1_000_000L);
+        assertThat(fired).containsExactly("early");
+
+        wheel.advanceTo(2_100 * 1_000_000L);
+        assertThat(fired).containsExactly("early", "late");
+    }
+
+    @Test
+    void testCancel_BeforeAndAfterTransfer() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test", TICK, 8, 0L);
+        List<String> fired = new ArrayList<>();
+
+        HashedTimingWheel.Timeout beforeTransfer = wheel.schedule(() -> fired.add("a"), 500 * 1_000_000L, 0L);
+        HashedTimingWheel.Timeout afterTransfer = wheel.schedule(() -> fired.add("b"), 500 * 1_000_000L, 0L);
+        assertThat(beforeTransfer.cancel()).isTrue();
+
+        wheel.advanceTo(100 * 1_000_000L);
+        assertThat(afterTransfer.cancel()).isTrue();
+        assertThat(afterTransfer.cancel()).isFalse();
+
+        wheel.advanceTo(1_000 * 1_000_000L);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void testTaskScheduledFromTask_Reschedules() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test", TICK, 4, 0L);
+        List<Long> firedAt = new ArrayList<>();
+        long[] now = {0L};
+
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            firedAt.add(now[0]);
+            if (firedAt.size() < 3) {
+                wheel.schedule(task[0], 300 * 1_000_000L, now[0]);
+            }
+        };
+        wheel.schedule(task[0], 300 * 1_000_000L, 0L);
+
+        for (now[0] = 0L; now[0] <= 2_000 * 1_000_000L; now[0] += TICK) {
+            wheel.advanceTo(now[0]);
+        }
+
+        assertThat(firedAt).containsExactly(400 * 1_000_000L, 800 * 1_000_000L, 1_200 * 1_000_000L);
+    }
+
+    @Test
+    void testFailingTask_DoesNotAffectOthers() {
+        HashedTimingWheel wheel = new HashedTimingWheel("test", TICK, 8, 0L);
+        List<String> fired = new ArrayList<>();
+
+        HashedTimingWheel.Timeout failing = wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 0L, 0L);
+        wheel.schedule(() -> fired.add("ok"), 0L, 0L);
+
+        wheel.advanceTo(TICK);
+        assertThat(failing.isExpired()).isTrue();
+        assertThat(fired).containsExactly("ok");
+    }
+}
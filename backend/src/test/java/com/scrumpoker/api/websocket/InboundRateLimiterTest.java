@@ -0,0 +1,112 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.api.websocket.message.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InboundRateLimiter and its token buckets.
+ */
+class InboundRateLimiterTest {
+
+    private InboundRateLimiter limiter(List<String> session, List<String> room) {
+        InboundRateLimiter limiter = new InboundRateLimiter();
+        limiter.enabled = true;
+        limiter.sessionLimitSpecs = session;
+        limiter.roomLimitSpecs = room;
+        limiter.init();
+        return limiter;
+    }
+
+    @Test
+    void testTokenBucket_AllowsBurstThenRefills() {
+        long start = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), start);
+
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start)).isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        long oneSecondLater = start + Duration.ofSeconds(1).toNanos();
+        assertThat(bucket.tryAcquire(oneSecondLater)).isZero();
+        assertThat(bucket.tryAcquire(oneSecondLater)).isPositive();
+    }
+
+    @Test
+    void testTryAcquire_LimitsTypesSeparatelyAndSharesDefault() {
+        InboundRateLimiter limiter = limiter(List.of("vote.cast.v1=2/1M", "default=1/1M"), List.of());
+
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.VOTE_CAST)).isNull();
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.VOTE_CAST)).isNull();
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.VOTE_CAST).scope())
+                .isEqualTo(InboundRateLimiter.Scope.SESSION);
+
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.CHAT_MESSAGE)).isNull();
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.ROUND_START)).isNotNull();
+        assertThat(limiter.tryAcquire("s2", "room01", MessageType.ROUND_START)).isNull();
+    }
+
+    @Test
+    void testTryAcquire_RoomLimitIsSharedBySessions() {
+        InboundRateLimiter limiter = limiter(List.of(), List.of("vote.cast.v1=2/1M"));
+
+        assertThat(limiter.tryAcquire("s1", "room01", MessageType.VOTE_CAST)).isNull();
+        assertThat(limiter.tryAcquire("s2", "room01", MessageType.VOTE_CAST)).isNull();
+        InboundRateLimiter.Rejection rejection = limiter.tryAcquire("s3", "room01", MessageType.VOTE_CAST);
+
+        assertThat(rejection.scope()).isEqualTo(InboundRateLimiter.Scope.ROOM);
+        assertThat(rejection.retryAfter()).isPositive();
+        assertThat(limiter.tryAcquire("s3", "room02", MessageType.VOTE_CAST)).isNull();
+
+        limiter.releaseRoom("room01");
+        assertThat(limiter.tryAcquire("s3", "room01", MessageType.VOTE_CAST)).isNull();
+    }
+
+    @Test
+    void testTryAcquire_IgnoresInvalidEntries() {
+        InboundRateLimiter limiter = limiter(List.of("vote.cast.v1=abc/1S", "presence.v1=1/1S", "default=0/1S"),
+                List.of());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("s1", "room01", MessageType.VOTE_CAST)).isNull();
+        }
+    }
+
+    @Test
+    void testTryAcquire_AdmitsExactlyCapacityUnderContention() throws Exception {
+        InboundRateLimiter limiter = limiter(List.of(), List.of("vote.cast.v1=500/1H"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < 8; t++) {
+                String sessionId = "s" + t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (limiter.tryAcquire(sessionId, "room01", MessageType.VOTE_CAST) == null) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(admitted.get()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,99 @@
+package com.scrumpoker.api.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.scrumpoker.api.websocket.message.ChatMessage;
+import com.scrumpoker.api.websocket.message.InboundMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.RoomJoin;
+import com.scrumpoker.api.websocket.message.VoteCast;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MessageCodec streaming decode of incoming messages.
+ */
+class MessageCodecTest {
+
+    private MessageCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new MessageCodec();
+        codec.objectMapper = new ObjectMapper();
+        codec.initialize();
+    }
+
+    @Test
+    void testDecode_ResolvesTypeTagAndTypedPayload() throws Exception {
+        InboundMessage message = codec.decode(
+                "{\"type\":\"vote.cast.v1\",\"requestId\":\"req-1\",\"payload\":{\"cardValue\":\" 5 \",\"extra\":[1,2]}}");
+
+        assertThat(message.messageType()).isEqualTo(MessageType.VOTE_CAST);
+        assertThat(message.requestId()).isEqualTo("req-1");
+        assertThat(message.payloadError()).isNull();
+        assertThat(message.payload(VoteCast.class).cardValue()).isEqualTo("5");
+    }
+
+    @Test
+    void testDecode_BuffersPayloadThatPrecedesType() throws Exception {
+        InboundMessage message = codec.decode(
+                "{\"payload\":{\"displayName\":\"Alice\",\"lastSeq\":41},\"requestId\":\"req-1\",\"type\":\"room.join.v1\"}");
+
+        assertThat(message.messageType()).isEqualTo(MessageType.ROOM_JOIN);
+        assertThat(message.payload(RoomJoin.class)).isEqualTo(new RoomJoin("Alice", 41L));
+    }
+
+    @Test
+    void testDecode_ReportsPayloadErrorWithRequestId() throws Exception {
+        InboundMessage message = codec.decode(
+                "{\"type\":\"vote.cast.v1\",\"payload\":{\"cardValue\":{\"nested\":true},\"x\":1},\"requestId\":\"req-2\"}");
+
+        assertThat(message.requestId()).isEqualTo("req-2");
+        assertThat(message.payload()).isNull();
+        assertThat(message.payloadError()).isEqualTo("cardValue must be a string");
+    }
+
+    @Test
+    void testDecode_AppliesRequiredChecksToMissingPayload() throws Exception {
+        InboundMessage message = codec.decode("{\"type\":\"chat.message.v1\",\"requestId\":\"req-3\"}");
+
+        assertThat(message.payloadError()).isEqualTo("message is required");
+    }
+
+    @Test
+    void testDecode_SkipsPayloadOfUnknownType() throws Exception {
+        InboundMessage message = codec.decode(
+                "{\"type\":\"presence.update.v1\",\"requestId\":\"req-4\",\"payload\":{\"status\":\"away\"}}");
+
+        assertThat(message.type()).isEqualTo("presence.update.v1");
+        assertThat(message.messageType()).isNull();
+        assertThat(message.payload()).isNull();
+        assertThat(message.payloadError()).isNull();
+    }
+
+    @Test
+    void testDecode_RejectsNonObjectEnvelope() {
+        assertThatThrownBy(() -> codec.decode("[\"vote.cast.v1\"]"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testDecode_ReadsCborBinaryFrame() throws Exception {
+        byte[] cbor = new ObjectMapper(new CBORFactory()).writeValueAsBytes(Map.of(
+                "type", "chat.message.v1",
+                "requestId", "req-5",
+                "payload", Map.of("message", "Hello team!")));
+
+        InboundMessage message = codec.decode(ByteBuffer.wrap(cbor));
+
+        assertThat(message.payload(ChatMessage.class)).isEqualTo(new ChatMessage("Hello team!", null));
+    }
+}
@@ -0,0 +1,99 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for RoomExecutionLanes ordering and isolation.
+ */
+class RoomExecutionLanesTest {
+
+    private Vertx vertx;
+    private RoomExecutionLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        lanes = new RoomExecutionLanes();
+        lanes.vertx = vertx;
+        lanes.businessMetrics = mock(BusinessMetrics.class);
+        lanes.laneCount = 1;
+        lanes.taskTimeout = Duration.ofSeconds(5);
+        lanes.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testSubmit_RunsMessagesOfARoomOneAfterAnother() throws Exception {
+        List<String> trace = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> firstDone = new CompletableFuture<>();
+        CountDownLatch finished = new CountDownLatch(2);
+
+        lanes.submit("room01", () -> {
+            trace.add("start-1");
+            return Uni.createFrom().completionStage(firstDone)
+                    .onItem().invoke(() -> trace.add("end-1"))
+                    .onTermination().invoke(finished::countDown);
+        });
+        lanes.submit("room01", () -> {
+            trace.add("start-2");
+            finished.countDown();
+            return Uni.createFrom().voidItem();
+        });
+
+        Thread.sleep(100);
+        assertThat(trace).containsExactly("start-1");
+        assertThat(lanes.getQueueDepth(0)).isEqualTo(2);
+
+        firstDone.complete(null);
+
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(trace).containsExactly("start-1", "end-1", "start-2");
+    }
+
+    @Test
+    void testSubmit_DoesNotHoldOtherRoomsOnTheSameLane() throws Exception {
+        CountDownLatch otherRoomRan = new CountDownLatch(1);
+
+        lanes.submit("room01", () -> Uni.createFrom().completionStage(new CompletableFuture<Void>()));
+        lanes.submit("room02", () -> {
+            otherRoomRan.countDown();
+            return Uni.createFrom().voidItem();
+        });
+
+        assertThat(otherRoomRan.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testSubmit_ContinuesAfterFailure() throws Exception {
+        CountDownLatch secondRan = new CountDownLatch(1);
+
+        lanes.submit("room01", () -> {
+            throw new IllegalStateException("boom");
+        });
+        lanes.submit("room01", () -> {
+            secondRan.countDown();
+            return Uni.createFrom().voidItem();
+        });
+
+        assertThat(secondRan.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
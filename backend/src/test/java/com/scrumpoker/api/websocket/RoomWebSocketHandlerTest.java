@@ -0,0 +1,153 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.api.websocket.message.InboundMessage;
+import com.scrumpoker.api.websocket.message.MessageType;
+import com.scrumpoker.api.websocket.message.VoteCast;
+import com.scrumpoker.domain.room.RoomMetadataCache;
+import com.scrumpoker.domain.room.RoomNotFoundException;
+import com.scrumpoker.metrics.BusinessMetrics;
+import com.scrumpoker.security.JwtTokenService;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RoomWebSocketHandler handshake admission and rejection close codes.
+ */
+class RoomWebSocketHandlerTest {
+
+    private static final String ROOM_ID = "room01";
+
+    private Vertx vertx;
+    private RoomWebSocketHandler handler;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        handler = new RoomWebSocketHandler();
+        handler.vertx = vertx;
+        handler.connectionRegistry = mock(ConnectionRegistry.class);
+        handler.jwtTokenService = mock(JwtTokenService.class);
+        handler.roomMetadataCache = mock(RoomMetadataCache.class);
+        handler.businessMetrics = mock(BusinessMetrics.class);
+        handler.messageCodec = mock(MessageCodec.class);
+        handler.messageRouter = mock(MessageRouter.class);
+        handler.rateLimiter = mock(InboundRateLimiter.class);
+        handler.maxHandshakesInFlight = 10;
+        handler.handshakeTimeout = Duration.ofSeconds(5);
+
+        session = mock(Session.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.getUserProperties()).thenReturn(new HashMap<>());
+        when(session.getRequestParameterMap()).thenReturn(Map.of());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testOnOpen_SaturatedRejectsWithServerBusy() throws Exception {
+        handler.maxHandshakesInFlight = 0;
+
+        handler.onOpen(session, ROOM_ID);
+
+        assertClosedWith(4009, "SERVER_BUSY");
+        assertThat(handler.getHandshakesInFlight()).isZero();
+        verify(handler.businessMetrics).recordHandshakeRejected(eq(BusinessMetrics.HANDSHAKE_REJECTED_OVERLOADED),
+                anyLong());
+        verifyNoInteractions(handler.roomMetadataCache);
+    }
+
+    @Test
+    void testOnOpen_HandshakeTimeoutRejectsWithServerBusy() throws Exception {
+        handler.handshakeTimeout = Duration.ofMillis(50);
+        when(handler.roomMetadataCache.get(ROOM_ID)).thenReturn(Uni.createFrom().nothing());
+
+        handler.onOpen(session, ROOM_ID);
+
+        assertClosedWith(4009, "SERVER_BUSY");
+        verify(handler.businessMetrics).recordHandshakeRejected(eq(BusinessMetrics.HANDSHAKE_REJECTED_TIMEOUT),
+                anyLong());
+    }
+
+    @Test
+    void testOnOpen_InvalidTokenRejectsWithUnauthorized() throws Exception {
+        when(session.getRequestParameterMap()).thenReturn(Map.of("token", List.of("expired")));
+        when(handler.jwtTokenService.validateAccessToken("expired"))
+                .thenReturn(Uni.createFrom().failure(new IllegalArgumentException("expired")));
+
+        handler.onOpen(session, ROOM_ID);
+
+        assertClosedWith(4000, "UNAUTHORIZED");
+        verifyNoInteractions(handler.roomMetadataCache);
+    }
+
+    @Test
+    void testOnOpen_MissingRoomRejectsWithRoomNotFound() throws Exception {
+        when(handler.roomMetadataCache.get(ROOM_ID))
+                .thenReturn(Uni.createFrom().failure(new RoomNotFoundException(ROOM_ID)));
+
+        handler.onOpen(session, ROOM_ID);
+
+        assertClosedWith(4001, "ROOM_NOT_FOUND");
+    }
+
+    @Test
+    void testOnOpen_UnexpectedFailureRejectsWithInternalError() throws Exception {
+        when(handler.roomMetadataCache.get(ROOM_ID))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("pool exhausted")));
+
+        handler.onOpen(session, ROOM_ID);
+
+        assertClosedWith(4999, "INTERNAL_SERVER_ERROR");
+        assertThat(handler.getHandshakesInFlight()).isZero();
+    }
+
+    @Test
+    void testOnMessage_BeforeHandshakeCompletesIsRefusedAsNotJoined() throws Exception {
+        when(handler.messageCodec.decode("vote")).thenReturn(new InboundMessage("vote.cast.v1",
+                MessageType.VOTE_CAST, "req-1", new VoteCast("5"), null));
+
+        handler.onMessage(session, "vote");
+
+        ArgumentCaptor<WebSocketMessage> error = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(handler.connectionRegistry).sendToSession(eq(session), error.capture());
+        assertThat(error.getValue().getRequestId()).isEqualTo("req-1");
+        assertThat(error.getValue().getPayloadField("code")).isEqualTo(4005);
+        assertThat((String) error.getValue().getPayloadField("message")).startsWith("Not joined");
+        verifyNoInteractions(handler.messageRouter);
+    }
+
+    private void assertClosedWith(int code, String error) throws Exception {
+        ArgumentCaptor<CloseReason> reason = ArgumentCaptor.forClass(CloseReason.class);
+        verify(session, timeout(2000)).close(reason.capture());
+        assertThat(reason.getValue().getCloseCode().getCode()).isEqualTo(code);
+        assertThat(reason.getValue().getReasonPhrase()).isEqualTo(error);
+
+        ArgumentCaptor<WebSocketMessage> message = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(handler.connectionRegistry).sendToSession(eq(session), message.capture());
+        assertThat(message.getValue().getPayloadField("code")).isEqualTo(code);
+        assertThat(message.getValue().getPayloadField("error")).isEqualTo(error);
+        verify(handler.connectionRegistry, never()).addConnection(any(), any());
+    }
+}
@@ -0,0 +1,189 @@
+package com.scrumpoker.api.websocket;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SessionOutbox queueing policies.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SessionOutboxTest {
+
+    @Mock
+    Session session;
+
+    @Mock
+    RemoteEndpoint.Async asyncRemote;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    private final List<String> sentTexts = new ArrayList<>();
+    private final List<SendHandler> pendingHandlers = new ArrayList<>();
+    private final SessionOutbox.Totals totals = new SessionOutbox.Totals();
+
+    @BeforeEach
+    void setUp() {
+        when(session.getAsyncRemote()).thenReturn(asyncRemote);
+        when(session.getId()).thenReturn("session-1");
+        doAnswer(invocation -> {
+            sentTexts.add(invocation.getArgument(0));
+            pendingHandlers.add(invocation.getArgument(1));
+            return null;
+        }).when(asyncRemote).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @Test
+    void testOffer_QueuesBehindInFlightSendAndDrainsInOrder() {
+        SessionOutbox outbox = outbox(1024, 10);
+        EncodedFrame first = frame("round.started.v1", "a");
+        EncodedFrame second = frame("chat.message.v1", "b");
+
+        assertThat(outbox.offer(first)).isEqualTo(SessionOutbox.OfferResult.ACCEPTED);
+        assertThat(outbox.offer(second)).isEqualTo(SessionOutbox.OfferResult.ACCEPTED);
+        assertThat(sentTexts).containsExactly("a");
+        assertThat(outbox.depth()).isEqualTo(1);
+        assertThat(totals.frames()).isEqualTo(1);
+
+        completeNextSend();
+        assertThat(sentTexts).containsExactly("a", "b");
+        assertThat(totals.frames()).isZero();
+
+        completeNextSend();
+        first.release();
+        second.release();
+        assertThat(first.refCount()).isZero();
+        assertThat(second.refCount()).isZero();
+    }
+
+    @Test
+    void testOffer_CoalescesSupersededStateMessages() {
+        SessionOutbox outbox = outbox(1024, 10);
+        outbox.offer(frame("round.started.v1", "in-flight"));
+        EncodedFrame staleState = frame("room.state.v1", "state-1");
+        outbox.offer(staleState);
+        outbox.offer(frame("chat.message.v1", "chat"));
+
+        assertThat(outbox.offer(frame("room.state.v1", "state-2"))).isEqualTo(SessionOutbox.OfferResult.COALESCED);
+        staleState.release();
+        assertThat(staleState.refCount()).isZero();
+
+        completeNextSend();
+        completeNextSend();
+        assertThat(sentTexts).containsExactly("in-flight", "chat", "state-2");
+        verify(businessMetrics).incrementOutboundDropped(BusinessMetrics.OUTBOUND_DROP_COALESCED);
+    }
+
+    @Test
+    void testOffer_DropsProgressTicksOverBudgetAndEvictsThemFirst() {
+        SessionOutbox outbox = outbox(1024, 2);
+        outbox.offer(frame("round.started.v1", "in-flight"));
+        outbox.offer(frame("vote.recorded.v1", "tick-1"));
+        outbox.offer(frame("chat.message.v1", "chat-1"));
+
+        assertThat(outbox.offer(frame("vote.recorded.v1", "tick-2"))).isEqualTo(SessionOutbox.OfferResult.DROPPED);
+        assertThat(outbox.offer(frame("chat.message.v1", "chat-2"))).isEqualTo(SessionOutbox.OfferResult.ACCEPTED);
+
+        completeNextSend();
+        completeNextSend();
+        assertThat(sentTexts).containsExactly("in-flight", "chat-1", "chat-2");
+        verify(session, never()).close(any(CloseReason.class));
+    }
+
+    @Test
+    void testOffer_DisconnectsSlowConsumerOverBudget() throws Exception {
+        SessionOutbox outbox = outbox(8, 10);
+        outbox.offer(frame("round.started.v1", "in-flight"));
+        outbox.offer(frame("chat.message.v1", "12345"));
+
+        EncodedFrame overflow = frame("chat.message.v1", "67890");
+        assertThat(outbox.offer(overflow)).isEqualTo(SessionOutbox.OfferResult.CLOSED);
+
+        ArgumentCaptor<CloseReason> reason = ArgumentCaptor.forClass(CloseReason.class);
+        verify(session).close(reason.capture());
+        assertThat(reason.getValue().getCloseCode().getCode()).isEqualTo(SessionOutbox.SLOW_CONSUMER_CLOSE_CODE);
+        verify(businessMetrics).incrementSlowConsumerDisconnects();
+        assertThat(totals.frames()).isZero();
+        assertThat(totals.bytes()).isZero();
+
+        overflow.release();
+        assertThat(overflow.refCount()).isZero();
+        assertThat(outbox.offer(frame("chat.message.v1", "late"))).isEqualTo(SessionOutbox.OfferResult.CLOSED);
+    }
+
+    @Test
+    void testOffer_DisconnectsWhenOldestFrameExceedsDelayBudget() throws Exception {
+        SessionOutbox outbox = new SessionOutbox(session,
+                new SessionOutbox.Policy(Set.of(), Set.of(), 1024, 10, 0L), totals, businessMetrics);
+        outbox.offer(frame("round.started.v1", "in-flight"));
+        outbox.offer(frame("chat.message.v1", "waiting"));
+        TimeUnit.MILLISECONDS.sleep(1);
+
+        assertThat(outbox.offer(frame("chat.message.v1", "next"))).isEqualTo(SessionOutbox.OfferResult.CLOSED);
+        verify(session).close(any(CloseReason.class));
+    }
+
+    @Test
+    void testRelease_SendsPrefixBeforeHeldFramesAndBypassingFramesImmediately() {
+        SessionOutbox outbox = new SessionOutbox(session,
+                new SessionOutbox.Policy(Set.of(), Set.of(), 1024, 10, TimeUnit.SECONDS.toNanos(10)),
+                totals, businessMetrics, true);
+        outbox.offer(frame("round.started.v1", "live-1"));
+        outbox.offer(frame("error.v1", "error"), true);
+        outbox.offer(frame("vote.recorded.v1", "live-2"));
+        assertThat(sentTexts).containsExactly("error");
+        assertThat(outbox.depth()).isEqualTo(2);
+
+        completeNextSend();
+        assertThat(sentTexts).containsExactly("error");
+
+        outbox.release(List.of(frame("room.resumed.v1", "resumed"), frame("round.started.v1", "replayed")));
+        completeNextSend();
+        completeNextSend();
+        completeNextSend();
+        assertThat(sentTexts).containsExactly("error", "resumed", "replayed", "live-1", "live-2");
+        assertThat(totals.frames()).isZero();
+    }
+
+    private SessionOutbox outbox(long maxBytes, int maxFrames) {
+        return new SessionOutbox(session,
+                new SessionOutbox.Policy(Set.of("room.state.v1"), Set.of("vote.recorded.v1"),
+                        maxBytes, maxFrames, TimeUnit.SECONDS.toNanos(10)),
+                totals, businessMetrics);
+    }
+
+    private EncodedFrame frame(String type, String text) {
+        return EncodedFrame.ofText(type, text);
+    }
+
+    private void completeNextSend() {
+        SendHandler handler = pendingHandlers.remove(0);
+        handler.onResult(new SendResult());
+    }
+}
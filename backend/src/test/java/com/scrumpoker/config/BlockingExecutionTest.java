@@ -0,0 +1,60 @@
+package com.scrumpoker.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BlockingExecution executor selection.
+ */
+class BlockingExecutionTest {
+
+    private BlockingExecution blockingExecution;
+
+    @AfterEach
+    void tearDown() {
+        if (blockingExecution != null) {
+            blockingExecution.shutdown();
+        }
+    }
+
+    @Test
+    void testSupply_RunsCallOffCallerThread() {
+        blockingExecution = create(BlockingExecution.MODE_WORKER);
+        Thread caller = Thread.currentThread();
+
+        Thread executed = blockingExecution.supply(Thread::currentThread)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(blockingExecution.isVirtual()).isFalse();
+        assertThat(executed).isNotSameAs(caller);
+    }
+
+    @Test
+    void testInit_VirtualModeDependsOnRuntime() {
+        blockingExecution = create(BlockingExecution.MODE_VIRTUAL);
+
+        String result = blockingExecution.supply(() -> "done").await().atMost(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("done");
+        assertThat(blockingExecution.isVirtual()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    void testInit_UnknownModeUsesWorkerPool() {
+        blockingExecution = create("carrier-pigeon");
+
+        assertThat(blockingExecution.isVirtual()).isFalse();
+        assertThat(blockingExecution.executor()).isNotNull();
+    }
+
+    private static BlockingExecution create(String mode) {
+        BlockingExecution execution = new BlockingExecution();
+        execution.executionMode = mode;
+        execution.init();
+        return execution;
+    }
+}
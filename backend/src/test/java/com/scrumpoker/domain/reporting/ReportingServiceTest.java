@@ -284,10 +284,10 @@ class ReportingServiceTest {
                 .thenReturn(Uni.createFrom().item(testSession));
         when(roundRepository.findByRoomId(testRoomId))
                 .thenReturn(Uni.createFrom().item(List.of(testRound1, testRound2)));
-        when(voteRepository.findByRoundId(testRound1.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(vote1, vote2)));
-        when(voteRepository.findByRoundId(testRound2.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(vote3)));
+        when(voteRepository.findGroupedByRoundIds(List.of(testRound1.roundId, testRound2.roundId)))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        testRound1.roundId, List.of(vote1, vote2),
+                        testRound2.roundId, List.of(vote3))));
 
         // When
         DetailedSessionReportDTO result = reportingService.getDetailedSessionReport(testSessionId, proUser)
@@ -325,8 +325,7 @@ class ReportingServiceTest {
         verify(featureGate).requireCanAccessAdvancedReports(proUser);
         verify(sessionHistoryService).getSessionById(testSessionId);
         verify(roundRepository).findByRoomId(testRoomId);
-        verify(voteRepository).findByRoundId(testRound1.roundId);
-        verify(voteRepository).findByRoundId(testRound2.roundId);
+        verify(voteRepository).findGroupedByRoundIds(List.of(testRound1.roundId, testRound2.roundId));
     }
 
     @Test
@@ -414,10 +413,10 @@ class ReportingServiceTest {
                 .thenReturn(participants);
         when(roundRepository.findByRoomId(testRoomId))
                 .thenReturn(Uni.createFrom().item(List.of(testRound1, testRound2)));
-        when(voteRepository.findByRoundId(testRound1.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(vote1, vote2)));
-        when(voteRepository.findByRoundId(testRound2.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(vote3, nonNumericVote)));
+        when(voteRepository.findGroupedByRoundIds(List.of(testRound1.roundId, testRound2.roundId)))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        testRound1.roundId, List.of(vote1, vote2),
+                        testRound2.roundId, List.of(vote3, nonNumericVote))));
 
         // When
         DetailedSessionReportDTO result = reportingService.getDetailedSessionReport(testSessionId, proUser)
@@ -611,10 +610,10 @@ class ReportingServiceTest {
                 .thenReturn(participants);
         when(roundRepository.findByRoomId(testRoomId))
                 .thenReturn(Uni.createFrom().item(List.of(testRound1, testRound2)));
-        when(voteRepository.findByRoundId(testRound1.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(consistentVote1)));
-        when(voteRepository.findByRoundId(testRound2.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(consistentVote2)));
+        when(voteRepository.findGroupedByRoundIds(List.of(testRound1.roundId, testRound2.roundId)))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        testRound1.roundId, List.of(consistentVote1),
+                        testRound2.roundId, List.of(consistentVote2))));
 
         // When
         DetailedSessionReportDTO result = reportingService.getDetailedSessionReport(testSessionId, proUser)
@@ -644,8 +643,9 @@ class ReportingServiceTest {
                 .thenReturn(participants);
         when(roundRepository.findByRoomId(testRoomId))
                 .thenReturn(Uni.createFrom().item(List.of(testRound1)));
-        when(voteRepository.findByRoundId(testRound1.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(singleVote)));
+        when(voteRepository.findGroupedByRoundIds(List.of(testRound1.roundId)))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        testRound1.roundId, List.of(singleVote))));
 
         // When
         DetailedSessionReportDTO result = reportingService.getDetailedSessionReport(testSessionId, proUser)
@@ -681,14 +681,13 @@ class ReportingServiceTest {
                 .thenReturn(participants);
         when(roundRepository.findByRoomId(testRoomId))
                 .thenReturn(Uni.createFrom().item(List.of(testRound1, testRound2, round3, round4)));
-        when(voteRepository.findByRoundId(testRound1.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(aliceVote1)));
-        when(voteRepository.findByRoundId(testRound2.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(aliceVote2)));
-        when(voteRepository.findByRoundId(round3.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(aliceVote3)));
-        when(voteRepository.findByRoundId(round4.roundId))
-                .thenReturn(Uni.createFrom().item(List.of(aliceVote4)));
+        when(voteRepository.findGroupedByRoundIds(
+                List.of(testRound1.roundId, testRound2.roundId, round3.roundId, round4.roundId)))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        testRound1.roundId, List.of(aliceVote1),
+                        testRound2.roundId, List.of(aliceVote2),
+                        round3.roundId, List.of(aliceVote3),
+                        round4.roundId, List.of(aliceVote4))));
 
         // When
         DetailedSessionReportDTO result = reportingService.getDetailedSessionReport(testSessionId, proUser)
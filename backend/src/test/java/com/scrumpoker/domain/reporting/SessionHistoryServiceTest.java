@@ -9,6 +9,7 @@ import com.scrumpoker.domain.user.SubscriptionTier;
 import com.scrumpoker.domain.user.User;
 import com.scrumpoker.repository.RoomRepository;
 import com.scrumpoker.repository.SessionHistoryRepository;
+import com.scrumpoker.repository.StatsRollupRepository;
 import com.scrumpoker.repository.UserRepository;
 import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.test.junit.QuarkusTest;
@@ -41,6 +42,9 @@ class SessionHistoryServiceTest {
     @Inject
     SessionHistoryRepository sessionHistoryRepository;
 
+    @Inject
+    StatsRollupRepository statsRollupRepository;
+
     @Inject
     UserRepository userRepository;
 
@@ -274,6 +278,8 @@ class SessionHistoryServiceTest {
                 .chain(() -> roomRepository.persist(room2))
                 .chain(() -> sessionHistoryRepository.persist(session1))
                 .chain(() -> sessionHistoryRepository.persist(session2))
+                // Sessions persisted directly skip the rollup deltas
+                .chain(() -> statsRollupRepository.rebuild())
         ));
 
         // Query user statistics - wrap in Panache.withSession()
@@ -390,6 +396,74 @@ class SessionHistoryServiceTest {
         );
     }
 
+    /**
+     * Test: getSessionSummaryPage pages through a user's sessions,
+     * newest first, with summary columns computed by the query.
+     */
+    @Test
+    @RunOnVertxContext
+    void testGetSessionSummaryPage_PagesByCursor(
+            final UniAsserter asserter) throws Exception {
+        final User user1 = createTestUser("user1@example.com", "User 1");
+        final User user2 = createTestUser("user2@example.com", "User 2");
+        final Room room1 = createTestRoom("room11", "Room 1", user1);
+        final Room room2 = createTestRoom("room12", "Room 2", user2);
+
+        final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final SessionHistory oldest = createTestSessionHistory(
+                room1, now.minus(3, ChronoUnit.DAYS), now, 2, 3);
+        final SessionHistory middle = createTestSessionHistory(
+                room1, now.minus(2, ChronoUnit.DAYS), now, 1, 2);
+        final SessionHistory newest = createTestSessionHistory(
+                room1, now.minus(1, ChronoUnit.DAYS), now, 3, 4);
+        final SessionHistory otherUsers = createTestSessionHistory(
+                room2, now.minus(1, ChronoUnit.DAYS), now, 3, 4);
+
+        asserter.execute(() -> Panache.withTransaction(() ->
+            userRepository.persist(user1)
+                .chain(() -> userRepository.persist(user2))
+                .chain(() -> roomRepository.persist(room1))
+                .chain(() -> roomRepository.persist(room2))
+                .chain(() -> sessionHistoryRepository.persist(oldest))
+                .chain(() -> sessionHistoryRepository.persist(middle))
+                .chain(() -> sessionHistoryRepository.persist(newest))
+                .chain(() -> sessionHistoryRepository.persist(otherUsers))
+        ));
+
+        final Instant fromDate = now.minus(7, ChronoUnit.DAYS);
+
+        // First page: the two newest sessions of user1
+        asserter.assertThat(
+            () -> Panache.withSession(() ->
+                sessionHistoryService.getSessionSummaryPage(
+                        user1.userId, null, fromDate, now, null, 2)),
+            page -> {
+                assertThat(page).extracting(SessionSummaryDTO::getSessionId)
+                        .containsExactly(newest.id.sessionId,
+                                middle.id.sessionId);
+                final SessionSummaryDTO summary = page.get(0);
+                assertThat(summary.getRoomTitle()).isEqualTo("Room 1");
+                assertThat(summary.getTotalRounds()).isEqualTo(3);
+                assertThat(summary.getTotalVotes()).isEqualTo(10);
+                assertThat(summary.getParticipantCount()).isEqualTo(1);
+                assertThat(summary.getConsensusRate())
+                        .isEqualByComparingTo(new BigDecimal("0.75"));
+            }
+        );
+
+        // Second page: continues after the middle session
+        asserter.assertThat(
+            () -> Panache.withSession(() ->
+                sessionHistoryService.getSessionSummaryPage(
+                        user1.userId, null, fromDate, now,
+                        new SessionCursor(middle.id.startedAt,
+                                middle.id.sessionId), 2)),
+            page -> assertThat(page)
+                    .extracting(SessionSummaryDTO::getSessionId)
+                    .containsExactly(oldest.id.sessionId)
+        );
+    }
+
     // Test helper methods
 
     /**
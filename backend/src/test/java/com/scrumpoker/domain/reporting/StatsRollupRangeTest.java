@@ -0,0 +1,49 @@
+package com.scrumpoker.domain.reporting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StatsRollupRange bucket selection.
+ */
+class StatsRollupRangeTest {
+
+    @Test
+    void testOf_WithinOneMonthUsesDaysOnly() {
+        StatsRollupRange range = StatsRollupRange.of(
+                Instant.parse("2025-10-03T15:00:00Z"), Instant.parse("2025-10-17T08:00:00Z"));
+
+        assertThat(range.monthsFrom()).isEqualTo(range.monthsTo());
+        assertThat(range.headFrom()).isEqualTo(LocalDate.of(2025, 10, 3));
+        assertThat(range.headTo()).isEqualTo(LocalDate.of(2025, 10, 18));
+        assertThat(range.tailFrom()).isEqualTo(range.tailTo());
+    }
+
+    @Test
+    void testOf_SpanningMonthsUsesMonthsAndPartialDays() {
+        StatsRollupRange range = StatsRollupRange.of(
+                Instant.parse("2025-08-20T23:30:00Z"), Instant.parse("2025-11-05T00:10:00Z"));
+
+        assertThat(range.headFrom()).isEqualTo(LocalDate.of(2025, 8, 20));
+        assertThat(range.headTo()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(range.monthsFrom()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(range.monthsTo()).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(range.tailFrom()).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(range.tailTo()).isEqualTo(LocalDate.of(2025, 11, 6));
+    }
+
+    @Test
+    void testOf_WholeMonthsNeedNoDays() {
+        StatsRollupRange range = StatsRollupRange.of(
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-03-31T12:00:00Z"));
+
+        assertThat(range.monthsFrom()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(range.monthsTo()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(range.headFrom()).isEqualTo(range.headTo());
+        assertThat(range.tailFrom()).isEqualTo(range.tailTo());
+    }
+}
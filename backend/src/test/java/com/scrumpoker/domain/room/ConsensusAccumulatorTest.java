@@ -0,0 +1,120 @@
+package com.scrumpoker.domain.room;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for ConsensusAccumulator incremental statistics.
+ */
+class ConsensusAccumulatorTest {
+
+    @Test
+    void testEmpty_HasNoStatistics() {
+        ConsensusAccumulator accumulator = new ConsensusAccumulator();
+
+        assertThat(accumulator.average()).isNull();
+        assertThat(accumulator.median()).isNull();
+        assertThat(accumulator.consensus()).isFalse();
+    }
+
+    @Test
+    void testNumericVotes_AverageMedianAndConsensus() {
+        ConsensusAccumulator accumulator = accumulatorOf("3", "5", "5", "8");
+
+        assertThat(accumulator.average()).isEqualByComparingTo(new BigDecimal("5.25"));
+        assertThat(accumulator.median()).isEqualTo("5");
+        // Variance 3.1875 is above the 2.0 threshold
+        assertThat(accumulator.consensus()).isFalse();
+
+        ConsensusAccumulator close = accumulatorOf("3", "5");
+        assertThat(close.median()).isEqualTo("4");
+        assertThat(close.consensus()).isTrue();
+
+        ConsensusAccumulator fractional = accumulatorOf("8", "13");
+        assertThat(fractional.median()).isEqualTo("10.5");
+    }
+
+    @Test
+    void testNonNumericVotes_BreakConsensusAndUseMajorityMedian() {
+        ConsensusAccumulator accumulator = accumulatorOf("?", "?", "5");
+
+        assertThat(accumulator.consensus()).isFalse();
+        assertThat(accumulator.median()).isEqualTo("?");
+        assertThat(accumulator.average()).isEqualByComparingTo(new BigDecimal("5.00"));
+
+        accumulator.add("8");
+        assertThat(accumulator.median()).isEqualTo("mixed");
+    }
+
+    @Test
+    void testNullVote_CountsAsNonNumeric() {
+        ConsensusAccumulator accumulator = accumulatorOf("5", "5", null);
+
+        assertThat(accumulator.getVoteCount()).isEqualTo(3);
+        assertThat(accumulator.consensus()).isFalse();
+        assertThat(accumulator.average()).isEqualByComparingTo(new BigDecimal("5.00"));
+        assertThat(accumulator.median()).isEqualTo("5");
+
+        accumulator.add(null);
+        assertThat(accumulator.median()).isEqualTo("mixed");
+
+        accumulator.remove(null);
+        accumulator.remove(null);
+        assertThat(accumulator.getVoteCount()).isEqualTo(2);
+        assertThat(accumulator.consensus()).isTrue();
+
+        // Removing a null vote that was never added changes nothing
+        accumulator.remove(null);
+        assertThat(accumulator.getVoteCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testReplace_UpdatesStatisticsInPlace() {
+        ConsensusAccumulator accumulator = accumulatorOf("5", "13");
+        assertThat(accumulator.consensus()).isFalse();
+
+        accumulator.replace("13", "5");
+
+        assertThat(accumulator.getVoteCount()).isEqualTo(2);
+        assertThat(accumulator.variance()).isZero();
+        assertThat(accumulator.consensus()).isTrue();
+
+        accumulator.clear();
+        assertThat(accumulator.getVoteCount()).isZero();
+        assertThat(accumulator.average()).isNull();
+    }
+
+    @Test
+    void testLargeCustomDeckValues_DoNotOverflow() {
+        Deck deck = DeckRegistry.forType("custom", List.of("1", "999999", "1000000"));
+        ConsensusAccumulator accumulator = new ConsensusAccumulator(deck);
+        for (int i = 0; i < 2500; i++) {
+            accumulator.add("1");
+            accumulator.add("999999");
+        }
+
+        assertThat(accumulator.average()).isEqualByComparingTo(new BigDecimal("500000.00"));
+        assertThat(accumulator.median()).isEqualTo("500000");
+        // Population variance of two equally held values is (difference / 2)²
+        assertThat(accumulator.variance()).isCloseTo(499999.0 * 499999.0, within(1.0));
+        assertThat(accumulator.consensus()).isFalse();
+
+        // Seven digits exceed Deck.MAX_NUMERIC_DIGITS and are not numeric
+        assertThat(deck.isNumeric(deck.ordinalOf("1000000"))).isFalse();
+        accumulator.add("1000000");
+        assertThat(accumulator.average()).isEqualByComparingTo(new BigDecimal("500000.00"));
+    }
+
+    private ConsensusAccumulator accumulatorOf(String... cardValues) {
+        ConsensusAccumulator accumulator = new ConsensusAccumulator();
+        for (String cardValue : cardValues) {
+            accumulator.add(cardValue);
+        }
+        return accumulator;
+    }
+}
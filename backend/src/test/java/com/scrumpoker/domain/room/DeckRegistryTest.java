@@ -0,0 +1,76 @@
+package com.scrumpoker.domain.room;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for DeckRegistry deck resolution and compiled decks.
+ */
+class DeckRegistryTest {
+
+    @Test
+    void testForType_NormalizesBuiltInDeckTypes() {
+        assertThat(DeckRegistry.forType(null, null)).isSameAs(DeckRegistry.FIBONACCI_DECK);
+        assertThat(DeckRegistry.forType("FIBONACCI", null)).isSameAs(DeckRegistry.FIBONACCI_DECK);
+        assertThat(DeckRegistry.forType("T_SHIRT", null)).isSameAs(DeckRegistry.TSHIRT_DECK);
+        assertThat(DeckRegistry.forType("powers_of_2", null)).isSameAs(DeckRegistry.POWERS_OF_2_DECK);
+        assertThat(DeckRegistry.forType("power_of_two", null)).isSameAs(DeckRegistry.POWERS_OF_2_DECK);
+        assertThatThrownBy(() -> DeckRegistry.forType("modified", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCustomDeck_CompilesOrdinalsAndNumericWeights() {
+        Deck deck = DeckRegistry.forType("custom", List.of(" 10 ", "1", "Spike", "?"));
+
+        assertThat(deck.getCards()).containsExactly("10", "1", "Spike", "?");
+        assertThat(deck.ordinalOf("Spike")).isEqualTo(2);
+        assertThat(deck.ordinalOf("spike")).isEqualTo(Deck.NOT_IN_DECK);
+        assertThat(deck.isNumeric(0)).isTrue();
+        assertThat(deck.weightAt(0)).isEqualTo(10);
+        assertThat(deck.isNumeric(3)).isFalse();
+    }
+
+    @Test
+    void testCustomDeck_RejectsInvalidCards() {
+        assertThatThrownBy(() -> DeckRegistry.forType("custom", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DeckRegistry.forType("custom", List.of("1", "1")))
+                .hasMessage("Deck contains duplicate card values");
+        assertThatThrownBy(() -> DeckRegistry.forType("custom", List.of("12345678901")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCustomDeckStatistics_UseDeckWeightsRegardlessOfOrder() {
+        Deck deck = DeckRegistry.forType("custom", List.of("8", "2", "4", "?"));
+        ConsensusAccumulator accumulator = new ConsensusAccumulator(deck);
+        accumulator.add("8");
+        accumulator.add("2");
+        accumulator.add("4");
+
+        assertThat(accumulator.median()).isEqualTo("4");
+        accumulator.add("?");
+        assertThat(accumulator.consensus()).isFalse();
+        assertThat(accumulator.median()).isEqualTo("mixed");
+    }
+
+    @Test
+    void testCompiledRoomConfig_IsNotChangedThroughReadsOrSource() {
+        RoomConfig source = new RoomConfig();
+        DeckRegistry.CompiledRoomConfig compiled = DeckRegistry.compile(source);
+
+        source.setDeckType("T_SHIRT");
+        RoomConfig read = compiled.config();
+        read.setAllowObservers(false);
+
+        assertThat(compiled.config()).isNotSameAs(read);
+        assertThat(compiled.config().getDeckType()).isEqualTo("FIBONACCI");
+        assertThat(compiled.config().isAllowObservers()).isTrue();
+        assertThat(compiled.deckTypeTag()).isEqualTo("FIBONACCI");
+    }
+}
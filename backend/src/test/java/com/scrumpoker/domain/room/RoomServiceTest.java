@@ -36,6 +36,9 @@ class RoomServiceTest {
     @Mock
     ObjectMapper objectMapper;
 
+    @Mock
+    RoomMetadataCache roomMetadataCache;
+
     @InjectMocks
     RoomService roomService;
 
@@ -236,6 +239,7 @@ class RoomServiceTest {
 
         when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
         when(objectMapper.writeValueAsString(any())).thenReturn(newConfigJson);
+        when(roomMetadataCache.invalidate(roomId)).thenReturn(Uni.createFrom().voidItem());
         when(roomRepository.persist(any(Room.class))).thenAnswer(invocation -> {
             Room room = invocation.getArgument(0);
             return Uni.createFrom().item(room);
@@ -311,6 +315,7 @@ class RoomServiceTest {
         Room existingRoom = createTestRoom(roomId, "Old Title");
 
         when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
+        when(roomMetadataCache.invalidate(roomId)).thenReturn(Uni.createFrom().voidItem());
         when(roomRepository.persist(any(Room.class))).thenAnswer(invocation -> {
             Room room = invocation.getArgument(0);
             return Uni.createFrom().item(room);
@@ -333,6 +338,7 @@ class RoomServiceTest {
         Room existingRoom = createTestRoom(roomId, "Old Title");
 
         when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
+        when(roomMetadataCache.invalidate(roomId)).thenReturn(Uni.createFrom().voidItem());
         when(roomRepository.persist(any(Room.class))).thenAnswer(invocation -> {
             Room room = invocation.getArgument(0);
             return Uni.createFrom().item(room);
@@ -398,6 +404,7 @@ class RoomServiceTest {
         existingRoom.privacyMode = PrivacyMode.PUBLIC;
 
         when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
+        when(roomMetadataCache.invalidate(roomId)).thenReturn(Uni.createFrom().voidItem());
         when(roomRepository.persist(any(Room.class))).thenAnswer(invocation -> {
             Room room = invocation.getArgument(0);
             return Uni.createFrom().item(room);
@@ -435,6 +442,7 @@ class RoomServiceTest {
         Room existingRoom = createTestRoom(roomId, "Test Room");
 
         when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
+        when(roomMetadataCache.invalidate(roomId)).thenReturn(Uni.createFrom().voidItem());
         when(roomRepository.persist(any(Room.class))).thenAnswer(invocation -> {
             Room room = invocation.getArgument(0);
             return Uni.createFrom().item(room);
@@ -587,15 +595,13 @@ class RoomServiceTest {
     // ===== Get Room Config Tests =====
 
     @Test
-    void testGetRoomConfig_ValidRoom_ReturnsConfig() throws JsonProcessingException {
+    void testGetRoomConfig_ValidRoom_ReturnsCopyOfCachedConfig() {
         // Given
         String roomId = "room123";
-        String configJson = "{\"deckType\":\"FIBONACCI\",\"timerEnabled\":true}";
-        Room existingRoom = createTestRoom(roomId, "Test Room");
-        existingRoom.config = configJson;
+        RoomMetadata metadata = new RoomMetadata(roomId, "Test Room", PrivacyMode.PUBLIC,
+                DeckRegistry.compile(testConfig));
 
-        when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
-        when(objectMapper.readValue(configJson, RoomConfig.class)).thenReturn(testConfig);
+        when(roomMetadataCache.get(roomId)).thenReturn(Uni.createFrom().item(metadata));
 
         // When
         RoomConfig result = roomService.getRoomConfig(roomId)
@@ -603,15 +609,18 @@ class RoomServiceTest {
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).isEqualTo(testConfig);
-        verify(roomRepository).findById(roomId);
-        verify(objectMapper).readValue(configJson, RoomConfig.class);
+        assertThat(result).isNotSameAs(testConfig);
+        assertThat(result.getDeckType()).isEqualTo("FIBONACCI");
+        assertThat(result.isAllowObservers()).isTrue();
+        verify(roomMetadataCache).get(roomId);
+        verifyNoInteractions(roomRepository);
     }
 
     @Test
     void testGetRoomConfig_RoomNotFound_ThrowsException() {
         // Given
-        when(roomRepository.findById(anyString())).thenReturn(Uni.createFrom().nullItem());
+        when(roomMetadataCache.get(anyString()))
+                .thenReturn(Uni.createFrom().failure(new RoomNotFoundException("nonexistent")));
 
         // When/Then
         assertThatThrownBy(() ->
@@ -620,19 +629,15 @@ class RoomServiceTest {
         )
                 .isInstanceOf(RoomNotFoundException.class);
 
-        verify(roomRepository).findById("nonexistent");
+        verify(roomMetadataCache).get("nonexistent");
     }
 
     @Test
-    void testGetRoomConfig_DeserializationFailure_ThrowsRuntimeException() throws JsonProcessingException {
+    void testGetRoomConfig_DeserializationFailure_ThrowsRuntimeException() {
         // Given
         String roomId = "room123";
-        Room existingRoom = createTestRoom(roomId, "Test Room");
-        existingRoom.config = "invalid json";
-
-        when(roomRepository.findById(roomId)).thenReturn(Uni.createFrom().item(existingRoom));
-        when(objectMapper.readValue(anyString(), eq(RoomConfig.class)))
-                .thenThrow(new JsonProcessingException("Deserialization error") {});
+        when(roomMetadataCache.get(roomId)).thenReturn(Uni.createFrom().failure(
+                new RuntimeException("Failed to deserialize room configuration")));
 
         // When/Then
         assertThatThrownBy(() ->
@@ -641,8 +646,23 @@ class RoomServiceTest {
         )
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to deserialize room configuration");
+    }
 
-        verify(roomRepository).findById(roomId);
+    @Test
+    void testUpdateRoomConfig_InvalidCustomDeck_ThrowsException() {
+        // Given
+        testConfig.setDeckType("custom");
+        testConfig.setCustomDeck(List.of("1", "1"));
+
+        // When/Then
+        assertThatThrownBy(() ->
+                roomService.updateRoomConfig("room123", testConfig)
+                        .await().indefinitely()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Deck contains duplicate card values");
+
+        verifyNoInteractions(roomRepository, roomMetadataCache);
     }
 
     // ===== Helper Methods =====
@@ -0,0 +1,97 @@
+package com.scrumpoker.domain.room;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the in-memory RoomState used by RoomStateEngine.
+ */
+class RoomStateTest {
+
+    private UUID roundId;
+    private RoomState state;
+    private RoomState.ParticipantEntry voter;
+
+    @BeforeEach
+    void setUp() {
+        roundId = UUID.randomUUID();
+        state = new RoomState("room01", DeckRegistry.FIBONACCI_DECK, "fibonacci", roundId, false);
+        voter = new RoomState.ParticipantEntry(UUID.randomUUID(), RoomRole.VOTER);
+    }
+
+    @Test
+    void testRecordVote_ChangedCardReplacesPreviousVote() {
+        state.recordVote(voter, "3", Instant.now());
+        CastVote vote = state.recordVote(voter, "5", Instant.now());
+
+        assertThat(vote.roomId()).isEqualTo("room01");
+        assertThat(vote.roundId()).isEqualTo(roundId);
+        assertThat(vote.participantId()).isEqualTo(voter.participantId());
+        assertThat(vote.cardValue()).isEqualTo("5");
+        assertThat(state.getVoteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordVote_RejectsWithoutRoundOrAfterReveal() {
+        RoomState empty = new RoomState("room02", DeckRegistry.FIBONACCI_DECK, "fibonacci", null, false);
+        assertThatThrownBy(() -> empty.recordVote(voter, "5", Instant.now()))
+                .isInstanceOf(VoteRejectedException.class)
+                .hasMessage("No active round in room");
+
+        state.reveal();
+        assertThatThrownBy(() -> state.recordVote(voter, "5", Instant.now()))
+                .isInstanceOf(VoteRejectedException.class)
+                .satisfies(e -> assertThat(((VoteRejectedException) e).getCode()).isEqualTo(4005));
+    }
+
+    @Test
+    void testRecordVote_RejectsObserver() {
+        RoomState.ParticipantEntry observer = new RoomState.ParticipantEntry(UUID.randomUUID(), RoomRole.OBSERVER);
+
+        assertThatThrownBy(() -> state.recordVote(observer, "5", Instant.now()))
+                .isInstanceOf(VoteRejectedException.class)
+                .satisfies(e -> assertThat(((VoteRejectedException) e).getCode()).isEqualTo(4003));
+    }
+
+    @Test
+    void testRecordVote_RejectsCardOutsideDeck() {
+        RoomState tshirt = new RoomState("room03", DeckRegistry.TSHIRT_DECK, "tshirt", roundId, false);
+
+        assertThatThrownBy(() -> tshirt.recordVote(voter, "13", Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Card value '13' is not valid for deck type 'tshirt'");
+        assertThat(tshirt.recordVote(voter, "XL", Instant.now()).cardValue()).isSameAs("XL");
+    }
+
+    @Test
+    void testStartRound_ClearsVotesAndIgnoresRepeatedEvent() {
+        state.recordVote(voter, "8", Instant.now());
+        state.startRound(roundId);
+        assertThat(state.getVoteCount()).isEqualTo(1);
+
+        UUID nextRound = UUID.randomUUID();
+        state.startRound(nextRound);
+        assertThat(state.getRoundId()).isEqualTo(nextRound);
+        assertThat(state.getVoteCount()).isZero();
+        assertThat(state.isRevealed()).isFalse();
+    }
+
+    @Test
+    void testReset_OnlyReopensCurrentRound() {
+        state.recordVote(voter, "8", Instant.now());
+        state.reveal();
+
+        assertThat(state.reset(UUID.randomUUID())).isFalse();
+        assertThat(state.isRevealed()).isTrue();
+
+        assertThat(state.reset(roundId)).isTrue();
+        assertThat(state.isRevealed()).isFalse();
+        assertThat(state.getVoteCount()).isZero();
+    }
+}
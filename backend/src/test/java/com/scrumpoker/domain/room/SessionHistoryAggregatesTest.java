@@ -0,0 +1,183 @@
+package com.scrumpoker.domain.room;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.domain.reporting.ParticipantSummary;
+import com.scrumpoker.domain.reporting.SessionSummaryStats;
+import com.scrumpoker.domain.reporting.StatsRollupDelta;
+import com.scrumpoker.domain.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for SessionHistoryAggregates incremental folding.
+ */
+class SessionHistoryAggregatesTest {
+
+    private static final Instant START = Instant.parse("2025-10-17T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RoomParticipant alice = participant("Alice", RoomRole.HOST, true);
+    private final RoomParticipant bob = participant("Bob", RoomRole.VOTER, false);
+
+    @Test
+    void testAddRound_AccumulatesAcrossStoredRecord() throws Exception {
+        SessionHistory history = new SessionHistory();
+
+        SessionHistoryAggregates first = SessionHistoryAggregates.read(history, objectMapper);
+        first.addRound(START, START.plusSeconds(60), true, List.of(vote(alice, "5"), vote(bob, "5")));
+        first.writeTo(history, objectMapper);
+
+        SessionHistoryAggregates second = SessionHistoryAggregates.read(history, objectMapper);
+        second.addRound(START.plusSeconds(300), START.plusSeconds(420), false, List.of(vote(alice, "8")));
+        second.writeTo(history, objectMapper);
+
+        SessionSummaryStats stats = objectMapper.readValue(history.summaryStats, SessionSummaryStats.class);
+        assertThat(history.totalRounds).isEqualTo(2);
+        assertThat(history.totalStories).isEqualTo(2);
+        assertThat(stats.getTotalVotes()).isEqualTo(3);
+        assertThat(stats.getRoundsWithConsensus()).isEqualTo(1);
+        assertThat(stats.getConsensusRate()).isEqualByComparingTo(new BigDecimal("0.5"));
+        assertThat(stats.getAvgEstimationTimeSeconds()).isEqualTo(90L);
+        assertThat(stats.getTotalEstimationTimeSeconds()).isEqualTo(180L);
+        List<ParticipantSummary> participants = objectMapper.readValue(history.participants,
+                new TypeReference<List<ParticipantSummary>>() { });
+        assertThat(participants).extracting(ParticipantSummary::getDisplayName).containsExactly("Alice", "Bob");
+        assertThat(participants).extracting(ParticipantSummary::getVoteCount).containsExactly(2, 1);
+        assertThat(participants.get(1).getIsAuthenticated()).isFalse();
+    }
+
+    @Test
+    void testRemoveRound_UndoesAddRound() throws Exception {
+        List<Vote> votes = List.of(vote(alice, "3"), vote(bob, "13"));
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+        aggregates.addRound(START, START.plusSeconds(30), true, List.of(vote(alice, "5")));
+        aggregates.addRound(START.plusSeconds(60), START.plusSeconds(150), false, votes);
+
+        aggregates.removeRound(START.plusSeconds(60), START.plusSeconds(150), false,
+                SessionHistoryAggregates.tally(votes));
+
+        SessionHistory history = new SessionHistory();
+        aggregates.writeTo(history, objectMapper);
+        SessionSummaryStats stats = aggregates.toStats();
+        assertThat(history.totalRounds).isEqualTo(1);
+        assertThat(stats.getTotalVotes()).isEqualTo(1);
+        assertThat(stats.getConsensusRate()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(stats.getTotalEstimationTimeSeconds()).isEqualTo(30L);
+        assertThat(history.participants).doesNotContain("Bob");
+    }
+
+    @Test
+    void testReadTally_FoldsOutVotesCountedAtRevealNotCurrentVotes() throws Exception {
+        Round round = new Round();
+        List<Vote> revealed = List.of(vote(alice, "3"), vote(bob, "5"));
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+        aggregates.addRound(START, START.plusSeconds(30), false, revealed);
+        round.revealedVotes = SessionHistoryAggregates.writeTally(revealed, objectMapper);
+
+        // Bob's vote is gone by the time the round is revealed again
+        List<Vote> current = List.of(vote(alice, "3"));
+        aggregates.removeRound(START, START.plusSeconds(30), false,
+                SessionHistoryAggregates.readTally(round, current, objectMapper));
+        aggregates.addRound(START, START.plusSeconds(90), true, current);
+
+        SessionHistory history = new SessionHistory();
+        aggregates.writeTo(history, objectMapper);
+        assertThat(history.totalRounds).isEqualTo(1);
+        assertThat(aggregates.toStats().getTotalVotes()).isEqualTo(1);
+        assertThat(history.participants).contains("Alice").doesNotContain("Bob");
+    }
+
+    @Test
+    void testReadTally_FallsBackToCurrentVotesWithoutStoredTally() throws Exception {
+        List<Vote> votes = List.of(vote(alice, "3"), vote(bob, "5"));
+
+        assertThat(SessionHistoryAggregates.readTally(new Round(), votes, objectMapper))
+                .containsExactly(alice.participantId, bob.participantId);
+    }
+
+    @Test
+    void testRead_DerivesTotalEstimationTimeFromLegacyAverage() throws Exception {
+        SessionHistory history = new SessionHistory();
+        history.totalRounds = 2;
+        history.participants = "[]";
+        history.summaryStats = "{\"total_votes\":4,\"consensus_rate\":0.5,"
+                + "\"avg_estimation_time_seconds\":120,\"rounds_with_consensus\":1}";
+
+        SessionHistoryAggregates aggregates = SessionHistoryAggregates.read(history, objectMapper);
+        aggregates.addRound(START, START.plusSeconds(60), true, List.of(vote(alice, "5")));
+
+        SessionSummaryStats stats = aggregates.toStats();
+        assertThat(stats.getTotalVotes()).isEqualTo(5);
+        assertThat(stats.getRoundsWithConsensus()).isEqualTo(2);
+        assertThat(stats.getTotalEstimationTimeSeconds()).isEqualTo(300L);
+        assertThat(stats.getAvgEstimationTimeSeconds()).isEqualTo(100L);
+    }
+
+    @Test
+    void testRollupDeltaSince_CountsSessionOnFirstRoundOnly() {
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+
+        SessionHistoryAggregates empty = aggregates.copy();
+        aggregates.addRound(START, START.plusSeconds(60), true, List.of(vote(alice, "5"), vote(bob, "5")));
+        StatsRollupDelta first = aggregates.rollupDeltaSince(empty);
+
+        SessionHistoryAggregates oneRound = aggregates.copy();
+        aggregates.addRound(START.plusSeconds(300), START.plusSeconds(420), false, List.of(vote(alice, "8")));
+        StatsRollupDelta second = aggregates.rollupDeltaSince(oneRound);
+
+        assertThat(first.sessions()).isEqualTo(1);
+        assertThat(first.rounds()).isEqualTo(1);
+        assertThat(first.votes()).isEqualTo(2);
+        assertThat(first.consensusRounds()).isEqualTo(1);
+        assertThat(first.consensusRateSum()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(first.participantVotes()).containsOnly(entry("Alice", 1), entry("Bob", 1));
+
+        assertThat(second.sessions()).isZero();
+        assertThat(second.rounds()).isEqualTo(1);
+        assertThat(second.consensusRounds()).isZero();
+        assertThat(second.consensusRateSum()).isEqualByComparingTo(new BigDecimal("-0.5"));
+        assertThat(second.participantVotes()).containsOnly(entry("Alice", 1));
+    }
+
+    @Test
+    void testRollupDeltaSince_RemovingLastRoundUncountsSession() {
+        List<Vote> votes = List.of(vote(alice, "3"));
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+        aggregates.addRound(START, START.plusSeconds(30), true, votes);
+
+        SessionHistoryAggregates before = aggregates.copy();
+        aggregates.removeRound(START, START.plusSeconds(30), true, SessionHistoryAggregates.tally(votes));
+        StatsRollupDelta delta = aggregates.rollupDeltaSince(before);
+
+        assertThat(delta.sessions()).isEqualTo(-1);
+        assertThat(delta.rounds()).isEqualTo(-1);
+        assertThat(delta.votes()).isEqualTo(-1);
+        assertThat(delta.consensusRateSum()).isEqualByComparingTo(BigDecimal.ONE.negate());
+        assertThat(delta.participantVotes()).containsOnly(entry("Alice", -1));
+    }
+
+    private static RoomParticipant participant(String displayName, RoomRole role, boolean authenticated) {
+        RoomParticipant participant = new RoomParticipant();
+        participant.participantId = UUID.randomUUID();
+        participant.displayName = displayName;
+        participant.role = role;
+        participant.user = authenticated ? new User() : null;
+        return participant;
+    }
+
+    private static Vote vote(RoomParticipant participant, String cardValue) {
+        Vote vote = new Vote();
+        vote.participant = participant;
+        vote.cardValue = cardValue;
+        return vote;
+    }
+}
@@ -0,0 +1,171 @@
+package com.scrumpoker.domain.room;
+
+import com.scrumpoker.domain.user.SubscriptionTier;
+import com.scrumpoker.domain.user.User;
+import com.scrumpoker.repository.RoomParticipantRepository;
+import com.scrumpoker.repository.RoomRepository;
+import com.scrumpoker.repository.RoundRepository;
+import com.scrumpoker.repository.UserRepository;
+import com.scrumpoker.repository.VoteRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for VoteWriteBehindQueue failure isolation.
+ */
+@QuarkusTest
+class VoteWriteBehindQueueTest {
+
+    @Inject
+    VoteWriteBehindQueue voteWriteBehindQueue;
+
+    @Inject
+    VoteRepository voteRepository;
+
+    @Inject
+    RoundRepository roundRepository;
+
+    @Inject
+    RoomRepository roomRepository;
+
+    @Inject
+    RoomParticipantRepository participantRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @BeforeEach
+    @RunOnVertxContext
+    void setUp(UniAsserter asserter) {
+        asserter.execute(() -> Panache.withTransaction(() ->
+            voteRepository.deleteAll()
+                .chain(() -> roundRepository.deleteAll())
+                .chain(() -> participantRepository.deleteAll())
+                .chain(() -> roomRepository.deleteAll())
+                .chain(() -> userRepository.deleteAll())
+        ));
+    }
+
+    @Test
+    @RunOnVertxContext
+    void testFlush_PersistsOtherVotesWhenOneViolatesForeignKey(UniAsserter asserter) {
+        // Given: a round with two participants
+        User owner = createTestUser("owner@example.com", "google-owner");
+        User other = createTestUser("other@example.com", "google-other");
+        Room room = createTestRoom("wbq001", owner);
+        Round round = createTestRound(room);
+        RoomParticipant participant1 = createTestParticipant(room, owner, "Voter 1");
+        RoomParticipant participant2 = createTestParticipant(room, other, "Voter 2");
+
+        asserter.execute(() -> Panache.withTransaction(() ->
+            userRepository.persist(owner)
+                .chain(() -> userRepository.persist(other))
+                .chain(() -> roomRepository.persist(room))
+                .chain(() -> roundRepository.persist(round))
+                .chain(() -> participantRepository.persist(participant1))
+                .chain(() -> participantRepository.persist(participant2))
+        ));
+
+        // When: one vote in the batch references a participant that does not exist
+        asserter.execute(() -> {
+            voteWriteBehindQueue.enqueue(new CastVote("wbq001", round.roundId, participant1.participantId, "5", Instant.now()));
+            voteWriteBehindQueue.enqueue(new CastVote("wbq001", round.roundId, UUID.randomUUID(), "8", Instant.now()));
+            voteWriteBehindQueue.enqueue(new CastVote("wbq001", round.roundId, participant2.participantId, "13", Instant.now()));
+        });
+        asserter.execute(() -> voteWriteBehindQueue.flush().onFailure().recoverWithNull());
+
+        // Then: the valid votes are committed
+        asserter.assertThat(() -> Panache.withTransaction(() -> voteRepository.findByRoundId(round.roundId)), votes -> {
+            assertThat(votes).hasSize(2);
+            assertThat(votes).extracting(v -> v.cardValue).containsExactlyInAnyOrder("5", "13");
+        });
+    }
+
+    @Test
+    @RunOnVertxContext
+    void testFlush_FailsOnlyRoomsWithFailedVotes(UniAsserter asserter) {
+        // Given: two rooms with a round each
+        User owner = createTestUser("owner@example.com", "google-owner");
+        Room failingRoom = createTestRoom("wbq002", owner);
+        Room healthyRoom = createTestRoom("wbq003", owner);
+        Round failingRound = createTestRound(failingRoom);
+        Round healthyRound = createTestRound(healthyRoom);
+        RoomParticipant participant = createTestParticipant(healthyRoom, owner, "Voter 1");
+
+        asserter.execute(() -> Panache.withTransaction(() ->
+            userRepository.persist(owner)
+                .chain(() -> roomRepository.persist(failingRoom))
+                .chain(() -> roomRepository.persist(healthyRoom))
+                .chain(() -> roundRepository.persist(failingRound))
+                .chain(() -> roundRepository.persist(healthyRound))
+                .chain(() -> participantRepository.persist(participant))
+        ));
+
+        // When: both rooms flush in the same cycle and only the first room's vote is rejected
+        AtomicReference<Uni<Void>> failingFlush = new AtomicReference<>();
+        AtomicReference<Uni<Void>> healthyFlush = new AtomicReference<>();
+        asserter.execute(() -> {
+            voteWriteBehindQueue.enqueue(new CastVote("wbq002", failingRound.roundId, UUID.randomUUID(), "8", Instant.now()));
+            voteWriteBehindQueue.enqueue(new CastVote("wbq003", healthyRound.roundId, participant.participantId, "5", Instant.now()));
+            failingFlush.set(voteWriteBehindQueue.flush("wbq002"));
+            healthyFlush.set(voteWriteBehindQueue.flush("wbq003"));
+        });
+
+        // Then: only the waiter of the room with the rejected vote fails
+        asserter.assertFailedWith(failingFlush::get, Throwable.class);
+        asserter.execute(healthyFlush::get);
+        asserter.assertThat(() -> Panache.withTransaction(() -> voteRepository.findByRoundId(healthyRound.roundId)),
+                votes -> assertThat(votes).extracting(v -> v.cardValue).containsExactly("5"));
+    }
+
+    private User createTestUser(String email, String subject) {
+        User user = new User();
+        user.email = email;
+        user.oauthProvider = "google";
+        user.oauthSubject = subject;
+        user.displayName = "Test User";
+        user.subscriptionTier = SubscriptionTier.FREE;
+        return user;
+    }
+
+    private Room createTestRoom(String roomId, User owner) {
+        Room room = new Room();
+        room.roomId = roomId;
+        room.title = "Write-Behind Room";
+        room.owner = owner;
+        room.privacyMode = PrivacyMode.PUBLIC;
+        room.config = "{\"deckType\":\"fibonacci\"}";
+        room.createdAt = Instant.now();
+        room.lastActiveAt = Instant.now();
+        return room;
+    }
+
+    private Round createTestRound(Room room) {
+        Round round = new Round();
+        round.room = room;
+        round.roundNumber = 1;
+        round.storyTitle = "Story 1";
+        return round;
+    }
+
+    private RoomParticipant createTestParticipant(Room room, User user, String displayName) {
+        RoomParticipant participant = new RoomParticipant();
+        participant.room = room;
+        participant.user = user;
+        participant.displayName = displayName;
+        participant.role = RoomRole.VOTER;
+        return participant;
+    }
+}
@@ -0,0 +1,64 @@
+package com.scrumpoker.domain.room;
+
+import com.scrumpoker.repository.VoteRepository;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VotingService card validation on the write-through and write-behind paths.
+ */
+@ExtendWith(MockitoExtension.class)
+class VotingServiceTest {
+
+    private static final String ROOM_ID = "room01";
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    VoteWriteBehindQueue voteWriteBehindQueue;
+
+    @Mock
+    RoomMetadataCache roomMetadataCache;
+
+    @InjectMocks
+    VotingService votingService;
+
+    @BeforeEach
+    void setUp() {
+        RoomConfig config = new RoomConfig();
+        config.setDeckType(DeckRegistry.FIBONACCI);
+        when(roomMetadataCache.get(ROOM_ID)).thenReturn(Uni.createFrom().item(new RoomMetadata(ROOM_ID,
+                "Room", PrivacyMode.PUBLIC, DeckRegistry.compile(config))));
+    }
+
+    @Test
+    void testCastVote_RejectsCardNotInRoomDeck() {
+        assertThatThrownBy(() -> votingService.castVote(ROOM_ID, UUID.randomUUID(), UUID.randomUUID(), "4")
+                .await().indefinitely())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'4' is not valid for deck type 'fibonacci'");
+
+        verifyNoInteractions(voteRepository);
+    }
+
+    @Test
+    void testQueueVote_RejectsCardNotInRoomDeck() {
+        assertThatThrownBy(() -> votingService.queueVote(ROOM_ID, UUID.randomUUID(), UUID.randomUUID(), "XL")
+                .await().indefinitely())
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(voteWriteBehindQueue, never()).enqueue(any());
+    }
+}
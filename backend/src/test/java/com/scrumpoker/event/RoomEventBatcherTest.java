@@ -0,0 +1,145 @@
+package com.scrumpoker.event;
+
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RoomEventBatcher vote aggregation.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomEventBatcherTest {
+
+    @Mock
+    RoomEventPublisher roomEventPublisher;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    @Mock
+    Vertx vertx;
+
+    @InjectMocks
+    RoomEventBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher.windowMs = 20;
+        batcher.maxBatchSize = 100;
+    }
+
+    @Test
+    void testPublish_LoneVoteIsPublishedWithoutWaitingForWindow() {
+        captureTimer();
+        when(roomEventPublisher.publishEvent(anyString(), anyString(), anyMap()))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1")).await().indefinitely();
+
+        verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1"));
+        verify(vertx).setTimer(eq(20L), any());
+    }
+
+    @Test
+    void testPublish_MergesVotesFollowingLeadingVoteIntoOneBatch() {
+        Handler<Long> timer = captureTimer();
+        when(roomEventPublisher.publishEvent(anyString(), anyString(), anyMap()))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1")).await().indefinitely();
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p2")).await().indefinitely();
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p3")).await().indefinitely();
+        verify(roomEventPublisher, times(1)).publishEvent(anyString(), anyString(), anyMap());
+
+        timer.handle(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> payload = ArgumentCaptor.forClass(Map.class);
+        verify(roomEventPublisher).publishEvent(eq("room01"), eq(RoomEventBatcher.VOTES_RECORDED_BATCH),
+                payload.capture());
+        assertThat((List<?>) payload.getValue().get("votes")).containsExactly(vote("p2"), vote("p3"));
+        verify(businessMetrics).recordRoomEventBatch(2);
+    }
+
+    @Test
+    void testPublish_VoteAfterQuietWindowIsPublishedWithoutWaiting() {
+        Handler<Long> timer = captureTimer();
+        when(roomEventPublisher.publishEvent(anyString(), anyString(), anyMap()))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1")).await().indefinitely();
+        // Window closes without further votes
+        timer.handle(1L);
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p2")).await().indefinitely();
+
+        verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1"));
+        verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p2"));
+    }
+
+    @Test
+    void testPublish_RoundEventFlushesPendingVotesFirst() {
+        captureTimer();
+        when(roomEventPublisher.publishEvent(anyString(), anyString(), anyMap()))
+                .thenReturn(Uni.createFrom().voidItem());
+        Map<String, Object> reveal = Map.of("roundId", "r1");
+
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1")).await().indefinitely();
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p2")).await().indefinitely();
+        batcher.publish("room01", "round.revealed.v1", reveal).await().indefinitely();
+
+        InOrder order = inOrder(roomEventPublisher);
+        order.verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1"));
+        order.verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p2"));
+        order.verify(roomEventPublisher).publishEvent("room01", "round.revealed.v1", reveal);
+    }
+
+    @Test
+    void testPublish_DisabledWindowPublishesImmediately() {
+        batcher.windowMs = 0;
+        when(roomEventPublisher.publishEvent(anyString(), anyString(), anyMap()))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        batcher.publish("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1")).await().indefinitely();
+
+        verify(roomEventPublisher).publishEvent("room01", RoomEventBatcher.VOTE_RECORDED, vote("p1"));
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureTimer() {
+        Handler<Long>[] handler = new Handler[1];
+        when(vertx.setTimer(anyLong(), any())).thenAnswer(invocation -> {
+            handler[0] = invocation.getArgument(1);
+            return 1L;
+        });
+        return id -> handler[0].handle(id);
+    }
+
+    private static Map<String, Object> vote(String participantId) {
+        return Map.of("participantId", participantId, "votedAt", "2025-10-17T10:15:00Z");
+    }
+}
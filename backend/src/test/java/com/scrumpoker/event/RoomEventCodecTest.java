@@ -0,0 +1,88 @@
+package com.scrumpoker.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RoomEventCodec wire formats.
+ */
+class RoomEventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RoomEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new RoomEventCodec();
+        codec.objectMapper = objectMapper;
+        codec.wireFormat = RoomEventCodec.FORMAT_CBOR;
+        codec.initialize();
+    }
+
+    @Test
+    void testEncode_CborRoundTripKeepsEnvelopeAndPayload() throws Exception {
+        RoomEvent event = event();
+
+        byte[] encoded = codec.encode(event);
+        RoomEvent decoded = codec.decode(encoded);
+
+        assertThat(encoded[0]).isNotEqualTo((byte) '{');
+        assertThat(decoded.getRoomId()).isEqualTo("room01");
+        assertThat(decoded.getOriginNodeId()).isEqualTo("node-a");
+        assertThat(decoded.getType()).isEqualTo("round.revealed.v1");
+        assertThat(decoded.getPayload()).isEqualTo(event.getPayload());
+    }
+
+    @Test
+    void testDecode_AcceptsJsonRegardlessOfConfiguredFormat() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(event());
+
+        RoomEvent decoded = codec.decode(json);
+
+        assertThat(decoded.getType()).isEqualTo("round.revealed.v1");
+        assertThat(RoomEventCodec.describe(json)).startsWith("{\"roomId\":\"room01\"");
+    }
+
+    @Test
+    void testCreateParser_ReadsSequenceSplicedAfterCborMapHeader() throws Exception {
+        byte[] encoded = codec.encode(event());
+
+        // Same splice as the replay log's append script
+        ByteArrayOutputStream spliced = new ByteArrayOutputStream();
+        int head = encoded[0] & 0xFF;
+        spliced.write(head == 0xBF ? head : head + 1);
+        spliced.write("cseq".getBytes(StandardCharsets.US_ASCII));
+        spliced.write(new byte[] {0x19, 0x01, 0x2C}); // 300
+        spliced.write(encoded, 1, encoded.length - 1);
+
+        try (JsonParser parser = codec.createParser(spliced.toByteArray())) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            assertThat(parser.nextFieldName()).isEqualTo("seq");
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.VALUE_NUMBER_INT);
+            assertThat(parser.getLongValue()).isEqualTo(300L);
+            assertThat(parser.nextFieldName()).isEqualTo("roomId");
+        }
+        assertThat(codec.decode(spliced.toByteArray()).getSeq()).isEqualTo(300L);
+    }
+
+    private static RoomEvent event() {
+        RoomEvent event = new RoomEvent("round.revealed.v1", "req-1", Map.of(
+                "roundId", "r1",
+                "votes", List.of(Map.of("participantId", "p1", "cardValue", "5")),
+                "stats", Map.of("avg", 5.0, "consensus", true)));
+        event.setRoomId("room01");
+        event.setOriginNodeId("node-a");
+        return event;
+    }
+}
@@ -0,0 +1,39 @@
+package com.scrumpoker.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RoomEventLog replay completeness.
+ */
+class RoomEventLogTest {
+
+    private static final byte[] EVENT = new byte[]{1};
+
+    @Test
+    void testReplayIsComplete_WhenEventsCoverEverythingMissed() {
+        assertThat(new RoomEventLog.Replay(5, 8, List.of(EVENT, EVENT, EVENT)).isComplete()).isTrue();
+    }
+
+    @Test
+    void testReplayIsComplete_WhenClientIsUpToDate() {
+        assertThat(new RoomEventLog.Replay(8, 8, List.of()).isComplete()).isTrue();
+    }
+
+    @Test
+    void testReplayIsNotComplete_WhenLogWasTrimmedOrCapped() {
+        // Only the last events are left, or max-events capped the read
+        assertThat(new RoomEventLog.Replay(5, 8, List.of(EVENT, EVENT)).isComplete()).isFalse();
+        assertThat(new RoomEventLog.Replay(0, 500, List.of(EVENT)).isComplete()).isFalse();
+    }
+
+    @Test
+    void testReplayIsNotComplete_WhenSequenceWasReset() {
+        // The room's log expired and numbering restarted below the client's position
+        assertThat(new RoomEventLog.Replay(42, 3, List.of(EVENT, EVENT, EVENT)).isComplete()).isFalse();
+        assertThat(new RoomEventLog.Replay(42, 0, List.of()).isComplete()).isFalse();
+    }
+}
@@ -0,0 +1,146 @@
+package com.scrumpoker.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.domain.room.RoomStateEngine;
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RoomEventPublisher local fast-path delivery, with the Redis
+ * channel looped back into a RoomEventSubscriber of the same node.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomEventPublisherTest {
+
+    private static final String ROOM_ID = "room01";
+
+    @Mock
+    ReactiveRedisDataSource redisDataSource;
+
+    @Mock
+    ReactivePubSubCommands<byte[]> pubsub;
+
+    @Spy
+    RoomEventCodec roomEventCodec = codec();
+
+    @Spy
+    NodeIdentity nodeIdentity = nodeIdentity("node-a");
+
+    @Mock
+    ConnectionRegistry connectionRegistry;
+
+    @Mock
+    RoomEventLog roomEventLog;
+
+    @Mock
+    RoomEventSequencer roomEventSequencer;
+
+    @Mock
+    RoomStateEngine roomStateEngine;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    @InjectMocks
+    RoomEventPublisher publisher;
+
+    @InjectMocks
+    RoomEventSubscriber subscriber;
+
+    private final BroadcastProcessor<byte[]> channel = BroadcastProcessor.create();
+
+    @BeforeEach
+    void setUp() {
+        when(redisDataSource.pubsub(byte[].class)).thenReturn(pubsub);
+        publisher.localDeliveryEnabled = true;
+        publisher.initialize();
+        subscriber.subscriptionMode = RoomEventSubscriber.MODE_PER_ROOM;
+        subscriber.initialize();
+    }
+
+    @Test
+    void testPublishEvent_DeliversNothingUntilSubscribed() {
+        Uni<Void> publish = publisher.publishEvent(ROOM_ID, "vote.recorded.v1", Map.of("participantId", "p1"));
+
+        assertThat(publish).isNotNull();
+        verifyNoInteractions(connectionRegistry);
+        verify(pubsub, never()).publish(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testPublishEvent_DeliversLocallyOnceAndDropsOriginStampedEcho() {
+        when(pubsub.subscribe("room:" + ROOM_ID)).thenReturn(channel);
+        when(pubsub.publish(eq("room:" + ROOM_ID), any(byte[].class))).thenAnswer(invocation -> {
+            channel.onNext(invocation.getArgument(1));
+            return Uni.createFrom().voidItem();
+        });
+        when(roomEventLog.isEnabled()).thenReturn(false);
+        when(connectionRegistry.getConnectionCount(ROOM_ID)).thenReturn(1);
+        subscriber.subscribeToRoom(ROOM_ID);
+
+        publisher.publishEvent(ROOM_ID, "vote.recorded.v1", Map.of("participantId", "p1"))
+                .await().indefinitely();
+
+        verify(connectionRegistry, times(1)).broadcastToRoom(eq(ROOM_ID), any(WebSocketMessage.class));
+        verify(businessMetrics, times(1)).incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_ECHO);
+        verify(roomEventSequencer, never()).deliverFromChannel(anyString(), any(), any());
+        verify(roomStateEngine, never()).applyRemoteEvent(anyString(), any());
+    }
+
+    @Test
+    void testPublishEvent_DeliversLocallyWithoutWaitingOnRedis() {
+        when(roomEventLog.isEnabled()).thenReturn(false);
+        when(connectionRegistry.getConnectionCount(ROOM_ID)).thenReturn(1);
+        // Redis never answers
+        when(pubsub.publish(eq("room:" + ROOM_ID), any(byte[].class))).thenReturn(Uni.createFrom().nothing());
+
+        publisher.publishEvent(ROOM_ID, "vote.recorded.v1", Map.of("participantId", "p1"))
+                .subscribe().with(ignored -> { }, failure -> { });
+
+        InOrder order = inOrder(connectionRegistry, pubsub);
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), any(WebSocketMessage.class));
+        order.verify(pubsub).publish(eq("room:" + ROOM_ID), any(byte[].class));
+    }
+
+    private static RoomEventCodec codec() {
+        RoomEventCodec codec = new RoomEventCodec();
+        codec.objectMapper = new ObjectMapper();
+        codec.wireFormat = RoomEventCodec.FORMAT_CBOR;
+        codec.initialize();
+        return codec;
+    }
+
+    private static NodeIdentity nodeIdentity(String nodeId) {
+        NodeIdentity identity = new NodeIdentity();
+        identity.configuredNodeId = Optional.of(nodeId);
+        identity.initialize();
+        return identity;
+    }
+}
@@ -0,0 +1,202 @@
+package com.scrumpoker.event;
+
+import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RoomEventSequencer ordering of local and channel deliveries.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomEventSequencerTest {
+
+    private static final String ROOM_ID = "room01";
+
+    @Mock
+    ConnectionRegistry connectionRegistry;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    @Mock
+    Vertx vertx;
+
+    @InjectMocks
+    RoomEventSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        sequencer.holdTimeoutMs = 250;
+    }
+
+    @Test
+    void testDeliverLocal_DeliversFirstEventWithoutWaitingForChannel() {
+        WebSocketMessage local = message(5);
+        WebSocketMessage remote = message(4);
+
+        sequencer.deliverLocal(ROOM_ID, 5L, local);
+        verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(local));
+
+        // An earlier event of another node still on its way is delivered late, once
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 4L, remote)).isTrue();
+        // Echo of the local event
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 5L, message(5))).isFalse();
+
+        verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(remote));
+        verify(connectionRegistry, times(2)).broadcastToRoom(anyString(), any());
+        verify(vertx, never()).setTimer(anyLong(), any());
+        verify(businessMetrics).incrementRoomEventSequenceGaps();
+    }
+
+    @Test
+    void testDeliverLocal_DeliversRepliesBelowAnchorOnce() {
+        WebSocketMessage later = message(5);
+        WebSocketMessage earlier = message(4);
+
+        // Two publishes of this node whose replies complete out of order
+        sequencer.deliverLocal(ROOM_ID, 5L, later);
+        sequencer.deliverLocal(ROOM_ID, 4L, earlier);
+
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 4L, message(4))).isFalse();
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 5L, message(5))).isFalse();
+
+        InOrder order = inOrder(connectionRegistry);
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(later));
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(earlier));
+        verify(connectionRegistry, times(2)).broadcastToRoom(anyString(), any());
+        assertThat(sequencer.isDelivered(ROOM_ID, 5L)).isTrue();
+    }
+
+    @Test
+    void testDeliverLocal_DeliversImmediatelyWhenNextAndDropsEcho() {
+        WebSocketMessage local = message(2);
+        sequencer.deliverFromChannel(ROOM_ID, 1L, message(1));
+
+        sequencer.deliverLocal(ROOM_ID, 2L, local);
+
+        verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(local));
+        assertThat(sequencer.isDelivered(ROOM_ID, 2L)).isTrue();
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 2L, message(2))).isFalse();
+        verify(connectionRegistry, times(2)).broadcastToRoom(anyString(), any());
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @Test
+    void testDeliverLocal_HoldsOutOfOrderEventUntilChannelCatchesUp() {
+        captureTimer();
+        WebSocketMessage remote = message(2);
+        WebSocketMessage local = message(3);
+        sequencer.deliverFromChannel(ROOM_ID, 1L, message(1));
+
+        sequencer.deliverLocal(ROOM_ID, 3L, local);
+        assertThat(sequencer.isDelivered(ROOM_ID, 3L)).isFalse();
+        sequencer.deliverFromChannel(ROOM_ID, 2L, remote);
+
+        InOrder order = inOrder(connectionRegistry);
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(remote));
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(local));
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 3L, message(3))).isFalse();
+    }
+
+    @Test
+    void testDeliverFromChannel_DeliversHeldEventWhoseEchoWasLost() {
+        captureTimer();
+        WebSocketMessage local = message(4);
+        WebSocketMessage next = message(5);
+        sequencer.deliverFromChannel(ROOM_ID, 2L, message(2));
+        sequencer.deliverLocal(ROOM_ID, 4L, local);
+
+        // The channel skips from 2 to 5: events 3 and 4 will not come back
+        sequencer.deliverFromChannel(ROOM_ID, 5L, next);
+
+        InOrder order = inOrder(connectionRegistry);
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(local));
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(next));
+        verify(businessMetrics).incrementRoomEventSequenceGaps();
+    }
+
+    @Test
+    void testHoldTimeout_DeliversHeldEventsWhenChannelStalls() {
+        Handler<Long> timer = captureTimer();
+        WebSocketMessage first = message(7);
+        WebSocketMessage second = message(8);
+        sequencer.deliverFromChannel(ROOM_ID, 5L, message(5));
+
+        // Event 6 of another node never arrives
+        sequencer.deliverLocal(ROOM_ID, 7L, first);
+        sequencer.deliverLocal(ROOM_ID, 8L, second);
+        verify(vertx, times(1)).setTimer(eq(250L), any());
+
+        timer.handle(1L);
+
+        InOrder order = inOrder(connectionRegistry);
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(first));
+        order.verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(second));
+        assertThat(sequencer.isDelivered(ROOM_ID, 8L)).isTrue();
+        // Late echoes are dropped
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, 7L, message(7))).isFalse();
+    }
+
+    @Test
+    void testForget_DropsHeldEventsAndCancelsTimer() {
+        captureTimer();
+        WebSocketMessage held = message(5);
+        sequencer.deliverFromChannel(ROOM_ID, 3L, message(3));
+        sequencer.deliverLocal(ROOM_ID, 5L, held);
+
+        sequencer.forget(ROOM_ID);
+
+        verify(vertx).cancelTimer(1L);
+        assertThat(sequencer.isDelivered(ROOM_ID, 5L)).isFalse();
+        verify(connectionRegistry, never()).broadcastToRoom(anyString(), same(held));
+    }
+
+    @Test
+    void testUnsequencedEvents_AreDeliveredImmediately() {
+        WebSocketMessage local = message(0);
+        WebSocketMessage remote = message(0);
+
+        sequencer.deliverLocal(ROOM_ID, null, local);
+        assertThat(sequencer.deliverFromChannel(ROOM_ID, null, remote)).isTrue();
+
+        verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(local));
+        verify(connectionRegistry).broadcastToRoom(eq(ROOM_ID), same(remote));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureTimer() {
+        Handler<Long>[] handler = new Handler[1];
+        when(vertx.setTimer(anyLong(), any())).thenAnswer(invocation -> {
+            handler[0] = invocation.getArgument(1);
+            return 1L;
+        });
+        return id -> handler[0].handle(id);
+    }
+
+    private static WebSocketMessage message(long seq) {
+        return new WebSocketMessage("vote.recorded.v1", "req-" + seq, Map.of("participantId", "p" + seq));
+    }
+}
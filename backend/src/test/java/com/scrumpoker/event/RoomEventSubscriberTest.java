@@ -0,0 +1,170 @@
+package com.scrumpoker.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.api.websocket.ConnectionRegistry;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.domain.room.RoomStateEngine;
+import com.scrumpoker.metrics.BusinessMetrics;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RoomEventSubscriber header peeking and pattern-mode dispatch.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomEventSubscriberTest {
+
+    @Mock
+    ReactiveRedisDataSource redisDataSource;
+
+    @Mock
+    ReactivePubSubCommands<byte[]> pubsub;
+
+    @Spy
+    RoomEventCodec roomEventCodec = codec();
+
+    @Mock
+    ConnectionRegistry connectionRegistry;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    @Mock
+    NodeIdentity nodeIdentity;
+
+    @Mock
+    RoomStateEngine roomStateEngine;
+
+    @Mock
+    RoomEventSequencer roomEventSequencer;
+
+    @InjectMocks
+    RoomEventSubscriber subscriber;
+
+    @Test
+    void testPeekHeader_ReadsLeadingFields() throws Exception {
+        RoomEventSubscriber.EventHeader header = subscriber.peekHeader(roomEventCodec.encode(event("room01", 42L)));
+
+        assertThat(header).isEqualTo(new RoomEventSubscriber.EventHeader(42L, "room01", "node-b"));
+    }
+
+    @Test
+    void testPeekHeader_FallsBackToFullParseWhenRoomIdIsNotLeading() {
+        byte[] json = "{\"type\":\"vote.recorded.v1\",\"payload\":{},\"roomId\":\"room01\",\"seq\":7}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        RoomEventSubscriber.EventHeader header = subscriber.peekHeader(json);
+
+        assertThat(header.roomId()).isEqualTo("room01");
+        assertThat(header.seq()).isEqualTo(7L);
+    }
+
+    @Test
+    void testPeekHeader_ReturnsEmptyHeaderWithoutRoomId() {
+        byte[] json = "{\"type\":\"vote.recorded.v1\",\"payload\":{}}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(subscriber.peekHeader(json).roomId()).isNull();
+    }
+
+    @Test
+    void testPeekHeader_ReturnsEmptyHeaderForMalformedInput() {
+        assertThat(subscriber.peekHeader("not an event".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(new RoomEventSubscriber.EventHeader(null, null, null));
+        assertThat(subscriber.peekHeader("{\"roomId\":".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(new RoomEventSubscriber.EventHeader(null, null, null));
+        assertThat(subscriber.peekHeader(new byte[0]))
+                .isEqualTo(new RoomEventSubscriber.EventHeader(null, null, null));
+    }
+
+    @Test
+    void testPatternMode_DropsEventsOfRoomsWithoutLocalSessions() throws Exception {
+        BroadcastProcessor<byte[]> channel = subscribeInPatternMode("room01");
+
+        channel.onNext(roomEventCodec.encode(event("room02", 1L)));
+
+        verify(businessMetrics).incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_NO_LOCAL_SESSIONS);
+        verify(roomEventSequencer, never()).deliverFromChannel(anyString(), anyLong(), any());
+        verify(roomStateEngine, never()).applyRemoteEvent(anyString(), any());
+    }
+
+    @Test
+    void testPatternMode_DeliversEventsOfLocalRooms() throws Exception {
+        BroadcastProcessor<byte[]> channel = subscribeInPatternMode("room01");
+        when(connectionRegistry.getConnectionCount("room01")).thenReturn(2);
+        when(roomEventSequencer.deliverFromChannel(eq("room01"), eq(5L), any(WebSocketMessage.class)))
+                .thenReturn(true);
+
+        channel.onNext(roomEventCodec.encode(event("room01", 5L)));
+
+        verify(roomEventSequencer).deliverFromChannel(eq("room01"), eq(5L), any(WebSocketMessage.class));
+        verify(businessMetrics, never()).incrementRoomEventsDropped(anyString());
+        assertThat(subscriber.getActiveSubscriptionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testPatternMode_DropsEventsAfterLastLocalSessionLeaves() throws Exception {
+        BroadcastProcessor<byte[]> channel = subscribeInPatternMode("room01");
+
+        subscriber.unsubscribeFromRoom("room01");
+        channel.onNext(roomEventCodec.encode(event("room01", 6L)));
+
+        verify(roomEventSequencer).forget("room01");
+        verify(businessMetrics).incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_NO_LOCAL_SESSIONS);
+        verify(roomEventSequencer, never()).deliverFromChannel(anyString(), anyLong(), any());
+        assertThat(subscriber.isSubscribedToRoom("room01")).isFalse();
+    }
+
+    @Test
+    void testPatternMode_DropsMessagesWithoutRoomId() {
+        BroadcastProcessor<byte[]> channel = subscribeInPatternMode("room01");
+
+        channel.onNext("{\"type\":\"vote.recorded.v1\"}".getBytes(StandardCharsets.UTF_8));
+
+        verify(businessMetrics).incrementRoomEventsDropped(BusinessMetrics.DROP_REASON_MALFORMED);
+    }
+
+    private BroadcastProcessor<byte[]> subscribeInPatternMode(String roomId) {
+        BroadcastProcessor<byte[]> channel = BroadcastProcessor.create();
+        when(redisDataSource.pubsub(byte[].class)).thenReturn(pubsub);
+        when(pubsub.subscribeToPatterns("room:*")).thenReturn(channel);
+        subscriber.subscriptionMode = RoomEventSubscriber.MODE_PATTERN;
+        subscriber.initialize();
+        subscriber.subscribeToRoom(roomId);
+        return channel;
+    }
+
+    private static RoomEvent event(String roomId, Long seq) {
+        RoomEvent event = new RoomEvent("vote.recorded.v1", "req-1", Map.of("participantId", "p1"));
+        event.setRoomId(roomId);
+        event.setOriginNodeId("node-b");
+        event.setSeq(seq);
+        return event;
+    }
+
+    private static RoomEventCodec codec() {
+        RoomEventCodec codec = new RoomEventCodec();
+        codec.objectMapper = new ObjectMapper();
+        codec.wireFormat = RoomEventCodec.FORMAT_CBOR;
+        codec.initialize();
+        return codec;
+    }
+}
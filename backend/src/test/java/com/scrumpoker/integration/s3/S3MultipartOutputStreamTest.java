@@ -0,0 +1,140 @@
+package com.scrumpoker.integration.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for S3MultipartOutputStream against an in-memory S3 stand-in
+ * that assembles uploaded parts the way S3 does.
+ */
+class S3MultipartOutputStreamTest {
+
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+
+    private S3Client s3Client;
+    private final Map<Integer, byte[]> uploadedParts = new TreeMap<>();
+    private byte[] storedObject;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> {
+                    UploadPartRequest request = invocation.getArgument(0);
+                    uploadedParts.put(request.partNumber(), read(invocation.getArgument(1)));
+                    return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+                });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenAnswer(invocation -> {
+                    CompleteMultipartUploadRequest request = invocation.getArgument(0);
+                    ByteArrayOutputStream object = new ByteArrayOutputStream();
+                    for (CompletedPart part : request.multipartUpload().parts()) {
+                        object.writeBytes(uploadedParts.get(part.partNumber()));
+                    }
+                    storedObject = object.toByteArray();
+                    return CompleteMultipartUploadResponse.builder().build();
+                });
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> {
+                    storedObject = read(invocation.getArgument(1));
+                    return PutObjectResponse.builder().build();
+                });
+    }
+
+    @Test
+    void testComplete_UploadsLargeObjectInFixedSizeParts() {
+        byte[] content = content(2 * PART_SIZE + 1234);
+        S3MultipartOutputStream upload = openUpload();
+
+        // Write in odd-sized chunks so writes straddle part boundaries
+        for (int offset = 0; offset < content.length; offset += 100_003) {
+            upload.write(content, offset, Math.min(100_003, content.length - offset));
+        }
+        upload.complete();
+
+        assertThat(uploadedParts).hasSize(3);
+        assertThat(uploadedParts.get(1)).hasSize(PART_SIZE);
+        assertThat(uploadedParts.get(2)).hasSize(PART_SIZE);
+        assertThat(uploadedParts.get(3)).hasSize(1234);
+        assertThat(storedObject).isEqualTo(content);
+        assertThat(upload.getTotalBytes()).isEqualTo(content.length);
+    }
+
+    @Test
+    void testComplete_UploadsSmallObjectWithSinglePut() {
+        byte[] content = content(4096);
+        S3MultipartOutputStream upload = openUpload();
+
+        upload.write(content, 0, content.length);
+        upload.complete();
+
+        assertThat(storedObject).isEqualTo(content);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void testAbort_DiscardsStartedUploadAfterPartFailure() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkClientException.create("connection reset"));
+        S3MultipartOutputStream upload = openUpload();
+        byte[] content = content(PART_SIZE + 1);
+
+        assertThatThrownBy(() -> upload.write(content, 0, content.length))
+                .isInstanceOf(S3UploadException.class)
+                .hasMessageContaining("part 1");
+        upload.abort();
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertThatThrownBy(() -> upload.write(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private S3MultipartOutputStream openUpload() {
+        return new S3MultipartOutputStream(s3Client, "test-bucket", "exports/test.csv", "text/csv", PART_SIZE);
+    }
+
+    private static byte[] content(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
+
+    private static byte[] read(RequestBody body) {
+        try (InputStream stream = body.contentStreamProvider().newStream()) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
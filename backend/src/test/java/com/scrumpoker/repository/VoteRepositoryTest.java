@@ -584,6 +584,97 @@ class VoteRepositoryTest {
         });
     }
 
+    @Test
+    @RunOnVertxContext
+    void testUpsertAll_InsertsNewVotesAndUpdatesExistingCardValue(UniAsserter asserter) {
+        // Given: a round with one existing vote
+        User testUser = createTestUser("voter@example.com", "google", "google-voter");
+        User otherUser = createTestUser("voter2@example.com", "google", "google-voter2");
+        Room testRoom = createTestRoom("vote01", "Vote Test Room", testUser);
+        Round testRound = createTestRound(testRoom, 1, "Test Story");
+        RoomParticipant participant1 = createTestParticipant(testRoom, testUser, "Voter 1");
+        RoomParticipant participant2 = createTestParticipant(testRoom, otherUser, "Voter 2");
+        Vote existingVote = createTestVote(testRound, participant1, "3");
+
+        asserter.execute(() -> Panache.withTransaction(() ->
+            userRepository.persist(testUser).flatMap(u ->
+                userRepository.persist(otherUser).flatMap(o ->
+                    roomRepository.persist(testRoom).flatMap(room ->
+                        roundRepository.persist(testRound).flatMap(round ->
+                            participantRepository.persist(participant1).flatMap(p1 ->
+                                participantRepository.persist(participant2).flatMap(p2 ->
+                                    voteRepository.persist(existingVote)
+                                )
+                            )
+                        )
+                    )
+                )
+            )
+        ));
+
+        // When: upserting a changed card for participant 1 and a new vote for participant 2
+        asserter.execute(() -> Panache.withTransaction(() -> voteRepository.upsertAll(List.of(
+            new CastVote("vote01", testRound.roundId, participant1.participantId, "8", Instant.now()),
+            new CastVote("vote01", testRound.roundId, participant2.participantId, "13", Instant.now())
+        ))));
+
+        // Then: both votes exist and the existing row was updated in place
+        asserter.assertThat(() -> Panache.withTransaction(() -> voteRepository.findByRoundId(testRound.roundId)), votes -> {
+            assertThat(votes).hasSize(2);
+            assertThat(votes).extracting(v -> v.cardValue).containsExactlyInAnyOrder("8", "13");
+            assertThat(votes).extracting(v -> v.voteId).contains(existingVote.voteId);
+        });
+    }
+
+    @Test
+    @RunOnVertxContext
+    void testFindGroupedByRoundIds(UniAsserter asserter) {
+        // Given: two rounds with votes cast out of round order
+        User testUser = createTestUser("voter@example.com", "google", "google-voter");
+        User otherUser = createTestUser("voter2@example.com", "google", "google-voter2");
+        Room testRoom = createTestRoom("vote01", "Vote Test Room", testUser);
+        Round firstRound = createTestRound(testRoom, 1, "Story 1");
+        Round secondRound = createTestRound(testRoom, 2, "Story 2");
+        Round emptyRound = createTestRound(testRoom, 3, "Story 3");
+        firstRound.startedAt = Instant.now().minusSeconds(300);
+        secondRound.startedAt = Instant.now().minusSeconds(200);
+        emptyRound.startedAt = Instant.now().minusSeconds(100);
+        RoomParticipant participant1 = createTestParticipant(testRoom, testUser, "Alice");
+        RoomParticipant participant2 = createTestParticipant(testRoom, otherUser, "Bob");
+
+        Vote secondRoundVote = createTestVote(secondRound, participant1, "8");
+        Vote lateVote = createTestVote(firstRound, participant2, "5");
+        Vote earlyVote = createTestVote(firstRound, participant1, "3");
+        lateVote.votedAt = Instant.now().minusMillis(10);
+        earlyVote.votedAt = Instant.now().minusMillis(20);
+
+        asserter.execute(() -> Panache.withTransaction(() ->
+            userRepository.persist(testUser).flatMap(u ->
+                userRepository.persist(otherUser).flatMap(o ->
+                    roomRepository.persist(testRoom).flatMap(room ->
+                        roundRepository.persist(secondRound, firstRound, emptyRound).flatMap(rounds ->
+                            participantRepository.persist(participant1, participant2).flatMap(p ->
+                                voteRepository.persist(secondRoundVote, lateVote, earlyVote)
+                            )
+                        )
+                    )
+                )
+            )
+        ));
+
+        // When: loading the votes of all three rounds at once
+        // Then: votes are grouped by round in start order, each round's votes by votedAt,
+        // with participants loaded
+        asserter.assertThat(() -> Panache.withTransaction(() -> voteRepository.findGroupedByRoundIds(
+                List.of(secondRound.roundId, emptyRound.roundId, firstRound.roundId))), votesByRound -> {
+            assertThat(votesByRound.keySet()).containsExactly(firstRound.roundId, secondRound.roundId);
+            assertThat(votesByRound.get(firstRound.roundId)).extracting(v -> v.participant.displayName)
+                    .containsExactly("Alice", "Bob");
+            assertThat(votesByRound.get(secondRound.roundId)).extracting(v -> v.cardValue)
+                    .containsExactly("8");
+        });
+    }
+
     /**
      * Helper method to create test users.
      * Note: userId is NOT set here - it will be auto-generated by Hibernate on persist.
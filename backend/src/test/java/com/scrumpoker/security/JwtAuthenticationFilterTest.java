@@ -0,0 +1,134 @@
+package com.scrumpoker.security;
+
+import com.scrumpoker.api.rest.dto.ErrorResponse;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JwtAuthenticationFilter with a real JwtTokenService and JwtClaimsCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String ISSUER = "https://scrumpoker.com";
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    ReactiveRedisDataSource redisDataSource;
+
+    @Mock
+    ReactiveValueCommands<String, String> values;
+
+    @Mock
+    ReactiveKeyCommands<String> keys;
+
+    @Mock
+    ReactivePubSubCommands<String> pubsub;
+
+    @Mock
+    JWTParser jwtParser;
+
+    @Mock
+    JsonWebToken jwt;
+
+    @Mock
+    ContainerRequestContext requestContext;
+
+    @Mock
+    UriInfo uriInfo;
+
+    private final Instant expiresAt = Instant.now().plusSeconds(900);
+
+    private JwtClaimsCache jwtClaimsCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(redisDataSource.value(String.class)).thenReturn(values);
+        when(redisDataSource.key()).thenReturn(keys);
+        when(redisDataSource.pubsub(String.class)).thenReturn(pubsub);
+        jwtClaimsCache = new JwtClaimsCache();
+        jwtClaimsCache.redisDataSource = redisDataSource;
+        jwtClaimsCache.enabled = true;
+        jwtClaimsCache.maxSize = 100;
+        jwtClaimsCache.initialize();
+
+        JwtTokenService jwtTokenService = new JwtTokenService();
+        jwtTokenService.jwtParser = jwtParser;
+        jwtTokenService.jwtClaimsCache = jwtClaimsCache;
+        jwtTokenService.issuer = ISSUER;
+
+        filter = new JwtAuthenticationFilter();
+        filter.jwtTokenService = jwtTokenService;
+        filter.authenticationEnabled = true;
+
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(uriInfo.getPath()).thenReturn("/api/v1/reports/sessions");
+        when(requestContext.getMethod()).thenReturn("GET");
+        when(requestContext.getHeaderString("Authorization")).thenReturn("Bearer " + TOKEN);
+
+        when(jwtParser.parse(TOKEN)).thenReturn(jwt);
+        when(jwt.getIssuer()).thenReturn(ISSUER);
+        when(jwt.getSubject()).thenReturn(UUID.randomUUID().toString());
+        when(jwt.getClaim("email")).thenReturn("user@example.com");
+        when(jwt.getClaim("roles")).thenReturn(List.of("USER"));
+        when(jwt.getClaim("tier")).thenReturn("FREE");
+        when(jwt.getExpirationTime()).thenReturn(expiresAt.getEpochSecond());
+        when(keys.exists("revoked_access_token:" + JwtClaimsCache.hash(TOKEN)))
+                .thenReturn(Uni.createFrom().item(false));
+    }
+
+    @Test
+    void testFilter_AuthenticatesRepeatedTokenFromCache() throws Exception {
+        assertThat(filter.filter(requestContext).await().indefinitely()).isNull();
+        assertThat(filter.filter(requestContext).await().indefinitely()).isNull();
+
+        verify(jwtParser, times(1)).parse(TOKEN);
+        verify(requestContext, times(2)).setProperty(eq("quarkus.security.identity"), any());
+    }
+
+    @Test
+    void testFilter_Returns401ForRevokedTokenThatWasCached() throws Exception {
+        when(values.setex(anyString(), anyLong(), anyString())).thenReturn(Uni.createFrom().voidItem());
+        when(pubsub.publish(eq(JwtClaimsCache.REVOCATION_CHANNEL), anyString()))
+                .thenReturn(Uni.createFrom().voidItem());
+        assertThat(filter.filter(requestContext).await().indefinitely()).isNull();
+
+        jwtClaimsCache.revoke(JwtClaimsCache.hash(TOKEN), Instant.ofEpochSecond(expiresAt.getEpochSecond()))
+                .await().indefinitely();
+        Response response = filter.filter(requestContext).await().indefinitely();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(((ErrorResponse) response.getEntity()).error).isEqualTo("INVALID_TOKEN");
+        // Signature verified again after the cached entry was dropped, then rejected by the deny list
+        verify(jwtParser, times(2)).parse(TOKEN);
+        verify(requestContext, times(1)).setProperty(eq("quarkus.security.identity"), any());
+    }
+}
@@ -0,0 +1,162 @@
+package com.scrumpoker.security;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JwtClaimsCache expiration and revocation.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtClaimsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+    private static final Instant EXPIRES_AT = NOW.plusSeconds(900);
+    private static final String TOKEN_HASH = JwtClaimsCache.hash("header.payload.signature");
+    private static final JwtClaims CLAIMS =
+            new JwtClaims(UUID.randomUUID(), "user@example.com", List.of("USER"), "FREE");
+
+    @Mock
+    ReactiveRedisDataSource redisDataSource;
+
+    @Mock
+    ReactiveValueCommands<String, String> values;
+
+    @Mock
+    ReactiveKeyCommands<String> keys;
+
+    @Mock
+    ReactivePubSubCommands<String> pubsub;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisDataSource.value(String.class)).thenReturn(values);
+        when(redisDataSource.key()).thenReturn(keys);
+        when(redisDataSource.pubsub(String.class)).thenReturn(pubsub);
+
+        cache = new JwtClaimsCache();
+        cache.redisDataSource = redisDataSource;
+        cache.enabled = true;
+        cache.maxSize = 100;
+        cache.clock = clock;
+        cache.initialize();
+    }
+
+    @Test
+    void testPutIfNotRevoked_CachesClaimsForLaterHits() {
+        assertThat(cache.get(TOKEN_HASH)).isNull();
+
+        cacheClaims();
+
+        assertThat(cache.get(TOKEN_HASH)).isEqualTo(CLAIMS);
+        assertThat(cache.get(TOKEN_HASH)).isEqualTo(CLAIMS);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_StopsReturningClaimsAtExpiration() {
+        cacheClaims();
+
+        clock.set(EXPIRES_AT.minusSeconds(1));
+        assertThat(cache.get(TOKEN_HASH)).isEqualTo(CLAIMS);
+
+        clock.set(EXPIRES_AT);
+        assertThat(cache.get(TOKEN_HASH)).isNull();
+    }
+
+    @Test
+    void testRevoke_RejectsTokenThatIsAlreadyCached() {
+        cacheClaims();
+        when(values.setex("revoked_access_token:" + TOKEN_HASH, 900L, String.valueOf(EXPIRES_AT.getEpochSecond())))
+                .thenReturn(Uni.createFrom().voidItem());
+        when(pubsub.publish(JwtClaimsCache.REVOCATION_CHANNEL, TOKEN_HASH + " " + EXPIRES_AT.getEpochSecond()))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        cache.revoke(TOKEN_HASH, EXPIRES_AT).await().indefinitely();
+
+        assertThat(cache.get(TOKEN_HASH)).isNull();
+        // The local deny list answers without asking Redis again
+        assertThat(cache.putIfNotRevoked(TOKEN_HASH, CLAIMS, EXPIRES_AT).await().indefinitely()).isTrue();
+        assertThat(cache.get(TOKEN_HASH)).isNull();
+        verify(keys, times(1)).exists(anyString());
+    }
+
+    @Test
+    void testRevocationMessage_DropsClaimsCachedOnThisNode() {
+        BroadcastProcessor<String> channel = BroadcastProcessor.create();
+        when(pubsub.subscribe(JwtClaimsCache.REVOCATION_CHANNEL)).thenReturn(channel);
+        cache.onStart(null);
+        cacheClaims();
+
+        channel.onNext("malformed");
+        assertThat(cache.get(TOKEN_HASH)).isEqualTo(CLAIMS);
+
+        channel.onNext(TOKEN_HASH + " " + EXPIRES_AT.getEpochSecond());
+
+        assertThat(cache.get(TOKEN_HASH)).isNull();
+        assertThat(cache.putIfNotRevoked(TOKEN_HASH, CLAIMS, EXPIRES_AT).await().indefinitely()).isTrue();
+        verify(keys, times(1)).exists(anyString());
+    }
+
+    private void cacheClaims() {
+        when(keys.exists(eq("revoked_access_token:" + TOKEN_HASH))).thenReturn(Uni.createFrom().item(false));
+        assertThat(cache.putIfNotRevoked(TOKEN_HASH, CLAIMS, EXPIRES_AT).await().indefinitely()).isFalse();
+    }
+
+    /**
+     * Clock whose time is set by the test.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.scrumpoker.api.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.event.RoomEventSubscriber;
+import com.scrumpoker.metrics.BusinessMetrics;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ConnectionRegistry#broadcastToRoom} fan-out to a room of stub sessions.
+ * <p>
+ * Stub sessions complete every send immediately, so the numbers cover encoding, the
+ * per-session outbox and the send call, not network I/O. {@code cborPercent} of the
+ * sessions negotiate the CBOR subprotocol, which adds a second encoding per broadcast.
+ * </p>
+ * <p>
+ * Outside a Quarkus build, {@code Log} calls resolve their logger by walking the stack;
+ * logging is set to WARNING so the per-broadcast INFO line costs only that lookup.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+public class BroadcastFanOutBenchmark {
+
+    private static final String ROOM_ID = "abc123";
+
+    @Param({"10", "100", "1000"})
+    int connections;
+
+    @Param({"0", "50"})
+    int cborPercent;
+
+    private ConnectionRegistry registry;
+    private WebSocketMessage voteRecorded;
+
+    @Setup
+    public void setUp() {
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        MessageCodec codec = new MessageCodec();
+        codec.objectMapper = new ObjectMapper();
+        codec.initialize();
+
+        registry = new ConnectionRegistry();
+        registry.messageCodec = codec;
+        registry.businessMetrics = new BusinessMetrics();
+        registry.eventSubscriber = new RoomEventSubscriber() {
+            @Override
+            public void subscribeToRoom(String roomId) {
+                // No Redis in benchmarks
+            }
+        };
+        registry.coalesceTypes = Set.of("room.state.v1");
+        registry.droppableTypes = Set.of("vote.recorded.v1", "votes.recorded.batch.v1");
+        registry.maxQueuedBytes = 1_048_576;
+        registry.maxQueuedFrames = 256;
+        registry.maxOutboundDelay = Duration.ofSeconds(10);
+        registry.initialize();
+
+        int cborConnections = connections * cborPercent / 100;
+        for (int i = 0; i < connections; i++) {
+            WireFormat format = i < cborConnections ? WireFormat.CBOR : WireFormat.JSON;
+            Session session = stubSession("session-" + i, format);
+            registry.addConnection(ROOM_ID, session);
+            // New sessions hold broadcasts until they are brought up to date
+            registry.releaseOutbound(session, List.of());
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("participantId", "2f6b1c3e-8d4a-4e7b-9c1d-000000000001");
+        payload.put("votedAt", "2025-10-17T10:21:07Z");
+        voteRecorded = new WebSocketMessage("vote.recorded.v1", "7c9e6679-7425-40de-944b-e07fc1f66e01", payload);
+        voteRecorded.setSeq(1234L);
+    }
+
+    @Benchmark
+    public void broadcastVoteRecorded() {
+        registry.broadcastToRoom(ROOM_ID, voteRecorded);
+    }
+
+    /**
+     * Creates an open session whose sends complete immediately.
+     */
+    private static Session stubSession(String id, WireFormat format) {
+        RemoteEndpoint.Async remote = new CompletingRemote();
+        String subprotocol = format == WireFormat.CBOR ? "scrumpoker.cbor.v1" : "scrumpoker.json.v1";
+        Map<String, Object> userProperties = new HashMap<>();
+        return (Session) Proxy.newProxyInstance(Session.class.getClassLoader(), new Class<?>[]{Session.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    case "getAsyncRemote" -> remote;
+                    case "getNegotiatedSubprotocol" -> subprotocol;
+                    case "getUserProperties" -> userProperties;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> id;
+                    default -> null;
+                });
+    }
+
+    /**
+     * Remote endpoint that reports every send as completed.
+     */
+    private static final class CompletingRemote implements RemoteEndpoint.Async {
+
+        private static final SendResult OK = new SendResult();
+
+        @Override
+        public void sendText(String text, SendHandler handler) {
+            handler.onResult(OK);
+        }
+
+        @Override
+        public void sendBinary(ByteBuffer data, SendHandler handler) {
+            handler.onResult(OK);
+        }
+
+        @Override
+        public Future<Void> sendText(String text) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public Future<Void> sendBinary(ByteBuffer data) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public Future<Void> sendObject(Object data) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void sendObject(Object data, SendHandler handler) {
+            handler.onResult(OK);
+        }
+
+        @Override
+        public long getSendTimeout() {
+            return 0;
+        }
+
+        @Override
+        public void setSendTimeout(long timeoutmillis) {
+        }
+
+        @Override
+        public void setBatchingAllowed(boolean allowed) {
+        }
+
+        @Override
+        public boolean getBatchingAllowed() {
+            return false;
+        }
+
+        @Override
+        public void flushBatch() {
+        }
+
+        @Override
+        public void sendPing(ByteBuffer applicationData) {
+        }
+
+        @Override
+        public void sendPong(ByteBuffer applicationData) {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.scrumpoker.benchmarks;
+
+import com.scrumpoker.domain.room.ConsensusAccumulator;
+import com.scrumpoker.domain.room.ConsensusCalculator;
+import com.scrumpoker.domain.room.Deck;
+import com.scrumpoker.domain.room.DeckRegistry;
+import com.scrumpoker.domain.room.Vote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reveal statistics (consensus, average, median) computed by {@link ConsensusCalculator}.
+ * <p>
+ * {@code spread} selects the votes: {@code agreeing} uses two adjacent numeric cards
+ * (consensus reached), {@code mixed} cycles through the whole deck including the
+ * non-numeric {@code ?}, {@code ∞} and {@code ☕} cards.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConsensusCalculatorBenchmark {
+
+    @Param({DeckRegistry.FIBONACCI, DeckRegistry.TSHIRT, DeckRegistry.POWERS_OF_2})
+    String deckType;
+
+    @Param({"agreeing", "mixed"})
+    String spread;
+
+    @Param({"5", "20", "100"})
+    int votes;
+
+    private Deck deck;
+    private List<Vote> voteList;
+
+    @Setup
+    public void setUp() {
+        deck = DeckRegistry.forType(deckType, null);
+        List<String> cards = deck.getCards();
+        voteList = new ArrayList<>(votes);
+        for (int i = 0; i < votes; i++) {
+            Vote vote = new Vote();
+            vote.cardValue = "agreeing".equals(spread) ? cards.get(1 + i % 2) : cards.get(i % cards.size());
+            voteList.add(vote);
+        }
+    }
+
+    /**
+     * All reveal statistics from one accumulator, as {@code VotingService} computes them.
+     */
+    @Benchmark
+    public void reveal(Blackhole blackhole) {
+        ConsensusAccumulator stats = ConsensusCalculator.accumulate(voteList, deck);
+        blackhole.consume(stats.consensus());
+        blackhole.consume(stats.average());
+        blackhole.consume(stats.median());
+    }
+
+    /**
+     * The same statistics through the single-statistic helpers, one pass each.
+     * These always use the Fibonacci deck.
+     */
+    @Benchmark
+    public void separateCalls(Blackhole blackhole) {
+        blackhole.consume(ConsensusCalculator.calculateConsensus(voteList));
+        blackhole.consume(ConsensusCalculator.calculateAverage(voteList));
+        blackhole.consume(ConsensusCalculator.calculateMedian(voteList));
+    }
+}
@@ -0,0 +1,104 @@
+package com.scrumpoker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import com.scrumpoker.event.RoomEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson JSON round-trips (serialize, then parse back) of the client envelope
+ * ({@link WebSocketMessage}) and the Redis envelope ({@link RoomEvent}).
+ * <p>
+ * {@code vote.recorded.v1} is the most frequent message; {@code round.revealed.v1} is the
+ * largest and is measured for several room sizes.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageRoundTripBenchmark {
+
+    private ObjectMapper objectMapper;
+    private WebSocketMessage voteRecordedMessage;
+    private RoomEvent voteRecordedEvent;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("participantId", "2f6b1c3e-8d4a-4e7b-9c1d-000000000001");
+        payload.put("votedAt", "2025-10-17T10:21:07Z");
+        voteRecordedMessage = new WebSocketMessage("vote.recorded.v1",
+                "7c9e6679-7425-40de-944b-e07fc1f66e01", payload);
+        voteRecordedMessage.setSeq(1234L);
+        voteRecordedEvent = roomEvent(voteRecordedMessage);
+    }
+
+    /**
+     * Reveal messages for one room size.
+     */
+    @State(Scope.Benchmark)
+    public static class Reveal {
+
+        @Param({"10", "50", "200"})
+        int votes;
+
+        WebSocketMessage message;
+        RoomEvent event;
+
+        @Setup
+        public void setUp() {
+            message = WireFormatBenchmark.roundRevealed(votes);
+            event = roomEvent(message);
+        }
+    }
+
+    @Benchmark
+    public WebSocketMessage voteRecordedMessage() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(voteRecordedMessage), WebSocketMessage.class);
+    }
+
+    @Benchmark
+    public RoomEvent voteRecordedEvent() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(voteRecordedEvent), RoomEvent.class);
+    }
+
+    @Benchmark
+    public WebSocketMessage roundRevealedMessage(Reveal reveal) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(reveal.message), WebSocketMessage.class);
+    }
+
+    @Benchmark
+    public RoomEvent roundRevealedEvent(Reveal reveal) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(reveal.event), RoomEvent.class);
+    }
+
+    /**
+     * Wraps a client message the way it is published to the room's Redis channel.
+     */
+    static RoomEvent roomEvent(WebSocketMessage message) {
+        RoomEvent event = new RoomEvent(message.getType(), message.getRequestId(), message.getPayload());
+        event.setSeq(message.getSeq());
+        event.setRoomId("abc123");
+        event.setOriginNodeId("node-1");
+        return event;
+    }
+}
@@ -0,0 +1,137 @@
+package com.scrumpoker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.scrumpoker.api.websocket.WebSocketMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and CBOR wire formats for a {@code round.revealed.v1} broadcast,
+ * the largest message on the hot path.
+ * <p>
+ * The mappers are configured like {@code MessageCodec}: the CBOR mapper is a copy of the
+ * JSON mapper with a CBOR factory. Frame sizes for each room size are printed during setup.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final String[] CARDS = {"1", "2", "3", "5", "8", "13", "21", "?"};
+
+    @Param({"10", "50", "200"})
+    int votes;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private WebSocketMessage message;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonMapper = new ObjectMapper();
+        cborMapper = jsonMapper.copyWith(new CBORFactory());
+        message = roundRevealed(votes);
+        json = jsonMapper.writeValueAsBytes(message);
+        cbor = cborMapper.writeValueAsBytes(message);
+        System.out.printf("%n[%d votes] JSON %d bytes, CBOR %d bytes (%.0f%%)%n",
+                votes, json.length, cbor.length, 100.0 * cbor.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(message);
+    }
+
+    /**
+     * Text frame payload as built by {@code MessageCodec}: serialized straight to a String,
+     * which {@code sendText} accepts.
+     */
+    @Benchmark
+    public String encodeJsonText() throws Exception {
+        return jsonMapper.writeValueAsString(message);
+    }
+
+    /**
+     * Text frame payload serialized to UTF-8 bytes and decoded back into a String, for
+     * comparison with {@link #encodeJsonText()}.
+     */
+    @Benchmark
+    public String encodeJsonBytesAsText() throws Exception {
+        return new String(jsonMapper.writeValueAsBytes(message), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public WebSocketMessage decodeJson() throws Exception {
+        return jsonMapper.readValue(json, WebSocketMessage.class);
+    }
+
+    @Benchmark
+    public WebSocketMessage decodeCbor() throws Exception {
+        return cborMapper.readValue(cbor, WebSocketMessage.class);
+    }
+
+    /**
+     * Builds a reveal broadcast shaped like the one in the protocol specification.
+     */
+    static WebSocketMessage roundRevealed(int voteCount) {
+        List<Map<String, Object>> voteList = new ArrayList<>(voteCount);
+        Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < voteCount; i++) {
+            String card = CARDS[i % CARDS.length];
+            Map<String, Object> vote = new LinkedHashMap<>();
+            vote.put("participantId", "2f6b1c3e-8d4a-4e7b-9c1d-" + String.format("%012d", i));
+            vote.put("displayName", "Participant " + i);
+            vote.put("cardValue", card);
+            vote.put("votedAt", "2025-10-17T10:21:" + String.format("%02d", i % 60) + "Z");
+            voteList.add(vote);
+            distribution.merge(card, 1, Integer::sum);
+        }
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("average", 6.5);
+        statistics.put("median", 5.0);
+        statistics.put("mode", "5");
+        statistics.put("consensusReached", false);
+        statistics.put("totalVotes", voteCount);
+        statistics.put("distribution", distribution);
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("roundId", "550e8400-e29b-41d4-a716-446655440000");
+        payload.put("revealedAt", "2025-10-17T10:22:00Z");
+        payload.put("votes", voteList);
+        payload.put("statistics", statistics);
+
+        WebSocketMessage message = new WebSocketMessage("round.revealed.v1",
+                "7c9e6679-7425-40de-944b-e07fc1f66e01", payload);
+        message.setSeq(1234L);
+        return message;
+    }
+}
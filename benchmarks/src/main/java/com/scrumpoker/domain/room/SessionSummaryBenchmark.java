@@ -0,0 +1,102 @@
+package com.scrumpoker.domain.room;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scrumpoker.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session history update done by {@link VotingService} after every reveal: reading the
+ * stored aggregates, folding in the revealed round and writing the JSONB columns back
+ * ({@link SessionHistoryAggregates}).
+ * <p>
+ * The stored session already holds {@code rounds} revealed rounds in which every
+ * participant voted; the cost should not grow with {@code rounds}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionSummaryBenchmark {
+
+    private static final String[] CARDS = {"1", "2", "3", "5", "8", "13"};
+    private static final Instant START = Instant.parse("2025-10-17T10:00:00Z");
+
+    @Param({"10", "50"})
+    int rounds;
+
+    @Param({"8", "50"})
+    int participants;
+
+    private ObjectMapper objectMapper;
+    private SessionHistory storedHistory;
+    private List<Vote> revealedVotes;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+
+        List<RoomParticipant> roomParticipants = new ArrayList<>(participants);
+        for (int p = 0; p < participants; p++) {
+            RoomParticipant participant = new RoomParticipant();
+            participant.participantId = UUID.randomUUID();
+            participant.displayName = "Participant " + p;
+            participant.role = RoomRole.VOTER;
+            // Every other participant is signed in
+            participant.user = p % 2 == 0 ? new User() : null;
+            roomParticipants.add(participant);
+        }
+
+        SessionHistoryAggregates aggregates = new SessionHistoryAggregates();
+        for (int r = 0; r < rounds; r++) {
+            aggregates.addRound(START.plusSeconds(300L * r), START.plusSeconds(300L * r + 90), r % 3 == 0,
+                    votes(roomParticipants, r));
+        }
+        storedHistory = new SessionHistory();
+        aggregates.writeTo(storedHistory, objectMapper);
+
+        revealedVotes = votes(roomParticipants, rounds);
+    }
+
+    @Benchmark
+    public SessionHistory foldRevealedRound() throws Exception {
+        SessionHistory history = new SessionHistory();
+        history.totalRounds = storedHistory.totalRounds;
+        history.participants = storedHistory.participants;
+        history.summaryStats = storedHistory.summaryStats;
+
+        SessionHistoryAggregates aggregates = SessionHistoryAggregates.read(history, objectMapper);
+        aggregates.addRound(START, START.plusSeconds(90), true, revealedVotes);
+        aggregates.writeTo(history, objectMapper);
+        return history;
+    }
+
+    private static List<Vote> votes(List<RoomParticipant> roomParticipants, int round) {
+        List<Vote> votes = new ArrayList<>(roomParticipants.size());
+        for (int p = 0; p < roomParticipants.size(); p++) {
+            Vote vote = new Vote();
+            vote.participant = roomParticipants.get(p);
+            vote.cardValue = CARDS[(round + p) % CARDS.length];
+            votes.add(vote);
+        }
+        return votes;
+    }
+}
@@ -1,6 +1,8 @@
 /**
  * Pagination controls component for session list.
  * Displays previous/next buttons and current page information.
+ * The list is paged by cursor, so the total count is unknown and only
+ * earlier pages and the next page can be jumped to.
  */
 
 import React from 'react';
@@ -8,7 +10,7 @@ import React from 'react';
 interface PaginationControlsProps {
   currentPage: number; // 0-indexed
   pageSize: number;
-  totalCount: number;
+  itemCount: number; // Items on the current page
   hasNext: boolean;
   onPageChange: (page: number) => void;
   disabled?: boolean;
@@ -17,18 +19,15 @@ interface PaginationControlsProps {
 export const PaginationControls: React.FC<PaginationControlsProps> = ({
   currentPage,
   pageSize,
-  totalCount,
+  itemCount,
   hasNext,
   onPageChange,
   disabled = false,
 }) => {
-  // Calculate total pages
-  const totalPages = Math.ceil(totalCount / pageSize);
-
   // Calculate display values (1-indexed for UI)
   const displayPage = currentPage + 1;
   const startItem = currentPage * pageSize + 1;
-  const endItem = Math.min((currentPage + 1) * pageSize, totalCount);
+  const endItem = currentPage * pageSize + itemCount;
 
   // Handle previous page
   const handlePrevious = () => {
@@ -45,7 +44,7 @@ export const PaginationControls: React.FC<PaginationControlsProps> = ({
   };
 
   // Don't render if no data
-  if (totalCount === 0) {
+  if (itemCount === 0 && currentPage === 0) {
     return null;
   }
 
@@ -76,8 +75,7 @@ export const PaginationControls: React.FC<PaginationControlsProps> = ({
         <div>
           <p className="text-sm text-gray-700 dark:text-gray-300">
             Showing <span className="font-medium">{startItem}</span> to{' '}
-            <span className="font-medium">{endItem}</span> of{' '}
-            <span className="font-medium">{totalCount}</span> sessions
+            <span className="font-medium">{endItem}</span> sessions
           </p>
         </div>
 
@@ -107,77 +105,55 @@ export const PaginationControls: React.FC<PaginationControlsProps> = ({
             </button>
 
             {/* Page numbers */}
-            {totalPages > 0 && (
+            {/* Show first page if not on first page */}
+            {currentPage > 1 && (
               <>
-                {/* Show first page if not on first page */}
-                {currentPage > 1 && (
-                  <>
-                    <button
-                      onClick={() => onPageChange(0)}
-                      disabled={disabled}
-                      className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
-                    >
-                      1
-                    </button>
-                    {currentPage > 2 && (
-                      <span className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200">
-                        ...
-                      </span>
-                    )}
-                  </>
-                )}
-
-                {/* Previous page */}
-                {currentPage > 0 && (
-                  <button
-                    onClick={() => onPageChange(currentPage - 1)}
-                    disabled={disabled}
-                    className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
-                  >
-                    {displayPage - 1}
-                  </button>
-                )}
-
-                {/* Current page */}
                 <button
-                  disabled
-                  className="relative inline-flex items-center px-4 py-2 border border-primary-500 dark:border-primary-400 bg-primary-50 dark:bg-primary-900/20 text-sm font-medium text-primary-600 dark:text-primary-400 z-10"
-                  aria-current="page"
+                  onClick={() => onPageChange(0)}
+                  disabled={disabled}
+                  className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
                 >
-                  {displayPage}
+                  1
                 </button>
-
-                {/* Next page */}
-                {hasNext && (
-                  <button
-                    onClick={() => onPageChange(currentPage + 1)}
-                    disabled={disabled}
-                    className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
-                  >
-                    {displayPage + 1}
-                  </button>
-                )}
-
-                {/* Show last page if there are more pages beyond next */}
-                {totalPages > displayPage + 1 && hasNext && (
-                  <>
-                    {totalPages > displayPage + 2 && (
-                      <span className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200">
-                        ...
-                      </span>
-                    )}
-                    <button
-                      onClick={() => onPageChange(totalPages - 1)}
-                      disabled={disabled}
-                      className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
-                    >
-                      {totalPages}
-                    </button>
-                  </>
+                {currentPage > 2 && (
+                  <span className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200">
+                    ...
+                  </span>
                 )}
               </>
             )}
 
+            {/* Previous page */}
+            {currentPage > 0 && (
+              <button
+                onClick={() => onPageChange(currentPage - 1)}
+                disabled={disabled}
+                className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
+              >
+                {displayPage - 1}
+              </button>
+            )}
+
+            {/* Current page */}
+            <button
+              disabled
+              className="relative inline-flex items-center px-4 py-2 border border-primary-500 dark:border-primary-400 bg-primary-50 dark:bg-primary-900/20 text-sm font-medium text-primary-600 dark:text-primary-400 z-10"
+              aria-current="page"
+            >
+              {displayPage}
+            </button>
+
+            {/* Next page */}
+            {hasNext && (
+              <button
+                onClick={() => onPageChange(currentPage + 1)}
+                disabled={disabled}
+                className="relative inline-flex items-center px-4 py-2 border border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-800 text-sm font-medium text-gray-700 dark:text-gray-200 hover:bg-gray-50 dark:hover:bg-gray-700"
+              >
+                {displayPage + 1}
+              </button>
+            )}
+
             {/* Next button */}
             <button
               onClick={handleNext}
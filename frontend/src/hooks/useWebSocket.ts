@@ -39,6 +39,7 @@ import {
   type ParticipantJoinedPayload,
   type ParticipantLeftPayload,
   type VoteRecordedPayload,
+  type VotesRecordedBatchPayload,
   type RoundStartedPayload,
   type RoundRevealedPayload,
   type RoundResetPayload,
@@ -146,6 +147,14 @@ export function useWebSocket(roomId: string | null): UseWebSocketResult {
       })
     );
 
+    // Handle votes.recorded.batch.v1 - Votes recorded within one window (broadcast)
+    unsubscribers.push(
+      wsManager.on<VotesRecordedBatchPayload>(MessageType.VOTES_RECORDED_BATCH, (payload) => {
+        console.log('[useWebSocket] Votes recorded:', payload.votes.length);
+        payload.votes.forEach((vote) => updateParticipantVoteStatus(vote.participantId, true));
+      })
+    );
+
     // Handle round.started.v1 - New round started
     unsubscribers.push(
       wsManager.on<RoundStartedPayload>(MessageType.ROUND_STARTED, (payload) => {
@@ -11,14 +11,16 @@ import type { SessionsQueryParams } from '@/types/reporting';
 
 const SessionHistoryPage: React.FC = () => {
   // State for filters and pagination
-  const [page, setPage] = useState(0);
+  // cursors[i] fetches page i; the first page has no cursor
+  const [cursors, setCursors] = useState<(string | undefined)[]>([undefined]);
+  const page = cursors.length - 1;
   const [dateFrom, setDateFrom] = useState('');
   const [dateTo, setDateTo] = useState('');
   const [sortOrder, setSortOrder] = useState<'newest' | 'oldest'>('newest');
 
   // Build query params
   const queryParams: SessionsQueryParams = {
-    page,
+    cursor: cursors[page],
     size: 20,
     from: dateFrom || undefined,
     to: dateTo || undefined,
@@ -34,7 +36,14 @@ const SessionHistoryPage: React.FC = () => {
 
   // Handle page change
   const handlePageChange = (newPage: number) => {
-    setPage(newPage);
+    if (newPage > page) {
+      // Pages are reached by cursor, so only the next page can be moved to
+      const nextCursor = sessionsData?.next_cursor;
+      if (!nextCursor) return;
+      setCursors([...cursors, nextCursor]);
+    } else {
+      setCursors(cursors.slice(0, newPage + 1));
+    }
     // Scroll to top on page change
     window.scrollTo({ top: 0, behavior: 'smooth' });
   };
@@ -42,20 +51,20 @@ const SessionHistoryPage: React.FC = () => {
   // Handle filter change
   const handleFilterChange = () => {
     // Reset to first page when filters change
-    setPage(0);
+    setCursors([undefined]);
   };
 
   // Handle sort order change
   const handleSortOrderChange = (order: 'newest' | 'oldest') => {
     setSortOrder(order);
-    setPage(0);
+    setCursors([undefined]);
   };
 
   // Handle clear filters
   const handleClearFilters = () => {
     setDateFrom('');
     setDateTo('');
-    setPage(0);
+    setCursors([undefined]);
   };
 
   // Sort sessions client-side (if backend doesn't support sorting)
@@ -280,12 +289,12 @@ const SessionHistoryPage: React.FC = () => {
         <SessionListTable sessions={sortedSessions} isLoading={isLoading} />
 
         {/* Pagination controls */}
-        {sessionsData && sessionsData.total > 0 && (
+        {sessionsData && (page > 0 || sessionsData.sessions.length > 0) && (
           <div className="mt-6">
             <PaginationControls
               currentPage={page}
               pageSize={queryParams.size || 20}
-              totalCount={sessionsData.total}
+              itemCount={sessionsData.sessions.length}
               hasNext={sessionsData.has_next}
               onPageChange={handlePageChange}
               disabled={isLoading}
@@ -71,7 +71,6 @@ export const reportingQueryKeys = {
  *   const { data, isLoading, error } = useSessions({
  *     from: '2025-01-01',
  *     to: '2025-01-31',
- *     page: 0,
  *     size: 20
  *   });
  *
@@ -95,12 +94,11 @@ export function useSessions(
 ) {
   const { user } = useAuthStore();
 
-  // Default pagination values
-  const page = params.page ?? 0;
+  // Default page size
   const size = params.size ?? 20;
 
   return useQuery<SessionListResponse, Error>({
-    queryKey: reportingQueryKeys.sessions.list(user?.userId || '', { ...params, page, size }),
+    queryKey: reportingQueryKeys.sessions.list(user?.userId || '', { ...params, size }),
     queryFn: async () => {
       if (!user?.userId) {
         throw new Error('User not authenticated');
@@ -111,7 +109,7 @@ export function useSessions(
           from: params.from,
           to: params.to,
           roomId: params.roomId,
-          page,
+          cursor: params.cursor,
           size,
         },
       });
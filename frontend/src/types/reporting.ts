@@ -24,14 +24,13 @@ export interface SessionSummaryDTO {
 /**
  * Paginated session list response.
  *
- * NOTE: Backend uses has_next instead of totalPages, and total instead of totalElements.
+ * NOTE: Backend pages by cursor; pass next_cursor back as the cursor query parameter.
  */
 export interface SessionListResponse {
   sessions: SessionSummaryDTO[];
-  page: number; // 0-indexed
   size: number;
-  total: number; // Total count of sessions
   has_next: boolean; // Whether there are more pages available
+  next_cursor?: string | null; // Opaque cursor of the next page
 }
 
 /**
@@ -41,7 +40,7 @@ export interface SessionsQueryParams {
   from?: string; // ISO 8601 date (YYYY-MM-DD)
   to?: string; // ISO 8601 date (YYYY-MM-DD)
   roomId?: string;
-  page?: number; // 0-indexed
+  cursor?: string; // next_cursor of the previous page, omitted for the first page
   size?: number;
 }
 
@@ -128,6 +128,13 @@ export interface VoteRecordedPayload {
   hasVoted: boolean;
 }
 
+export interface VotesRecordedBatchPayload {
+  votes: Array<{
+    participantId: string;
+    votedAt: string;
+  }>;
+}
+
 export interface RoundStartedPayload {
   roundId: string;
   roundNumber: number;
@@ -210,6 +217,7 @@ export const MessageType = {
   ROOM_PARTICIPANT_LEFT: 'room.participant_left.v1',
   ROOM_PARTICIPANT_DISCONNECTED: 'room.participant_disconnected.v1',
   VOTE_RECORDED: 'vote.recorded.v1',
+  VOTES_RECORDED_BATCH: 'votes.recorded.batch.v1',
   ROUND_STARTED: 'round.started.v1',
   ROUND_REVEALED: 'round.revealed.v1',
   ROUND_RESET_EVENT: 'round.reset.v1',
@@ -0,0 +1,95 @@
+#!/bin/bash
+
+# ============================================================================
+# Blocking Execution Mode Comparison
+# ============================================================================
+# Purpose: Compare throughput and p99 latency of the k6 scenarios between the
+#          worker pool and virtual threads (app.blocking.execution-mode)
+# Usage:
+#   1. Start the backend with APP_BLOCKING_EXECUTION_MODE=worker, then run
+#        ./scripts/compare-execution-modes.sh run worker
+#   2. Restart it with APP_BLOCKING_EXECUTION_MODE=virtual (Java 21+), then run
+#        ./scripts/compare-execution-modes.sh run virtual
+#   3. ./scripts/compare-execution-modes.sh report
+# ============================================================================
+
+set -e
+
+RESULTS_DIR="${RESULTS_DIR:-comparison-results}"
+SCENARIOS="${SCENARIOS:-load-test-api.js load-test-voting.js load-test-reconnection-storm.js}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+
+# Latency trend reported per scenario (p99)
+latency_metric() {
+    case "$1" in
+        load-test-api.js) echo "http_req_duration" ;;
+        load-test-voting.js) echo "vote_e2e_latency" ;;
+        load-test-reconnection-storm.js) echo "connection_establishment_latency" ;;
+        *) echo "http_req_duration" ;;
+    esac
+}
+
+# Throughput counter reported per scenario (per second)
+throughput_metric() {
+    case "$1" in
+        load-test-voting.js) echo "messages_received_total" ;;
+        load-test-reconnection-storm.js) echo "connections_established_total" ;;
+        *) echo "http_reqs" ;;
+    esac
+}
+
+run_mode() {
+    local mode="$1"
+    if ! command -v k6 &> /dev/null; then
+        echo "ERROR: k6 not found. See scripts/README.md for installation."
+        exit 1
+    fi
+    mkdir -p "${RESULTS_DIR}"
+    for scenario in ${SCENARIOS}; do
+        echo "Running ${scenario} (${mode})"
+        k6 run --quiet \
+            --summary-trend-stats="avg,med,p(95),p(99),max" \
+            --summary-export="${RESULTS_DIR}/${mode}-${scenario%.js}.json" \
+            "${SCRIPT_DIR}/${scenario}" || echo "WARNING: ${scenario} reported threshold failures"
+    done
+}
+
+report() {
+    if ! command -v jq &> /dev/null; then
+        echo "ERROR: jq not found."
+        exit 1
+    fi
+    printf "%-34s %-8s %14s %12s\n" "Scenario" "Mode" "Throughput/s" "p99 (ms)"
+    for scenario in ${SCENARIOS}; do
+        local latency throughput
+        latency="$(latency_metric "${scenario}")"
+        throughput="$(throughput_metric "${scenario}")"
+        for mode in worker virtual; do
+            local file="${RESULTS_DIR}/${mode}-${scenario%.js}.json"
+            if [ ! -f "${file}" ]; then
+                printf "%-34s %-8s %14s %12s\n" "${scenario}" "${mode}" "-" "-"
+                continue
+            fi
+            printf "%-34s %-8s %14.1f %12.1f\n" "${scenario}" "${mode}" \
+                "$(jq -r ".metrics.\"${throughput}\".rate // 0" "${file}")" \
+                "$(jq -r ".metrics.\"${latency}\".\"p(99)\" // 0" "${file}")"
+        done
+    done
+}
+
+case "$1" in
+    run)
+        if [ "$2" != "worker" ] && [ "$2" != "virtual" ]; then
+            echo "Usage: $0 run worker|virtual"
+            exit 1
+        fi
+        run_mode "$2"
+        ;;
+    report)
+        report
+        ;;
+    *)
+        echo "Usage: $0 run worker|virtual | report"
+        exit 1
+        ;;
+esac